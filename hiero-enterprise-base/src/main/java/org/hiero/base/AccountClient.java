@@ -3,6 +3,7 @@ package org.hiero.base;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import org.hiero.base.data.Account;
@@ -55,6 +56,39 @@ public interface AccountClient {
     return createAccount(Hbar.from(initialBalanceInHbar));
   }
 
+  /**
+   * Creates the given number of new accounts with the given initial balance each. The accounts are
+   * created by the operator account. Implementations can submit the create transactions
+   * concurrently, so the order of the returned accounts is not related to the order of creation.
+   *
+   * @param count the number of accounts to create
+   * @param initialBalance the initial balance of each account
+   * @return the created accounts
+   * @throws AccountsCreationException if any of the accounts could not be created, the accounts
+   *     that have been created are part of the exception
+   * @throws HieroException if the parameters are invalid
+   */
+  @NonNull
+  default List<Account> createAccounts(int count, @NonNull Hbar initialBalance)
+      throws HieroException {
+    Objects.requireNonNull(initialBalance, "initialBalance must not be null");
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative");
+    }
+    final List<Account> accounts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      try {
+        accounts.add(createAccount(initialBalance));
+      } catch (final HieroException e) {
+        throw new AccountsCreationException(
+            "Failed to create accounts: only " + i + " of " + count + " accounts have been created",
+            e,
+            accounts);
+      }
+    }
+    return List.copyOf(accounts);
+  }
+
   /**
    * Deletes the account with the given ID. All fees of that account are transferred to the operator
    * account.
@@ -0,0 +1,42 @@
+package org.hiero.base;
+
+import java.util.List;
+import java.util.Objects;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thrown by {@link AccountClient#createAccounts(int, com.hedera.hashgraph.sdk.Hbar)} if not all of
+ * the requested accounts could be created. The accounts that have been created are still owned by
+ * the caller and are provided by {@link #getCreatedAccounts()}, including their private keys.
+ */
+public class AccountsCreationException extends HieroException {
+
+  private final List<Account> createdAccounts;
+
+  /**
+   * Constructs a new exception with the specified detail message, cause and created accounts.
+   *
+   * @param message The detail message.
+   * @param cause The cause.
+   * @param createdAccounts The accounts that have been created before or despite the failure.
+   */
+  public AccountsCreationException(
+      @NonNull String message,
+      @NonNull Throwable cause,
+      @NonNull List<Account> createdAccounts) {
+    super(message, cause);
+    this.createdAccounts =
+        List.copyOf(Objects.requireNonNull(createdAccounts, "createdAccounts must not be null"));
+  }
+
+  /**
+   * Returns the accounts that have been created.
+   *
+   * @return the created accounts
+   */
+  @NonNull
+  public List<Account> getCreatedAccounts() {
+    return createdAccounts;
+  }
+}
@@ -1,6 +1,9 @@
 package org.hiero.base;
 
 import com.hedera.hashgraph.sdk.FileId;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
@@ -33,6 +36,37 @@ public interface FileClient {
   @NonNull FileId createFile(@NonNull byte[] contents, @NonNull Instant expirationTime)
       throws HieroException;
 
+  /**
+   * Create a new file with the contents of the given local file. The local file is read chunk by
+   * chunk, so it is never loaded into memory as a whole.
+   *
+   * @param path the path of the local file
+   * @return the ID of the new file
+   * @throws HieroException if the local file could not be read or the file could not be created
+   */
+  @NonNull FileId createFileFrom(@NonNull Path path) throws HieroException;
+
+  /**
+   * Create a new file with the contents of the given stream. The stream is read chunk by chunk and
+   * is not closed.
+   *
+   * @param contents the stream of the contents
+   * @param size the number of bytes that are read from the stream
+   * @return the ID of the new file
+   * @throws HieroException if the stream could not be read or the file could not be created
+   */
+  @NonNull FileId createFileFrom(@NonNull InputStream contents, long size) throws HieroException;
+
+  /**
+   * Create a new file with the remaining contents of the given buffer. The position of the buffer
+   * is not changed.
+   *
+   * @param contents the contents of the file
+   * @return the ID of the new file
+   * @throws HieroException if the file could not be created
+   */
+  @NonNull FileId createFileFrom(@NonNull ByteBuffer contents) throws HieroException;
+
   /**
    * Create a new file with the given contents.
    *
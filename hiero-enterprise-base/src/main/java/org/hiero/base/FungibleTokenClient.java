@@ -4,8 +4,11 @@ import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.TokenId;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.hiero.base.data.Account;
+import org.hiero.base.data.TokenTransferLeg;
+import org.hiero.base.data.TokenTransferLegResult;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -546,4 +549,47 @@ public interface FungibleTokenClient {
         AccountId.fromString(toAccountId),
         amount);
   }
+
+  /**
+   * Transfer a Token from one account to multiple accounts. The transfers are packed into as few
+   * transactions as the limits of the network allow.
+   *
+   * @param tokenId the ID of the token
+   * @param fromAccount the account that holds the token
+   * @param amounts the value of token to transfer for each account that should receive the token
+   * @return the result of each transfer, in the iteration order of the given map
+   */
+  @NonNull
+  default List<TokenTransferLegResult> transferTokens(
+      @NonNull TokenId tokenId,
+      @NonNull Account fromAccount,
+      @NonNull Map<AccountId, Long> amounts) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(fromAccount, "fromAccount must not be null");
+    Objects.requireNonNull(amounts, "amounts must not be null");
+    final List<TokenTransferLeg> legs =
+        amounts.entrySet().stream()
+            .map(
+                entry ->
+                    new TokenTransferLeg(
+                        tokenId, fromAccount.accountId(), entry.getKey(), entry.getValue()))
+            .toList();
+    return transferTokens(legs, Map.of(fromAccount.accountId(), fromAccount.privateKey()));
+  }
+
+  /**
+   * Transfer Tokens between multiple accounts. The transfers are packed into as few transactions as
+   * the limits of the network allow and each transaction is signed once by every sender of the
+   * transfers it contains. A failing transaction does not stop the remaining transactions.
+   *
+   * @param legs the transfers
+   * @param senderKeys the private keys of the sending accounts. A key must be provided for every
+   *     sender, including the operator account.
+   * @return the result of each transfer, in the order of the given transfers
+   */
+  @NonNull
+  default List<TokenTransferLegResult> transferTokens(
+      @NonNull List<TokenTransferLeg> legs, @NonNull Map<AccountId, PrivateKey> senderKeys) {
+    throw new UnsupportedOperationException("Batched token transfers are not implemented.");
+  }
 }
@@ -1,6 +1,10 @@
 package org.hiero.base;
 
 import com.hedera.hashgraph.sdk.Client;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.StartupReport;
 import org.hiero.base.data.Account;
 import org.jspecify.annotations.NonNull;
 
@@ -21,4 +25,39 @@ public interface HieroContext {
    * @return the client
    */
   @NonNull Client getClient();
+
+  /**
+   * Get the pool of accounts that pay for transactions instead of the operator account.
+   *
+   * @return the payer pool or an empty optional if all transactions are paid by the operator
+   *     account
+   */
+  @NonNull
+  default Optional<PayerPool> getPayerPool() {
+    return Optional.empty();
+  }
+
+  /**
+   * Get the executor that runs the blocking network calls of the clients, like the submission of a
+   * transaction and the wait on its receipt. The executor is owned by the context and closed with
+   * it.
+   *
+   * @return the executor or an empty optional if blocking calls run on the calling thread
+   * @see org.hiero.base.config.ExecutionMode#VIRTUAL_THREADS
+   */
+  @NonNull
+  default Optional<Executor> getBlockingExecutor() {
+    return Optional.empty();
+  }
+
+  /**
+   * Get the report about the startup of the context, like the time to create the clients and the
+   * result of the warm-up of the consensus nodes.
+   *
+   * @return the startup report or an empty optional if no report is available
+   */
+  @NonNull
+  default Optional<StartupReport> getStartupReport() {
+    return Optional.empty();
+  }
 }
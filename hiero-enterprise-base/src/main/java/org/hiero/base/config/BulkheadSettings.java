@@ -0,0 +1,36 @@
+package org.hiero.base.config;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Limits of the bulkhead of one transaction type.
+ *
+ * @param maxInFlight the maximum number of transactions that are executed at the same time
+ * @param maxQueued the maximum number of transactions that wait for a free slot, further calls are
+ *     rejected immediately
+ * @param maxQueueWait the maximum time a transaction waits for a free slot
+ */
+public record BulkheadSettings(int maxInFlight, int maxQueued, @NonNull Duration maxQueueWait) {
+
+  /** Default maximum time a transaction waits for a free slot. */
+  public static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofSeconds(30);
+
+  public BulkheadSettings {
+    Objects.requireNonNull(maxQueueWait, "maxQueueWait must not be null");
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    if (maxQueued < 0) {
+      throw new IllegalArgumentException("maxQueued must not be negative");
+    }
+    if (maxQueueWait.isNegative()) {
+      throw new IllegalArgumentException("maxQueueWait must not be negative");
+    }
+  }
+
+  public BulkheadSettings(final int maxInFlight, final int maxQueued) {
+    this(maxInFlight, maxQueued, DEFAULT_MAX_QUEUE_WAIT);
+  }
+}
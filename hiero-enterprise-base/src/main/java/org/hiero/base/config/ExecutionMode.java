@@ -0,0 +1,26 @@
+package org.hiero.base.config;
+
+/**
+ * Defines the threads that execute the network calls of a {@link org.hiero.base.HieroContext} that
+ * is created by {@link HieroConfig}.
+ *
+ * @see HieroConfig#getExecutionMode()
+ */
+public enum ExecutionMode {
+
+  /**
+   * Blocking calls of the clients run on the calling thread and the SDK client uses its default
+   * executor of platform threads. This is the default.
+   */
+  PLATFORM_THREADS,
+
+  /**
+   * The context owns an executor that starts a virtual thread for every task and closes it when the
+   * context is closed. Blocking calls of the clients, like {@link
+   * org.hiero.base.FungibleTokenClient#transferToken}, submit their transactions and wait for the
+   * receipts, records and query responses on a virtual thread of that executor while the calling
+   * thread waits for the result. Calls of virtual threads run directly on the calling thread. The
+   * SDK client uses the same executor for the callbacks of its asynchronous network calls.
+   */
+  VIRTUAL_THREADS
+}
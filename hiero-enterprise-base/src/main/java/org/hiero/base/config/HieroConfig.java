@@ -7,14 +7,27 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.hiero.base.HieroContext;
+import org.hiero.base.config.implementation.ClientWarmUp;
+import org.hiero.base.config.implementation.LazyHieroContext;
+import org.hiero.base.config.implementation.PooledHieroContext;
+import org.hiero.base.config.implementation.VirtualThreadHieroContext;
 import org.hiero.base.data.Account;
+import org.hiero.base.protocol.data.RecordPolicy;
+import org.hiero.base.protocol.data.TransactionType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /** Hiero configuration for one network connection. */
 public interface HieroConfig {
 
+  /** Timeout of the warm-up of the consensus nodes if no request timeout is configured. */
+  Duration DEFAULT_WARM_UP_TIMEOUT = Duration.ofSeconds(10);
+
   /**
    * Returns the operator account for the network.
    *
@@ -61,6 +74,82 @@ public interface HieroConfig {
     return Optional.empty();
   }
 
+  /**
+   * Returns the execution mode that defines the threads that execute the network calls of the
+   * contexts created by {@link #createHieroContext()}.
+   *
+   * @return the execution mode
+   */
+  @NonNull
+  default ExecutionMode getExecutionMode() {
+    return ExecutionMode.PLATFORM_THREADS;
+  }
+
+  /**
+   * Returns the bulkhead settings per transaction type. Transaction types without settings are not
+   * limited.
+   *
+   * @return the bulkhead settings per transaction type
+   */
+  @NonNull
+  default Map<TransactionType, BulkheadSettings> getBulkheads() {
+    return Map.of();
+  }
+
+  /**
+   * Returns the record policy per transaction type. Transaction types without policy receive their
+   * record eagerly ({@link RecordPolicy#RECORD_EAGER}).
+   *
+   * @return the record policy per transaction type
+   */
+  @NonNull
+  default Map<TransactionType, RecordPolicy> getRecordPolicies() {
+    return Map.of();
+  }
+
+  /**
+   * Returns the settings of the pool of accounts that pay for transactions instead of the operator
+   * account.
+   *
+   * @return the payer pool settings or an empty optional if all transactions are paid by the
+   *     operator account
+   */
+  @NonNull
+  default Optional<PayerPoolSettings> getPayerPoolSettings() {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the number of {@link Client} instances that are used by the context. If the size is
+   * greater than 1, the context leases a client of the pool per call.
+   *
+   * @return the size of the client pool
+   */
+  default int getClientPoolSize() {
+    return 1;
+  }
+
+  /**
+   * Returns the maximum number of appends of a file upload that are in flight at the same time. If
+   * the window is 1, every append waits for the receipt of the append before.
+   *
+   * @return the append window of file uploads
+   */
+  default int getFileAppendWindow() {
+    return 1;
+  }
+
+  /**
+   * Returns the startup mode that defines when the clients are created and whether the consensus
+   * nodes are warmed up at startup.
+   *
+   * @return the startup mode
+   */
+  @NonNull
+  default StartupMode getStartupMode() {
+    return StartupMode.EAGER;
+  }
+
   /**
    * Creates a Hiero context. Calling this method multiple times will return a new instance each
    * time.
@@ -70,7 +159,70 @@ public interface HieroConfig {
   @NonNull
   default HieroContext createHieroContext() {
     final Account operatorAccount = getOperatorAccount();
-    final Client client = createClient();
+    final PayerPool payerPool = getPayerPoolSettings().map(PayerPool::new).orElse(null);
+    if (getClientPoolSize() < 1) {
+      throw new IllegalArgumentException("clientPoolSize must be greater than 0");
+    }
+    final ExecutorService executor =
+        getExecutionMode() == ExecutionMode.VIRTUAL_THREADS
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : null;
+    try {
+      final HieroContext context = createHieroContext(operatorAccount, payerPool, executor);
+      return executor == null ? context : new VirtualThreadHieroContext(context, executor);
+    } catch (final RuntimeException e) {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+      throw e;
+    }
+  }
+
+  @NonNull
+  private HieroContext createHieroContext(
+      @NonNull final Account operatorAccount,
+      @Nullable final PayerPool payerPool,
+      @Nullable final ExecutorService executor) {
+    final StartupMode startupMode = getStartupMode();
+    final StartupReport startupReport = new StartupReport(startupMode);
+    if (startupMode == StartupMode.LAZY) {
+      return new LazyHieroContext(
+          operatorAccount,
+          () -> createClientContext(operatorAccount, payerPool, startupReport, executor),
+          payerPool,
+          startupReport);
+    }
+    final HieroContext context =
+        createClientContext(operatorAccount, payerPool, startupReport, executor);
+    if (startupMode == StartupMode.EAGER_WARM) {
+      final List<Client> clients =
+          context instanceof PooledHieroContext pooled
+              ? pooled.getClients()
+              : List.of(context.getClient());
+      ClientWarmUp.warmUp(
+          clients, getRequestTimeout().orElse(DEFAULT_WARM_UP_TIMEOUT), startupReport);
+    }
+    return context;
+  }
+
+  @NonNull
+  private HieroContext createClientContext(
+      @NonNull final Account operatorAccount,
+      @Nullable final PayerPool payerPool,
+      @NonNull final StartupReport startupReport,
+      @Nullable final ExecutorService executor) {
+    final long start = System.nanoTime();
+    final int clientPoolSize = getClientPoolSize();
+    if (clientPoolSize > 1) {
+      final Set<ConsensusNode> nodes = getShardConsensusNodes();
+      final List<Client> clients =
+          IntStream.range(0, clientPoolSize).mapToObj(i -> createClient(nodes, executor)).toList();
+      startupReport.recordClientCreation(
+          Duration.ofNanos(System.nanoTime() - start), clientPoolSize);
+      return new PooledHieroContext(operatorAccount, clients, payerPool, startupReport);
+    }
+    final Client client = createClient(getConsensusNodes(), executor);
+    startupReport.recordClientCreation(Duration.ofNanos(System.nanoTime() - start), 1);
     return new HieroContext() {
       @Override
       public @NonNull Account getOperatorAccount() {
@@ -81,22 +233,61 @@ public interface HieroConfig {
       public @NonNull Client getClient() {
         return client;
       }
+
+      @Override
+      public @NonNull Optional<PayerPool> getPayerPool() {
+        return Optional.ofNullable(payerPool);
+      }
+
+      @Override
+      public @NonNull Optional<StartupReport> getStartupReport() {
+        return Optional.of(startupReport);
+      }
     };
   }
 
   /**
    * Creates a new client for the network. Calling this method multiple times will return a new
-   * instance each time.
+   * instance each time. The client uses the default executor of the SDK, since only the contexts
+   * that are created by {@link #createHieroContext()} own an executor of virtual threads.
    *
    * @return the client
    */
   @NonNull
   default Client createClient() {
+    return createClient(getConsensusNodes(), null);
+  }
+
+  /**
+   * Returns the consensus nodes in the shard and realm of the operator account. If no node is in
+   * that shard and realm, all consensus nodes are returned.
+   *
+   * @return the consensus nodes
+   */
+  @NonNull
+  private Set<ConsensusNode> getShardConsensusNodes() {
+    final AccountId operatorAccountId = getOperatorAccount().accountId();
+    final Set<ConsensusNode> nodes =
+        getConsensusNodes().stream()
+            .filter(
+                node -> {
+                  final AccountId nodeAccountId = node.getAccountId();
+                  return nodeAccountId.shard == operatorAccountId.shard
+                      && nodeAccountId.realm == operatorAccountId.realm;
+                })
+            .collect(Collectors.toUnmodifiableSet());
+    return nodes.isEmpty() ? getConsensusNodes() : nodes;
+  }
+
+  @NonNull
+  private Client createClient(
+      @NonNull final Set<ConsensusNode> consensusNodes, @Nullable final ExecutorService executor) {
     try {
       final Map<String, AccountId> nodes =
-          getConsensusNodes().stream()
+          consensusNodes.stream()
               .collect(Collectors.toMap(n -> n.getAddress(), n -> n.getAccountId()));
-      final Client client = Client.forNetwork(nodes);
+      final Client client =
+          executor != null ? Client.forNetwork(nodes, executor) : Client.forNetwork(nodes);
       final List<String> mirrorNodeAddresses =
           getMirrorNodeAddresses().stream().collect(Collectors.toList());
       client.setMirrorNetwork(mirrorNodeAddresses);
@@ -0,0 +1,229 @@
+package org.hiero.base.config;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of accounts that pay for transactions instead of the operator account. Spreading the fee
+ * payment over several accounts avoids a single hot payer and lets every payer generate its own
+ * transaction IDs.
+ *
+ * <p>The pool tracks the last known balance of every payer. A payer whose balance falls below the
+ * configured minimum is removed from the selection until a sufficient balance is reported again.
+ * Since a removed payer does not complete any transactions, its balance is re-checked once per
+ * balance check interval through {@link #getInactivePayersDueForBalanceCheck()}.
+ */
+public class PayerPool {
+
+  private static final Logger log = LoggerFactory.getLogger(PayerPool.class);
+
+  private final PayerPoolSettings settings;
+
+  private final List<Payer> payers;
+
+  private final Map<AccountId, Payer> payersById;
+
+  private final AtomicLong next = new AtomicLong();
+
+  public PayerPool(@NonNull final PayerPoolSettings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    final Map<AccountId, Payer> map = new LinkedHashMap<>();
+    settings
+        .payers()
+        .forEach(account -> map.put(account.accountId(), new Payer(account, System.nanoTime())));
+    this.payersById = Collections.unmodifiableMap(map);
+    this.payers = List.copyOf(map.values());
+  }
+
+  /**
+   * Select the payer of the next transaction.
+   *
+   * @return the payer or an empty optional if all payers have been removed because of a low balance
+   */
+  @NonNull
+  public Optional<Account> select() {
+    final int size = payers.size();
+    final int start = (int) Math.floorMod(next.getAndIncrement(), (long) size);
+    Payer selected = null;
+    for (int i = 0; i < size; i++) {
+      final Payer payer = payers.get((start + i) % size);
+      if (!payer.active) {
+        continue;
+      }
+      if (settings.selection() == PayerSelection.ROUND_ROBIN) {
+        return Optional.of(payer.account);
+      }
+      if (selected == null || payer.inFlight.get() < selected.inFlight.get()) {
+        selected = payer;
+      }
+    }
+    return Optional.ofNullable(selected).map(payer -> payer.account);
+  }
+
+  /**
+   * Returns {@code true} if the given account is part of the pool.
+   *
+   * @param accountId the ID of the account
+   * @return {@code true} if the account is a payer of the pool
+   */
+  public boolean contains(@NonNull final AccountId accountId) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    return payersById.containsKey(accountId);
+  }
+
+  /**
+   * Mark a transaction of the given payer as submitted.
+   *
+   * @param accountId the ID of the payer
+   */
+  public void onSubmitted(@NonNull final AccountId accountId) {
+    payer(accountId).ifPresent(payer -> payer.inFlight.incrementAndGet());
+  }
+
+  /**
+   * Mark a submitted transaction of the given payer as completed.
+   *
+   * @param accountId the ID of the payer
+   */
+  public void onCompleted(@NonNull final AccountId accountId) {
+    payer(accountId)
+        .ifPresent(payer -> payer.inFlight.updateAndGet(count -> Math.max(0, count - 1)));
+  }
+
+  /**
+   * Returns {@code true} if the balance of the given payer should be checked. If {@code true} is
+   * returned, the next check is due after the configured balance check interval.
+   *
+   * @param accountId the ID of the payer
+   * @return {@code true} if the balance should be checked
+   */
+  public boolean isBalanceCheckDue(@NonNull final AccountId accountId) {
+    final Payer payer =
+        payersById.get(Objects.requireNonNull(accountId, "accountId must not be null"));
+    if (payer == null) {
+      return false;
+    }
+    return isBalanceCheckDue(payer);
+  }
+
+  /**
+   * Returns the payers that have been removed from the selection and whose balance should be
+   * checked again. For every returned payer the next check is due after the configured balance
+   * check interval.
+   *
+   * @return the IDs of the removed payers whose balance should be checked
+   */
+  @NonNull
+  public List<AccountId> getInactivePayersDueForBalanceCheck() {
+    return payers.stream()
+        .filter(payer -> !payer.active && isBalanceCheckDue(payer))
+        .map(payer -> payer.account.accountId())
+        .toList();
+  }
+
+  private boolean isBalanceCheckDue(@NonNull final Payer payer) {
+    final long now = System.nanoTime();
+    final long due = payer.nextBalanceCheckNanos.get();
+    return now - due >= 0
+        && payer.nextBalanceCheckNanos.compareAndSet(
+            due, now + settings.balanceCheckInterval().toNanos());
+  }
+
+  /**
+   * Update the known balance of the given payer. The payer is removed from the selection if the
+   * balance is below the minimum balance and added again once it is not.
+   *
+   * @param accountId the ID of the payer
+   * @param balance the current balance
+   */
+  public void updateBalance(@NonNull final AccountId accountId, @NonNull final Hbar balance) {
+    Objects.requireNonNull(balance, "balance must not be null");
+    payer(accountId)
+        .ifPresent(
+            payer -> {
+              payer.balance = balance;
+              final boolean active = balance.toTinybars() >= settings.minBalance().toTinybars();
+              if (payer.active != active) {
+                payer.active = active;
+                if (active) {
+                  log.info("Payer {} is used again with a balance of {}", accountId, balance);
+                } else {
+                  log.warn(
+                      "Payer {} is removed since its balance of {} is below {}",
+                      accountId,
+                      balance,
+                      settings.minBalance());
+                }
+              }
+            });
+  }
+
+  /**
+   * Returns the last known balance of the given payer.
+   *
+   * @param accountId the ID of the payer
+   * @return the balance or an empty optional if the balance has not been checked yet
+   */
+  @NonNull
+  public Optional<Hbar> getBalance(@NonNull final AccountId accountId) {
+    return payer(accountId).map(payer -> payer.balance);
+  }
+
+  /**
+   * Returns the number of submitted transactions of the given payer that are not completed yet.
+   *
+   * @param accountId the ID of the payer
+   * @return the number of pending transactions
+   */
+  public int getInFlightCount(@NonNull final AccountId accountId) {
+    return payer(accountId).map(payer -> payer.inFlight.get()).orElse(0);
+  }
+
+  /**
+   * Returns the payers that are currently used.
+   *
+   * @return the active payers
+   */
+  @NonNull
+  public List<Account> getActivePayers() {
+    return payers.stream().filter(payer -> payer.active).map(payer -> payer.account).toList();
+  }
+
+  @NonNull
+  private Optional<Payer> payer(@NonNull final AccountId accountId) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    return Optional.ofNullable(payersById.get(accountId));
+  }
+
+  private static final class Payer {
+
+    private final Account account;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong nextBalanceCheckNanos;
+
+    @Nullable private volatile Hbar balance;
+
+    private volatile boolean active = true;
+
+    private Payer(@NonNull final Account account, final long nowNanos) {
+      this.account = account;
+      // the first balance check is due right away
+      this.nextBalanceCheckNanos = new AtomicLong(nowNanos);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.hiero.base.config;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings of a pool of accounts that pay for transactions instead of the operator account.
+ *
+ * @param payers the payer accounts
+ * @param selection the strategy that selects the payer of a transaction
+ * @param minBalance the balance below which a payer is removed from the pool
+ * @param balanceCheckInterval the minimum time between two balance checks of a payer
+ */
+public record PayerPoolSettings(
+    @NonNull List<Account> payers,
+    @NonNull PayerSelection selection,
+    @NonNull Hbar minBalance,
+    @NonNull Duration balanceCheckInterval) {
+
+  /** Default balance below which a payer is removed from the pool. */
+  public static final Hbar DEFAULT_MIN_BALANCE = Hbar.from(1);
+
+  /** Default minimum time between two balance checks of a payer. */
+  public static final Duration DEFAULT_BALANCE_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+  public PayerPoolSettings {
+    Objects.requireNonNull(payers, "payers must not be null");
+    Objects.requireNonNull(selection, "selection must not be null");
+    Objects.requireNonNull(minBalance, "minBalance must not be null");
+    Objects.requireNonNull(balanceCheckInterval, "balanceCheckInterval must not be null");
+    if (payers.isEmpty()) {
+      throw new IllegalArgumentException("payers must not be empty");
+    }
+    final Set<AccountId> accountIds = new HashSet<>();
+    for (Account payer : payers) {
+      Objects.requireNonNull(payer, "payer must not be null");
+      if (!accountIds.add(payer.accountId())) {
+        throw new IllegalArgumentException("payer " + payer.accountId() + " is defined twice");
+      }
+    }
+    if (minBalance.toTinybars() < 0) {
+      throw new IllegalArgumentException("minBalance must not be negative");
+    }
+    if (balanceCheckInterval.isNegative()) {
+      throw new IllegalArgumentException("balanceCheckInterval must not be negative");
+    }
+    payers = List.copyOf(payers);
+  }
+
+  public PayerPoolSettings(
+      @NonNull final List<Account> payers, @NonNull final PayerSelection selection) {
+    this(payers, selection, DEFAULT_MIN_BALANCE, DEFAULT_BALANCE_CHECK_INTERVAL);
+  }
+}
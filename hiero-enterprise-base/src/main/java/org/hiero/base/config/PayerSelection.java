@@ -0,0 +1,11 @@
+package org.hiero.base.config;
+
+/**
+ * Strategy that selects the payer account of a transaction from a {@link PayerPoolSettings pool}.
+ */
+public enum PayerSelection {
+  /** The payer accounts are used one after another. */
+  ROUND_ROBIN,
+  /** The payer account with the lowest number of pending transactions is used. */
+  LEAST_LOADED
+}
@@ -0,0 +1,11 @@
+package org.hiero.base.config;
+
+/** Defines when the clients of a {@link org.hiero.base.HieroContext} are created and connected. */
+public enum StartupMode {
+  /** The clients are created at startup, the connections to the nodes are opened on first use. */
+  EAGER,
+  /** The clients are created at startup and all consensus nodes are pinged in parallel. */
+  EAGER_WARM,
+  /** The clients are created on first use. */
+  LAZY
+}
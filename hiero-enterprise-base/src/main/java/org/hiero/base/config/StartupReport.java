@@ -0,0 +1,138 @@
+package org.hiero.base.config;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timings and readiness of the startup of a {@link org.hiero.base.HieroContext}. For {@link
+ * StartupMode#LAZY} the client creation is recorded on first use.
+ */
+public class StartupReport {
+
+  private static final Logger log = LoggerFactory.getLogger(StartupReport.class);
+
+  private final StartupMode mode;
+
+  @Nullable private volatile Duration clientCreationTime;
+
+  @Nullable private volatile Duration warmUpTime;
+
+  private volatile Set<AccountId> reachableNodes = Set.of();
+
+  private volatile Set<AccountId> unreachableNodes = Set.of();
+
+  public StartupReport(@NonNull final StartupMode mode) {
+    this.mode = Objects.requireNonNull(mode, "mode must not be null");
+  }
+
+  /**
+   * Record the time that has been needed to create the clients.
+   *
+   * @param duration the time to create the clients
+   * @param clientCount the number of created clients
+   */
+  public void recordClientCreation(@NonNull final Duration duration, final int clientCount) {
+    Objects.requireNonNull(duration, "duration must not be null");
+    clientCreationTime = duration;
+    log.info("Created {} client(s) in {} ms ({} startup)", clientCount, duration.toMillis(), mode);
+  }
+
+  /**
+   * Record the result of the warm-up of the consensus nodes.
+   *
+   * @param duration the time of the warm-up
+   * @param reachable the nodes that have answered the ping
+   * @param unreachable the nodes that have not answered the ping
+   */
+  public void recordWarmUp(
+      @NonNull final Duration duration,
+      @NonNull final Set<AccountId> reachable,
+      @NonNull final Set<AccountId> unreachable) {
+    Objects.requireNonNull(duration, "duration must not be null");
+    reachableNodes = Set.copyOf(Objects.requireNonNull(reachable, "reachable must not be null"));
+    unreachableNodes =
+        Set.copyOf(Objects.requireNonNull(unreachable, "unreachable must not be null"));
+    warmUpTime = duration;
+    if (unreachable.isEmpty()) {
+      log.info("Warmed up {} node(s) in {} ms", reachable.size(), duration.toMillis());
+    } else {
+      log.warn(
+          "Warmed up {} node(s) in {} ms, nodes {} are not reachable",
+          reachable.size(),
+          duration.toMillis(),
+          unreachable);
+    }
+  }
+
+  /**
+   * Returns the startup mode.
+   *
+   * @return the startup mode
+   */
+  @NonNull
+  public StartupMode getMode() {
+    return mode;
+  }
+
+  /**
+   * Returns the time that has been needed to create the clients.
+   *
+   * @return the time or an empty optional if the clients have not been created yet
+   */
+  @NonNull
+  public Optional<Duration> getClientCreationTime() {
+    return Optional.ofNullable(clientCreationTime);
+  }
+
+  /**
+   * Returns the time of the warm-up of the consensus nodes.
+   *
+   * @return the time or an empty optional if no warm-up has been done
+   */
+  @NonNull
+  public Optional<Duration> getWarmUpTime() {
+    return Optional.ofNullable(warmUpTime);
+  }
+
+  /**
+   * Returns the nodes that have answered the ping of the warm-up.
+   *
+   * @return the reachable nodes
+   */
+  @NonNull
+  public Set<AccountId> getReachableNodes() {
+    return reachableNodes;
+  }
+
+  /**
+   * Returns the nodes that have not answered the ping of the warm-up.
+   *
+   * @return the unreachable nodes
+   */
+  @NonNull
+  public Set<AccountId> getUnreachableNodes() {
+    return unreachableNodes;
+  }
+
+  /**
+   * Returns {@code true} if the context is ready to submit transactions. A lazy context is always
+   * ready, an eager context once its clients are created and a warmed up context once at least one
+   * node has answered the ping.
+   *
+   * @return {@code true} if the context is ready
+   */
+  public boolean isReady() {
+    return switch (mode) {
+      case LAZY -> true;
+      case EAGER -> clientCreationTime != null;
+      case EAGER_WARM -> warmUpTime != null && !reachableNodes.isEmpty();
+    };
+  }
+}
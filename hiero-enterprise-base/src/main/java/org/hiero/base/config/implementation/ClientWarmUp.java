@@ -0,0 +1,83 @@
+package org.hiero.base.config.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.config.StartupReport;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opens the connections of clients to all of their consensus nodes by pinging every node in
+ * parallel. That moves the channel setup and the TLS handshake from the first transactions to the
+ * startup.
+ */
+public final class ClientWarmUp {
+
+  private static final Logger log = LoggerFactory.getLogger(ClientWarmUp.class);
+
+  private ClientWarmUp() {}
+
+  /**
+   * Ping all consensus nodes of the given clients in parallel and record the result in the given
+   * report. A node is reachable if it answers the ping of at least one client.
+   *
+   * @param clients the clients
+   * @param timeout the maximum time to wait for the answers
+   * @param report the report to record the result in
+   */
+  public static void warmUp(
+      @NonNull final List<Client> clients,
+      @NonNull final Duration timeout,
+      @NonNull final StartupReport report) {
+    Objects.requireNonNull(clients, "clients must not be null");
+    Objects.requireNonNull(timeout, "timeout must not be null");
+    Objects.requireNonNull(report, "report must not be null");
+    final long start = System.nanoTime();
+    final Set<AccountId> nodes = ConcurrentHashMap.newKeySet();
+    final Set<AccountId> reachable = ConcurrentHashMap.newKeySet();
+    final List<CompletableFuture<Void>> pings = new ArrayList<>();
+    for (Client client : clients) {
+      for (AccountId node : new HashSet<>(client.getNetwork().values())) {
+        nodes.add(node);
+        pings.add(ping(client, node, timeout).thenRun(() -> reachable.add(node)));
+      }
+    }
+    CompletableFuture.allOf(pings.toArray(CompletableFuture[]::new))
+        .exceptionally(throwable -> null)
+        .join();
+    final Set<AccountId> unreachable = new HashSet<>(nodes);
+    unreachable.removeAll(reachable);
+    report.recordWarmUp(Duration.ofNanos(System.nanoTime() - start), reachable, unreachable);
+  }
+
+  @NonNull
+  private static CompletableFuture<Void> ping(
+      @NonNull final Client client,
+      @NonNull final AccountId node,
+      @NonNull final Duration timeout) {
+    try {
+      return client
+          .pingAsync(node)
+          .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+          .whenComplete(
+              (ignore, throwable) -> {
+                if (throwable != null) {
+                  log.debug("Ping of node {} failed", node, throwable);
+                }
+              });
+    } catch (final Exception e) {
+      log.debug("Ping of node {} failed", node, e);
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+}
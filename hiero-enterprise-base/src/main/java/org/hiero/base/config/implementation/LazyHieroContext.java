@@ -0,0 +1,121 @@
+package org.hiero.base.config.implementation;
+
+import com.hedera.hashgraph.sdk.Client;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.hiero.base.HieroContext;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.StartupReport;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HieroContext} that creates its clients on first use. Applications that rarely submit
+ * transactions do not pay the client creation at startup.
+ */
+public class LazyHieroContext implements HieroContext, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(LazyHieroContext.class);
+
+  private final Account operatorAccount;
+
+  private final Supplier<HieroContext> factory;
+
+  @Nullable private final PayerPool payerPool;
+
+  @Nullable private final StartupReport startupReport;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  @Nullable private volatile HieroContext delegate;
+
+  /**
+   * Creates a lazy context.
+   *
+   * @param operatorAccount the operator account
+   * @param factory the factory that creates the context with the clients on first use
+   * @param payerPool the payer pool or {@code null} if all transactions are paid by the operator
+   * @param startupReport the startup report or {@code null}
+   */
+  public LazyHieroContext(
+      @NonNull final Account operatorAccount,
+      @NonNull final Supplier<HieroContext> factory,
+      @Nullable final PayerPool payerPool,
+      @Nullable final StartupReport startupReport) {
+    this.operatorAccount =
+        Objects.requireNonNull(operatorAccount, "operatorAccount must not be null");
+    this.factory = Objects.requireNonNull(factory, "factory must not be null");
+    this.payerPool = payerPool;
+    this.startupReport = startupReport;
+  }
+
+  @Override
+  public @NonNull Account getOperatorAccount() {
+    return operatorAccount;
+  }
+
+  @Override
+  public @NonNull Client getClient() {
+    return delegate().getClient();
+  }
+
+  @Override
+  public @NonNull Optional<PayerPool> getPayerPool() {
+    return Optional.ofNullable(payerPool);
+  }
+
+  @Override
+  public @NonNull Optional<StartupReport> getStartupReport() {
+    return Optional.ofNullable(startupReport);
+  }
+
+  /**
+   * Returns {@code true} if the clients have already been created.
+   *
+   * @return {@code true} if the clients have been created
+   */
+  public boolean isInitialized() {
+    return delegate != null;
+  }
+
+  /** Close the clients if they have been created. */
+  @Override
+  public void close() {
+    final HieroContext context = delegate;
+    if (context instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (final Exception e) {
+        log.warn("Failed to close context", e);
+      }
+    } else if (context != null) {
+      try {
+        context.getClient().close();
+      } catch (final Exception e) {
+        log.warn("Failed to close client", e);
+      }
+    }
+  }
+
+  @NonNull
+  private HieroContext delegate() {
+    final HieroContext context = delegate;
+    if (context != null) {
+      return context;
+    }
+    lock.lock();
+    try {
+      if (delegate == null) {
+        delegate = Objects.requireNonNull(factory.get(), "created context must not be null");
+      }
+      return delegate;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package org.hiero.base.config.implementation;
+
+import com.hedera.hashgraph.sdk.Client;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hiero.base.HieroContext;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.StartupReport;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HieroContext} that is backed by a pool of {@link Client} instances. Every client has its
+ * own executor and its own set of channels to the consensus nodes. Each call of {@link
+ * #getClient()} leases the next client of the pool, so that the submission of transactions is
+ * spread over all clients instead of being bound to a single one.
+ *
+ * <p>All clients of the pool must use the same operator and the same consensus nodes, since a
+ * transaction that has been frozen with one client can be executed with another one.
+ */
+public class PooledHieroContext implements HieroContext, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(PooledHieroContext.class);
+
+  private final Account operatorAccount;
+
+  private final List<Client> clients;
+
+  private final Optional<PayerPool> payerPool;
+
+  private final Optional<StartupReport> startupReport;
+
+  private final AtomicLong next = new AtomicLong();
+
+  public PooledHieroContext(
+      @NonNull final Account operatorAccount,
+      @NonNull final List<Client> clients,
+      @Nullable final PayerPool payerPool) {
+    this(operatorAccount, clients, payerPool, null);
+  }
+
+  public PooledHieroContext(
+      @NonNull final Account operatorAccount,
+      @NonNull final List<Client> clients,
+      @Nullable final PayerPool payerPool,
+      @Nullable final StartupReport startupReport) {
+    this.operatorAccount =
+        Objects.requireNonNull(operatorAccount, "operatorAccount must not be null");
+    Objects.requireNonNull(clients, "clients must not be null");
+    if (clients.isEmpty()) {
+      throw new IllegalArgumentException("clients must not be empty");
+    }
+    this.clients = List.copyOf(clients);
+    this.payerPool = Optional.ofNullable(payerPool);
+    this.startupReport = Optional.ofNullable(startupReport);
+  }
+
+  @Override
+  public @NonNull Account getOperatorAccount() {
+    return operatorAccount;
+  }
+
+  @Override
+  public @NonNull Client getClient() {
+    return clients.get((int) Math.floorMod(next.getAndIncrement(), (long) clients.size()));
+  }
+
+  @Override
+  public @NonNull Optional<PayerPool> getPayerPool() {
+    return payerPool;
+  }
+
+  @Override
+  public @NonNull Optional<StartupReport> getStartupReport() {
+    return startupReport;
+  }
+
+  /**
+   * Returns all clients of the pool.
+   *
+   * @return the clients
+   */
+  @NonNull
+  public List<Client> getClients() {
+    return clients;
+  }
+
+  /**
+   * Returns the number of clients in the pool.
+   *
+   * @return the size of the pool
+   */
+  public int getPoolSize() {
+    return clients.size();
+  }
+
+  /** Close all clients of the pool. */
+  @Override
+  public void close() {
+    for (Client client : clients) {
+      try {
+        client.close();
+      } catch (final Exception e) {
+        log.warn("Failed to close client of pool", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package org.hiero.base.config.implementation;
+
+import com.hedera.hashgraph.sdk.Client;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.HieroContext;
+import org.hiero.base.config.ExecutionMode;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.StartupReport;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HieroContext} of {@link ExecutionMode#VIRTUAL_THREADS} that runs the blocking network
+ * calls of the clients on the given executor of virtual threads. The context owns the executor:
+ * closing the context closes the context it delegates to and shuts the executor down afterwards,
+ * since the SDK does not close an executor that is passed to a {@link Client}.
+ */
+public class VirtualThreadHieroContext implements HieroContext, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadHieroContext.class);
+
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+  private final HieroContext delegate;
+
+  private final ExecutorService executor;
+
+  /**
+   * Creates a context that runs blocking calls on the given executor.
+   *
+   * @param delegate the context that provides the clients
+   * @param executor the executor of virtual threads that is shut down when the context is closed
+   */
+  public VirtualThreadHieroContext(
+      @NonNull final HieroContext delegate, @NonNull final ExecutorService executor) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.executor = Objects.requireNonNull(executor, "executor must not be null");
+  }
+
+  @Override
+  public @NonNull Account getOperatorAccount() {
+    return delegate.getOperatorAccount();
+  }
+
+  @Override
+  public @NonNull Client getClient() {
+    return delegate.getClient();
+  }
+
+  @Override
+  public @NonNull Optional<PayerPool> getPayerPool() {
+    return delegate.getPayerPool();
+  }
+
+  @Override
+  public @NonNull Optional<StartupReport> getStartupReport() {
+    return delegate.getStartupReport();
+  }
+
+  @Override
+  public @NonNull Optional<Executor> getBlockingExecutor() {
+    return Optional.of(executor);
+  }
+
+  /**
+   * Returns the context that provides the clients.
+   *
+   * @return the delegate
+   */
+  @NonNull
+  public HieroContext getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Close the clients of the delegate and shut the executor down. Blocking calls that are still
+   * running get ten seconds to complete before they are interrupted.
+   */
+  @Override
+  public void close() {
+    if (delegate instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (final Exception e) {
+        log.warn("Failed to close context", e);
+      }
+    } else {
+      try {
+        delegate.getClient().close();
+      } catch (final Exception e) {
+        log.warn("Failed to close client", e);
+      }
+    }
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package org.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A single transfer of a fungible token from one account to another. Multiple legs can be executed
+ * together in one transaction.
+ *
+ * @param tokenId the ID of the token
+ * @param sender the ID of the account that sends the token
+ * @param receiver the ID of the account that receives the token
+ * @param amount the amount of the token to transfer
+ */
+public record TokenTransferLeg(
+    @NonNull TokenId tokenId, @NonNull AccountId sender, @NonNull AccountId receiver, long amount) {
+
+  public TokenTransferLeg {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(sender, "sender must not be null");
+    Objects.requireNonNull(receiver, "receiver must not be null");
+    if (amount <= 0) {
+      throw new IllegalArgumentException("amount must be positive");
+    }
+    if (sender.equals(receiver)) {
+      throw new IllegalArgumentException("sender and receiver must be different");
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package org.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of a single {@link TokenTransferLeg} that has been executed as part of a batch.
+ *
+ * @param leg the transfer leg
+ * @param transactionId the ID of the transaction that contained the leg, or {@code null} if the
+ *     transaction was never submitted
+ * @param status the status of the transaction, or {@code null} if the status is unknown
+ */
+public record TokenTransferLegResult(
+    @NonNull TokenTransferLeg leg, @Nullable TransactionId transactionId, @Nullable Status status) {
+
+  public TokenTransferLegResult {
+    Objects.requireNonNull(leg, "leg must not be null");
+  }
+
+  /**
+   * Returns true if the leg has been transferred successfully.
+   *
+   * @return true if the leg has been transferred successfully
+   */
+  public boolean isSuccess() {
+    return status == Status.SUCCESS;
+  }
+}
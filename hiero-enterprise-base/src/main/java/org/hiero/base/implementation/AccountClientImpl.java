@@ -3,10 +3,20 @@ package org.hiero.base.implementation;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.hiero.base.AccountClient;
+import org.hiero.base.AccountsCreationException;
 import org.hiero.base.HieroException;
 import org.hiero.base.data.Account;
+import org.hiero.base.protocol.AsyncProtocolLayerClient;
 import org.hiero.base.protocol.ProtocolLayerClient;
 import org.hiero.base.protocol.data.AccountBalanceRequest;
 import org.hiero.base.protocol.data.AccountBalanceResponse;
@@ -18,6 +28,8 @@ import org.jspecify.annotations.NonNull;
 
 public class AccountClientImpl implements AccountClient {
 
+  private static final int MAX_PIPELINED_CREATES = 256;
+
   private final ProtocolLayerClient client;
 
   public AccountClientImpl(@NonNull final ProtocolLayerClient client) {
@@ -44,6 +56,82 @@ public class AccountClientImpl implements AccountClient {
     }
   }
 
+  @NonNull
+  @Override
+  public List<Account> createAccounts(final int count, @NonNull final Hbar initialBalance)
+      throws HieroException {
+    Objects.requireNonNull(initialBalance, "initialBalance must not be null");
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative");
+    }
+    if (initialBalance.toTinybars() < 0) {
+      throw new HieroException("Invalid initial balance: must be non-negative");
+    }
+    final AccountCreateRequest request = AccountCreateRequest.of(initialBalance);
+    final List<CompletableFuture<AccountCreateResult>> futures = new ArrayList<>(count);
+    // at most MAX_PIPELINED_CREATES transactions are in flight, the next one is submitted as soon
+    // as one of them is done
+    final Semaphore window = new Semaphore(MAX_PIPELINED_CREATES);
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < count && !failed.get(); i++) {
+        window.acquire();
+        futures.add(
+            submitAccountCreate(request, executor)
+                .whenComplete(
+                    (result, throwable) -> {
+                      if (throwable != null) {
+                        failed.set(true);
+                      }
+                      window.release();
+                    }));
+      }
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+          .exceptionally(throwable -> null)
+          .join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while creating accounts", e);
+    }
+    final List<Account> accounts = new ArrayList<>(count);
+    Throwable failure = null;
+    for (CompletableFuture<AccountCreateResult> future : futures) {
+      try {
+        accounts.add(future.join().newAccount());
+      } catch (final CompletionException e) {
+        failure = failure == null ? e.getCause() : failure;
+      }
+    }
+    if (failure != null) {
+      throw new AccountsCreationException(
+          "Failed to create accounts: only "
+              + accounts.size()
+              + " of "
+              + count
+              + " accounts have been created",
+          failure,
+          accounts);
+    }
+    return List.copyOf(accounts);
+  }
+
+  @NonNull
+  private CompletableFuture<AccountCreateResult> submitAccountCreate(
+      @NonNull final AccountCreateRequest request, @NonNull final ExecutorService executor) {
+    if (client instanceof AsyncProtocolLayerClient asyncClient) {
+      return asyncClient.executeAccountCreateTransactionAsync(request);
+    }
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return client.executeAccountCreateTransaction(request);
+          } catch (final HieroException e) {
+            throw new CompletionException(e);
+          }
+        },
+        executor);
+  }
+
   @Override
   public void deleteAccount(@NonNull Account account) throws HieroException {
     final AccountDeleteRequest request = AccountDeleteRequest.of(account);
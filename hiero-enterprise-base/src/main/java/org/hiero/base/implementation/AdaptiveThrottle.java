@@ -0,0 +1,330 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleUnaryOperator;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.data.TransactionType;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client side rate limiter that adapts to the congestion of the network. Every {@link
+ * TransactionType} has its own bucket with a permitted rate of transactions per second. The rate
+ * grows additively with every successful transaction and shrinks multiplicatively whenever the
+ * network answers with a throttle status like {@link Status#BUSY} (AIMD).
+ *
+ * <p>Callers that exceed the permitted rate are queued until their slot is reached. If the slot is
+ * further away than the configured maximum queueing delay the call is rejected with a {@link
+ * HieroException} instead.
+ */
+public class AdaptiveThrottle {
+
+  private static final Logger log = LoggerFactory.getLogger(AdaptiveThrottle.class);
+
+  /** Statuses that indicate that the network is congested. */
+  public static final Set<Status> THROTTLE_STATUSES =
+      Collections.unmodifiableSet(
+          EnumSet.of(
+              Status.BUSY,
+              Status.PLATFORM_TRANSACTION_NOT_CREATED,
+              Status.THROTTLED_AT_CONSENSUS,
+              Status.PLATFORM_NOT_ACTIVE));
+
+  private final Settings settings;
+
+  private final Map<TransactionType, Bucket> buckets;
+
+  public AdaptiveThrottle() {
+    this(Settings.DEFAULT);
+  }
+
+  public AdaptiveThrottle(@NonNull final Settings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    final Map<TransactionType, Bucket> map = new EnumMap<>(TransactionType.class);
+    for (TransactionType type : TransactionType.values()) {
+      map.put(type, new Bucket(settings.initialRate()));
+    }
+    this.buckets = Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Wait until a transaction of the given type is permitted.
+   *
+   * @param type the type of the transaction
+   * @throws HieroException if the transaction would have to wait longer than the maximum queueing
+   *     delay or the thread has been interrupted
+   */
+  public void acquire(@NonNull final TransactionType type) throws HieroException {
+    final Bucket bucket = bucket(type);
+    final long waitNanos = reserve(type, bucket);
+    if (waitNanos <= 0) {
+      return;
+    }
+    bucket.queued.incrementAndGet();
+    try {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while waiting for throttle of type " + type, e);
+    } finally {
+      bucket.queued.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns a future that is completed once a transaction of the given type is permitted. The
+   * future fails with a {@link HieroException} if the transaction would have to wait longer than
+   * the maximum queueing delay.
+   *
+   * @param type the type of the transaction
+   * @return a future that is completed once the transaction is permitted
+   */
+  @NonNull
+  public CompletableFuture<Void> acquireAsync(@NonNull final TransactionType type) {
+    final Bucket bucket = bucket(type);
+    final long waitNanos;
+    try {
+      waitNanos = reserve(type, bucket);
+    } catch (final HieroException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    if (waitNanos <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    bucket.queued.incrementAndGet();
+    return CompletableFuture.runAsync(
+        bucket.queued::decrementAndGet,
+        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Report the outcome of a transaction. A throttle status in the given error shrinks the permitted
+   * rate of the type, a successful transaction grows it. Other errors do not change the rate.
+   *
+   * @param type the type of the transaction
+   * @param error the error of the transaction or {@code null} if it was successful
+   */
+  public void onResult(@NonNull final TransactionType type, @Nullable final Throwable error) {
+    Objects.requireNonNull(type, "type must not be null");
+    if (error == null) {
+      onStatus(type, Status.SUCCESS);
+      return;
+    }
+    final Status status = findStatus(error);
+    if (status != null && status != Status.SUCCESS) {
+      onStatus(type, status);
+    }
+  }
+
+  /**
+   * Report the status the network answered for a transaction. {@link Status#SUCCESS} grows the
+   * permitted rate of the type, a throttle status shrinks it. Other statuses do not change the
+   * rate.
+   *
+   * @param type the type of the transaction
+   * @param status the status of the transaction
+   */
+  public void onStatus(@NonNull final TransactionType type, @NonNull final Status status) {
+    final Bucket bucket = bucket(type);
+    Objects.requireNonNull(status, "status must not be null");
+    if (status == Status.SUCCESS) {
+      bucket.update(rate -> Math.min(settings.maxRate(), rate + settings.increaseStep()));
+    } else if (THROTTLE_STATUSES.contains(status)) {
+      final double reducedRate =
+          bucket.update(rate -> Math.max(settings.minRate(), rate * settings.decreaseFactor()));
+      log.debug(
+          "Network answered {} for type {}, permitted rate reduced to {}/s",
+          status,
+          type,
+          reducedRate);
+    }
+  }
+
+  /**
+   * Returns the currently permitted rate of transactions per second for the given type.
+   *
+   * @param type the type of the transaction
+   * @return the permitted rate
+   */
+  public double getCurrentRate(@NonNull final TransactionType type) {
+    return bucket(type).rate();
+  }
+
+  /**
+   * Returns the number of callers that currently wait for a slot of the given type.
+   *
+   * @param type the type of the transaction
+   * @return the queue depth
+   */
+  public int getQueueDepth(@NonNull final TransactionType type) {
+    return bucket(type).queued.get();
+  }
+
+  /**
+   * Returns the number of calls of the given type that have been rejected because the maximum
+   * queueing delay would have been exceeded.
+   *
+   * @param type the type of the transaction
+   * @return the number of rejected calls
+   */
+  public long getRejectedCount(@NonNull final TransactionType type) {
+    return bucket(type).rejected.get();
+  }
+
+  @NonNull
+  private Bucket bucket(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    return buckets.get(type);
+  }
+
+  private long reserve(@NonNull final TransactionType type, @NonNull final Bucket bucket)
+      throws HieroException {
+    final long waitNanos = bucket.reserve(System.nanoTime(), settings.maxQueueDelay().toNanos());
+    if (waitNanos < 0) {
+      bucket.rejected.incrementAndGet();
+      throw new HieroException(
+          "Transaction of type "
+              + type
+              + " rejected by client side throttle, current rate is "
+              + bucket.rate()
+              + "/s");
+    }
+    return waitNanos;
+  }
+
+  @Nullable
+  private static Status findStatus(@NonNull final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheckStatusException) {
+        return precheckStatusException.status;
+      }
+      if (current instanceof ReceiptStatusException receiptStatusException) {
+        return receiptStatusException.receipt.status;
+      }
+      current = current.getCause();
+    }
+    return null;
+  }
+
+  /**
+   * Settings of the throttle.
+   *
+   * @param initialRate the permitted transactions per second of every type at start
+   * @param minRate the lower bound of the permitted rate
+   * @param maxRate the upper bound of the permitted rate
+   * @param increaseStep the value that is added to the rate after a successful transaction
+   * @param decreaseFactor the factor the rate is multiplied with after a throttle status
+   * @param maxQueueDelay the maximum time a call waits for its slot before it is rejected
+   */
+  public record Settings(
+      double initialRate,
+      double minRate,
+      double maxRate,
+      double increaseStep,
+      double decreaseFactor,
+      @NonNull Duration maxQueueDelay) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT =
+        new Settings(100, 1, 10_000, 1, 0.5, Duration.ofSeconds(5));
+
+    public Settings {
+      Objects.requireNonNull(maxQueueDelay, "maxQueueDelay must not be null");
+      if (minRate <= 0) {
+        throw new IllegalArgumentException("minRate must be positive");
+      }
+      if (maxRate < minRate) {
+        throw new IllegalArgumentException("maxRate must not be less than minRate");
+      }
+      if (initialRate < minRate || initialRate > maxRate) {
+        throw new IllegalArgumentException("initialRate must be between minRate and maxRate");
+      }
+      if (increaseStep < 0) {
+        throw new IllegalArgumentException("increaseStep must not be negative");
+      }
+      if (decreaseFactor <= 0 || decreaseFactor > 1) {
+        throw new IllegalArgumentException("decreaseFactor must be in (0, 1]");
+      }
+      if (maxQueueDelay.isNegative()) {
+        throw new IllegalArgumentException("maxQueueDelay must not be negative");
+      }
+    }
+  }
+
+  private static final class Bucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private double rate;
+
+    private long nextFreeNanos;
+
+    private boolean started;
+
+    private Bucket(final double rate) {
+      this.rate = rate;
+    }
+
+    /**
+     * Reserve the next free slot.
+     *
+     * @return the nanos to wait for the slot or {@code -1} if the slot is further away than the
+     *     maximum delay
+     */
+    private long reserve(final long nowNanos, final long maxDelayNanos) {
+      lock.lock();
+      try {
+        final long slot = !started || nextFreeNanos - nowNanos < 0 ? nowNanos : nextFreeNanos;
+        final long waitNanos = slot - nowNanos;
+        if (waitNanos > maxDelayNanos) {
+          return -1;
+        }
+        started = true;
+        nextFreeNanos = slot + (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        return waitNanos;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private double update(@NonNull final DoubleUnaryOperator function) {
+      lock.lock();
+      try {
+        rate = function.applyAsDouble(rate);
+        return rate;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private double rate() {
+      lock.lock();
+      try {
+        return rate;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
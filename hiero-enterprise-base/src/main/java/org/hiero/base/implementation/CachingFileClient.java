@@ -0,0 +1,350 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.base.FileClient;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.FileInfoRequest;
+import org.hiero.base.protocol.data.FileInfoResponse;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link FileClient} that caches the contents and the info of files that are read through another
+ * file client. Contents are kept in a least recently used cache that is bounded by the number of
+ * cached bytes. {@link #isDeleted(FileId)}, {@link #getSize(FileId)} and {@link
+ * #getExpirationTime(FileId)} share one cached {@link FileInfoResponse}, so that checking all of
+ * them needs only one file info query.
+ *
+ * <p>Cached entries expire after a time to live. Updates, deletions and changes of the expiration
+ * time that are executed through this client invalidate the cached entries of the file. Changes
+ * that are executed by other clients are visible once the entries have expired.
+ */
+public class CachingFileClient implements FileClient {
+
+  private final FileClient delegate;
+
+  private final ProtocolLayerClient protocolLayerClient;
+
+  private final Settings settings;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final LinkedHashMap<FileId, Cached<byte[]>> contents =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  private final LinkedHashMap<FileId, Cached<FileInfoResponse>> infos;
+
+  private long cachedBytes;
+
+  /**
+   * Incremented by every invalidation. A value that has been loaded while a file was invalidated is
+   * not cached, since it might show the file before the change.
+   */
+  private long invalidations;
+
+  private final AtomicLong contentHits = new AtomicLong();
+
+  private final AtomicLong contentMisses = new AtomicLong();
+
+  private final AtomicLong infoHits = new AtomicLong();
+
+  private final AtomicLong infoMisses = new AtomicLong();
+
+  public CachingFileClient(
+      @NonNull final FileClient delegate, @NonNull final ProtocolLayerClient protocolLayerClient) {
+    this(delegate, protocolLayerClient, Settings.DEFAULT);
+  }
+
+  public CachingFileClient(
+      @NonNull final FileClient delegate,
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final Settings settings) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.protocolLayerClient =
+        Objects.requireNonNull(protocolLayerClient, "protocolLayerClient must not be null");
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.infos =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              final Map.Entry<FileId, Cached<FileInfoResponse>> eldest) {
+            return size() > settings.maxInfoEntries();
+          }
+        };
+  }
+
+  /**
+   * Returns the file client that executes the calls that are not answered by the cache.
+   *
+   * @return the delegate
+   */
+  @NonNull
+  public FileClient getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public FileId createFile(@NonNull final byte[] contents) throws HieroException {
+    return delegate.createFile(contents);
+  }
+
+  @Override
+  public FileId createFile(@NonNull final byte[] contents, @NonNull final Instant expirationTime)
+      throws HieroException {
+    return delegate.createFile(contents, expirationTime);
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final Path path) throws HieroException {
+    return delegate.createFileFrom(path);
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final InputStream contents, final long size)
+      throws HieroException {
+    return delegate.createFileFrom(contents, size);
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final ByteBuffer contents) throws HieroException {
+    return delegate.createFileFrom(contents);
+  }
+
+  @NonNull
+  @Override
+  public byte[] readFile(@NonNull final FileId fileId) throws HieroException {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    final long generation;
+    lock.lock();
+    try {
+      final Cached<byte[]> cached = contents.get(fileId);
+      if (cached != null && !isExpired(cached)) {
+        contentHits.incrementAndGet();
+        return cached.value().clone();
+      }
+      if (cached != null) {
+        removeContents(fileId);
+      }
+      generation = invalidations;
+    } finally {
+      lock.unlock();
+    }
+    contentMisses.incrementAndGet();
+    final byte[] loaded = delegate.readFile(fileId);
+    if (loaded.length <= settings.maxContentBytes()) {
+      lock.lock();
+      try {
+        if (generation == invalidations) {
+          removeContents(fileId);
+          contents.put(fileId, new Cached<>(loaded.clone(), System.nanoTime()));
+          cachedBytes += loaded.length;
+          evictContents();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return loaded;
+  }
+
+  @Override
+  public void deleteFile(@NonNull final FileId fileId) throws HieroException {
+    try {
+      delegate.deleteFile(fileId);
+    } finally {
+      invalidate(fileId);
+    }
+  }
+
+  @Override
+  public void updateFile(@NonNull final FileId fileId, @NonNull final byte[] content)
+      throws HieroException {
+    try {
+      delegate.updateFile(fileId, content);
+    } finally {
+      invalidate(fileId);
+    }
+  }
+
+  @Override
+  public void updateExpirationTime(
+      @NonNull final FileId fileId, @NonNull final Instant expirationTime) throws HieroException {
+    try {
+      delegate.updateExpirationTime(fileId, expirationTime);
+    } finally {
+      invalidate(fileId);
+    }
+  }
+
+  @Override
+  public boolean isDeleted(@NonNull final FileId fileId) throws HieroException {
+    return getInfo(fileId).deleted();
+  }
+
+  @Override
+  public int getSize(@NonNull final FileId fileId) throws HieroException {
+    return getInfo(fileId).size();
+  }
+
+  @Override
+  public Instant getExpirationTime(@NonNull final FileId fileId) throws HieroException {
+    return getInfo(fileId).expirationTime();
+  }
+
+  /**
+   * Remove the cached contents and info of the given file.
+   *
+   * @param fileId the file
+   */
+  public void invalidate(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    lock.lock();
+    try {
+      invalidations++;
+      removeContents(fileId);
+      infos.remove(fileId);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of bytes of all cached contents.
+   *
+   * @return the number of cached bytes
+   */
+  public long getCachedBytes() {
+    lock.lock();
+    try {
+      return cachedBytes;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of reads that have been answered by the cache.
+   *
+   * @return the number of content hits
+   */
+  public long getContentHitCount() {
+    return contentHits.get();
+  }
+
+  /**
+   * Returns the number of reads that have executed a file contents query.
+   *
+   * @return the number of content misses
+   */
+  public long getContentMissCount() {
+    return contentMisses.get();
+  }
+
+  /**
+   * Returns the number of info accessor calls that have been answered by the cache.
+   *
+   * @return the number of info hits
+   */
+  public long getInfoHitCount() {
+    return infoHits.get();
+  }
+
+  /**
+   * Returns the number of info accessor calls that have executed a file info query.
+   *
+   * @return the number of info misses
+   */
+  public long getInfoMissCount() {
+    return infoMisses.get();
+  }
+
+  @NonNull
+  private FileInfoResponse getInfo(@NonNull final FileId fileId) throws HieroException {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    final long generation;
+    lock.lock();
+    try {
+      final Cached<FileInfoResponse> cached = infos.get(fileId);
+      if (cached != null && !isExpired(cached)) {
+        infoHits.incrementAndGet();
+        return cached.value();
+      }
+      generation = invalidations;
+    } finally {
+      lock.unlock();
+    }
+    infoMisses.incrementAndGet();
+    final FileInfoResponse info =
+        protocolLayerClient.executeFileInfoQuery(FileInfoRequest.of(fileId));
+    lock.lock();
+    try {
+      if (generation == invalidations) {
+        infos.put(fileId, new Cached<>(info, System.nanoTime()));
+      }
+    } finally {
+      lock.unlock();
+    }
+    return info;
+  }
+
+  private boolean isExpired(@NonNull final Cached<?> cached) {
+    return System.nanoTime() - cached.loadedAt() > settings.timeToLive().toNanos();
+  }
+
+  private void removeContents(@NonNull final FileId fileId) {
+    final Cached<byte[]> removed = contents.remove(fileId);
+    if (removed != null) {
+      cachedBytes -= removed.value().length;
+    }
+  }
+
+  /** Evict the least recently used contents until the cache is within its byte limit. */
+  private void evictContents() {
+    final Iterator<Cached<byte[]>> iterator = contents.values().iterator();
+    while (cachedBytes > settings.maxContentBytes() && iterator.hasNext()) {
+      cachedBytes -= iterator.next().value().length;
+      iterator.remove();
+    }
+  }
+
+  private record Cached<T>(@NonNull T value, long loadedAt) {}
+
+  /**
+   * Settings of a {@link CachingFileClient}.
+   *
+   * @param maxContentBytes the maximum number of bytes of all cached contents. Larger files are not
+   *     cached
+   * @param maxInfoEntries the maximum number of cached file infos
+   * @param timeToLive the time after which a cached entry expires
+   */
+  public record Settings(long maxContentBytes, int maxInfoEntries, @NonNull Duration timeToLive) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT =
+        new Settings(16 * 1024 * 1024, 10_000, Duration.ofMinutes(1));
+
+    public Settings {
+      Objects.requireNonNull(timeToLive, "timeToLive must not be null");
+      if (maxContentBytes < 0) {
+        throw new IllegalArgumentException("maxContentBytes must not be negative");
+      }
+      if (maxInfoEntries <= 0) {
+        throw new IllegalArgumentException("maxInfoEntries must be greater than 0");
+      }
+      if (timeToLive.isNegative() || timeToLive.isZero()) {
+        throw new IllegalArgumentException("timeToLive must be positive");
+      }
+    }
+  }
+}
@@ -0,0 +1,427 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.hiero.base.FileClient;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.data.FileCreateRequest;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link FileClient} that compresses the contents of files before they are uploaded by another file
+ * client and decompresses them on {@link #readFile(FileId)}. Fewer bytes need fewer {@code
+ * FileAppend} transactions, so uploads of compressible contents like JSON documents are cheaper and
+ * faster.
+ *
+ * <p>Encoded files start with a header of a magic number, the id of the {@link Codec} and the size
+ * of the original contents. Files without the header are returned as they are, so files that have
+ * been uploaded without compression can still be read. Contents that do not get smaller are
+ * uploaded without header. Contents are encoded while they are read, so only the encoded contents
+ * are held in memory for uploads from a {@link Path} or an {@link InputStream}.
+ *
+ * <p>{@link #getSize(FileId)} returns the size of the stored, encoded contents. Files that are read
+ * by the network, like the bytecode of a smart contract, must not be uploaded through this client.
+ */
+public class CompressingFileClient implements FileClient {
+
+  private static final Logger log = LoggerFactory.getLogger(CompressingFileClient.class);
+
+  private static final byte[] MAGIC = {0x00, 'H', 'F', 'C'};
+
+  /** Size of the magic number, the codec id and the size of the original contents. */
+  private static final int HEADER_SIZE = MAGIC.length + 1 + 4;
+
+  /** Maximum size of the original contents, so that a corrupt header can not exhaust the heap. */
+  public static final int MAX_DECODED_SIZE = 64 * 1024 * 1024;
+
+  private final FileClient delegate;
+
+  private final Codec codec;
+
+  private final Map<Byte, Codec> decoders;
+
+  public CompressingFileClient(@NonNull final FileClient delegate) {
+    this(delegate, Codec.DEFLATE);
+  }
+
+  public CompressingFileClient(@NonNull final FileClient delegate, @NonNull final Codec codec) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.codec = Objects.requireNonNull(codec, "codec must not be null");
+    if (codec.id() == Codec.DEFLATE.id() && codec != Codec.DEFLATE) {
+      throw new IllegalArgumentException("Codec id " + codec.id() + " is reserved for DEFLATE");
+    }
+    // files that have been written with the default codec stay readable
+    this.decoders =
+        codec == Codec.DEFLATE
+            ? Map.of(codec.id(), codec)
+            : Map.of(Codec.DEFLATE.id(), Codec.DEFLATE, codec.id(), codec);
+  }
+
+  /**
+   * Returns the file client that stores the encoded contents.
+   *
+   * @return the delegate
+   */
+  @NonNull
+  public FileClient getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public FileId createFile(@NonNull final byte[] contents) throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return delegate.createFileFrom(encodeOrKeep(ByteBuffer.wrap(contents)));
+  }
+
+  @Override
+  public FileId createFile(@NonNull final byte[] contents, @NonNull final Instant expirationTime)
+      throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return delegate.createFile(toArray(encodeOrKeep(ByteBuffer.wrap(contents))), expirationTime);
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final Path path) throws HieroException {
+    Objects.requireNonNull(path, "path must not be null");
+    EncodedContents encoded;
+    try (InputStream contents = Files.newInputStream(path)) {
+      final long size = Files.size(path);
+      final boolean magic = startsWithMagic(path);
+      try {
+        encoded = encode(contents, size);
+      } catch (final EncodedTooLargeException e) {
+        if (magic) {
+          throw e;
+        }
+        encoded = null;
+      }
+      if (encoded != null && encoded.size() >= size && !magic) {
+        encoded = null;
+      }
+    } catch (final IOException e) {
+      throw new HieroException("Failed to encode file '" + path + "'", e);
+    }
+    return encoded == null
+        ? delegate.createFileFrom(path)
+        : delegate.createFileFrom(encoded.toBuffer());
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final InputStream contents, final long size)
+      throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
+    }
+    // the stream can only be read once, so the contents are always encoded
+    try {
+      return delegate.createFileFrom(encode(contents, size).toBuffer());
+    } catch (final IOException e) {
+      throw new HieroException("Failed to encode file contents", e);
+    }
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final ByteBuffer contents) throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return delegate.createFileFrom(encodeOrKeep(contents));
+  }
+
+  @NonNull
+  @Override
+  public byte[] readFile(@NonNull final FileId fileId) throws HieroException {
+    return decode(delegate.readFile(fileId));
+  }
+
+  @Override
+  public void deleteFile(@NonNull final FileId fileId) throws HieroException {
+    delegate.deleteFile(fileId);
+  }
+
+  @Override
+  public void updateFile(@NonNull final FileId fileId, @NonNull final byte[] content)
+      throws HieroException {
+    Objects.requireNonNull(content, "content must not be null");
+    delegate.updateFile(fileId, toArray(encodeOrKeep(ByteBuffer.wrap(content))));
+  }
+
+  @Override
+  public void updateExpirationTime(
+      @NonNull final FileId fileId, @NonNull final Instant expirationTime) throws HieroException {
+    delegate.updateExpirationTime(fileId, expirationTime);
+  }
+
+  @Override
+  public boolean isDeleted(@NonNull final FileId fileId) throws HieroException {
+    return delegate.isDeleted(fileId);
+  }
+
+  @Override
+  public int getSize(@NonNull final FileId fileId) throws HieroException {
+    return delegate.getSize(fileId);
+  }
+
+  @Override
+  public Instant getExpirationTime(@NonNull final FileId fileId) throws HieroException {
+    return delegate.getExpirationTime(fileId);
+  }
+
+  /**
+   * Returns the encoded contents, or the given contents if encoding does not make them smaller.
+   * Contents that start with the magic number are always encoded, so that they are not mistaken for
+   * encoded contents when they are read.
+   */
+  @NonNull
+  private ByteBuffer encodeOrKeep(@NonNull final ByteBuffer contents) throws HieroException {
+    final ByteBuffer view = contents.asReadOnlyBuffer();
+    final EncodedContents encoded;
+    try {
+      encoded = encode(new ByteBufferInputStream(view.duplicate()), view.remaining());
+    } catch (final EncodedTooLargeException e) {
+      if (startsWithMagic(view)) {
+        throw new HieroException("Failed to encode file contents", e);
+      }
+      return view;
+    } catch (final IOException e) {
+      throw new HieroException("Failed to encode file contents", e);
+    }
+    if (encoded.size() >= view.remaining() && !startsWithMagic(view)) {
+      return view;
+    }
+    return encoded.toBuffer();
+  }
+
+  /**
+   * Encode the given number of bytes of the stream. The stream is read in blocks and only the
+   * encoded contents are held in memory.
+   */
+  @NonNull
+  private EncodedContents encode(@NonNull final InputStream contents, final long size)
+      throws IOException, HieroException {
+    if (size > MAX_DECODED_SIZE) {
+      throw new HieroException("File contents must be less than " + MAX_DECODED_SIZE + " bytes");
+    }
+    final EncodedContents encoded = new EncodedContents();
+    encoded.write(MAGIC);
+    encoded.write(codec.id());
+    encoded.write(ByteBuffer.allocate(4).putInt((int) size).array());
+    try (OutputStream encoder = codec.encode(encoded)) {
+      final byte[] block = new byte[8192];
+      long remaining = size;
+      while (remaining > 0) {
+        final int read = contents.read(block, 0, (int) Math.min(block.length, remaining));
+        if (read < 0) {
+          throw new EOFException("Stream ended before the given size has been read");
+        }
+        encoder.write(block, 0, read);
+        remaining -= read;
+      }
+    }
+    return encoded;
+  }
+
+  /**
+   * Decode the given stored contents. Contents without a valid header or that can not be decoded
+   * have not been encoded by this client and are returned as they are.
+   */
+  private byte @NonNull [] decode(final byte @NonNull [] stored) {
+    if (!startsWithMagic(ByteBuffer.wrap(stored)) || stored.length < HEADER_SIZE) {
+      return stored;
+    }
+    final Codec decoder = decoders.get(stored[MAGIC.length]);
+    final int size = ByteBuffer.wrap(stored, MAGIC.length + 1, 4).getInt();
+    if (decoder == null || size < 0 || size > MAX_DECODED_SIZE) {
+      log.debug("Contents have no supported header and are returned as they are");
+      return stored;
+    }
+    final byte[] decoded = new byte[size];
+    try (InputStream in =
+        decoder.decode(
+            new ByteArrayInputStream(stored, HEADER_SIZE, stored.length - HEADER_SIZE))) {
+      if (in.readNBytes(decoded, 0, size) == size && in.read() == -1) {
+        return decoded;
+      }
+    } catch (final IOException e) {
+      log.debug("Contents can not be decoded and are returned as they are", e);
+    }
+    return stored;
+  }
+
+  private static boolean startsWithMagic(@NonNull final ByteBuffer contents) {
+    return contents.remaining() >= MAGIC.length
+        && contents.slice(contents.position(), MAGIC.length).equals(ByteBuffer.wrap(MAGIC));
+  }
+
+  private static boolean startsWithMagic(@NonNull final Path path) throws IOException {
+    try (InputStream in = Files.newInputStream(path)) {
+      return startsWithMagic(ByteBuffer.wrap(in.readNBytes(MAGIC.length)));
+    }
+  }
+
+  private static byte @NonNull [] toArray(@NonNull final ByteBuffer contents) {
+    final byte[] bytes = new byte[contents.remaining()];
+    contents.duplicate().get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Codec that encodes the contents of files. The id of the codec is written to the header of every
+   * encoded file, so it must never change for a codec.
+   */
+  public interface Codec {
+
+    /** Codec that compresses contents with deflate of the JDK. Uses the id 1. */
+    Codec DEFLATE =
+        new Codec() {
+          @Override
+          public byte id() {
+            return 1;
+          }
+
+          @NonNull
+          @Override
+          public OutputStream encode(@NonNull final OutputStream out) {
+            final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            return new DeflaterOutputStream(out, deflater) {
+              @Override
+              public void close() throws IOException {
+                try {
+                  super.close();
+                } finally {
+                  deflater.end();
+                }
+              }
+            };
+          }
+
+          @NonNull
+          @Override
+          public InputStream decode(@NonNull final InputStream in) {
+            return new InflaterInputStream(in);
+          }
+        };
+
+    /**
+     * Returns the id of the codec that is written to the header of encoded files.
+     *
+     * @return the id
+     */
+    byte id();
+
+    /**
+     * Returns a stream that encodes all bytes that are written to it into the given stream. Closing
+     * the returned stream finishes the encoding.
+     *
+     * @param out the stream of the encoded bytes
+     * @return the encoding stream
+     * @throws IOException if the stream can not be created
+     */
+    @NonNull OutputStream encode(@NonNull OutputStream out) throws IOException;
+
+    /**
+     * Returns a stream that decodes the bytes of the given stream.
+     *
+     * @param in the stream of the encoded bytes
+     * @return the decoding stream
+     * @throws IOException if the stream can not be created
+     */
+    @NonNull InputStream decode(@NonNull InputStream in) throws IOException;
+  }
+
+  /**
+   * Buffer of encoded contents that fails as soon as the contents get too large for a file and
+   * exposes its bytes without copying them.
+   */
+  private static final class EncodedContents extends OutputStream {
+
+    private byte[] buffer = new byte[8192];
+
+    private int count;
+
+    @Override
+    public void write(final int b) throws IOException {
+      ensureCapacity(1);
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte @NonNull [] b, final int off, final int len) throws IOException {
+      ensureCapacity(len);
+      System.arraycopy(b, off, buffer, count, len);
+      count += len;
+    }
+
+    int size() {
+      return count;
+    }
+
+    @NonNull ByteBuffer toBuffer() {
+      return ByteBuffer.wrap(buffer, 0, count).asReadOnlyBuffer();
+    }
+
+    private void ensureCapacity(final int length) throws IOException {
+      final int required = count + length;
+      if (required > FileCreateRequest.FILE_MAX_SIZE) {
+        throw new EncodedTooLargeException(
+            "Encoded file contents must be less than "
+                + FileCreateRequest.FILE_MAX_SIZE
+                + " bytes");
+      }
+      if (required > buffer.length) {
+        buffer =
+            Arrays.copyOf(
+                buffer,
+                Math.min(Math.max(required, buffer.length * 2), FileCreateRequest.FILE_MAX_SIZE));
+      }
+    }
+  }
+
+  /** Thrown if the encoded contents are too large for a file. */
+  private static final class EncodedTooLargeException extends IOException {
+
+    EncodedTooLargeException(@NonNull final String message) {
+      super(message);
+    }
+  }
+
+  /** Stream over the remaining bytes of a buffer. */
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(@NonNull final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte @NonNull [] b, final int off, final int len) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int read = Math.min(len, buffer.remaining());
+      buffer.get(b, off, read);
+      return read;
+    }
+  }
+}
@@ -1,11 +1,29 @@
 package org.hiero.base.implementation;
 
 import com.hedera.hashgraph.sdk.FileId;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.hiero.base.FileClient;
 import org.hiero.base.HieroException;
+import org.hiero.base.protocol.AsyncProtocolLayerClient;
 import org.hiero.base.protocol.ProtocolLayerClient;
 import org.hiero.base.protocol.data.FileAppendRequest;
 import org.hiero.base.protocol.data.FileContentsRequest;
@@ -25,70 +43,397 @@ public class FileClientImpl implements FileClient {
 
   private static final Logger log = LoggerFactory.getLogger(FileClientImpl.class);
 
+  /**
+   * Offset of the valid start of pipelined appends to the current time, so that a consensus node
+   * whose clock is slightly behind does not reject an append as starting in the future.
+   */
+  private static final Duration VALID_START_OFFSET = Duration.ofSeconds(5);
+
+  /** Valid start of the last pipelined append in nanoseconds since the epoch. */
+  private static final AtomicLong lastValidStart = new AtomicLong();
+
   private final ProtocolLayerClient protocolLayerClient;
 
+  private final Settings settings;
+
+  private final AtomicReference<FileRegistry> registry = new AtomicReference<>();
+
   public FileClientImpl(@NonNull final ProtocolLayerClient protocolLayerClient) {
+    this(protocolLayerClient, Settings.DEFAULT);
+  }
+
+  public FileClientImpl(
+      @NonNull final ProtocolLayerClient protocolLayerClient, @NonNull final Settings settings) {
     this.protocolLayerClient =
         Objects.requireNonNull(protocolLayerClient, "protocolLayerClient must not be null");
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    if (settings.appendWindow() > 1 && !(protocolLayerClient instanceof AsyncProtocolLayerClient)) {
+      log.warn(
+          "Appends are submitted one by one since the protocol layer client does not support asynchronous calls");
+    }
+  }
+
+  /**
+   * Set the registry that is used to reuse files with the same contents instead of uploading the
+   * contents again. Uploads from an {@link InputStream} are not deduplicated since their contents
+   * can only be read once.
+   *
+   * @param registry the registry or {@code null} to upload every file
+   */
+  public void setRegistry(@Nullable final FileRegistry registry) {
+    this.registry.set(registry);
   }
 
   @Override
   public FileId createFile(@NonNull final byte[] contents) throws HieroException {
-    return createFileImpl(contents, null);
+    Objects.requireNonNull(contents, "contents must not be null");
+    return createFileImpl(ByteBuffer.wrap(contents), null);
   }
 
   @Override
   public FileId createFile(@NonNull final byte[] contents, @NonNull final Instant expirationTime)
       throws HieroException {
-    return createFileImpl(contents, expirationTime);
+    Objects.requireNonNull(contents, "contents must not be null");
+    return createFileImpl(ByteBuffer.wrap(contents), expirationTime);
   }
 
-  private FileId createFileImpl(
-      @NonNull final byte[] contents, @Nullable final Instant expirationTime)
+  @Override
+  public FileId createFileFrom(@NonNull final Path path) throws HieroException {
+    Objects.requireNonNull(path, "path must not be null");
+    final MappedByteBuffer contents;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      checkSize(size);
+      // the mapping stays valid after the channel is closed and is read chunk by chunk
+      contents = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    } catch (final IOException e) {
+      throw new HieroException("Failed to read file '" + path + "'", e);
+    }
+    return createFileFrom(contents);
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final InputStream contents, final long size)
       throws HieroException {
     Objects.requireNonNull(contents, "contents must not be null");
-    if (contents.length > FileCreateRequest.FILE_MAX_SIZE) {
-      throw new HieroException(
-          "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes");
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
     }
+    return createFileImpl(chunks(contents), null, size, null);
+  }
+
+  @Override
+  public FileId createFileFrom(@NonNull final ByteBuffer contents) throws HieroException {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return createFileImpl(contents, null);
+  }
+
+  private FileId createFileImpl(
+      @NonNull final ByteBuffer contents, @Nullable final Instant expirationTime)
+      throws HieroException {
+    // the view starts at index 0, so that pipelined appends can read chunks by their offset
+    final ByteBuffer view = contents.slice().asReadOnlyBuffer();
+    return createFileImpl(chunks(view), view, view.remaining(), expirationTime);
+  }
+
+  /**
+   * Create a file with the given contents.
+   *
+   * @param contents the reader of the contents
+   * @param randomAccess the contents if they can be read again, which allows pipelined appends, or
+   *     {@code null} if the contents can only be read once
+   * @param size the size of the contents
+   * @param expirationTime the expiration time of the file
+   * @return the id of the file
+   */
+  private FileId createFileImpl(
+      @NonNull final ChunkReader contents,
+      @Nullable final ByteBuffer randomAccess,
+      final long size,
+      @Nullable final Instant expirationTime)
+      throws HieroException {
+    checkSize(size);
     if (expirationTime != null && expirationTime.isBefore(Instant.now())) {
       throw new IllegalArgumentException("Expiration time must be in the future");
     }
-    if (contents.length <= FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      final FileCreateRequest request;
-      if (expirationTime != null) {
-        request = FileCreateRequest.of(contents, expirationTime);
-      } else {
-        request = FileCreateRequest.of(contents);
+    if (size > FileCreateRequest.FILE_CREATE_MAX_SIZE && log.isDebugEnabled()) {
+      final long appendCount = Math.floorDiv(size, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+      log.debug(
+          "Content of size {} is to big for 1 FileCreate transaction. Will append {} FileAppend transactions",
+          size,
+          appendCount);
+    }
+    final FileRegistry fileRegistry = registry.get();
+    final byte[] hash =
+        fileRegistry != null && randomAccess != null ? FileRegistry.hash(randomAccess) : null;
+    if (hash != null) {
+      final Optional<FileId> registered = findRegistered(fileRegistry, hash, size, expirationTime);
+      if (registered.isPresent()) {
+        return registered.get();
       }
-      final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
-      return result.fileId();
+    }
+    final byte[] start = readChunk(contents, size);
+    final FileCreateRequest request;
+    if (expirationTime != null) {
+      request = FileCreateRequest.of(start, expirationTime);
     } else {
-      if (log.isDebugEnabled()) {
-        final int appendCount =
-            Math.floorDiv(contents.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        log.debug(
-            "Content of size {} is to big for 1 FileCreate transaction. Will append {} FileAppend transactions",
-            contents.length,
-            appendCount);
+      request = FileCreateRequest.of(start);
+    }
+    final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
+    final FileId fileId = result.fileId();
+    appendRemaining(fileId, contents, randomAccess, size, start.length);
+    if (hash != null) {
+      fileRegistry.register(
+          hash, fileId, expirationTime != null ? expirationTime : getExpirationTime(fileId));
+    }
+    return fileId;
+  }
+
+  /**
+   * Returns the registered file with the given hash if the file still exists with the expected size
+   * and contents and does not expire before the given expiration time. The contents are compared by
+   * their SHA-384 hash, since the file can have been changed by another client that holds its key.
+   * A registered file that has been deleted, has expired or has been changed is evicted from the
+   * registry.
+   */
+  @NonNull
+  private Optional<FileId> findRegistered(
+      @NonNull final FileRegistry fileRegistry,
+      final byte @NonNull [] hash,
+      final long size,
+      @Nullable final Instant expirationTime) {
+    final Optional<FileRegistry.Entry> entry = fileRegistry.lookup(hash);
+    if (entry.isEmpty()
+        || (expirationTime != null && entry.get().expirationTime().isBefore(expirationTime))) {
+      return Optional.empty();
+    }
+    final FileId fileId = entry.get().fileId();
+    try {
+      final FileInfoResponse info =
+          protocolLayerClient.executeFileInfoQuery(FileInfoRequest.of(fileId));
+      final boolean expired =
+          info.expirationTime() != null && !info.expirationTime().isAfter(Instant.now());
+      if (!info.deleted() && !expired && info.size() == size && hasContents(fileId, hash)) {
+        log.debug("Reusing file {} with the same contents", fileId);
+        return Optional.of(fileId);
       }
-      final byte[] start = Arrays.copyOf(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-      final FileCreateRequest request = FileCreateRequest.of(start);
-      final FileCreateResult result = protocolLayerClient.executeFileCreateTransaction(request);
-      final FileId fileId = result.fileId();
-      byte[] remaining =
-          Arrays.copyOfRange(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE, contents.length);
-      while (remaining.length > 0) {
-        final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        final byte[] next = Arrays.copyOf(remaining, length);
-        final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
-        protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
-        remaining = Arrays.copyOfRange(remaining, length, remaining.length);
+    } catch (final HieroException e) {
+      log.debug("Failed to query registered file {}", fileId, e);
+    }
+    fileRegistry.evict(fileId);
+    return Optional.empty();
+  }
+
+  private boolean hasContents(@NonNull final FileId fileId, final byte @NonNull [] hash)
+      throws HieroException {
+    final byte[] actual =
+        protocolLayerClient.executeFileContentsQuery(FileContentsRequest.of(fileId)).contents();
+    if (MessageDigest.isEqual(FileRegistry.hash(ByteBuffer.wrap(actual)), hash)) {
+      return true;
+    }
+    log.debug("Registered file {} has been changed since its upload", fileId);
+    return false;
+  }
+
+  /**
+   * Append the contents after the first chunk to the given file. The appends are pipelined if the
+   * contents can be read again and an append window greater than 1 is configured.
+   */
+  private void appendRemaining(
+      @NonNull final FileId fileId,
+      @NonNull final ChunkReader contents,
+      @Nullable final ByteBuffer randomAccess,
+      final long size,
+      final int offset)
+      throws HieroException {
+    if (randomAccess != null
+        && size - offset > FileCreateRequest.FILE_CREATE_MAX_SIZE
+        && settings.appendWindow() > 1
+        && protocolLayerClient instanceof AsyncProtocolLayerClient asyncClient) {
+      appendPipelined(asyncClient, fileId, randomAccess, offset);
+      verifyUpload(fileId, randomAccess);
+    } else {
+      appendChunks(fileId, contents, size - offset);
+    }
+  }
+
+  /**
+   * Append the remaining contents to the given file. Only one chunk of the contents is held in
+   * memory at a time.
+   */
+  private void appendChunks(
+      @NonNull final FileId fileId, @NonNull final ChunkReader contents, final long size)
+      throws HieroException {
+    long remaining = size;
+    while (remaining > 0) {
+      final byte[] next = readChunk(contents, remaining);
+      final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
+      protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
+      remaining -= next.length;
+    }
+  }
+
+  /**
+   * Append the contents from the given offset with up to {@code appendWindow} appends in flight.
+   * Every append gets a later valid start than the append before, and all appends of the file are
+   * sent to the same consensus node. No further appends are submitted once an append has failed.
+   * The order is not guaranteed if a node retries an append, so the upload must be verified
+   * afterwards.
+   */
+  private void appendPipelined(
+      @NonNull final AsyncProtocolLayerClient asyncClient,
+      @NonNull final FileId fileId,
+      @NonNull final ByteBuffer contents,
+      final int offset)
+      throws HieroException {
+    final Semaphore window = new Semaphore(settings.appendWindow());
+    final AtomicBoolean failed = new AtomicBoolean();
+    final List<CompletableFuture<?>> appends = new ArrayList<>();
+    int position = offset;
+    try {
+      while (position < contents.limit() && !failed.get()) {
+        final byte[] chunk =
+            new byte[Math.min(contents.limit() - position, FileCreateRequest.FILE_CREATE_MAX_SIZE)];
+        contents.get(position, chunk);
+        window.acquire();
+        final int chunkOffset = position;
+        appends.add(
+            asyncClient
+                .executeFileAppendRequestTransactionAsync(
+                    FileAppendRequest.of(fileId, chunk, nextValidStart()))
+                .whenComplete(
+                    (result, error) -> {
+                      window.release();
+                      if (error != null) {
+                        failed.set(true);
+                        log.debug(
+                            "Append at offset {} of file {} failed", chunkOffset, fileId, error);
+                      }
+                    }));
+        position += chunk.length;
       }
-      return fileId;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while uploading file " + fileId, e);
+    } finally {
+      // failed appends are repaired by the verification
+      CompletableFuture.allOf(appends.toArray(CompletableFuture[]::new))
+          .exceptionally(error -> null)
+          .join();
+    }
+  }
+
+  /**
+   * Compare the size and the SHA-384 hash of the uploaded file with the given contents. If only the
+   * end of the contents is missing, for example because the last appends have failed, only the
+   * missing range is appended. If the file contains a gap or the appends reached consensus out of
+   * order, the file is written again from the first chunk without pipelining, since a file can only
+   * be changed by appending.
+   */
+  private void verifyUpload(@NonNull final FileId fileId, @NonNull final ByteBuffer contents)
+      throws HieroException {
+    final int size = contents.limit();
+    final FileInfoResponse info =
+        protocolLayerClient.executeFileInfoQuery(FileInfoRequest.of(fileId));
+    final ByteBuffer actual =
+        ByteBuffer.wrap(
+            protocolLayerClient
+                .executeFileContentsQuery(FileContentsRequest.of(fileId))
+                .contents());
+    if (info.size() == size
+        && MessageDigest.isEqual(FileRegistry.hash(actual), FileRegistry.hash(contents))) {
+      return;
+    }
+    final int mismatch = contents.slice(0, Math.min(size, actual.limit())).mismatch(actual);
+    if (mismatch == -1 || mismatch == actual.limit()) {
+      log.debug(
+          "Upload of file {} is missing the range [{}, {}). Appending the range again",
+          fileId,
+          actual.limit(),
+          size);
+      appendChunks(
+          fileId,
+          chunks(contents.slice(actual.limit(), size - actual.limit())),
+          size - actual.limit());
+    } else {
+      log.warn(
+          "Upload of file {} differs from the contents at offset {}. Writing the file again",
+          fileId,
+          mismatch);
+      final ChunkReader reader = chunks(contents);
+      final byte[] start = readChunk(reader, size);
+      protocolLayerClient.executeFileUpdateRequestTransaction(FileUpdateRequest.of(fileId, start));
+      appendChunks(fileId, reader, size - start.length);
+    }
+    final int repairedSize = getSize(fileId);
+    if (repairedSize != size) {
+      throw new HieroException(
+          "Upload of file "
+              + fileId
+              + " has size "
+              + repairedSize
+              + " instead of "
+              + size
+              + " after it has been repaired");
+    }
+  }
+
+  /**
+   * Returns a valid start that is later than the valid start of all pipelined appends before, also
+   * of concurrent uploads.
+   */
+  @NonNull
+  private static Instant nextValidStart() {
+    final Instant now = Instant.now().minus(VALID_START_OFFSET);
+    final long nanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    final long validStart =
+        lastValidStart.accumulateAndGet(nanos, (last, current) -> Math.max(last + 1, current));
+    return Instant.ofEpochSecond(0, validStart);
+  }
+
+  @NonNull
+  private static byte[] readChunk(@NonNull final ChunkReader contents, final long remaining)
+      throws HieroException {
+    final int length = (int) Math.min(remaining, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+    try {
+      return contents.read(length);
+    } catch (final IOException e) {
+      throw new HieroException("Failed to read file contents", e);
+    }
+  }
+
+  private static void checkSize(final long size) throws HieroException {
+    if (size > FileCreateRequest.FILE_MAX_SIZE) {
+      throw new HieroException(
+          "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes");
     }
   }
 
+  /**
+   * Returns a reader for the remaining contents of the given buffer. Chunks are read from a
+   * read-only view, so the position of the given buffer is not changed.
+   */
+  @NonNull
+  private static ChunkReader chunks(@NonNull final ByteBuffer contents) {
+    final ByteBuffer view = contents.asReadOnlyBuffer();
+    return length -> {
+      final byte[] chunk = new byte[length];
+      view.get(chunk);
+      return chunk;
+    };
+  }
+
+  @NonNull
+  private static ChunkReader chunks(@NonNull final InputStream contents) {
+    return length -> {
+      final byte[] chunk = contents.readNBytes(length);
+      if (chunk.length < length) {
+        throw new EOFException("Stream ended before the given size has been read");
+      }
+      return chunk;
+    };
+  }
+
   @NonNull
   @Override
   public byte[] readFile(@NonNull final FileId fileId) throws HieroException {
@@ -111,6 +456,7 @@ public class FileClientImpl implements FileClient {
     } catch (Exception e) {
       throw new HieroException("Failed to delete file with fileId " + fileId, e);
     }
+    evict(fileId);
   }
 
   @Override
@@ -118,35 +464,22 @@ public class FileClientImpl implements FileClient {
       throws HieroException {
     Objects.requireNonNull(fileId, "fileId must not be null");
     Objects.requireNonNull(content, "content must not be null");
-    if (content.length > FileCreateRequest.FILE_MAX_SIZE) {
-      throw new HieroException(
-          "File contents must be less than " + FileCreateRequest.FILE_MAX_SIZE + " bytes");
-    }
-    if (content.length <= FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      final FileUpdateRequest request = FileUpdateRequest.of(fileId, content);
-      protocolLayerClient.executeFileUpdateRequestTransaction(request);
-    } else {
-      if (log.isDebugEnabled()) {
-        final int appendCount =
-            Math.floorDiv(content.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        log.debug(
-            "Content of size {} is to big for 1 FileUpdate transaction. Will append {} FileAppend transactions",
-            content.length,
-            appendCount);
-      }
-      byte[] start = Arrays.copyOf(content, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-      final FileUpdateRequest request = FileUpdateRequest.of(fileId, start);
-      protocolLayerClient.executeFileUpdateRequestTransaction(request);
-      byte[] remaining =
-          Arrays.copyOfRange(content, FileCreateRequest.FILE_CREATE_MAX_SIZE, content.length);
-      while (remaining.length > 0) {
-        final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
-        byte[] next = Arrays.copyOf(remaining, length);
-        final FileAppendRequest appendRequest = FileAppendRequest.of(fileId, next);
-        protocolLayerClient.executeFileAppendRequestTransaction(appendRequest);
-        remaining = Arrays.copyOfRange(remaining, length, remaining.length);
-      }
+    checkSize(content.length);
+    if (content.length > FileCreateRequest.FILE_CREATE_MAX_SIZE && log.isDebugEnabled()) {
+      final int appendCount = Math.floorDiv(content.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+      log.debug(
+          "Content of size {} is to big for 1 FileUpdate transaction. Will append {} FileAppend transactions",
+          content.length,
+          appendCount);
     }
+    // the contents of the file change, even if the update fails after the first chunk
+    evict(fileId);
+    final ByteBuffer view = ByteBuffer.wrap(content).asReadOnlyBuffer();
+    final ChunkReader contents = chunks(view);
+    final byte[] start = readChunk(contents, content.length);
+    final FileUpdateRequest request = FileUpdateRequest.of(fileId, start);
+    protocolLayerClient.executeFileUpdateRequestTransaction(request);
+    appendRemaining(fileId, contents, view, content.length, start.length);
   }
 
   @Override
@@ -160,6 +493,17 @@ public class FileClientImpl implements FileClient {
     }
     final FileUpdateRequest request = FileUpdateRequest.of(fileId, expirationTime);
     protocolLayerClient.executeFileUpdateRequestTransaction(request);
+    final FileRegistry fileRegistry = registry.get();
+    if (fileRegistry != null) {
+      fileRegistry.updateExpirationTime(fileId, expirationTime);
+    }
+  }
+
+  private void evict(@NonNull final FileId fileId) {
+    final FileRegistry fileRegistry = registry.get();
+    if (fileRegistry != null) {
+      fileRegistry.evict(fileId);
+    }
   }
 
   @Override
@@ -185,4 +529,30 @@ public class FileClientImpl implements FileClient {
     final FileInfoResponse infoResponse = protocolLayerClient.executeFileInfoQuery(request);
     return infoResponse.expirationTime();
   }
+
+  /**
+   * Settings of a {@link FileClientImpl}.
+   *
+   * @param appendWindow the maximum number of appends of an upload that are in flight at the same
+   *     time. With 1 every append waits for the receipt of the append before. Uploads from an
+   *     {@link InputStream} are always appended one by one
+   */
+  public record Settings(int appendWindow) {
+
+    /** Default settings that append one chunk after the other. */
+    public static final Settings DEFAULT = new Settings(1);
+
+    public Settings {
+      if (appendWindow <= 0) {
+        throw new IllegalArgumentException("appendWindow must be greater than 0");
+      }
+    }
+  }
+
+  /** Reads the contents of a file chunk by chunk. */
+  @FunctionalInterface
+  private interface ChunkReader {
+
+    @NonNull byte[] read(int length) throws IOException;
+  }
 }
@@ -0,0 +1,303 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.base.HieroException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of uploaded files by the SHA-384 hash of their contents. An upload of contents that have
+ * been uploaded before reuses the existing file instead of uploading the contents again. Entries
+ * are evicted once their file expires or is deleted, updated or found to be deleted.
+ *
+ * <p>If an index file is given, the registry is written to the file on every change, so that the
+ * files are reused after a restart of the process. The index only contains hashes, file ids and
+ * expiration times, never the contents.
+ */
+public class FileRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(FileRegistry.class);
+
+  private static final HexFormat HEX = HexFormat.of();
+
+  @Nullable private final Path file;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  /** Creates a registry that is kept in memory only. */
+  public FileRegistry() {
+    this.file = null;
+  }
+
+  /**
+   * Creates a registry that is written to the given index file. Entries of the file that have
+   * expired are dropped.
+   *
+   * @param file the index file
+   * @throws HieroException if the index file can not be read
+   */
+  public FileRegistry(@NonNull final Path file) throws HieroException {
+    this.file = Objects.requireNonNull(file, "file must not be null");
+    try {
+      if (Files.exists(file)) {
+        load(Files.readAllLines(file, StandardCharsets.UTF_8));
+      }
+    } catch (final IOException e) {
+      throw new HieroException("Failed to read file registry '" + file + "'", e);
+    }
+  }
+
+  /**
+   * Returns the SHA-384 hash of the remaining contents of the given buffer. The position of the
+   * buffer is not changed.
+   *
+   * @param contents the contents
+   * @return the hash
+   */
+  public static byte @NonNull [] hash(@NonNull final ByteBuffer contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-384");
+      digest.update(contents.duplicate());
+      return digest.digest();
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-384 is not supported", e);
+    }
+  }
+
+  /**
+   * Returns the file that has been registered for the given hash. An expired entry is evicted.
+   *
+   * @param hash the SHA-384 hash of the contents
+   * @return the registered file or an empty optional if no live file is known
+   */
+  @NonNull
+  public Optional<Entry> lookup(final byte @NonNull [] hash) {
+    Objects.requireNonNull(hash, "hash must not be null");
+    final String key = HEX.formatHex(hash);
+    lock.lock();
+    try {
+      final Entry entry = entries.get(key);
+      if (entry == null || isExpired(entry)) {
+        if (entry != null) {
+          entries.remove(key);
+          store();
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+      }
+      hits.incrementAndGet();
+      return Optional.of(entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Register the given file for the given hash. A file that has been registered for the hash before
+   * is replaced.
+   *
+   * @param hash the SHA-384 hash of the contents
+   * @param fileId the file that contains the contents
+   * @param expirationTime the expiration time of the file
+   */
+  public void register(
+      final byte @NonNull [] hash,
+      @NonNull final FileId fileId,
+      @NonNull final Instant expirationTime) {
+    Objects.requireNonNull(hash, "hash must not be null");
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    Objects.requireNonNull(expirationTime, "expirationTime must not be null");
+    lock.lock();
+    try {
+      entries.put(HEX.formatHex(hash), new Entry(fileId, expirationTime));
+      store();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Evict the entry of the given file, for example because the file has been deleted or its
+   * contents have been changed.
+   *
+   * @param fileId the file
+   */
+  public void evict(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    lock.lock();
+    try {
+      if (entries.values().removeIf(entry -> entry.fileId().equals(fileId))) {
+        store();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Update the expiration time of the given file if the file is registered.
+   *
+   * @param fileId the file
+   * @param expirationTime the new expiration time
+   */
+  public void updateExpirationTime(
+      @NonNull final FileId fileId, @NonNull final Instant expirationTime) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    Objects.requireNonNull(expirationTime, "expirationTime must not be null");
+    lock.lock();
+    try {
+      final List<String> keys =
+          entries.entrySet().stream()
+              .filter(e -> e.getValue().fileId().equals(fileId))
+              .map(Map.Entry::getKey)
+              .toList();
+      keys.forEach(key -> entries.put(key, new Entry(fileId, expirationTime)));
+      if (!keys.isEmpty()) {
+        store();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns whether the given file is registered and must therefore not be deleted by a caller that
+   * only needs the file temporarily.
+   *
+   * @param fileId the file
+   * @return {@code true} if the file is registered
+   */
+  public boolean contains(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    lock.lock();
+    try {
+      return entries.values().stream().anyMatch(entry -> entry.fileId().equals(fileId));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of registered files.
+   *
+   * @return the number of files
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of lookups that found a registered file.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of lookups that found no registered file.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  private static boolean isExpired(@NonNull final Entry entry) {
+    return !entry.expirationTime().isAfter(Instant.now());
+  }
+
+  /**
+   * Write all live entries to a temporary file that replaces the index file, so that the index is
+   * never left half written. A failed write is logged and the registry is kept in memory.
+   */
+  private void store() {
+    if (file == null) {
+      return;
+    }
+    entries.values().removeIf(FileRegistry::isExpired);
+    final List<String> lines =
+        entries.entrySet().stream()
+            .map(
+                e ->
+                    e.getKey()
+                        + " "
+                        + e.getValue().fileId()
+                        + " "
+                        + e.getValue().expirationTime().getEpochSecond())
+            .toList();
+    final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      Files.write(temporary, lines, StandardCharsets.UTF_8);
+      Files.move(
+          temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      log.warn("Failed to write file registry '{}'", file, e);
+    }
+  }
+
+  private void load(@NonNull final List<String> lines) {
+    for (String line : lines) {
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        final String[] parts = line.split(" ");
+        final Entry entry =
+            new Entry(FileId.fromString(parts[1]), Instant.ofEpochSecond(Long.parseLong(parts[2])));
+        HEX.parseHex(parts[0]);
+        if (!isExpired(entry)) {
+          entries.put(parts[0], entry);
+        }
+      } catch (final RuntimeException e) {
+        log.warn("Ignoring unreadable entry '{}' in file registry '{}'", line, file, e);
+      }
+    }
+  }
+
+  /**
+   * A registered file.
+   *
+   * @param fileId the file that contains the contents
+   * @param expirationTime the expiration time of the file
+   */
+  public record Entry(@NonNull FileId fileId, @NonNull Instant expirationTime) {
+
+    public Entry {
+      Objects.requireNonNull(fileId, "fileId must not be null");
+      Objects.requireNonNull(expirationTime, "expirationTime must not be null");
+    }
+  }
+}
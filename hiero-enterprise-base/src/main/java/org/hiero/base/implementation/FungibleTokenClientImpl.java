@@ -1,15 +1,28 @@
 package org.hiero.base.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TokenType;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.hiero.base.FungibleTokenClient;
 import org.hiero.base.HieroException;
 import org.hiero.base.data.Account;
+import org.hiero.base.data.TokenTransferLeg;
+import org.hiero.base.data.TokenTransferLegResult;
 import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.MultiTokenTransferRequest;
+import org.hiero.base.protocol.data.MultiTokenTransferResult;
 import org.hiero.base.protocol.data.TokenAssociateRequest;
 import org.hiero.base.protocol.data.TokenBurnRequest;
 import org.hiero.base.protocol.data.TokenBurnResult;
@@ -20,8 +33,14 @@ import org.hiero.base.protocol.data.TokenMintRequest;
 import org.hiero.base.protocol.data.TokenMintResult;
 import org.hiero.base.protocol.data.TokenTransferRequest;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class FungibleTokenClientImpl implements FungibleTokenClient {
+
+  private static final Logger log = LoggerFactory.getLogger(FungibleTokenClientImpl.class);
+
   private final ProtocolLayerClient client;
 
   private final Account operationalAccount;
@@ -164,4 +183,101 @@ public class FungibleTokenClientImpl implements FungibleTokenClient {
         TokenTransferRequest.of(tokenId, fromAccountId, toAccountId, fromAccountKey, amount);
     client.executeTransferTransaction(request);
   }
+
+  @Override
+  public @NonNull List<TokenTransferLegResult> transferTokens(
+      @NonNull final List<TokenTransferLeg> legs,
+      @NonNull final Map<AccountId, PrivateKey> senderKeys) {
+    Objects.requireNonNull(legs, "legs must not be null");
+    Objects.requireNonNull(senderKeys, "senderKeys must not be null");
+    legs.forEach(
+        leg -> {
+          Objects.requireNonNull(leg, "leg must not be null");
+          if (!senderKeys.containsKey(leg.sender())) {
+            throw new IllegalArgumentException("No private key for sender " + leg.sender());
+          }
+        });
+    final List<TokenTransferLegResult> results = new ArrayList<>(legs.size());
+    for (List<TokenTransferLeg> batch : createBatches(legs)) {
+      final List<PrivateKey> signerKeys =
+          batch.stream()
+              .map(TokenTransferLeg::sender)
+              .distinct()
+              .map(senderKeys::get)
+              .toList();
+      final MultiTokenTransferRequest request = MultiTokenTransferRequest.of(batch, signerKeys);
+      try {
+        final MultiTokenTransferResult result =
+            client.executeMultiTokenTransferTransaction(request);
+        batch.forEach(
+            leg ->
+                results.add(
+                    new TokenTransferLegResult(leg, result.transactionId(), result.status())));
+      } catch (final HieroException e) {
+        log.warn("Failed to transfer batch of {} token transfers", batch.size(), e);
+        final TransactionId transactionId = findTransactionId(e);
+        final Status status = findStatus(e);
+        batch.forEach(leg -> results.add(new TokenTransferLegResult(leg, transactionId, status)));
+      }
+    }
+    return Collections.unmodifiableList(results);
+  }
+
+  @NonNull
+  private static List<List<TokenTransferLeg>> createBatches(
+      @NonNull final List<TokenTransferLeg> legs) {
+    final List<List<TokenTransferLeg>> batches = new ArrayList<>();
+    List<TokenTransferLeg> batch = new ArrayList<>();
+    final Set<Map.Entry<TokenId, AccountId>> accountAmounts = new HashSet<>();
+    for (TokenTransferLeg leg : legs) {
+      final Map.Entry<TokenId, AccountId> senderAmount = Map.entry(leg.tokenId(), leg.sender());
+      final Map.Entry<TokenId, AccountId> receiverAmount = Map.entry(leg.tokenId(), leg.receiver());
+      int newAccountAmounts = 0;
+      if (!accountAmounts.contains(senderAmount)) {
+        newAccountAmounts++;
+      }
+      if (!accountAmounts.contains(receiverAmount)) {
+        newAccountAmounts++;
+      }
+      if (accountAmounts.size() + newAccountAmounts
+          > MultiTokenTransferRequest.MAX_TOKEN_ACCOUNT_AMOUNTS) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+        accountAmounts.clear();
+      }
+      batch.add(leg);
+      accountAmounts.add(senderAmount);
+      accountAmounts.add(receiverAmount);
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+
+  @Nullable
+  private static TransactionId findTransactionId(@NonNull final Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ReceiptStatusException receiptStatusException) {
+        return receiptStatusException.transactionId;
+      }
+      if (cause instanceof PrecheckStatusException precheckStatusException) {
+        return precheckStatusException.transactionId;
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static Status findStatus(@NonNull final Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ReceiptStatusException receiptStatusException) {
+        return receiptStatusException.receipt.status;
+      }
+      if (cause instanceof PrecheckStatusException precheckStatusException) {
+        return precheckStatusException.status;
+      }
+    }
+    return null;
+  }
 }
@@ -0,0 +1,464 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import org.hiero.base.HieroException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store that maps idempotency keys to frozen and signed transactions. The first transaction that is
+ * executed within {@link #withKey(String, IdempotentCall)} is stored under the key before it is
+ * submitted. If a transaction is executed again with the same key, for example as retry after a
+ * timeout, the stored transaction with the same {@link TransactionId} is submitted instead of a new
+ * one. The network rejects a transaction that has already reached consensus as duplicate and its
+ * receipt is returned, so a retry is never charged twice.
+ *
+ * <p>The store keeps at most {@code maxEntries} keys and drops the least recently used key if it is
+ * full. Keys expire after a time to live. If a file is given, every key is written to the file
+ * before the transaction is submitted, so that retries after a restart of the process are
+ * idempotent as well.
+ */
+public class IdempotencyStore implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+  private static final ThreadLocal<KeyScope> CURRENT_KEY = new ThreadLocal<>();
+
+  private static final byte PUT = 1;
+
+  private static final byte REMOVE = 2;
+
+  /** Size of the length and the checksum that precede the payload of a record. */
+  private static final int HEADER_SIZE = 8;
+
+  private final Settings settings;
+
+  @Nullable private final Path file;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final LinkedHashMap<String, Entry> entries;
+
+  private final AtomicLong replays = new AtomicLong();
+
+  @Nullable private FileChannel channel;
+
+  private long appendedRecords;
+
+  public IdempotencyStore() {
+    this(Settings.DEFAULT);
+  }
+
+  public IdempotencyStore(@NonNull final Settings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.file = null;
+    this.entries = createEntries(settings.maxEntries());
+  }
+
+  public IdempotencyStore(@NonNull final Path file, @NonNull final Settings settings)
+      throws HieroException {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.file = Objects.requireNonNull(file, "file must not be null");
+    this.entries = createEntries(settings.maxEntries());
+    try {
+      if (Files.exists(file)) {
+        replay(Files.readAllBytes(file));
+      }
+      compact();
+    } catch (final IOException e) {
+      throw new HieroException("Failed to open idempotency store '" + file + "'", e);
+    }
+  }
+
+  /**
+   * Execute the given call with the given idempotency key. The key is bound to the first transaction
+   * that is executed by the call on the current thread. All further transactions of the call, for
+   * example the appends of a file upload, are executed without idempotency key, since a key can
+   * only stand for one transaction.
+   *
+   * @param key the idempotency key
+   * @param call the call
+   * @return the result of the call
+   * @param <T> the type of the result
+   * @param <E> the type of the exception the call can throw
+   * @throws E if the call fails
+   */
+  public static <T, E extends Exception> T withKey(
+      @NonNull final String key, @NonNull final IdempotentCall<T, E> call) throws E {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(call, "call must not be null");
+    final KeyScope previous = CURRENT_KEY.get();
+    CURRENT_KEY.set(new KeyScope(key));
+    try {
+      return call.call();
+    } finally {
+      if (previous == null) {
+        CURRENT_KEY.remove();
+      } else {
+        CURRENT_KEY.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Returns the idempotency key of the current thread if it has not been bound to a transaction
+   * yet.
+   *
+   * @return the key or an empty optional if no key is set or the key has been used
+   */
+  @NonNull
+  public static Optional<String> currentKey() {
+    final KeyScope scope = CURRENT_KEY.get();
+    return scope == null || scope.claimed ? Optional.empty() : Optional.of(scope.key);
+  }
+
+  /**
+   * Binds the idempotency key of the current thread to the transaction that is executed next. The
+   * key is returned only once per {@link #withKey(String, IdempotentCall)} call.
+   *
+   * @return the key or an empty optional if no key is set or the key has already been used
+   */
+  @NonNull
+  static Optional<String> claimKey() {
+    final Optional<String> key = currentKey();
+    key.ifPresent(ignore -> CURRENT_KEY.get().claimed = true);
+    return key;
+  }
+
+  /**
+   * Returns the transaction that is stored under the given key.
+   *
+   * @param key the idempotency key
+   * @return the stored transaction or an empty optional if the key is unknown or expired
+   */
+  @NonNull
+  public Optional<Entry> get(@NonNull final String key) {
+    Objects.requireNonNull(key, "key must not be null");
+    lock.lock();
+    try {
+      final Entry entry = entries.get(key);
+      if (entry == null) {
+        return Optional.empty();
+      }
+      if (isExpired(entry)) {
+        entries.remove(key);
+        return Optional.empty();
+      }
+      replays.incrementAndGet();
+      return Optional.of(entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Store a transaction under the given key unless another transaction is already stored under the
+   * key.
+   *
+   * @param key the idempotency key
+   * @param transactionId the id of the transaction
+   * @param transactionBytes the frozen and signed bytes of the transaction
+   * @return the transaction that is stored under the key after the call
+   * @throws HieroException if the key could not be written to the file
+   */
+  @NonNull
+  public Entry putIfAbsent(
+      @NonNull final String key,
+      @NonNull final TransactionId transactionId,
+      final byte @NonNull [] transactionBytes)
+      throws HieroException {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    Objects.requireNonNull(transactionBytes, "transactionBytes must not be null");
+    lock.lock();
+    try {
+      final Entry current = entries.get(key);
+      if (current != null && !isExpired(current)) {
+        replays.incrementAndGet();
+        return current;
+      }
+      final Entry entry = new Entry(transactionId, transactionBytes.clone(), Instant.now());
+      append(encode(PUT, key, entry));
+      entries.put(key, entry);
+      return entry;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Remove the given key, so that the next transaction with the key is a new transaction.
+   *
+   * @param key the idempotency key
+   * @throws HieroException if the removal could not be written to the file
+   */
+  public void remove(@NonNull final String key) throws HieroException {
+    Objects.requireNonNull(key, "key must not be null");
+    lock.lock();
+    try {
+      if (entries.remove(key) != null) {
+        append(encode(REMOVE, key, null));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of stored keys.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of times a stored transaction has been used again.
+   *
+   * @return the number of replays
+   */
+  public long getReplayCount() {
+    return replays.get();
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    } catch (final IOException e) {
+      log.warn("Failed to close idempotency store '{}'", file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @NonNull
+  private static LinkedHashMap<String, Entry> createEntries(final int maxEntries) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  private boolean isExpired(@NonNull final Entry entry) {
+    return entry.createdAt().plus(settings.timeToLive()).isBefore(Instant.now());
+  }
+
+  private void append(@NonNull final ByteBuffer record) throws HieroException {
+    if (file == null) {
+      return;
+    }
+    if (channel == null) {
+      throw new HieroException("Idempotency store '" + file + "' is closed");
+    }
+    try {
+      while (record.hasRemaining()) {
+        channel.write(record);
+      }
+      channel.force(false);
+      appendedRecords++;
+      // the file only contains live keys after a compaction, so it grows by at most a factor of 3
+      if (appendedRecords > 2L * settings.maxEntries()) {
+        compact();
+      }
+    } catch (final IOException e) {
+      throw new HieroException("Failed to write idempotency store '" + file + "'", e);
+    }
+  }
+
+  private void compact() throws IOException {
+    final Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+    try (FileChannel out =
+        FileChannel.open(
+            compacted,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+        if (!isExpired(entry.getValue())) {
+          final ByteBuffer record = encode(PUT, entry.getKey(), entry.getValue());
+          while (record.hasRemaining()) {
+            out.write(record);
+          }
+        }
+      }
+      out.force(true);
+    }
+    if (channel != null) {
+      channel.close();
+    }
+    Files.move(
+        compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    appendedRecords = 0;
+  }
+
+  private void replay(final byte @NonNull [] content) {
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    while (buffer.remaining() >= HEADER_SIZE) {
+      final int length = buffer.getInt();
+      final int checksum = buffer.getInt();
+      if (length <= 0 || length > buffer.remaining()) {
+        log.warn("Ignoring incomplete record at the end of idempotency store '{}'", file);
+        return;
+      }
+      final byte[] payload = new byte[length];
+      buffer.get(payload);
+      if (checksum(payload) != checksum) {
+        log.warn("Ignoring corrupt record at the end of idempotency store '{}'", file);
+        return;
+      }
+      try {
+        final ByteBuffer record = ByteBuffer.wrap(payload);
+        final byte type = record.get();
+        final String key = new String(readBytes(record), StandardCharsets.UTF_8);
+        if (type == PUT) {
+          final Instant createdAt = Instant.ofEpochMilli(record.getLong());
+          final TransactionId transactionId = TransactionId.fromBytes(readBytes(record));
+          final Entry entry = new Entry(transactionId, readBytes(record), createdAt);
+          if (!isExpired(entry)) {
+            entries.put(key, entry);
+          }
+        } else {
+          entries.remove(key);
+        }
+      } catch (final Exception e) {
+        log.warn("Ignoring unreadable record in idempotency store '{}'", file, e);
+      }
+    }
+  }
+
+  @NonNull
+  private static ByteBuffer encode(
+      final byte type, @NonNull final String key, @Nullable final Entry entry) {
+    final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    final byte[] id = entry == null ? new byte[0] : entry.transactionId().toBytes();
+    final int length =
+        1
+            + 4
+            + keyBytes.length
+            + (entry == null ? 0 : 8 + 4 + id.length + 4 + entry.transactionBytes().length);
+    final ByteBuffer payload = ByteBuffer.allocate(length);
+    payload.put(type).putInt(keyBytes.length).put(keyBytes);
+    if (entry != null) {
+      payload
+          .putLong(entry.createdAt().toEpochMilli())
+          .putInt(id.length)
+          .put(id)
+          .putInt(entry.transactionBytes().length)
+          .put(entry.transactionBytes());
+    }
+    final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + length);
+    record.putInt(length).putInt(checksum(payload.array())).put(payload.array()).flip();
+    return record;
+  }
+
+  private static byte @NonNull [] readBytes(@NonNull final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private static int checksum(final byte @NonNull [] payload) {
+    final CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * A stored transaction.
+   *
+   * @param transactionId the id of the transaction
+   * @param transactionBytes the frozen and signed bytes of the transaction
+   * @param createdAt the time the transaction has been stored
+   */
+  public record Entry(
+      @NonNull TransactionId transactionId,
+      byte @NonNull [] transactionBytes,
+      @NonNull Instant createdAt) {
+
+    public Entry {
+      Objects.requireNonNull(transactionId, "transactionId must not be null");
+      Objects.requireNonNull(transactionBytes, "transactionBytes must not be null");
+      Objects.requireNonNull(createdAt, "createdAt must not be null");
+    }
+  }
+
+  /** Idempotency key of a {@link #withKey(String, IdempotentCall)} call on one thread. */
+  private static final class KeyScope {
+
+    private final String key;
+
+    private boolean claimed;
+
+    private KeyScope(@NonNull final String key) {
+      this.key = key;
+    }
+  }
+
+  /**
+   * Call that is executed with an idempotency key.
+   *
+   * @param <T> the type of the result
+   * @param <E> the type of the exception
+   */
+  @FunctionalInterface
+  public interface IdempotentCall<T, E extends Exception> {
+
+    T call() throws E;
+  }
+
+  /**
+   * Settings of an {@link IdempotencyStore}.
+   *
+   * @param maxEntries the maximum number of stored keys
+   * @param timeToLive the time after which a key expires. Should be longer than the time a caller
+   *     retries a transaction
+   */
+  public record Settings(int maxEntries, @NonNull Duration timeToLive) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT = new Settings(10_000, Duration.ofHours(1));
+
+    public Settings {
+      Objects.requireNonNull(timeToLive, "timeToLive must not be null");
+      if (maxEntries <= 0) {
+        throw new IllegalArgumentException("maxEntries must be greater than 0");
+      }
+      if (timeToLive.isNegative() || timeToLive.isZero()) {
+        throw new IllegalArgumentException("timeToLive must be positive");
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded reserve of pre-generated ED25519 keys. Keys are taken from the reserve without blocking.
+ * Once the reserve drops below half of its capacity it is refilled in the background on a {@link
+ * ForkJoinPool}. If the reserve is empty a key is generated on the calling thread.
+ */
+public class KeyPool implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(KeyPool.class);
+
+  /** Default number of keys that are kept in the reserve. */
+  public static final int DEFAULT_CAPACITY = 1_024;
+
+  private final int capacity;
+
+  private final ForkJoinPool pool;
+
+  private final ConcurrentLinkedQueue<PrivateKey> reserve = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger size = new AtomicInteger();
+
+  private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  private final AtomicLong misses = new AtomicLong();
+
+  public KeyPool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public KeyPool(final int capacity) {
+    this(capacity, ForkJoinPool.commonPool());
+  }
+
+  public KeyPool(final int capacity, @NonNull final ForkJoinPool pool) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity;
+    this.pool = Objects.requireNonNull(pool, "pool must not be null");
+    scheduleRefill();
+  }
+
+  /**
+   * Returns a new key. The key is taken from the reserve or generated on the calling thread if the
+   * reserve is empty. Every key is returned only once.
+   *
+   * @return a new key
+   */
+  @NonNull
+  public PrivateKey take() {
+    final PrivateKey key = reserve.poll();
+    final int remaining = key != null ? size.decrementAndGet() : size.get();
+    if (remaining < capacity / 2 + 1) {
+      scheduleRefill();
+    }
+    if (key != null) {
+      return key;
+    }
+    misses.incrementAndGet();
+    return PrivateKey.generateED25519();
+  }
+
+  /**
+   * Returns the number of keys that are currently in the reserve.
+   *
+   * @return the number of available keys
+   */
+  public int getAvailableCount() {
+    return size.get();
+  }
+
+  /**
+   * Returns the number of keys that had to be generated on the calling thread because the reserve
+   * was empty.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /** Stop refilling the reserve and discard all keys in it. */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      reserve.clear();
+      size.set(0);
+    }
+  }
+
+  private void scheduleRefill() {
+    if (closed.get() || !refilling.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      pool.execute(this::refill);
+    } catch (final RuntimeException e) {
+      refilling.set(false);
+      log.warn("Failed to schedule refill of key pool", e);
+    }
+  }
+
+  private void refill() {
+    try {
+      while (!closed.get() && size.get() < capacity) {
+        reserve.add(PrivateKey.generateED25519());
+        size.incrementAndGet();
+      }
+    } catch (final RuntimeException e) {
+      log.warn("Failed to refill key pool", e);
+    } finally {
+      refilling.set(false);
+    }
+    if (closed.get()) {
+      // keys that have been added while the pool was closed are discarded
+      reserve.clear();
+      size.set(0);
+    }
+  }
+}
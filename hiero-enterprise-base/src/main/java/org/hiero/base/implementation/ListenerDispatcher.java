@@ -0,0 +1,292 @@
+package org.hiero.base.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches transaction lifecycle events to the {@link
+ * org.hiero.base.protocol.TransactionListener}s off the submitting thread. Events are published
+ * into a bounded lock-free ring buffer that is drained by dedicated consumer threads, so a slow
+ * listener does not add to the latency of a transaction. Idle consumer threads are parked until a
+ * publisher wakes them up and do not poll the empty buffer.
+ *
+ * <p>If the buffer is full the configured {@link OverflowPolicy} decides whether the event is
+ * dropped, the publisher blocks or only a sample of the events is kept. Events of one transaction
+ * are only delivered in order if a single consumer thread is used.
+ */
+public class ListenerDispatcher implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ListenerDispatcher.class);
+
+  private static final long OVERFLOW_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final Settings settings;
+
+  private final int mask;
+
+  private final AtomicLongArray sequences;
+
+  private final AtomicReferenceArray<Runnable> events;
+
+  private final AtomicLong head = new AtomicLong();
+
+  private final AtomicLong tail = new AtomicLong();
+
+  private final AtomicLong dropped = new AtomicLong();
+
+  private final AtomicLong overflows = new AtomicLong();
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  private final List<Thread> consumers;
+
+  private final Queue<Thread> idleConsumers = new ConcurrentLinkedQueue<>();
+
+  public ListenerDispatcher() {
+    this(Settings.DEFAULT);
+  }
+
+  public ListenerDispatcher(@NonNull final Settings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    final int capacity = settings.capacity();
+    this.mask = capacity - 1;
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+    this.events = new AtomicReferenceArray<>(capacity);
+    final List<Thread> threads = new ArrayList<>(settings.consumerThreads());
+    for (int i = 0; i < settings.consumerThreads(); i++) {
+      final Thread thread = new Thread(this::consume, "hiero-listener-dispatcher-" + i);
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+    this.consumers = List.copyOf(threads);
+  }
+
+  /**
+   * Publish an event. The event is executed by one of the consumer threads.
+   *
+   * @param event the event
+   * @return {@code true} if the event has been published, {@code false} if it has been dropped
+   */
+  public boolean publish(@NonNull final Runnable event) {
+    Objects.requireNonNull(event, "event must not be null");
+    if (closed.get()) {
+      dropped.incrementAndGet();
+      return false;
+    }
+    if (offer(event)) {
+      return true;
+    }
+    final long overflow = overflows.incrementAndGet();
+    switch (settings.overflowPolicy()) {
+      case BLOCK -> {
+        while (!offer(event)) {
+          if (closed.get()) {
+            dropped.incrementAndGet();
+            return false;
+          }
+          LockSupport.parkNanos(OVERFLOW_PARK_NANOS);
+        }
+        return true;
+      }
+      case SAMPLE -> {
+        // while the buffer is full only every n-th event waits for a free slot
+        if (overflow % settings.sampleRate() == 0) {
+          while (!offer(event)) {
+            if (closed.get()) {
+              dropped.incrementAndGet();
+              return false;
+            }
+            LockSupport.parkNanos(OVERFLOW_PARK_NANOS);
+          }
+          return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+      }
+      default -> {
+        dropped.incrementAndGet();
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of events that have been dropped because the buffer was full or the
+   * dispatcher has been closed.
+   *
+   * @return the number of dropped events
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * Returns the number of events that wait in the buffer.
+   *
+   * @return the number of pending events
+   */
+  public int getPendingCount() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  /**
+   * Close the dispatcher. Events that are already in the buffer are still delivered, events that
+   * are published afterwards are dropped.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    for (Thread consumer : consumers) {
+      LockSupport.unpark(consumer);
+      try {
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  // bounded multi-producer multi-consumer queue based on per slot sequence numbers
+  private boolean offer(@NonNull final Runnable event) {
+    while (true) {
+      final long position = tail.get();
+      final int index = (int) (position & mask);
+      final long sequence = sequences.get(index);
+      final long difference = sequence - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          events.set(index, event);
+          sequences.set(index, position + 1);
+          wakeUpConsumer();
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  @Nullable
+  private Runnable poll() {
+    while (true) {
+      final long position = head.get();
+      final int index = (int) (position & mask);
+      final long sequence = sequences.get(index);
+      final long difference = sequence - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          final Runnable event = events.getAndSet(index, null);
+          sequences.set(index, position + mask + 1);
+          return event;
+        }
+      } else if (difference < 0) {
+        return null;
+      }
+    }
+  }
+
+  private void wakeUpConsumer() {
+    final Thread consumer = idleConsumers.poll();
+    if (consumer != null) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  @Nullable
+  private Runnable awaitEvent() {
+    final Thread current = Thread.currentThread();
+    while (true) {
+      Runnable event = poll();
+      if (event != null) {
+        return event;
+      }
+      // register as idle before polling again, so that an event that is published in between
+      // either is seen by the second poll or wakes up this consumer
+      idleConsumers.add(current);
+      event = poll();
+      if (event != null) {
+        idleConsumers.remove(current);
+        return event;
+      }
+      if (closed.get()) {
+        idleConsumers.remove(current);
+        return null;
+      }
+      LockSupport.park(this);
+      idleConsumers.remove(current);
+    }
+  }
+
+  private void consume() {
+    while (true) {
+      final Runnable event = awaitEvent();
+      if (event == null) {
+        return;
+      }
+      try {
+        event.run();
+      } catch (final Exception e) {
+        log.error("Failed to dispatch listener event", e);
+      }
+    }
+  }
+
+  /** Policy that is applied if an event is published while the buffer is full. */
+  public enum OverflowPolicy {
+    /** The event is dropped. */
+    DROP,
+    /** The publisher waits until a slot is free. */
+    BLOCK,
+    /** Only every n-th event waits for a free slot, all others are dropped. */
+    SAMPLE
+  }
+
+  /**
+   * Settings of the dispatcher.
+   *
+   * @param capacity the capacity of the ring buffer, must be a power of two
+   * @param consumerThreads the number of consumer threads
+   * @param overflowPolicy the policy if the buffer is full
+   * @param sampleRate the rate of events that are kept if the buffer is full and {@link
+   *     OverflowPolicy#SAMPLE} is used
+   */
+  public record Settings(
+      int capacity, int consumerThreads, @NonNull OverflowPolicy overflowPolicy, int sampleRate) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT = new Settings(8_192, 1, OverflowPolicy.DROP, 1);
+
+    public Settings {
+      Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+      if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+        throw new IllegalArgumentException("capacity must be a power of two");
+      }
+      if (consumerThreads <= 0) {
+        throw new IllegalArgumentException("consumerThreads must be greater than 0");
+      }
+      if (sampleRate <= 0) {
+        throw new IllegalArgumentException("sampleRate must be greater than 0");
+      }
+    }
+  }
+}
@@ -0,0 +1,387 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the health of the consensus nodes and selects the nodes a new transaction is sent to. For
+ * every node the submit and receipt latencies and the error rate are recorded as exponentially
+ * weighted moving averages, the latencies additionally in a fixed bucket histogram. New
+ * transactions prefer the nodes with the lowest score, nodes without samples are preferred so that
+ * they get measured.
+ *
+ * <p>A node that fails {@code failureThreshold} times in a row is excluded by a circuit breaker.
+ * After the cool-down one transaction is sent to the node as a probe, with the fastest healthy
+ * nodes as fallback. A successful probe closes the breaker, a failed probe opens it again.
+ */
+public class NodeHealth {
+
+  private static final Logger log = LoggerFactory.getLogger(NodeHealth.class);
+
+  /**
+   * Upper bounds in milliseconds of the latency histogram buckets, the last bucket is unbounded.
+   */
+  public static final long[] LATENCY_BUCKETS_MILLIS = {
+    1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000
+  };
+
+  /** Factor that is applied to the latency score of a node per error rate. */
+  private static final double ERROR_PENALTY = 10.0;
+
+  private final Settings settings;
+
+  private final Map<AccountId, Node> nodes = new ConcurrentHashMap<>();
+
+  public NodeHealth() {
+    this(Settings.DEFAULT);
+  }
+
+  public NodeHealth(@NonNull final Settings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+  }
+
+  /**
+   * Select the nodes a new transaction is sent to, ordered by preference. The list contains the
+   * {@code preferredNodes} nodes with the lowest score and is prefixed by a node whose breaker
+   * allows a probe. If all candidates are excluded by their breaker, all candidates are returned.
+   *
+   * @param candidates the nodes of the network
+   * @return the selected nodes
+   */
+  @NonNull
+  public List<AccountId> selectNodes(@NonNull final Collection<AccountId> candidates) {
+    Objects.requireNonNull(candidates, "candidates must not be null");
+    final long now = System.nanoTime();
+    final List<AccountId> healthy = new ArrayList<>();
+    AccountId probe = null;
+    for (AccountId candidate : new LinkedHashSet<>(candidates)) {
+      final Node node = node(candidate);
+      switch (node.state.get()) {
+        case CLOSED -> healthy.add(candidate);
+        case OPEN, HALF_OPEN -> {
+          if (probe == null && node.tryProbe(now, settings.coolDown())) {
+            probe = candidate;
+          }
+        }
+      }
+    }
+    if (healthy.isEmpty() && probe == null) {
+      return List.copyOf(new LinkedHashSet<>(candidates));
+    }
+    healthy.sort(Comparator.comparingDouble(id -> node(id).score()));
+    final List<AccountId> selected = new ArrayList<>(settings.preferredNodes() + 1);
+    if (probe != null) {
+      selected.add(probe);
+    }
+    selected.addAll(healthy.subList(0, Math.min(settings.preferredNodes(), healthy.size())));
+    return List.copyOf(selected);
+  }
+
+  /**
+   * Record the latency of a successful submission to the given node.
+   *
+   * @param nodeId the node
+   * @param latency the time until the node has accepted the transaction
+   */
+  public void recordSubmit(@NonNull final AccountId nodeId, @NonNull final Duration latency) {
+    Objects.requireNonNull(latency, "latency must not be null");
+    final Node node = node(nodeId);
+    node.submitLatency.update(toMillis(latency), settings.ewmaAlpha());
+    node.recordLatency(latency);
+    node.errorRate.update(0, settings.ewmaAlpha());
+    onSuccess(nodeId, node);
+  }
+
+  /**
+   * Record the latency of a receipt that has been received from the given node.
+   *
+   * @param nodeId the node
+   * @param latency the time until the receipt has been received
+   */
+  public void recordReceipt(@NonNull final AccountId nodeId, @NonNull final Duration latency) {
+    Objects.requireNonNull(latency, "latency must not be null");
+    final Node node = node(nodeId);
+    node.receiptLatency.update(toMillis(latency), settings.ewmaAlpha());
+    node.recordLatency(latency);
+  }
+
+  /**
+   * Record a failure of the given node, for example a timeout or a busy node.
+   *
+   * @param nodeId the node
+   */
+  public void recordFailure(@NonNull final AccountId nodeId) {
+    final Node node = node(nodeId);
+    node.errorRate.update(1, settings.ewmaAlpha());
+    final int failures = node.consecutiveFailures.incrementAndGet();
+    final BreakerState state = node.state.get();
+    if (state == BreakerState.HALF_OPEN
+        || (state == BreakerState.CLOSED && failures >= settings.failureThreshold())) {
+      if (node.state.compareAndSet(state, BreakerState.OPEN)) {
+        node.openedAtNanos.set(System.nanoTime());
+        log.warn("Circuit breaker of node {} opened after {} failures", nodeId, failures);
+      }
+    }
+  }
+
+  /**
+   * Returns the score of the given node. Lower is better.
+   *
+   * @param nodeId the node
+   * @return the score
+   */
+  public double getScore(@NonNull final AccountId nodeId) {
+    return node(nodeId).score();
+  }
+
+  /**
+   * Returns the state of the circuit breaker of the given node.
+   *
+   * @param nodeId the node
+   * @return the breaker state
+   */
+  @NonNull
+  public BreakerState getState(@NonNull final AccountId nodeId) {
+    return node(nodeId).state.get();
+  }
+
+  /**
+   * Returns the moving average of the submit latency of the given node in milliseconds.
+   *
+   * @param nodeId the node
+   * @return the average latency or {@code NaN} if no submission has been recorded
+   */
+  public double getSubmitLatencyMillis(@NonNull final AccountId nodeId) {
+    return node(nodeId).submitLatency.get();
+  }
+
+  /**
+   * Returns the moving average of the receipt latency of the given node in milliseconds.
+   *
+   * @param nodeId the node
+   * @return the average latency or {@code NaN} if no receipt has been recorded
+   */
+  public double getReceiptLatencyMillis(@NonNull final AccountId nodeId) {
+    return node(nodeId).receiptLatency.get();
+  }
+
+  /**
+   * Returns the moving average of the error rate of the given node between 0 and 1.
+   *
+   * @param nodeId the node
+   * @return the error rate
+   */
+  public double getErrorRate(@NonNull final AccountId nodeId) {
+    final double rate = node(nodeId).errorRate.get();
+    return Double.isNaN(rate) ? 0 : rate;
+  }
+
+  /**
+   * Returns the counts of the latency histogram of the given node. The count at index {@code i}
+   * belongs to the bucket with the upper bound {@code LATENCY_BUCKETS_MILLIS[i]}, the last count to
+   * the unbounded bucket.
+   *
+   * @param nodeId the node
+   * @return the histogram counts
+   */
+  public long @NonNull [] getLatencyHistogram(@NonNull final AccountId nodeId) {
+    final AtomicLongArray histogram = node(nodeId).histogram;
+    final long[] counts = new long[histogram.length()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = histogram.get(i);
+    }
+    return counts;
+  }
+
+  /**
+   * Returns the upper bound of the histogram bucket that contains the given percentile of the
+   * latencies of the given node.
+   *
+   * @param nodeId the node
+   * @param percentile the percentile between 0 and 1
+   * @return the latency or an empty optional if no latency has been recorded or the percentile is
+   *     in the unbounded bucket
+   */
+  @NonNull
+  public Optional<Duration> getLatencyPercentile(
+      @NonNull final AccountId nodeId, final double percentile) {
+    if (percentile < 0 || percentile > 1) {
+      throw new IllegalArgumentException("percentile must be between 0 and 1");
+    }
+    final long[] counts = getLatencyHistogram(nodeId);
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    if (total == 0) {
+      return Optional.empty();
+    }
+    final long rank = (long) Math.ceil(percentile * total);
+    long seen = 0;
+    for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Optional.of(Duration.ofMillis(LATENCY_BUCKETS_MILLIS[i]));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Returns all nodes for which samples have been recorded or that have been selected.
+   *
+   * @return the known nodes
+   */
+  @NonNull
+  public Set<AccountId> getNodes() {
+    return Set.copyOf(nodes.keySet());
+  }
+
+  private void onSuccess(@NonNull final AccountId nodeId, @NonNull final Node node) {
+    node.consecutiveFailures.set(0);
+    final BreakerState state = node.state.get();
+    if (state != BreakerState.CLOSED && node.state.compareAndSet(state, BreakerState.CLOSED)) {
+      log.info("Circuit breaker of node {} closed", nodeId);
+    }
+  }
+
+  @NonNull
+  private Node node(@NonNull final AccountId nodeId) {
+    Objects.requireNonNull(nodeId, "nodeId must not be null");
+    return nodes.computeIfAbsent(nodeId, id -> new Node());
+  }
+
+  private static double toMillis(@NonNull final Duration duration) {
+    return duration.toNanos() / 1_000_000.0;
+  }
+
+  /** State of the circuit breaker of a node. */
+  public enum BreakerState {
+    /** The node is used. */
+    CLOSED,
+    /** The node is excluded until the cool-down has passed. */
+    OPEN,
+    /** The node is probed by a single transaction. */
+    HALF_OPEN
+  }
+
+  /**
+   * Settings of the node health tracking.
+   *
+   * @param preferredNodes the number of healthy nodes a transaction is sent to, ordered by score
+   * @param ewmaAlpha the weight of a new sample in the moving averages, between 0 (exclusive) and 1
+   * @param failureThreshold the number of consecutive failures that open the breaker of a node
+   * @param coolDown the time after which a node with an open breaker is probed again
+   */
+  public record Settings(
+      int preferredNodes, double ewmaAlpha, int failureThreshold, @NonNull Duration coolDown) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT = new Settings(3, 0.2, 5, Duration.ofSeconds(30));
+
+    public Settings {
+      Objects.requireNonNull(coolDown, "coolDown must not be null");
+      if (preferredNodes <= 0) {
+        throw new IllegalArgumentException("preferredNodes must be greater than 0");
+      }
+      if (ewmaAlpha <= 0 || ewmaAlpha > 1) {
+        throw new IllegalArgumentException("ewmaAlpha must be in (0, 1]");
+      }
+      if (failureThreshold <= 0) {
+        throw new IllegalArgumentException("failureThreshold must be greater than 0");
+      }
+      if (coolDown.isNegative()) {
+        throw new IllegalArgumentException("coolDown must not be negative");
+      }
+    }
+  }
+
+  private static final class Node {
+
+    private final Ewma submitLatency = new Ewma();
+
+    private final Ewma receiptLatency = new Ewma();
+
+    private final Ewma errorRate = new Ewma();
+
+    private final AtomicLongArray histogram =
+        new AtomicLongArray(LATENCY_BUCKETS_MILLIS.length + 1);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicReference<BreakerState> state = new AtomicReference<>(BreakerState.CLOSED);
+
+    private final AtomicLong openedAtNanos = new AtomicLong();
+
+    private double score() {
+      final double submit = submitLatency.get();
+      if (Double.isNaN(submit)) {
+        return 0;
+      }
+      final double receipt = receiptLatency.get();
+      final double errors = errorRate.get();
+      final double latency = submit + (Double.isNaN(receipt) ? 0 : receipt);
+      return latency * (1 + ERROR_PENALTY * (Double.isNaN(errors) ? 0 : errors));
+    }
+
+    private void recordLatency(@NonNull final Duration latency) {
+      final long millis = latency.toMillis();
+      int bucket = 0;
+      while (bucket < LATENCY_BUCKETS_MILLIS.length && millis > LATENCY_BUCKETS_MILLIS[bucket]) {
+        bucket++;
+      }
+      histogram.incrementAndGet(bucket);
+    }
+
+    /** Returns {@code true} if the caller may send a probe to the node. */
+    private boolean tryProbe(final long now, @NonNull final Duration coolDown) {
+      final long openedAt = openedAtNanos.get();
+      if (now - openedAt < coolDown.toNanos()) {
+        return false;
+      }
+      // a probe that has not completed within the cool-down is replaced by a new one
+      if (!openedAtNanos.compareAndSet(openedAt, now)) {
+        return false;
+      }
+      state.compareAndSet(BreakerState.OPEN, BreakerState.HALF_OPEN);
+      return true;
+    }
+  }
+
+  private static final class Ewma {
+
+    private final AtomicLong bits = new AtomicLong(Double.doubleToLongBits(Double.NaN));
+
+    private double get() {
+      return Double.longBitsToDouble(bits.get());
+    }
+
+    private void update(final double sample, final double alpha) {
+      while (true) {
+        final long current = bits.get();
+        final double value = Double.longBitsToDouble(current);
+        final double next = Double.isNaN(value) ? sample : value + alpha * (sample - value);
+        if (bits.compareAndSet(current, Double.doubleToLongBits(next))) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,287 @@
+package org.hiero.base.implementation;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.data.TransactionPriority;
+import org.hiero.base.protocol.data.TransactionType;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Weighted fair scheduler that dispatches transactions to the network in the order of their {@link
+ * TransactionPriority}. At most {@code maxConcurrent} transactions are dispatched at the same time.
+ * Once that capacity is used, waiting transactions are dispatched lane by lane in a smooth weighted
+ * round robin, so that high priority traffic keeps a low tail latency while bulk work still makes
+ * progress with the remaining capacity.
+ *
+ * <p>The priority of a transaction is taken from {@link #withPriority(TransactionPriority,
+ * PriorityCall)} if the call is wrapped, otherwise from the configured priority of its {@link
+ * TransactionType}.
+ */
+public class PriorityScheduler {
+
+  private static final ThreadLocal<TransactionPriority> CURRENT_PRIORITY = new ThreadLocal<>();
+
+  private final int maxConcurrent;
+
+  private final Map<TransactionType, TransactionPriority> typePriorities;
+
+  private final Map<TransactionPriority, Lane> lanes;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private int inFlight;
+
+  public PriorityScheduler(final int maxConcurrent) {
+    this(maxConcurrent, Map.of(), Map.of());
+  }
+
+  public PriorityScheduler(
+      final int maxConcurrent,
+      @NonNull final Map<TransactionPriority, Integer> weights,
+      @NonNull final Map<TransactionType, TransactionPriority> typePriorities) {
+    if (maxConcurrent <= 0) {
+      throw new IllegalArgumentException("maxConcurrent must be greater than 0");
+    }
+    Objects.requireNonNull(weights, "weights must not be null");
+    Objects.requireNonNull(typePriorities, "typePriorities must not be null");
+    this.maxConcurrent = maxConcurrent;
+    final Map<TransactionPriority, Lane> map = new EnumMap<>(TransactionPriority.class);
+    for (TransactionPriority priority : TransactionPriority.values()) {
+      final int weight = weights.getOrDefault(priority, priority.getDefaultWeight());
+      if (weight <= 0) {
+        throw new IllegalArgumentException("weight of " + priority + " must be greater than 0");
+      }
+      map.put(priority, new Lane(weight));
+    }
+    this.lanes = Collections.unmodifiableMap(map);
+    final Map<TransactionType, TransactionPriority> priorities =
+        new EnumMap<>(TransactionType.class);
+    priorities.putAll(typePriorities);
+    this.typePriorities = Collections.unmodifiableMap(priorities);
+  }
+
+  /**
+   * Execute the given call with the given priority. All transactions that are executed by the call
+   * on the current thread are dispatched with that priority.
+   *
+   * @param priority the priority
+   * @param call the call
+   * @return the result of the call
+   * @param <T> the type of the result
+   * @param <E> the type of the exception the call can throw
+   * @throws E if the call fails
+   */
+  public static <T, E extends Exception> T withPriority(
+      @NonNull final TransactionPriority priority, @NonNull final PriorityCall<T, E> call)
+      throws E {
+    Objects.requireNonNull(priority, "priority must not be null");
+    Objects.requireNonNull(call, "call must not be null");
+    final TransactionPriority previous = CURRENT_PRIORITY.get();
+    CURRENT_PRIORITY.set(priority);
+    try {
+      return call.call();
+    } finally {
+      if (previous == null) {
+        CURRENT_PRIORITY.remove();
+      } else {
+        CURRENT_PRIORITY.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Returns the priority that has been set for the current thread by {@link
+   * #withPriority(TransactionPriority, PriorityCall)}.
+   *
+   * @return the priority or an empty optional if the current call is not wrapped
+   */
+  @NonNull
+  public static Optional<TransactionPriority> currentPriority() {
+    return Optional.ofNullable(CURRENT_PRIORITY.get());
+  }
+
+  /**
+   * Returns the priority for a transaction of the given type that is executed on the current
+   * thread.
+   *
+   * @param type the type of the transaction
+   * @return the priority
+   */
+  @NonNull
+  public TransactionPriority resolvePriority(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    final TransactionPriority priority = CURRENT_PRIORITY.get();
+    if (priority != null) {
+      return priority;
+    }
+    return typePriorities.getOrDefault(type, TransactionPriority.NORMAL);
+  }
+
+  /**
+   * Wait until a transaction with the given priority can be dispatched. Every call must be followed
+   * by a call of {@link #release()}.
+   *
+   * @param priority the priority of the transaction
+   * @return the time the transaction has been queued
+   * @throws HieroException if the thread has been interrupted
+   */
+  @NonNull
+  public Duration acquire(@NonNull final TransactionPriority priority) throws HieroException {
+    final CompletableFuture<Duration> future = acquireAsync(priority);
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (!future.cancel(false)) {
+        // the slot has been handed over while the thread was interrupted
+        release();
+      }
+      throw new HieroException("Interrupted while waiting for dispatch", e);
+    } catch (final ExecutionException e) {
+      throw new HieroException("Failed to wait for dispatch", e.getCause());
+    }
+  }
+
+  /**
+   * Returns a future that is completed with the queueing time once a transaction with the given
+   * priority can be dispatched. Every completed future must be followed by a call of {@link
+   * #release()}.
+   *
+   * @param priority the priority of the transaction
+   * @return a future that is completed once the transaction can be dispatched
+   */
+  @NonNull
+  public CompletableFuture<Duration> acquireAsync(@NonNull final TransactionPriority priority) {
+    Objects.requireNonNull(priority, "priority must not be null");
+    final Waiter waiter;
+    lock.lock();
+    try {
+      if (inFlight < maxConcurrent) {
+        inFlight++;
+        return CompletableFuture.completedFuture(Duration.ZERO);
+      }
+      waiter = new Waiter(System.nanoTime());
+      lanes.get(priority).waiters.add(waiter);
+    } finally {
+      lock.unlock();
+    }
+    return waiter.future;
+  }
+
+  /** Release a dispatch slot and hand it over to the next waiting transaction. */
+  public void release() {
+    while (true) {
+      final Waiter next;
+      lock.lock();
+      try {
+        next = nextWaiter();
+        if (next == null) {
+          if (inFlight > 0) {
+            inFlight--;
+          }
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (next.future.complete(Duration.ofNanos(System.nanoTime() - next.queuedAtNanos))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of transactions with the given priority that wait for dispatch.
+   *
+   * @param priority the priority
+   * @return the number of waiting transactions
+   */
+  public int getQueueDepth(@NonNull final TransactionPriority priority) {
+    Objects.requireNonNull(priority, "priority must not be null");
+    lock.lock();
+    try {
+      return lanes.get(priority).waiters.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of transactions that are currently dispatched.
+   *
+   * @return the number of dispatched transactions
+   */
+  public int getInFlightCount() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Smooth weighted round robin over all lanes with waiting transactions. */
+  @Nullable
+  private Waiter nextWaiter() {
+    int totalWeight = 0;
+    Lane selected = null;
+    for (Lane lane : lanes.values()) {
+      if (lane.waiters.isEmpty()) {
+        continue;
+      }
+      lane.currentWeight += lane.weight;
+      totalWeight += lane.weight;
+      if (selected == null || lane.currentWeight > selected.currentWeight) {
+        selected = lane;
+      }
+    }
+    if (selected == null) {
+      return null;
+    }
+    selected.currentWeight -= totalWeight;
+    return selected.waiters.poll();
+  }
+
+  /**
+   * Call that is executed with a priority.
+   *
+   * @param <T> the type of the result
+   * @param <E> the type of the exception
+   */
+  @FunctionalInterface
+  public interface PriorityCall<T, E extends Exception> {
+
+    T call() throws E;
+  }
+
+  private static final class Lane {
+
+    private final int weight;
+
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+
+    private int currentWeight;
+
+    private Lane(final int weight) {
+      this.weight = weight;
+    }
+  }
+
+  private record Waiter(long queuedAtNanos, @NonNull CompletableFuture<Duration> future) {
+
+    private Waiter(final long queuedAtNanos) {
+      this(queuedAtNanos, new CompletableFuture<>());
+    }
+  }
+}
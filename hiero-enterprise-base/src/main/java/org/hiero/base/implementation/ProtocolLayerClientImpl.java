@@ -15,19 +15,25 @@ import com.hedera.hashgraph.sdk.FileAppendTransaction;
 import com.hedera.hashgraph.sdk.FileContentsQuery;
 import com.hedera.hashgraph.sdk.FileCreateTransaction;
 import com.hedera.hashgraph.sdk.FileDeleteTransaction;
+import com.hedera.hashgraph.sdk.FileId;
 import com.hedera.hashgraph.sdk.FileInfo;
 import com.hedera.hashgraph.sdk.FileInfoQuery;
 import com.hedera.hashgraph.sdk.FileUpdateTransaction;
+import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.HookStoreTransaction;
 import com.hedera.hashgraph.sdk.NftId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.PublicKey;
 import com.hedera.hashgraph.sdk.Query;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.SubscriptionHandle;
 import com.hedera.hashgraph.sdk.TokenAssociateTransaction;
 import com.hedera.hashgraph.sdk.TokenBurnTransaction;
 import com.hedera.hashgraph.sdk.TokenCreateTransaction;
 import com.hedera.hashgraph.sdk.TokenDissociateTransaction;
+import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TokenMintTransaction;
 import com.hedera.hashgraph.sdk.TopicCreateTransaction;
 import com.hedera.hashgraph.sdk.TopicDeleteTransaction;
@@ -35,21 +41,43 @@ import com.hedera.hashgraph.sdk.TopicMessageQuery;
 import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
 import com.hedera.hashgraph.sdk.TopicUpdateTransaction;
 import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
 import com.hedera.hashgraph.sdk.TransactionReceipt;
 import com.hedera.hashgraph.sdk.TransactionRecord;
 import com.hedera.hashgraph.sdk.TransactionResponse;
 import com.hedera.hashgraph.sdk.TransferTransaction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import org.hiero.base.HieroContext;
 import org.hiero.base.HieroException;
+import org.hiero.base.config.PayerPool;
 import org.hiero.base.data.Account;
 import org.hiero.base.data.ContractParam;
 import org.hiero.base.interceptors.ReceiveRecordInterceptor;
 import org.hiero.base.interceptors.ReceiveRecordInterceptor.ReceiveRecordHandler;
+import org.hiero.base.protocol.AsyncProtocolLayerClient;
 import org.hiero.base.protocol.ProtocolLayerClient;
 import org.hiero.base.protocol.TransactionListener;
 import org.hiero.base.protocol.data.AccountBalanceRequest;
@@ -80,6 +108,11 @@ import org.hiero.base.protocol.data.FileUpdateRequest;
 import org.hiero.base.protocol.data.FileUpdateResult;
 import org.hiero.base.protocol.data.HookStoreRequest;
 import org.hiero.base.protocol.data.HookStoreResult;
+import org.hiero.base.protocol.data.LazyRecord;
+import org.hiero.base.protocol.data.MultiTokenTransferRequest;
+import org.hiero.base.protocol.data.MultiTokenTransferResult;
+import org.hiero.base.protocol.data.QueryRequest;
+import org.hiero.base.protocol.data.RecordPolicy;
 import org.hiero.base.protocol.data.TokenAssociateRequest;
 import org.hiero.base.protocol.data.TokenAssociateResult;
 import org.hiero.base.protocol.data.TokenBurnRequest;
@@ -102,17 +135,23 @@ import org.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import org.hiero.base.protocol.data.TopicSubmitMessageResult;
 import org.hiero.base.protocol.data.TopicUpdateRequest;
 import org.hiero.base.protocol.data.TopicUpdateResult;
+import org.hiero.base.protocol.data.TransactionPriority;
 import org.hiero.base.protocol.data.TransactionType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ProtocolLayerClientImpl implements ProtocolLayerClient {
+public class ProtocolLayerClientImpl implements ProtocolLayerClient, AsyncProtocolLayerClient {
 
   private static final Logger log = LoggerFactory.getLogger(ProtocolLayerClientImpl.class);
 
   public static final int DEFAULT_GAS = 5_000_000;
 
+  /** Executor that starts a virtual thread for every blocking call of the record interceptor. */
+  private static final Executor RECORD_EXECUTOR =
+      command -> Thread.ofVirtual().name("hiero-record").start(command);
+
   private final List<TransactionListener> listeners;
 
   private final HieroContext hieroContext;
@@ -120,11 +159,187 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   private final AtomicReference<ReceiveRecordInterceptor> recordInterceptor =
       new AtomicReference<>(ReceiveRecordInterceptor.DEFAULT_INTERCEPTOR);
 
+  private final AtomicReference<ReceiptPoller> receiptPoller = new AtomicReference<>();
+
+  private final AtomicReference<TokenAssociateCoalescer> associateCoalescer =
+      new AtomicReference<>();
+
+  private final AtomicReference<AdaptiveThrottle> throttle = new AtomicReference<>();
+
+  private final AtomicReference<TransactionBulkhead> bulkhead = new AtomicReference<>();
+
+  private final AtomicReference<PriorityScheduler> scheduler = new AtomicReference<>();
+
+  private final AtomicReference<ListenerDispatcher> listenerDispatcher = new AtomicReference<>();
+
+  private final Map<TransactionType, RecordPolicy> recordPolicies = new ConcurrentHashMap<>();
+
+  private final AtomicReference<KeyPool> keyPool = new AtomicReference<>();
+
+  private final AtomicReference<NodeHealth> nodeHealth = new AtomicReference<>();
+
+  private final AtomicReference<QueryHedging> queryHedging = new AtomicReference<>();
+
+  private final AtomicReference<QueryCostCache> queryCostCache = new AtomicReference<>();
+
+  private final AtomicReference<TransactionJournal> journal = new AtomicReference<>();
+
+  private final AtomicReference<IdempotencyStore> idempotencyStore = new AtomicReference<>();
+
   public ProtocolLayerClientImpl(@NonNull final HieroContext hieroContext) {
     this.hieroContext = Objects.requireNonNull(hieroContext, "hieroContext must not be null");
     listeners = new CopyOnWriteArrayList<>();
   }
 
+  /**
+   * Set the receipt poller that is used to track the receipts of transactions that are executed
+   * asynchronously. If no poller is set, the receipt of each transaction is requested separately.
+   *
+   * @param receiptPoller the receipt poller or {@code null} to request receipts separately
+   */
+  public void setReceiptPoller(@Nullable final ReceiptPoller receiptPoller) {
+    this.receiptPoller.set(receiptPoller);
+  }
+
+  /**
+   * Set the coalescer that merges concurrent token associate requests for the same account into one
+   * transaction. The merged transaction is executed on a thread of the coalescer, so requests that
+   * are executed with an idempotency key of {@link IdempotencyStore#withKey(String,
+   * IdempotencyStore.IdempotentCall)} or a priority of {@link
+   * PriorityScheduler#withPriority(TransactionPriority, PriorityScheduler.PriorityCall)} are not
+   * merged but executed on the calling thread.
+   *
+   * @param associateCoalescer the coalescer or {@code null} to submit every request separately
+   */
+  public void setAssociateCoalescer(@Nullable final TokenAssociateCoalescer associateCoalescer) {
+    this.associateCoalescer.set(associateCoalescer);
+  }
+
+  /**
+   * Set the throttle that limits the rate of transactions per {@link TransactionType} and adapts it
+   * to throttle statuses of the network.
+   *
+   * @param throttle the throttle or {@code null} to submit transactions without client side limit
+   */
+  public void setThrottle(@Nullable final AdaptiveThrottle throttle) {
+    this.throttle.set(throttle);
+  }
+
+  /**
+   * Set the bulkhead that bounds the number of concurrently executed transactions per {@link
+   * TransactionType}.
+   *
+   * @param bulkhead the bulkhead or {@code null} to execute transactions without limit
+   */
+  public void setBulkhead(@Nullable final TransactionBulkhead bulkhead) {
+    this.bulkhead.set(bulkhead);
+  }
+
+  /**
+   * Set the scheduler that dispatches transactions in the order of their {@link
+   * TransactionPriority}.
+   *
+   * @param scheduler the scheduler or {@code null} to dispatch transactions in arrival order
+   */
+  public void setScheduler(@Nullable final PriorityScheduler scheduler) {
+    this.scheduler.set(scheduler);
+  }
+
+  /**
+   * Set the dispatcher that calls the {@link TransactionListener}s off the submitting thread.
+   *
+   * @param listenerDispatcher the dispatcher or {@code null} to call the listeners synchronously
+   */
+  public void setListenerDispatcher(@Nullable final ListenerDispatcher listenerDispatcher) {
+    this.listenerDispatcher.set(listenerDispatcher);
+  }
+
+  /**
+   * Set the pool that provides the keys of new accounts.
+   *
+   * @param keyPool the pool or {@code null} to generate the key of every new account on demand
+   */
+  public void setKeyPool(@Nullable final KeyPool keyPool) {
+    this.keyPool.set(keyPool);
+  }
+
+  /**
+   * Set the node health tracking that selects the consensus nodes of new transactions.
+   *
+   * @param nodeHealth the node health or {@code null} to let the SDK select the nodes
+   */
+  public void setNodeHealth(@Nullable final NodeHealth nodeHealth) {
+    this.nodeHealth.set(nodeHealth);
+  }
+
+  /**
+   * Set the hedging policy for balance, file contents and file info queries.
+   *
+   * @param queryHedging the hedging policy or {@code null} to send every query to a single node
+   */
+  public void setQueryHedging(@Nullable final QueryHedging queryHedging) {
+    this.queryHedging.set(queryHedging);
+  }
+
+  /**
+   * Set the cache of query costs that is used to pay file contents and file info queries without a
+   * preceding cost query.
+   *
+   * @param queryCostCache the cache or {@code null} to let the SDK request the cost of every query
+   */
+  public void setQueryCostCache(@Nullable final QueryCostCache queryCostCache) {
+    this.queryCostCache.set(queryCostCache);
+  }
+
+  /**
+   * Set the journal that records every transaction before it is submitted, so that transactions can
+   * be reconciled after the process has stopped before their receipt has been received.
+   *
+   * @param journal the journal or {@code null} to submit transactions without journal
+   */
+  public void setJournal(@Nullable final TransactionJournal journal) {
+    this.journal.set(journal);
+  }
+
+  /**
+   * Set the store that maps the idempotency keys of {@link IdempotencyStore#withKey(String,
+   * IdempotencyStore.IdempotentCall)} to transactions, so that a retry with the same key submits
+   * the same transaction again.
+   *
+   * @param idempotencyStore the store or {@code null} to ignore idempotency keys
+   */
+  public void setIdempotencyStore(@Nullable final IdempotencyStore idempotencyStore) {
+    this.idempotencyStore.set(idempotencyStore);
+  }
+
+  /**
+   * Set the policy that defines if and when the record of transactions of the given type is
+   * retrieved. By default the record is retrieved directly after the receipt ({@link
+   * RecordPolicy#RECORD_EAGER}).
+   *
+   * @param type the type of the transaction
+   * @param policy the policy
+   */
+  public void setRecordPolicy(
+      @NonNull final TransactionType type, @NonNull final RecordPolicy policy) {
+    Objects.requireNonNull(type, "type must not be null");
+    Objects.requireNonNull(policy, "policy must not be null");
+    recordPolicies.put(type, policy);
+  }
+
+  /**
+   * Returns the policy that defines if and when the record of transactions of the given type is
+   * retrieved.
+   *
+   * @param type the type of the transaction
+   * @return the policy
+   */
+  @NonNull
+  public RecordPolicy getRecordPolicy(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    return recordPolicies.getOrDefault(type, RecordPolicy.RECORD_EAGER);
+  }
+
   public void setRecordInterceptor(@NonNull final ReceiveRecordInterceptor recordInterceptor) {
     Objects.requireNonNull(recordInterceptor, "recordInterceptor must not be null");
     this.recordInterceptor.set(recordInterceptor);
@@ -133,196 +348,239 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   @Override
   public AccountBalanceResponse executeAccountBalanceQuery(
       @NonNull final AccountBalanceRequest request) throws HieroException {
-    final AccountBalanceQuery query =
-        new AccountBalanceQuery()
-            .setAccountId(request.accountId())
-            .setQueryPayment(request.queryPayment())
-            .setMaxQueryPayment(request.maxQueryPayment());
-    final AccountBalance balance = executeQueryAndWait(query);
+    final AccountBalance balance = executeQueryAndWait(() -> createAccountBalanceQuery(request));
     return new AccountBalanceResponse(balance.hbars);
   }
 
+  @Override
+  public CompletableFuture<AccountBalanceResponse> executeAccountBalanceQueryAsync(
+      @NonNull final AccountBalanceRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return this.<AccountBalance, AccountBalanceQuery>executeQueryAsync(
+            () -> createAccountBalanceQuery(request))
+        .thenApply(balance -> new AccountBalanceResponse(balance.hbars));
+  }
+
   @Override
   public FileContentsResponse executeFileContentsQuery(@NonNull final FileContentsRequest request)
       throws HieroException {
-    final FileContentsQuery query =
-        new FileContentsQuery()
-            .setFileId(request.fileId())
-            .setQueryPayment(request.queryPayment())
-            .setMaxQueryPayment(request.maxQueryPayment());
-    final ByteString byteString = executeQueryAndWait(query);
+    final ByteString byteString =
+        executePricedQueryAndWait(
+            () -> createFileContentsQuery(request),
+            request,
+            FileContentsQuery.class.getSimpleName(),
+            knownFileSize(request.fileId()),
+            ByteString::size);
+    recordFileSize(request.fileId(), byteString.size());
     final byte[] bytes = byteString.toByteArray();
     return new FileContentsResponse(request.fileId(), bytes);
   }
 
+  @Override
+  public CompletableFuture<FileContentsResponse> executeFileContentsQueryAsync(
+      @NonNull final FileContentsRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return this.<ByteString, FileContentsQuery>executePricedQueryAsync(
+            () -> createFileContentsQuery(request),
+            request,
+            FileContentsQuery.class.getSimpleName(),
+            knownFileSize(request.fileId()),
+            ByteString::size)
+        .thenApply(
+            byteString -> {
+              recordFileSize(request.fileId(), byteString.size());
+              return new FileContentsResponse(request.fileId(), byteString.toByteArray());
+            });
+  }
+
   @Override
   public FileInfoResponse executeFileInfoQuery(@NonNull final FileInfoRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final FileInfoQuery query =
-        new FileInfoQuery()
-            .setFileId(request.fileId())
-            .setQueryPayment(request.queryPayment())
-            .setMaxQueryPayment(request.maxQueryPayment());
-    final FileInfo fileInfo = executeQueryAndWait(query);
-    if (fileInfo.size > Integer.MAX_VALUE) {
-      throw new HieroException("File size is too large to be represented as an integer");
-    }
-    return new FileInfoResponse(
-        request.fileId(), (int) fileInfo.size, fileInfo.isDeleted, fileInfo.expirationTime);
+    // the cost of a file info query does not depend on the size of the file
+    final FileInfo fileInfo =
+        executePricedQueryAndWait(
+            () -> createFileInfoQuery(request),
+            request,
+            FileInfoQuery.class.getSimpleName(),
+            0L,
+            info -> 0L);
+    recordFileSize(request.fileId(), fileInfo.size);
+    return toFileInfoResponse(request, fileInfo);
   }
 
   @Override
-  public FileCreateResult executeFileCreateTransaction(@NonNull final FileCreateRequest request)
-      throws HieroException {
+  public CompletableFuture<FileInfoResponse> executeFileInfoQueryAsync(
+      @NonNull final FileInfoRequest request) {
     Objects.requireNonNull(request, "request must not be null");
-    Objects.requireNonNull(request.contents(), "content must not be null");
-    if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      throw new HieroException(
-          "File contents of 1 transaction must be less than "
-              + FileCreateRequest.FILE_CREATE_MAX_SIZE
-              + " bytes. Use FileAppend for larger files.");
-    }
-    final FileCreateTransaction transaction =
-        new FileCreateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setContents(request.contents())
-            .setTransactionMemo(request.fileMemo())
-            .setKeys(Objects.requireNonNull(hieroContext.getOperatorAccount().publicKey()));
-    if (request.expirationTime() != null) {
-      transaction.setExpirationTime(request.expirationTime());
-    }
+    return this.<FileInfo, FileInfoQuery>executePricedQueryAsync(
+            () -> createFileInfoQuery(request),
+            request,
+            FileInfoQuery.class.getSimpleName(),
+            0L,
+            info -> 0L)
+        .thenApply(
+            fileInfo -> {
+              recordFileSize(request.fileId(), fileInfo.size);
+              try {
+                return toFileInfoResponse(request, fileInfo);
+              } catch (final HieroException e) {
+                throw new CompletionException(e);
+              }
+            });
+  }
 
+  @Override
+  public FileCreateResult executeFileCreateTransaction(@NonNull final FileCreateRequest request)
+      throws HieroException {
+    final FileCreateTransaction transaction = createFileCreateTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.FILE_CREATE);
     return new FileCreateResult(receipt.transactionId, receipt.status, receipt.fileId);
   }
 
+  @Override
+  public CompletableFuture<FileCreateResult> executeFileCreateTransactionAsync(
+      @NonNull final FileCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createFileCreateTransaction(request), TransactionType.FILE_CREATE)
+        .thenApply(
+            receipt -> new FileCreateResult(receipt.transactionId, receipt.status, receipt.fileId));
+  }
+
   @Override
   public FileUpdateResult executeFileUpdateRequestTransaction(
       @NonNull final FileUpdateRequest request) throws HieroException {
-    Objects.requireNonNull(request, "request must not be null");
-    if (request.contents() != null
-        && request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      throw new HieroException(
-          "File contents of 1 transaction must be less than "
-              + FileCreateRequest.FILE_CREATE_MAX_SIZE
-              + " bytes. Use FileAppend for larger files.");
-    }
-    final FileUpdateTransaction transaction =
-        new FileUpdateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setFileId(request.fileId())
-            .setTransactionMemo(request.fileMemo());
-    if (request.contents() != null) {
-      transaction.setContents(request.contents());
-    }
-    if (request.expirationTime() != null) {
-      transaction.setExpirationTime(request.expirationTime());
-    }
+    final FileUpdateTransaction transaction = createFileUpdateTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.FILE_UPDATE);
     return new FileUpdateResult(receipt.transactionId, receipt.status);
   }
 
   @Override
-  public FileAppendResult executeFileAppendRequestTransaction(
-      @NonNull final FileAppendRequest request) throws HieroException {
+  public CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransactionAsync(
+      @NonNull final FileUpdateRequest request) {
     Objects.requireNonNull(request, "request must not be null");
-    Objects.requireNonNull(request.contents(), "content must not be null");
-    if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
-      throw new HieroException(
-          "File contents of 1 transaction must be less than "
-              + FileCreateRequest.FILE_CREATE_MAX_SIZE
-              + " bytes. Use multiple FileAppend for larger files.");
-    }
-    final FileAppendTransaction transaction =
-        new FileAppendTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setFileId(request.fileId())
-            .setContents(request.contents())
-            .setTransactionMemo(request.fileMemo());
+    return executeTransactionAsync(
+            () -> createFileUpdateTransaction(request), TransactionType.FILE_UPDATE)
+        .thenApply(receipt -> new FileUpdateResult(receipt.transactionId, receipt.status));
+  }
 
+  @Override
+  public FileAppendResult executeFileAppendRequestTransaction(
+      @NonNull final FileAppendRequest request) throws HieroException {
+    final FileAppendTransaction transaction = createFileAppendTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.FILE_APPEND);
     return new FileAppendResult(receipt.transactionId, receipt.status);
   }
 
+  @Override
+  public CompletableFuture<FileAppendResult> executeFileAppendRequestTransactionAsync(
+      @NonNull final FileAppendRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createFileAppendTransaction(request), TransactionType.FILE_APPEND)
+        .thenApply(receipt -> new FileAppendResult(receipt.transactionId, receipt.status));
+  }
+
   @Override
   public FileDeleteResult executeFileDeleteTransaction(@NonNull final FileDeleteRequest request)
       throws HieroException {
-    final FileDeleteTransaction transaction =
-        new FileDeleteTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setFileId(request.fileId());
+    final FileDeleteTransaction transaction = createFileDeleteTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.FILE_DELETE);
     return new FileDeleteResult(receipt.transactionId, receipt.status);
   }
 
+  @Override
+  public CompletableFuture<FileDeleteResult> executeFileDeleteTransactionAsync(
+      @NonNull final FileDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createFileDeleteTransaction(request), TransactionType.FILE_DELETE)
+        .thenApply(receipt -> new FileDeleteResult(receipt.transactionId, receipt.status));
+  }
+
   @Override
   public ContractCreateResult executeContractCreateTransaction(
       @NonNull final ContractCreateRequest request) throws HieroException {
-    final ContractFunctionParameters constructorParams =
-        createParameters(request.constructorParams());
-    final ContractCreateTransaction transaction =
-        new ContractCreateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setBytecodeFileId(request.fileId())
-            .setGas(DEFAULT_GAS)
-            .setConstructorParameters(constructorParams);
+    final ContractCreateTransaction transaction = createContractCreateTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.CONTRACT_CREATE);
     return new ContractCreateResult(receipt.transactionId, receipt.status, receipt.contractId);
   }
 
+  @Override
+  public CompletableFuture<ContractCreateResult> executeContractCreateTransactionAsync(
+      @NonNull final ContractCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createContractCreateTransaction(request), TransactionType.CONTRACT_CREATE)
+        .thenApply(
+            receipt ->
+                new ContractCreateResult(
+                    receipt.transactionId, receipt.status, receipt.contractId));
+  }
+
   @Override
   public ContractDeleteResult executeContractDeleteTransaction(
       @NonNull final ContractDeleteRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final ContractDeleteTransaction transaction =
-        new ContractDeleteTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setContractId(request.contractId());
-    if (request.transferFeeToContractId() != null) {
-      transaction.setTransferContractId(request.transferFeeToContractId());
-    }
-    if (request.transferFeeToAccountId() != null) {
-      transaction.setTransferAccountId(request.transferFeeToAccountId());
-    }
+    final ContractDeleteTransaction transaction = createContractDeleteTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.CONTRACT_DELETE);
     return new ContractDeleteResult(receipt.transactionId, receipt.status);
   }
 
+  @Override
+  public CompletableFuture<ContractDeleteResult> executeContractDeleteTransactionAsync(
+      @NonNull final ContractDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createContractDeleteTransaction(request), TransactionType.CONTRACT_DELETE)
+        .thenApply(receipt -> new ContractDeleteResult(receipt.transactionId, receipt.status));
+  }
+
   @Override
   @NonNull
   public ContractCallResult executeContractCallTransaction(
       @NonNull final ContractCallRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final ContractFunctionParameters functionParams = createParameters(request.functionParams());
-    final ContractExecuteTransaction transaction =
-        new ContractExecuteTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setContractId(request.contractId())
-            .setFunction(request.functionName(), functionParams)
-            .setGas(DEFAULT_GAS);
-    final TransactionRecord record =
-        executeTransactionAndWaitOnRecord(transaction, TransactionType.CONTRACT_CALL);
+    final ContractExecuteTransaction transaction = createContractExecuteTransaction(request);
+    final RecordPolicy policy = getRecordPolicy(TransactionType.CONTRACT_CALL);
+    if (policy == RecordPolicy.RECORD_EAGER) {
+      final TransactionRecord record =
+          executeTransactionAndWaitOnRecord(transaction, TransactionType.CONTRACT_CALL);
+      return toContractCallResult(record);
+    }
+    final TransactionReceipt receipt =
+        executeTransactionAndWaitOnReceipt(transaction, TransactionType.CONTRACT_CALL);
     return new ContractCallResult(
-        record.transactionId,
-        record.receipt.status,
-        record.transactionHash.toByteArray(),
-        record.consensusTimestamp,
-        record.transactionFee,
-        record.contractFunctionResult);
+        receipt.transactionId, receipt.status, lazyRecord(transaction, receipt, policy));
+  }
+
+  @Override
+  public CompletableFuture<ContractCallResult> executeContractCallTransactionAsync(
+      @NonNull final ContractCallRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final RecordPolicy policy = getRecordPolicy(TransactionType.CONTRACT_CALL);
+    if (policy == RecordPolicy.RECORD_EAGER) {
+      return executeTransactionAndReceiveRecordAsync(
+              () -> createContractExecuteTransaction(request), TransactionType.CONTRACT_CALL)
+          .thenApply(this::toContractCallResult);
+    }
+    final AtomicReference<ContractExecuteTransaction> created = new AtomicReference<>();
+    return executeTransactionAsync(
+            capturing(() -> createContractExecuteTransaction(request), created),
+            TransactionType.CONTRACT_CALL)
+        .thenApply(
+            receipt ->
+                new ContractCallResult(
+                    receipt.transactionId,
+                    receipt.status,
+                    lazyRecord(created.get(), receipt, policy)));
   }
 
   @Override
@@ -330,24 +588,41 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   public AccountCreateResult executeAccountCreateTransaction(
       @NonNull final AccountCreateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final PrivateKey privateKey = PrivateKey.generateED25519();
-    final PublicKey publicKey = privateKey.getPublicKey();
+    final PrivateKey privateKey = nextPrivateKey();
     final AccountCreateTransaction transaction =
-        new AccountCreateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setKey(publicKey)
-            .setInitialBalance(request.initialBalance());
-    final TransactionRecord record =
-        executeTransactionAndWaitOnRecord(transaction, TransactionType.ACCOUNT_CREATE);
-    final Account newAccount = Account.of(record.receipt.accountId, publicKey, privateKey);
-    return new AccountCreateResult(
-        record.transactionId,
-        record.receipt.status,
-        record.transactionHash.toByteArray(),
-        record.consensusTimestamp,
-        record.transactionFee,
-        newAccount);
+        createAccountCreateTransaction(request, privateKey.getPublicKey());
+    final RecordPolicy policy = getRecordPolicy(TransactionType.ACCOUNT_CREATE);
+    if (policy == RecordPolicy.RECORD_EAGER) {
+      final TransactionRecord record =
+          executeTransactionAndWaitOnRecord(transaction, TransactionType.ACCOUNT_CREATE);
+      return toAccountCreateResult(record, privateKey);
+    }
+    final TransactionReceipt receipt =
+        executeTransactionAndWaitOnReceipt(transaction, TransactionType.ACCOUNT_CREATE);
+    return toAccountCreateResult(receipt, privateKey, lazyRecord(transaction, receipt, policy));
+  }
+
+  @Override
+  public CompletableFuture<AccountCreateResult> executeAccountCreateTransactionAsync(
+      @NonNull final AccountCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final PrivateKey privateKey = nextPrivateKey();
+    final RecordPolicy policy = getRecordPolicy(TransactionType.ACCOUNT_CREATE);
+    if (policy == RecordPolicy.RECORD_EAGER) {
+      return executeTransactionAndReceiveRecordAsync(
+              () -> createAccountCreateTransaction(request, privateKey.getPublicKey()),
+              TransactionType.ACCOUNT_CREATE)
+          .thenApply(record -> toAccountCreateResult(record, privateKey));
+    }
+    final AtomicReference<AccountCreateTransaction> created = new AtomicReference<>();
+    return executeTransactionAsync(
+            capturing(
+                () -> createAccountCreateTransaction(request, privateKey.getPublicKey()), created),
+            TransactionType.ACCOUNT_CREATE)
+        .thenApply(
+            receipt ->
+                toAccountCreateResult(
+                    receipt, privateKey, lazyRecord(created.get(), receipt, policy)));
   }
 
   @Override
@@ -355,32 +630,39 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   public AccountDeleteResult executeAccountDeleteTransaction(
       @NonNull final AccountDeleteRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final AccountDeleteTransaction transaction =
-        new AccountDeleteTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setAccountId(request.toDelete().accountId());
-    if (request.transferFundsToAccount() != null) {
-      transaction.setTransferAccountId(request.transferFundsToAccount().accountId());
-      sign(
-          transaction,
-          request.toDelete().privateKey(),
-          request.transferFundsToAccount().privateKey());
-    } else {
-      transaction.setTransferAccountId(hieroContext.getOperatorAccount().accountId());
-      sign(
-          transaction,
-          request.toDelete().privateKey(),
-          hieroContext.getOperatorAccount().privateKey());
+    final AccountDeleteTransaction transaction = createAccountDeleteTransaction(request);
+    final RecordPolicy policy = getRecordPolicy(TransactionType.ACCOUNT_DELETE);
+    if (policy == RecordPolicy.RECORD_EAGER) {
+      final TransactionRecord record =
+          executeTransactionAndWaitOnRecord(transaction, TransactionType.ACCOUNT_DELETE);
+      return toAccountDeleteResult(record);
     }
-    final TransactionRecord record =
-        executeTransactionAndWaitOnRecord(transaction, TransactionType.ACCOUNT_DELETE);
+    final TransactionReceipt receipt =
+        executeTransactionAndWaitOnReceipt(transaction, TransactionType.ACCOUNT_DELETE);
     return new AccountDeleteResult(
-        record.transactionId,
-        record.receipt.status,
-        record.transactionHash.toByteArray(),
-        record.consensusTimestamp,
-        record.transactionFee);
+        receipt.transactionId, receipt.status, lazyRecord(transaction, receipt, policy));
+  }
+
+  @Override
+  public CompletableFuture<AccountDeleteResult> executeAccountDeleteTransactionAsync(
+      @NonNull final AccountDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final RecordPolicy policy = getRecordPolicy(TransactionType.ACCOUNT_DELETE);
+    if (policy == RecordPolicy.RECORD_EAGER) {
+      return executeTransactionAndReceiveRecordAsync(
+              () -> createAccountDeleteTransaction(request), TransactionType.ACCOUNT_DELETE)
+          .thenApply(this::toAccountDeleteResult);
+    }
+    final AtomicReference<AccountDeleteTransaction> created = new AtomicReference<>();
+    return executeTransactionAsync(
+            capturing(() -> createAccountDeleteTransaction(request), created),
+            TransactionType.ACCOUNT_DELETE)
+        .thenApply(
+            receipt ->
+                new AccountDeleteResult(
+                    receipt.transactionId,
+                    receipt.status,
+                    lazyRecord(created.get(), receipt, policy)));
   }
 
   @Override
@@ -388,25 +670,21 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
   public AccountUpdateResult executeAccountUpdateTransaction(
       @NonNull final AccountUpdateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
-    final AccountUpdateTransaction transaction =
-        new AccountUpdateTransaction()
-            .setMaxTransactionFee(request.maxTransactionFee())
-            .setTransactionValidDuration(request.transactionValidDuration())
-            .setAccountId(request.toUpdate().accountId());
-    if (request.memo() != null) {
-      transaction.setAccountMemo(request.memo());
-    }
-    if (request.updatedPrivateKey() != null) {
-      transaction.setKey(request.updatedPrivateKey().getPublicKey());
-      sign(transaction, request.toUpdate().privateKey(), request.updatedPrivateKey());
-    } else {
-      sign(transaction, request.toUpdate().privateKey());
-    }
+    final AccountUpdateTransaction transaction = createAccountUpdateTransaction(request);
     final TransactionReceipt receipt =
         executeTransactionAndWaitOnReceipt(transaction, TransactionType.ACCOUNT_UPDATE);
     return new AccountUpdateResult(receipt.transactionId, receipt.status);
   }
 
+  @Override
+  public CompletableFuture<AccountUpdateResult> executeAccountUpdateTransactionAsync(
+      @NonNull final AccountUpdateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createAccountUpdateTransaction(request), TransactionType.ACCOUNT_UPDATE)
+        .thenApply(receipt -> new AccountUpdateResult(receipt.transactionId, receipt.status));
+  }
+
   public TopicCreateResult executeTopicCreateTransaction(@NonNull final TopicCreateRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
@@ -414,18 +692,7 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     Objects.requireNonNull(
         request.transactionValidDuration(), "transactionValidDuration must not be null");
     try {
-      final TopicCreateTransaction transaction =
-          new TopicCreateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setAdminKey(request.adminKey());
-      if (request.memo() != null) {
-        transaction.setTopicMemo(request.memo());
-      }
-      if (request.submitKey() != null) {
-        transaction.setSubmitKey(request.submitKey());
-      }
-      sign(transaction, request.adminKey());
+      final TopicCreateTransaction transaction = createTopicCreateTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOPIC_CREATE);
       return new TopicCreateResult(receipt.transactionId, receipt.status, receipt.topicId);
@@ -434,6 +701,17 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TopicCreateResult> executeTopicCreateTransactionAsync(
+      @NonNull final TopicCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTopicCreateTransaction(request), TransactionType.TOPIC_CREATE)
+        .thenApply(
+            receipt ->
+                new TopicCreateResult(receipt.transactionId, receipt.status, receipt.topicId));
+  }
+
   @Override
   public @NonNull TopicUpdateResult executeTopicUpdateTransaction(
       @NonNull TopicUpdateRequest request) throws HieroException {
@@ -442,25 +720,7 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     Objects.requireNonNull(
         request.transactionValidDuration(), "transactionValidDuration must not be null");
     try {
-      final TopicUpdateTransaction transaction =
-          new TopicUpdateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTopicId(request.topicId());
-      if (request.memo() != null) {
-        transaction.setTopicMemo(request.memo());
-      }
-      if (request.submitKey() != null) {
-        transaction.setSubmitKey(request.submitKey());
-      }
-      if (request.updatedAdminKey() != null) {
-        transaction.setAdminKey(request.updatedAdminKey());
-      }
-      if (request.updatedAdminKey() != null) {
-        sign(transaction, request.adminKey(), request.updatedAdminKey());
-      } else {
-        sign(transaction, request.adminKey());
-      }
+      final TopicUpdateTransaction transaction = createTopicUpdateTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOPIC_UPDATE);
       return new TopicUpdateResult(receipt.transactionId, receipt.status);
@@ -469,16 +729,20 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
-  public TopicDeleteResult executeTopicDeleteTransaction(@NonNull final TopicDeleteRequest request)
-      throws HieroException {
+  @Override
+  public CompletableFuture<TopicUpdateResult> executeTopicUpdateTransactionAsync(
+      @NonNull final TopicUpdateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTopicUpdateTransaction(request), TransactionType.TOPIC_UPDATE)
+        .thenApply(receipt -> new TopicUpdateResult(receipt.transactionId, receipt.status));
+  }
+
+  public TopicDeleteResult executeTopicDeleteTransaction(@NonNull final TopicDeleteRequest request)
+      throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TopicDeleteTransaction transaction =
-          new TopicDeleteTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTopicId(request.topicId());
-      sign(transaction, request.adminKey());
+      final TopicDeleteTransaction transaction = createTopicDeleteTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOPIC_DELETE);
       return new TopicDeleteResult(receipt.transactionId, receipt.status);
@@ -487,19 +751,21 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TopicDeleteResult> executeTopicDeleteTransactionAsync(
+      @NonNull final TopicDeleteRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTopicDeleteTransaction(request), TransactionType.TOPIC_DELETE)
+        .thenApply(receipt -> new TopicDeleteResult(receipt.transactionId, receipt.status));
+  }
+
   public TopicSubmitMessageResult executeTopicMessageSubmitTransaction(
       @NonNull final TopicSubmitMessageRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
       final TopicMessageSubmitTransaction transaction =
-          new TopicMessageSubmitTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTopicId(request.topicId())
-              .setMessage(request.message());
-      if (request.submitKey() != null) {
-        sign(transaction, request.submitKey());
-      }
+          createTopicMessageSubmitTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOPIC_MESSAGE_SUBMIT);
       return new TopicSubmitMessageResult(receipt.transactionId, receipt.status);
@@ -508,6 +774,16 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TopicSubmitMessageResult> executeTopicMessageSubmitTransactionAsync(
+      @NonNull final TopicSubmitMessageRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTopicMessageSubmitTransaction(request),
+            TransactionType.TOPIC_MESSAGE_SUBMIT)
+        .thenApply(receipt -> new TopicSubmitMessageResult(receipt.transactionId, receipt.status));
+  }
+
   @Override
   public TopicMessageResult executeTopicMessageQuery(TopicMessageRequest request)
       throws HieroException {
@@ -531,20 +807,22 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TopicMessageResult> executeTopicMessageQueryAsync(
+      @NonNull final TopicMessageRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    try {
+      return CompletableFuture.completedFuture(executeTopicMessageQuery(request));
+    } catch (final HieroException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   public TokenCreateResult executeTokenCreateTransaction(@NonNull final TokenCreateRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenCreateTransaction transaction =
-          new TokenCreateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenName(request.name())
-              .setTokenSymbol(request.symbol())
-              .setTreasuryAccountId(request.treasuryAccountId())
-              .setTokenType(request.tokenType())
-              .setSupplyKey(request.supplyKey());
-      sign(transaction, request.treasuryKey(), request.supplyKey());
+      final TokenCreateTransaction transaction = createTokenCreateTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOKEN_CREATE);
       return new TokenCreateResult(receipt.transactionId, receipt.status, receipt.tokenId);
@@ -553,17 +831,48 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TokenCreateResult> executeTokenCreateTransactionAsync(
+      @NonNull final TokenCreateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTokenCreateTransaction(request), TransactionType.TOKEN_CREATE)
+        .thenApply(
+            receipt ->
+                new TokenCreateResult(receipt.transactionId, receipt.status, receipt.tokenId));
+  }
+
   public TokenAssociateResult executeTokenAssociateTransaction(
       @NonNull final TokenAssociateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
+    final TokenAssociateCoalescer coalescer = associateCoalescer.get();
+    if (coalescer != null && !isBoundToCallingThread()) {
+      try {
+        return coalescer.submit(request, this::executeSingleTokenAssociateTransaction).join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof HieroException hieroException) {
+          throw hieroException;
+        }
+        throw new HieroException("Failed to execute associate token transaction", e.getCause());
+      }
+    }
+    return executeSingleTokenAssociateTransaction(request);
+  }
+
+  /**
+   * Returns whether the calling thread carries an idempotency key or a priority that would be lost
+   * if the transaction was executed on another thread.
+   */
+  private static boolean isBoundToCallingThread() {
+    return IdempotencyStore.currentKey().isPresent()
+        || PriorityScheduler.currentPriority().isPresent();
+  }
+
+  @NonNull
+  private TokenAssociateResult executeSingleTokenAssociateTransaction(
+      @NonNull final TokenAssociateRequest request) throws HieroException {
     try {
-      final TokenAssociateTransaction transaction =
-          new TokenAssociateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenIds(request.tokenIds())
-              .setAccountId(request.accountId());
-      sign(transaction, request.accountPrivateKey());
+      final TokenAssociateTransaction transaction = createTokenAssociateTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOKEN_ASSOCIATE);
       return new TokenAssociateResult(receipt.transactionId, receipt.status);
@@ -572,18 +881,25 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TokenAssociateResult> executeTokenAssociateTransactionAsync(
+      @NonNull final TokenAssociateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    final TokenAssociateCoalescer coalescer = associateCoalescer.get();
+    if (coalescer != null && !isBoundToCallingThread()) {
+      return coalescer.submit(request, this::executeSingleTokenAssociateTransaction);
+    }
+    return executeTransactionAsync(
+            () -> createTokenAssociateTransaction(request), TransactionType.TOKEN_ASSOCIATE)
+        .thenApply(receipt -> new TokenAssociateResult(receipt.transactionId, receipt.status));
+  }
+
   @Override
   public @NonNull TokenDissociateResult executeTokenDissociateTransaction(
       @NonNull TokenDissociateRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenDissociateTransaction transaction =
-          new TokenDissociateTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setAccountId(request.accountId())
-              .setTokenIds(request.tokenIds());
-      sign(transaction, request.accountKey());
+      final TokenDissociateTransaction transaction = createTokenDissociateTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOKEN_DISSOCIATE);
       return new TokenDissociateResult(receipt.transactionId, receipt.status);
@@ -592,23 +908,20 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TokenDissociateResult> executeTokenDissociateTransactionAsync(
+      @NonNull final TokenDissociateRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTokenDissociateTransaction(request), TransactionType.TOKEN_DISSOCIATE)
+        .thenApply(receipt -> new TokenDissociateResult(receipt.transactionId, receipt.status));
+  }
+
   public TokenBurnResult executeBurnTokenTransaction(@NonNull final TokenBurnRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenBurnTransaction transaction =
-          new TokenBurnTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenId(request.tokenId());
-      if (request.amount() != null) {
-        transaction.setAmount(request.amount());
-      } else if (request.serials() != null) {
-        transaction.setSerials(List.copyOf(request.serials()));
-      } else {
-        throw new IllegalArgumentException("either amount or serial must be provided");
-      }
-
+      final TokenBurnTransaction transaction = createTokenBurnTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOKEN_BURN);
       return new TokenBurnResult(receipt.transactionId, receipt.status, receipt.totalSupply);
@@ -617,23 +930,22 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TokenBurnResult> executeBurnTokenTransactionAsync(
+      @NonNull final TokenBurnRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTokenBurnTransaction(request), TransactionType.TOKEN_BURN)
+        .thenApply(
+            receipt ->
+                new TokenBurnResult(receipt.transactionId, receipt.status, receipt.totalSupply));
+  }
+
   public TokenMintResult executeMintTokenTransaction(@NonNull final TokenMintRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TokenMintTransaction transaction =
-          new TokenMintTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setTokenId(request.tokenId());
-      if (request.amount() != null) {
-        transaction.setAmount(request.amount());
-      } else if (request.metadata() != null) {
-        transaction.setMetadata(request.metadata());
-      } else {
-        throw new IllegalArgumentException("either amount or metadata must be provided");
-      }
-      sign(transaction, request.supplyKey());
+      final TokenMintTransaction transaction = createTokenMintTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.TOKEN_MINT);
       return new TokenMintResult(
@@ -643,30 +955,23 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TokenMintResult> executeMintTokenTransactionAsync(
+      @NonNull final TokenMintRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTokenMintTransaction(request), TransactionType.TOKEN_MINT)
+        .thenApply(
+            receipt ->
+                new TokenMintResult(
+                    receipt.transactionId, receipt.status, receipt.serials, receipt.totalSupply));
+  }
+
   public TokenTransferResult executeTransferTransaction(@NonNull final TokenTransferRequest request)
       throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final TransferTransaction transaction =
-          new TransferTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration());
-      if (!request.serials().isEmpty()) {
-        request
-            .serials()
-            .forEach(
-                serial ->
-                    transaction.addNftTransfer(
-                        new NftId(request.tokenId(), serial),
-                        request.sender(),
-                        request.receiver()));
-      } else if (request.amount() != null) {
-        transaction.addTokenTransfer(request.tokenId(), request.sender(), request.amount() * -1);
-        transaction.addTokenTransfer(request.tokenId(), request.receiver(), request.amount());
-      } else {
-        throw new IllegalArgumentException("either amount or serial must be provided");
-      }
-      sign(transaction, request.senderKey());
+      final TransferTransaction transaction = createTransferTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.CRYPTO_TRANSFER);
       return new TokenTransferResult(receipt.transactionId, receipt.status);
@@ -675,20 +980,44 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<TokenTransferResult> executeTransferTransactionAsync(
+      @NonNull final TokenTransferRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createTransferTransaction(request), TransactionType.CRYPTO_TRANSFER)
+        .thenApply(receipt -> new TokenTransferResult(receipt.transactionId, receipt.status));
+  }
+
+  @Override
+  public @NonNull MultiTokenTransferResult executeMultiTokenTransferTransaction(
+      @NonNull final MultiTokenTransferRequest request) throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    try {
+      final TransferTransaction transaction = createMultiTokenTransferTransaction(request);
+      final TransactionReceipt receipt =
+          executeTransactionAndWaitOnReceipt(transaction, TransactionType.CRYPTO_TRANSFER);
+      return new MultiTokenTransferResult(receipt.transactionId, receipt.status);
+    } catch (final Exception e) {
+      throw new HieroException("Failed to execute multi token transfer transaction", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<MultiTokenTransferResult> executeMultiTokenTransferTransactionAsync(
+      @NonNull final MultiTokenTransferRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createMultiTokenTransferTransaction(request), TransactionType.CRYPTO_TRANSFER)
+        .thenApply(receipt -> new MultiTokenTransferResult(receipt.transactionId, receipt.status));
+  }
+
   @Override
   public @NonNull HookStoreResult executeHookStoreTransaction(
       @NonNull final HookStoreRequest request) throws HieroException {
     Objects.requireNonNull(request, "request must not be null");
     try {
-      final HookStoreTransaction transaction =
-          new HookStoreTransaction()
-              .setMaxTransactionFee(request.maxTransactionFee())
-              .setTransactionValidDuration(request.transactionValidDuration())
-              .setHookId(request.hookId())
-              .setStorageUpdates(request.storageUpdates());
-      if (!request.signerKeys().isEmpty()) {
-        sign(transaction, request.signerKeys().toArray(PrivateKey[]::new));
-      }
+      final HookStoreTransaction transaction = createHookStoreTransaction(request);
       final TransactionReceipt receipt =
           executeTransactionAndWaitOnReceipt(transaction, TransactionType.HOOK_STORE);
       return new HookStoreResult(receipt.transactionId, receipt.status);
@@ -697,119 +1026,1592 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     }
   }
 
+  @Override
+  public CompletableFuture<HookStoreResult> executeHookStoreTransactionAsync(
+      @NonNull final HookStoreRequest request) {
+    Objects.requireNonNull(request, "request must not be null");
+    return executeTransactionAsync(
+            () -> createHookStoreTransaction(request), TransactionType.HOOK_STORE)
+        .thenApply(receipt -> new HookStoreResult(receipt.transactionId, receipt.status));
+  }
+
   @NonNull
-  private <T extends Transaction<T>> Transaction<T> sign(
-      Transaction<T> transaction, final PrivateKey... keys) {
-    if (keys != null) {
-      transaction.freezeWith(hieroContext.getClient());
-      for (PrivateKey key : keys) {
-        transaction.sign(key);
-      }
+  private AccountBalanceQuery createAccountBalanceQuery(
+      @NonNull final AccountBalanceRequest request) {
+    return new AccountBalanceQuery()
+        .setAccountId(request.accountId())
+        .setQueryPayment(request.queryPayment())
+        .setMaxQueryPayment(request.maxQueryPayment());
+  }
+
+  @NonNull
+  private FileContentsQuery createFileContentsQuery(@NonNull final FileContentsRequest request) {
+    return new FileContentsQuery()
+        .setFileId(request.fileId())
+        .setQueryPayment(request.queryPayment())
+        .setMaxQueryPayment(request.maxQueryPayment());
+  }
+
+  @NonNull
+  private FileInfoQuery createFileInfoQuery(@NonNull final FileInfoRequest request) {
+    return new FileInfoQuery()
+        .setFileId(request.fileId())
+        .setQueryPayment(request.queryPayment())
+        .setMaxQueryPayment(request.maxQueryPayment());
+  }
+
+  @NonNull
+  private FileInfoResponse toFileInfoResponse(
+      @NonNull final FileInfoRequest request, @NonNull final FileInfo fileInfo)
+      throws HieroException {
+    if (fileInfo.size > Integer.MAX_VALUE) {
+      throw new HieroException("File size is too large to be represented as an integer");
+    }
+    return new FileInfoResponse(
+        request.fileId(), (int) fileInfo.size, fileInfo.isDeleted, fileInfo.expirationTime);
+  }
+
+  @NonNull
+  private FileCreateTransaction createFileCreateTransaction(
+      @NonNull final FileCreateRequest request) throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(request.contents(), "content must not be null");
+    if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+      throw new HieroException(
+          "File contents of 1 transaction must be less than "
+              + FileCreateRequest.FILE_CREATE_MAX_SIZE
+              + " bytes. Use FileAppend for larger files.");
+    }
+    final FileCreateTransaction transaction =
+        new FileCreateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setContents(request.contents())
+            .setTransactionMemo(request.fileMemo())
+            .setKeys(Objects.requireNonNull(hieroContext.getOperatorAccount().publicKey()));
+    if (request.expirationTime() != null) {
+      transaction.setExpirationTime(request.expirationTime());
     }
     return transaction;
   }
 
   @NonNull
-  private ContractFunctionParameters createParameters(
-      @NonNull final List<ContractParam<?>> params) {
-    Objects.requireNonNull(params, "params must not be null");
-    final ContractFunctionParameters constructorParams = new ContractFunctionParameters();
-    final Consumer<ContractParam> consumer =
-        param -> param.supplier().addParamToFunctionParameters(param.value(), constructorParams);
-    params.forEach(consumer);
-    return constructorParams;
+  private FileUpdateTransaction createFileUpdateTransaction(
+      @NonNull final FileUpdateRequest request) throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    if (request.contents() != null
+        && request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
+      throw new HieroException(
+          "File contents of 1 transaction must be less than "
+              + FileCreateRequest.FILE_CREATE_MAX_SIZE
+              + " bytes. Use FileAppend for larger files.");
+    }
+    final FileUpdateTransaction transaction =
+        new FileUpdateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setFileId(request.fileId())
+            .setTransactionMemo(request.fileMemo());
+    if (request.contents() != null) {
+      transaction.setContents(request.contents());
+    }
+    if (request.expirationTime() != null) {
+      transaction.setExpirationTime(request.expirationTime());
+    }
+    return transaction;
   }
 
   @NonNull
-  private <T extends Transaction<T>> TransactionReceipt executeTransactionAndWaitOnReceipt(
-      @NonNull final T transaction, @NonNull final TransactionType type) throws HieroException {
-    Objects.requireNonNull(transaction, "transaction must not be null");
-    Objects.requireNonNull(type, "type must not be null");
-    try {
-      log.debug("Sending transaction of type {}", transaction.getClass().getSimpleName());
-      final TransactionResponse response = transaction.execute(hieroContext.getClient());
-      listeners.forEach(
-          listener -> {
-            try {
-              listener.transactionSubmitted(type, response.transactionId);
-            } catch (Exception e) {
-              log.error("Failed to notify listener", e);
-            }
-          });
-      try {
-        log.debug(
-            "Waiting for receipt of transaction '{}' of type {}",
-            response.transactionId,
-            transaction.getClass().getSimpleName());
-        final TransactionReceipt receipt = response.getReceipt(hieroContext.getClient());
-        listeners.forEach(
-            listener -> {
-              try {
-                listener.transactionHandled(type, response.transactionId, receipt.status);
-              } catch (Exception e) {
-                log.error("Failed to notify listener", e);
-              }
-            });
-        return receipt;
-      } catch (Exception e) {
-        throw new HieroException(
-            "Failed to receive receipt of transaction '"
-                + response.transactionId
-                + "' of type "
-                + transaction.getClass(),
-            e);
-      }
-    } catch (final Exception e) {
+  private FileAppendTransaction createFileAppendTransaction(
+      @NonNull final FileAppendRequest request) throws HieroException {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(request.contents(), "content must not be null");
+    if (request.contents().length > FileCreateRequest.FILE_CREATE_MAX_SIZE) {
       throw new HieroException(
-          "Failed to execute transaction of type " + transaction.getClass().getSimpleName(), e);
+          "File contents of 1 transaction must be less than "
+              + FileCreateRequest.FILE_CREATE_MAX_SIZE
+              + " bytes. Use multiple FileAppend for larger files.");
+    }
+    final FileAppendTransaction transaction =
+        new FileAppendTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setFileId(request.fileId())
+            .setContents(request.contents())
+            .setTransactionMemo(request.fileMemo());
+    if (request.validStart() != null) {
+      // the transaction is frozen with its id and nodes, so that neither the payer pool nor the
+      // node health tracking changes the order of a pipelined upload
+      transaction
+          .setTransactionId(
+              TransactionId.withValidStart(getOperatorAccountId(), request.validStart()))
+          .setNodeAccountIds(selectAppendNodes(request.fileId()))
+          .freezeWith(hieroContext.getClient());
     }
+    return transaction;
   }
 
+  /**
+   * Returns the consensus nodes for the appends with a valid start of the given file. All appends
+   * of the file are sent to the same primary node first, since appends that are sent to the same
+   * node are added to the hashgraph in the order the node receives them. The other nodes follow in
+   * the same order for every append, so that the SDK can fall back to them if the primary node
+   * fails. An append that is reordered by a fallback is detected by the verification of the upload.
+   */
   @NonNull
-  private <T extends Transaction<T>> TransactionRecord executeTransactionAndWaitOnRecord(
-      @NonNull final T transaction, @NonNull final TransactionType type) throws HieroException {
-    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction, type);
-    try {
-      log.debug(
-          "Waiting for record of transaction '{}' of type {}",
-          receipt.transactionId,
-          transaction.getClass().getSimpleName());
+  private List<AccountId> selectAppendNodes(@NonNull final FileId fileId) throws HieroException {
+    final List<AccountId> nodes =
+        hieroContext.getClient().getNetwork().values().stream()
+            .distinct()
+            .sorted(Comparator.comparingLong(node -> node.num))
+            .toList();
+    if (nodes.isEmpty()) {
+      throw new HieroException("No consensus node available for file " + fileId);
+    }
+    final int primary = (int) Math.floorMod(fileId.num, (long) nodes.size());
+    final List<AccountId> ordered = new ArrayList<>(nodes.size());
+    ordered.addAll(nodes.subList(primary, nodes.size()));
+    ordered.addAll(nodes.subList(0, primary));
+    return ordered;
+  }
 
-      final ReceiveRecordHandler data =
-          new ReceiveRecordHandler(
-              transaction, receipt, r -> r.transactionId.getRecord(hieroContext.getClient()));
-      return recordInterceptor.get().getRecordFor(data);
-    } catch (final Exception e) {
-      throw new HieroException(
-          "Failed to receive record of transaction '"
-              + receipt.transactionId
-              + "' of type "
-              + transaction.getClass(),
-          e);
+  @NonNull
+  private FileDeleteTransaction createFileDeleteTransaction(
+      @NonNull final FileDeleteRequest request) {
+    return new FileDeleteTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setFileId(request.fileId());
+  }
+
+  @NonNull
+  private ContractCreateTransaction createContractCreateTransaction(
+      @NonNull final ContractCreateRequest request) {
+    final ContractFunctionParameters constructorParams =
+        createParameters(request.constructorParams());
+    return new ContractCreateTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setBytecodeFileId(request.fileId())
+        .setGas(DEFAULT_GAS)
+        .setConstructorParameters(constructorParams);
+  }
+
+  @NonNull
+  private ContractDeleteTransaction createContractDeleteTransaction(
+      @NonNull final ContractDeleteRequest request) {
+    final ContractDeleteTransaction transaction =
+        new ContractDeleteTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setContractId(request.contractId());
+    if (request.transferFeeToContractId() != null) {
+      transaction.setTransferContractId(request.transferFeeToContractId());
+    }
+    if (request.transferFeeToAccountId() != null) {
+      transaction.setTransferAccountId(request.transferFeeToAccountId());
     }
+    return transaction;
   }
 
   @NonNull
-  private <R, Q extends Query<R, Q>> R executeQueryAndWait(@NonNull final Q query)
-      throws HieroException {
-    Objects.requireNonNull(query, "query must not be null");
-    try {
-      log.debug("Sending query of type {}", query.getClass().getSimpleName());
-      return query.execute(hieroContext.getClient());
-    } catch (Exception e) {
-      throw new HieroException("Failed to execute query", e);
+  private ContractExecuteTransaction createContractExecuteTransaction(
+      @NonNull final ContractCallRequest request) {
+    final ContractFunctionParameters functionParams = createParameters(request.functionParams());
+    return new ContractExecuteTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setContractId(request.contractId())
+        .setFunction(request.functionName(), functionParams)
+        .setGas(DEFAULT_GAS);
+  }
+
+  @NonNull
+  private ContractCallResult toContractCallResult(@NonNull final TransactionRecord record) {
+    return new ContractCallResult(
+        record.transactionId,
+        record.receipt.status,
+        record.transactionHash.toByteArray(),
+        record.consensusTimestamp,
+        record.transactionFee,
+        record.contractFunctionResult);
+  }
+
+  @NonNull
+  private PrivateKey nextPrivateKey() {
+    final KeyPool pool = keyPool.get();
+    if (pool == null) {
+      return PrivateKey.generateED25519();
     }
+    return pool.take();
   }
 
   @NonNull
-  @Override
-  public Runnable addTransactionListener(@NonNull TransactionListener listener) {
-    listeners.add(listener);
-    return () -> listeners.remove(listener);
+  private AccountCreateTransaction createAccountCreateTransaction(
+      @NonNull final AccountCreateRequest request, @NonNull final PublicKey publicKey) {
+    return new AccountCreateTransaction()
+        .setMaxTransactionFee(request.maxTransactionFee())
+        .setTransactionValidDuration(request.transactionValidDuration())
+        .setKey(publicKey)
+        .setInitialBalance(request.initialBalance());
   }
 
-  @Override
-  public AccountId getOperatorAccountId() {
+  @NonNull
+  private AccountCreateResult toAccountCreateResult(
+      @NonNull final TransactionRecord record, @NonNull final PrivateKey privateKey) {
+    final Account newAccount =
+        Account.of(record.receipt.accountId, privateKey.getPublicKey(), privateKey);
+    return new AccountCreateResult(
+        record.transactionId,
+        record.receipt.status,
+        record.transactionHash.toByteArray(),
+        record.consensusTimestamp,
+        record.transactionFee,
+        newAccount);
+  }
+
+  @NonNull
+  private AccountCreateResult toAccountCreateResult(
+      @NonNull final TransactionReceipt receipt,
+      @NonNull final PrivateKey privateKey,
+      @NonNull final LazyRecord lazyRecord) {
+    final Account newAccount = Account.of(receipt.accountId, privateKey.getPublicKey(), privateKey);
+    return new AccountCreateResult(receipt.transactionId, receipt.status, newAccount, lazyRecord);
+  }
+
+  @NonNull
+  private AccountDeleteTransaction createAccountDeleteTransaction(
+      @NonNull final AccountDeleteRequest request) {
+    final AccountDeleteTransaction transaction =
+        new AccountDeleteTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setAccountId(request.toDelete().accountId());
+    if (request.transferFundsToAccount() != null) {
+      transaction.setTransferAccountId(request.transferFundsToAccount().accountId());
+      sign(
+          transaction,
+          request.toDelete().privateKey(),
+          request.transferFundsToAccount().privateKey());
+    } else {
+      transaction.setTransferAccountId(hieroContext.getOperatorAccount().accountId());
+      sign(
+          transaction,
+          request.toDelete().privateKey(),
+          hieroContext.getOperatorAccount().privateKey());
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private AccountDeleteResult toAccountDeleteResult(@NonNull final TransactionRecord record) {
+    return new AccountDeleteResult(
+        record.transactionId,
+        record.receipt.status,
+        record.transactionHash.toByteArray(),
+        record.consensusTimestamp,
+        record.transactionFee);
+  }
+
+  @NonNull
+  private AccountUpdateTransaction createAccountUpdateTransaction(
+      @NonNull final AccountUpdateRequest request) {
+    final AccountUpdateTransaction transaction =
+        new AccountUpdateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setAccountId(request.toUpdate().accountId());
+    if (request.memo() != null) {
+      transaction.setAccountMemo(request.memo());
+    }
+    if (request.updatedPrivateKey() != null) {
+      transaction.setKey(request.updatedPrivateKey().getPublicKey());
+      sign(transaction, request.toUpdate().privateKey(), request.updatedPrivateKey());
+    } else {
+      sign(transaction, request.toUpdate().privateKey());
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private TopicCreateTransaction createTopicCreateTransaction(
+      @NonNull final TopicCreateRequest request) {
+    final TopicCreateTransaction transaction =
+        new TopicCreateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setAdminKey(request.adminKey());
+    if (request.memo() != null) {
+      transaction.setTopicMemo(request.memo());
+    }
+    if (request.submitKey() != null) {
+      transaction.setSubmitKey(request.submitKey());
+    }
+    sign(transaction, request.adminKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TopicUpdateTransaction createTopicUpdateTransaction(
+      @NonNull final TopicUpdateRequest request) {
+    final TopicUpdateTransaction transaction =
+        new TopicUpdateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTopicId(request.topicId());
+    if (request.memo() != null) {
+      transaction.setTopicMemo(request.memo());
+    }
+    if (request.submitKey() != null) {
+      transaction.setSubmitKey(request.submitKey());
+    }
+    if (request.updatedAdminKey() != null) {
+      transaction.setAdminKey(request.updatedAdminKey());
+    }
+    if (request.updatedAdminKey() != null) {
+      sign(transaction, request.adminKey(), request.updatedAdminKey());
+    } else {
+      sign(transaction, request.adminKey());
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private TopicDeleteTransaction createTopicDeleteTransaction(
+      @NonNull final TopicDeleteRequest request) {
+    final TopicDeleteTransaction transaction =
+        new TopicDeleteTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTopicId(request.topicId());
+    sign(transaction, request.adminKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TopicMessageSubmitTransaction createTopicMessageSubmitTransaction(
+      @NonNull final TopicSubmitMessageRequest request) {
+    final TopicMessageSubmitTransaction transaction =
+        new TopicMessageSubmitTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTopicId(request.topicId())
+            .setMessage(request.message());
+    if (request.submitKey() != null) {
+      sign(transaction, request.submitKey());
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private TokenCreateTransaction createTokenCreateTransaction(
+      @NonNull final TokenCreateRequest request) {
+    final TokenCreateTransaction transaction =
+        new TokenCreateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenName(request.name())
+            .setTokenSymbol(request.symbol())
+            .setTreasuryAccountId(request.treasuryAccountId())
+            .setTokenType(request.tokenType())
+            .setSupplyKey(request.supplyKey());
+    sign(transaction, request.treasuryKey(), request.supplyKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TokenAssociateTransaction createTokenAssociateTransaction(
+      @NonNull final TokenAssociateRequest request) {
+    final TokenAssociateTransaction transaction =
+        new TokenAssociateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenIds(request.tokenIds())
+            .setAccountId(request.accountId());
+    sign(transaction, request.accountPrivateKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TokenDissociateTransaction createTokenDissociateTransaction(
+      @NonNull final TokenDissociateRequest request) {
+    final TokenDissociateTransaction transaction =
+        new TokenDissociateTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setAccountId(request.accountId())
+            .setTokenIds(request.tokenIds());
+    sign(transaction, request.accountKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TokenBurnTransaction createTokenBurnTransaction(@NonNull final TokenBurnRequest request) {
+    final TokenBurnTransaction transaction =
+        new TokenBurnTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenId(request.tokenId());
+    if (request.amount() != null) {
+      transaction.setAmount(request.amount());
+    } else if (request.serials() != null) {
+      transaction.setSerials(List.copyOf(request.serials()));
+    } else {
+      throw new IllegalArgumentException("either amount or serial must be provided");
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private TokenMintTransaction createTokenMintTransaction(@NonNull final TokenMintRequest request) {
+    final TokenMintTransaction transaction =
+        new TokenMintTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setTokenId(request.tokenId());
+    if (request.amount() != null) {
+      transaction.setAmount(request.amount());
+    } else if (request.metadata() != null) {
+      transaction.setMetadata(request.metadata());
+    } else {
+      throw new IllegalArgumentException("either amount or metadata must be provided");
+    }
+    sign(transaction, request.supplyKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TransferTransaction createTransferTransaction(
+      @NonNull final TokenTransferRequest request) {
+    final TransferTransaction transaction =
+        new TransferTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration());
+    if (!request.serials().isEmpty()) {
+      request
+          .serials()
+          .forEach(
+              serial ->
+                  transaction.addNftTransfer(
+                      new NftId(request.tokenId(), serial), request.sender(), request.receiver()));
+    } else if (request.amount() != null) {
+      transaction.addTokenTransfer(request.tokenId(), request.sender(), request.amount() * -1);
+      transaction.addTokenTransfer(request.tokenId(), request.receiver(), request.amount());
+    } else {
+      throw new IllegalArgumentException("either amount or serial must be provided");
+    }
+    sign(transaction, request.senderKey());
+    return transaction;
+  }
+
+  @NonNull
+  private TransferTransaction createMultiTokenTransferTransaction(
+      @NonNull final MultiTokenTransferRequest request) {
+    final TransferTransaction transaction =
+        new TransferTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration());
+    // legs that share a token and account are merged into one entry of the transfer list
+    final Map<TokenId, Map<AccountId, Long>> amounts = new LinkedHashMap<>();
+    request
+        .legs()
+        .forEach(
+            leg -> {
+              final Map<AccountId, Long> tokenAmounts =
+                  amounts.computeIfAbsent(leg.tokenId(), tokenId -> new LinkedHashMap<>());
+              tokenAmounts.merge(leg.sender(), -leg.amount(), Long::sum);
+              tokenAmounts.merge(leg.receiver(), leg.amount(), Long::sum);
+            });
+    amounts.forEach(
+        (tokenId, tokenAmounts) ->
+            tokenAmounts.forEach(
+                (accountId, amount) -> {
+                  if (amount != 0) {
+                    transaction.addTokenTransfer(tokenId, accountId, amount);
+                  }
+                }));
+    if (!request.signerKeys().isEmpty()) {
+      sign(transaction, request.signerKeys().toArray(PrivateKey[]::new));
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private HookStoreTransaction createHookStoreTransaction(@NonNull final HookStoreRequest request) {
+    final HookStoreTransaction transaction =
+        new HookStoreTransaction()
+            .setMaxTransactionFee(request.maxTransactionFee())
+            .setTransactionValidDuration(request.transactionValidDuration())
+            .setHookId(request.hookId())
+            .setStorageUpdates(request.storageUpdates());
+    if (!request.signerKeys().isEmpty()) {
+      sign(transaction, request.signerKeys().toArray(PrivateKey[]::new));
+    }
+    return transaction;
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> Transaction<T> sign(
+      Transaction<T> transaction, final PrivateKey... keys) {
+    if (keys != null) {
+      assignNodes(transaction);
+      if (!assignPayer(transaction)) {
+        transaction.freezeWith(hieroContext.getClient());
+      }
+      for (PrivateKey key : keys) {
+        transaction.sign(key);
+      }
+    }
+    return transaction;
+  }
+
+  /**
+   * Assign a payer of the payer pool to the given transaction. The transaction is frozen and signed
+   * by the payer and the operator afterwards. The SDK only adds the signature of the operator if
+   * the operator pays for the transaction, but the operator key is still required by transactions
+   * that use it as admin key, for example the key of a created file.
+   *
+   * @return {@code true} if a payer has been assigned, {@code false} if the transaction is paid by
+   *     the operator account or has already been frozen
+   */
+  private <T extends Transaction<T>> boolean assignPayer(
+      @NonNull final Transaction<T> transaction) {
+    final PayerPool pool = hieroContext.getPayerPool().orElse(null);
+    if (pool == null || transaction.isFrozen()) {
+      // a transaction that has been frozen by sign(...) keeps its payer and must not advance the
+      // selection of the pool a second time
+      return false;
+    }
+    // removed payers do not complete transactions and are therefore re-checked here
+    pool.getInactivePayersDueForBalanceCheck().forEach(id -> checkPayerBalance(pool, id));
+    final Optional<Account> payer = pool.select();
+    if (payer.isEmpty()) {
+      return false;
+    }
+    transaction.setTransactionId(TransactionId.generate(payer.get().accountId()));
+    transaction.freezeWith(hieroContext.getClient());
+    transaction.sign(payer.get().privateKey());
+    transaction.signWithOperator(hieroContext.getClient());
+    return true;
+  }
+
+  /**
+   * Send the given transaction to the consensus nodes that are selected by the node health
+   * tracking. Does nothing if no node health is set or the transaction has already been frozen.
+   */
+  private <T extends Transaction<T>> void assignNodes(@NonNull final Transaction<T> transaction) {
+    final NodeHealth health = nodeHealth.get();
+    if (health == null) {
+      return;
+    }
+    final List<AccountId> nodes =
+        health.selectNodes(hieroContext.getClient().getNetwork().values());
+    try {
+      transaction.setNodeAccountIds(nodes);
+    } catch (final IllegalStateException e) {
+      // the transaction has already been frozen by sign(...) and keeps its nodes
+    }
+  }
+
+  private void nodeSubmitted(@NonNull final AccountId nodeId, final long startNanos) {
+    final NodeHealth health = nodeHealth.get();
+    if (health != null) {
+      health.recordSubmit(nodeId, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+  }
+
+  private void nodeReceived(@NonNull final AccountId nodeId, final long startNanos) {
+    final NodeHealth health = nodeHealth.get();
+    if (health != null) {
+      health.recordReceipt(nodeId, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+  }
+
+  /**
+   * Record a failure of the given node if the error is caused by the node and not by the
+   * transaction, like a timeout or a busy node.
+   */
+  private void nodeFailed(@Nullable final AccountId nodeId, @NonNull final Throwable error) {
+    final NodeHealth health = nodeHealth.get();
+    if (health == null || nodeId == null) {
+      return;
+    }
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheckStatusException) {
+        if (AdaptiveThrottle.THROTTLE_STATUSES.contains(precheckStatusException.status)) {
+          health.recordFailure(nodeId);
+        }
+        return;
+      }
+      if (current instanceof ReceiptStatusException) {
+        return;
+      }
+      current = current.getCause();
+    }
+    health.recordFailure(nodeId);
+  }
+
+  /**
+   * Returns the node a frozen transaction is sent to first. A failed submission is attributed to
+   * that node since the SDK does not expose the node of a failed attempt.
+   */
+  @Nullable
+  private static <T extends Transaction<T>> AccountId firstNode(
+      @NonNull final Transaction<T> transaction) {
+    final List<AccountId> nodes = transaction.getNodeAccountIds();
+    return nodes == null || nodes.isEmpty() ? null : nodes.get(0);
+  }
+
+  /**
+   * Returns the transaction that is submitted. Without idempotency key the nodes and the payer are
+   * assigned to the given transaction. With an idempotency key the transaction that is stored under
+   * the key is returned. If no transaction is stored, the given transaction is frozen, signed and
+   * stored under the key before it is returned.
+   */
+  @NonNull
+  @SuppressWarnings("unchecked")
+  private <T extends Transaction<T>> T prepare(
+      @NonNull final T transaction, @Nullable final String idempotencyKey) throws Exception {
+    final IdempotencyStore store = idempotencyStore.get();
+    if (store == null || idempotencyKey == null) {
+      assignNodes(transaction);
+      assignPayer(transaction);
+      return transaction;
+    }
+    IdempotencyStore.Entry entry = store.get(idempotencyKey).orElse(null);
+    if (entry == null) {
+      assignNodes(transaction);
+      assignPayer(transaction);
+      freezeAndSign(transaction);
+      entry =
+          store.putIfAbsent(idempotencyKey, transaction.getTransactionId(), transaction.toBytes());
+      if (entry.transactionId().equals(transaction.getTransactionId())) {
+        return transaction;
+      }
+    }
+    final Transaction<?> stored = Transaction.fromBytes(entry.transactionBytes());
+    if (stored.getClass() != transaction.getClass()) {
+      throw new HieroException(
+          "Idempotency key '"
+              + idempotencyKey
+              + "' is already used for a transaction of type "
+              + stored.getClass().getSimpleName());
+    }
+    log.debug(
+        "Submitting transaction '{}' of idempotency key '{}' again",
+        entry.transactionId(),
+        idempotencyKey);
+    return (T) stored;
+  }
+
+  /**
+   * Freeze the given transaction if it has not been frozen yet and sign it by the operator, so that
+   * its bytes are the bytes that are submitted. The SDK must not regenerate the id of the
+   * transaction since the transaction would be submitted with another id than the stored one.
+   */
+  private <T extends Transaction<T>> void freezeAndSign(@NonNull final Transaction<T> transaction) {
+    try {
+      // fails if the transaction has already been frozen by sign(...) or assignPayer(...)
+      transaction.setTransactionValidDuration(transaction.getTransactionValidDuration());
+      transaction.setRegenerateTransactionId(false);
+      transaction.freezeWith(hieroContext.getClient());
+    } catch (final IllegalStateException e) {
+      // the transaction keeps its id and nodes
+    }
+    transaction.signWithOperator(hieroContext.getClient());
+  }
+
+  /**
+   * Complete a failed submission of an idempotent transaction with the receipt of the transaction
+   * if the network has rejected the submission as duplicate. The transaction has been submitted
+   * before, for example by a call that has timed out, and must not be charged again.
+   */
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> recoverDuplicate(
+      @NonNull final CompletableFuture<TransactionReceipt> receiptFuture,
+      @NonNull final T transaction,
+      @NonNull final TransactionType type,
+      @Nullable final TransactionId journaledId,
+      @Nullable final String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return receiptFuture;
+    }
+    return receiptFuture.exceptionallyCompose(
+        throwable ->
+            isDuplicate(throwable)
+                ? receiveDuplicateReceipt(transaction, type, journaledId)
+                : CompletableFuture.failedFuture(throwable));
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> receiveDuplicateReceipt(
+      @NonNull final T transaction,
+      @NonNull final TransactionType type,
+      @Nullable final TransactionId journaledId) {
+    final TransactionId transactionId = transaction.getTransactionId();
+    log.debug("Transaction '{}' has already been submitted, waiting for receipt", transactionId);
+    return transactionId
+        .getReceiptAsync(hieroContext.getClient())
+        .whenComplete((receipt, throwable) -> journalCompleted(journaledId, receipt, throwable))
+        .thenApply(
+            receipt -> {
+              notifyHandled(type, transactionId, receipt.status);
+              return receipt;
+            });
+  }
+
+  private static boolean isDuplicate(@NonNull final Throwable throwable) {
+    Throwable current = throwable;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheckStatusException) {
+        return precheckStatusException.status == Status.DUPLICATE_TRANSACTION;
+      }
+      current = current.getCause();
+    }
+    return false;
+  }
+
+  /**
+   * Write the given transaction to the journal. The transaction is frozen and signed by the
+   * operator, so that the journal contains the bytes that are submitted.
+   *
+   * @return a future that is completed with the id of the journaled transaction once it has been
+   *     synced to disk, or with {@code null} if no journal is set
+   */
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionId> journalSubmitted(
+      @NonNull final Transaction<T> transaction) {
+    final TransactionJournal currentJournal = journal.get();
+    if (currentJournal == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    try {
+      freezeAndSign(transaction);
+      final TransactionId transactionId = transaction.getTransactionId();
+      return currentJournal
+          .recordSubmittedAsync(transactionId, transaction.toBytes())
+          .thenApply(ignore -> transactionId);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(new HieroException("Failed to journal transaction", e));
+    }
+  }
+
+  /**
+   * Mark a journaled transaction as completed if it has reached a final status. A transaction whose
+   * submission or receipt failed without a final status, for example because of a timeout, stays
+   * unfinished in the journal.
+   */
+  private void journalCompleted(
+      @Nullable final TransactionId journaledId,
+      @Nullable final TransactionReceipt receipt,
+      @Nullable final Throwable error) {
+    final TransactionJournal currentJournal = journal.get();
+    if (currentJournal == null || journaledId == null) {
+      return;
+    }
+    final Status status = receipt != null ? receipt.status : finalStatus(error);
+    if (status != null) {
+      currentJournal.recordCompleted(journaledId, status);
+    }
+  }
+
+  @Nullable
+  private static Status finalStatus(@Nullable final Throwable error) {
+    Throwable current = error;
+    while (current != null) {
+      if (current instanceof ReceiptStatusException receiptStatusException) {
+        return receiptStatusException.receipt.status;
+      }
+      if (current instanceof PrecheckStatusException precheckStatusException) {
+        // a duplicate means that an earlier submission of the transaction has been accepted
+        return precheckStatusException.status == Status.DUPLICATE_TRANSACTION
+            ? null
+            : precheckStatusException.status;
+      }
+      current = current.getCause();
+    }
+    return null;
+  }
+
+  private void payerSubmitted(@NonNull final TransactionId transactionId) {
+    final AccountId payer = transactionId.accountId;
+    if (payer != null) {
+      hieroContext.getPayerPool().ifPresent(pool -> pool.onSubmitted(payer));
+    }
+  }
+
+  private void payerCompleted(@NonNull final TransactionId transactionId) {
+    final AccountId payer = transactionId.accountId;
+    if (payer == null) {
+      return;
+    }
+    hieroContext
+        .getPayerPool()
+        .filter(pool -> pool.contains(payer))
+        .ifPresent(
+            pool -> {
+              pool.onCompleted(payer);
+              if (pool.isBalanceCheckDue(payer)) {
+                checkPayerBalance(pool, payer);
+              }
+            });
+  }
+
+  private void checkPayerBalance(@NonNull final PayerPool pool, @NonNull final AccountId payer) {
+    try {
+      new AccountBalanceQuery()
+          .setAccountId(payer)
+          .executeAsync(hieroContext.getClient())
+          .whenComplete(
+              (balance, throwable) -> {
+                if (throwable != null) {
+                  log.warn("Failed to check balance of payer {}", payer, throwable);
+                } else {
+                  pool.updateBalance(payer, balance.hbars);
+                }
+              });
+    } catch (final Exception e) {
+      log.warn("Failed to check balance of payer {}", payer, e);
+    }
+  }
+
+  @NonNull
+  private ContractFunctionParameters createParameters(
+      @NonNull final List<ContractParam<?>> params) {
+    Objects.requireNonNull(params, "params must not be null");
+    final ContractFunctionParameters constructorParams = new ContractFunctionParameters();
+    final Consumer<ContractParam> consumer =
+        param -> param.supplier().addParamToFunctionParameters(param.value(), constructorParams);
+    params.forEach(consumer);
+    return constructorParams;
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionReceipt executeTransactionAndWaitOnReceipt(
+      @NonNull final T transaction, @NonNull final TransactionType type) throws HieroException {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+    final TransactionBulkhead currentBulkhead = bulkhead.get();
+    if (currentBulkhead == null) {
+      return scheduleTransactionAndWaitOnReceipt(transaction, type);
+    }
+    currentBulkhead.acquire(type);
+    try {
+      return scheduleTransactionAndWaitOnReceipt(transaction, type);
+    } finally {
+      currentBulkhead.release(type);
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionReceipt scheduleTransactionAndWaitOnReceipt(
+      @NonNull final T transaction, @NonNull final TransactionType type) throws HieroException {
+    final PriorityScheduler currentScheduler = scheduler.get();
+    if (currentScheduler == null) {
+      return throttleTransactionAndWaitOnReceipt(transaction, type);
+    }
+    final TransactionPriority priority = currentScheduler.resolvePriority(type);
+    final Duration queueTime = currentScheduler.acquire(priority);
+    try {
+      notifyDispatched(type, priority, queueTime);
+      return throttleTransactionAndWaitOnReceipt(transaction, type);
+    } finally {
+      currentScheduler.release();
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionReceipt throttleTransactionAndWaitOnReceipt(
+      @NonNull final T transaction, @NonNull final TransactionType type) throws HieroException {
+    final AdaptiveThrottle currentThrottle = throttle.get();
+    if (currentThrottle == null) {
+      return submitTransactionAndWaitOnReceipt(transaction, type);
+    }
+    currentThrottle.acquire(type);
+    try {
+      final TransactionReceipt receipt = submitTransactionAndWaitOnReceipt(transaction, type);
+      currentThrottle.onResult(type, null);
+      return receipt;
+    } catch (final HieroException e) {
+      currentThrottle.onResult(type, e);
+      throw e;
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionReceipt submitTransactionAndWaitOnReceipt(
+      @NonNull final T newTransaction, @NonNull final TransactionType type) throws HieroException {
+    // the idempotency key is bound to the calling thread and must be claimed before the transaction
+    // is sent on the blocking executor of the context
+    final String idempotencyKey = IdempotencyStore.claimKey().orElse(null);
+    return runBlocking(() -> sendTransactionAndWaitOnReceipt(newTransaction, type, idempotencyKey));
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionReceipt sendTransactionAndWaitOnReceipt(
+      @NonNull final T newTransaction,
+      @NonNull final TransactionType type,
+      @Nullable final String idempotencyKey)
+      throws HieroException {
+    try {
+      log.debug("Sending transaction of type {}", newTransaction.getClass().getSimpleName());
+      final T transaction = prepare(newTransaction, idempotencyKey);
+      final TransactionId journaledId = journalSubmitted(transaction).join();
+      final long submitStart = System.nanoTime();
+      final TransactionResponse response;
+      try {
+        response = transaction.execute(hieroContext.getClient());
+      } catch (final Exception e) {
+        nodeFailed(firstNode(transaction), e);
+        if (idempotencyKey != null && isDuplicate(e)) {
+          return receiveDuplicateReceipt(transaction, type, journaledId).join();
+        }
+        journalCompleted(journaledId, null, e);
+        throw e;
+      }
+      nodeSubmitted(response.nodeId, submitStart);
+      notifySubmitted(type, response.transactionId);
+      payerSubmitted(response.transactionId);
+      try {
+        log.debug(
+            "Waiting for receipt of transaction '{}' of type {}",
+            response.transactionId,
+            transaction.getClass().getSimpleName());
+        final long receiptStart = System.nanoTime();
+        final TransactionReceipt receipt = response.getReceipt(hieroContext.getClient());
+        nodeReceived(response.nodeId, receiptStart);
+        journalCompleted(journaledId, receipt, null);
+        notifyHandled(type, response.transactionId, receipt.status);
+        return receipt;
+      } catch (Exception e) {
+        nodeFailed(response.nodeId, e);
+        journalCompleted(journaledId, null, e);
+        throw new HieroException(
+            "Failed to receive receipt of transaction '"
+                + response.transactionId
+                + "' of type "
+                + transaction.getClass(),
+            e);
+      } finally {
+        payerCompleted(response.transactionId);
+      }
+    } catch (final Exception e) {
+      throw new HieroException(
+          "Failed to execute transaction of type " + newTransaction.getClass().getSimpleName(), e);
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionRecord executeTransactionAndWaitOnRecord(
+      @NonNull final T transaction, @NonNull final TransactionType type) throws HieroException {
+    final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction, type);
+    return runBlocking(() -> receiveRecord(transaction, receipt));
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> TransactionRecord receiveRecord(
+      @NonNull final T transaction, @NonNull final TransactionReceipt receipt)
+      throws HieroException {
+    try {
+      log.debug(
+          "Waiting for record of transaction '{}' of type {}",
+          receipt.transactionId,
+          transaction.getClass().getSimpleName());
+
+      final ReceiveRecordHandler data =
+          new ReceiveRecordHandler(
+              transaction, receipt, r -> r.transactionId.getRecord(hieroContext.getClient()));
+      return recordInterceptor.get().getRecordFor(data);
+    } catch (final Exception e) {
+      throw new HieroException(
+          "Failed to receive record of transaction '"
+              + receipt.transactionId
+              + "' of type "
+              + transaction.getClass(),
+          e);
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> executeTransactionAsync(
+      @NonNull final TransactionFactory<T> factory, @NonNull final TransactionType type) {
+    Objects.requireNonNull(factory, "factory must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+    // the priority must be resolved on the calling thread
+    final PriorityScheduler currentScheduler = scheduler.get();
+    final TransactionPriority priority =
+        currentScheduler != null ? currentScheduler.resolvePriority(type) : null;
+    final String idempotencyKey = IdempotencyStore.claimKey().orElse(null);
+    final TransactionBulkhead currentBulkhead = bulkhead.get();
+    if (currentBulkhead == null) {
+      return scheduleTransactionAsync(factory, type, currentScheduler, priority, idempotencyKey);
+    }
+    return currentBulkhead
+        .acquireAsync(type)
+        .thenCompose(
+            ignore ->
+                scheduleTransactionAsync(factory, type, currentScheduler, priority, idempotencyKey)
+                    .whenComplete((receipt, throwable) -> currentBulkhead.release(type)));
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> scheduleTransactionAsync(
+      @NonNull final TransactionFactory<T> factory,
+      @NonNull final TransactionType type,
+      @Nullable final PriorityScheduler currentScheduler,
+      @Nullable final TransactionPriority priority,
+      @Nullable final String idempotencyKey) {
+    if (currentScheduler == null || priority == null) {
+      return throttleTransactionAsync(factory, type, idempotencyKey);
+    }
+    return currentScheduler
+        .acquireAsync(priority)
+        .thenCompose(
+            queueTime -> {
+              notifyDispatched(type, priority, queueTime);
+              return throttleTransactionAsync(factory, type, idempotencyKey)
+                  .whenComplete((receipt, throwable) -> currentScheduler.release());
+            });
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> throttleTransactionAsync(
+      @NonNull final TransactionFactory<T> factory,
+      @NonNull final TransactionType type,
+      @Nullable final String idempotencyKey) {
+    final AdaptiveThrottle currentThrottle = throttle.get();
+    if (currentThrottle == null) {
+      return submitTransactionAsync(factory, type, idempotencyKey);
+    }
+    return currentThrottle
+        .acquireAsync(type)
+        .thenCompose(ignore -> submitTransactionAsync(factory, type, idempotencyKey))
+        .whenComplete((receipt, throwable) -> currentThrottle.onResult(type, throwable));
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> submitTransactionAsync(
+      @NonNull final TransactionFactory<T> factory,
+      @NonNull final TransactionType type,
+      @Nullable final String idempotencyKey) {
+    try {
+      final T transaction = prepare(factory.create(), idempotencyKey);
+      final String transactionName = transaction.getClass().getSimpleName();
+      log.debug("Sending transaction of type {} asynchronously", transactionName);
+      if (journal.get() == null) {
+        return sendTransactionAsync(transaction, type, null, idempotencyKey);
+      }
+      return wrapFailure(
+          journalSubmitted(transaction)
+              .thenCompose(
+                  journaledId ->
+                      sendTransactionAsync(transaction, type, journaledId, idempotencyKey)),
+          "Failed to execute transaction of type " + transactionName);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(
+          new HieroException("Failed to execute transaction of type " + type, e));
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionReceipt> sendTransactionAsync(
+      @NonNull final T transaction,
+      @NonNull final TransactionType type,
+      @Nullable final TransactionId journaledId,
+      @Nullable final String idempotencyKey) {
+    final String transactionName = transaction.getClass().getSimpleName();
+    try {
+      final ReceiptPoller poller = receiptPoller.get();
+      if (poller != null) {
+        final AtomicReference<TransactionResponse> submitted = new AtomicReference<>();
+        final long submitStart = System.nanoTime();
+        final AtomicLong receiptStart = new AtomicLong();
+        final CompletableFuture<TransactionReceipt> receiptFuture =
+            poller
+                .submit(
+                    transaction,
+                    response -> {
+                      submitted.set(response);
+                      nodeSubmitted(response.nodeId, submitStart);
+                      receiptStart.set(System.nanoTime());
+                      notifySubmitted(type, response.transactionId);
+                      payerSubmitted(response.transactionId);
+                    })
+                .whenComplete(
+                    (receipt, throwable) -> {
+                      final TransactionResponse response = submitted.get();
+                      if (response == null) {
+                        // a transaction that has been rejected by the poller without a cause, for
+                        // example because too many transactions are in flight, never reached a node
+                        if (throwable != null && throwable.getCause() != null) {
+                          nodeFailed(firstNode(transaction), throwable);
+                        }
+                      } else {
+                        payerCompleted(response.transactionId);
+                        if (throwable != null) {
+                          nodeFailed(response.nodeId, throwable);
+                        } else {
+                          nodeReceived(response.nodeId, receiptStart.get());
+                        }
+                      }
+                      journalCompleted(journaledId, receipt, throwable);
+                    })
+                .thenApply(
+                    receipt -> {
+                      notifyHandled(type, receipt.transactionId, receipt.status);
+                      try {
+                        // fails with a ReceiptStatusException like the receipt query of the SDK
+                        return receipt.validateStatus(true);
+                      } catch (final ReceiptStatusException e) {
+                        throw new CompletionException(
+                            new HieroException(
+                                "Transaction '"
+                                    + receipt.transactionId
+                                    + "' failed with status "
+                                    + receipt.status,
+                                e));
+                      }
+                    });
+        return wrapFailure(
+            recoverDuplicate(receiptFuture, transaction, type, journaledId, idempotencyKey),
+            "Failed to execute transaction of type " + transactionName);
+      }
+      final long submitStart = System.nanoTime();
+      final CompletableFuture<TransactionReceipt> receiptFuture =
+          transaction
+              .executeAsync(hieroContext.getClient())
+              .whenComplete(
+                  (response, throwable) -> {
+                    if (throwable != null) {
+                      nodeFailed(firstNode(transaction), throwable);
+                      journalCompleted(journaledId, null, throwable);
+                    } else {
+                      nodeSubmitted(response.nodeId, submitStart);
+                    }
+                  })
+              .thenCompose(
+                  response -> {
+                    notifySubmitted(type, response.transactionId);
+                    payerSubmitted(response.transactionId);
+                    final long receiptStart = System.nanoTime();
+                    return response
+                        .getReceiptAsync(hieroContext.getClient())
+                        .whenComplete(
+                            (receipt, throwable) -> {
+                              payerCompleted(response.transactionId);
+                              journalCompleted(journaledId, receipt, throwable);
+                              if (throwable != null) {
+                                nodeFailed(response.nodeId, throwable);
+                              } else {
+                                nodeReceived(response.nodeId, receiptStart);
+                              }
+                            })
+                        .thenApply(
+                            receipt -> {
+                              notifyHandled(type, response.transactionId, receipt.status);
+                              return receipt;
+                            });
+                  });
+      return wrapFailure(
+          recoverDuplicate(receiptFuture, transaction, type, journaledId, idempotencyKey),
+          "Failed to execute transaction of type " + transactionName);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(
+          new HieroException("Failed to execute transaction of type " + type, e));
+    }
+  }
+
+  @NonNull
+  private <T extends Transaction<T>> LazyRecord lazyRecord(
+      @NonNull final T transaction,
+      @NonNull final TransactionReceipt receipt,
+      @NonNull final RecordPolicy policy) {
+    if (policy == RecordPolicy.RECEIPT_ONLY) {
+      return LazyRecord.unavailable(receipt.transactionId);
+    }
+    return LazyRecord.of(
+        receipt.transactionId, () -> runBlocking(() -> receiveRecord(transaction, receipt)));
+  }
+
+  @NonNull
+  private <T extends Transaction<T>>
+      CompletableFuture<TransactionRecord> executeTransactionAndReceiveRecordAsync(
+          @NonNull final TransactionFactory<T> factory, @NonNull final TransactionType type) {
+    final AtomicReference<T> created = new AtomicReference<>();
+    return executeTransactionAsync(capturing(factory, created), type)
+        .thenCompose(receipt -> receiveRecordAsync(created.get(), receipt));
+  }
+
+  /**
+   * Receive the record of the given transaction by the {@link ReceiveRecordInterceptor}. The
+   * interceptor only supports blocking calls and is therefore called on a virtual thread and not on
+   * the thread of the SDK that has completed the receipt.
+   */
+  @NonNull
+  private <T extends Transaction<T>> CompletableFuture<TransactionRecord> receiveRecordAsync(
+      @NonNull final T transaction, @NonNull final TransactionReceipt receipt) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return receiveRecord(transaction, receipt);
+          } catch (final HieroException e) {
+            throw new CompletionException(e);
+          }
+        },
+        RECORD_EXECUTOR);
+  }
+
+  /**
+   * Returns a factory that stores the transaction it creates in the given reference, so that the
+   * transaction is available once its receipt has been received.
+   */
+  @NonNull
+  private static <T extends Transaction<T>> TransactionFactory<T> capturing(
+      @NonNull final TransactionFactory<T> factory, @NonNull final AtomicReference<T> created) {
+    return () -> {
+      final T transaction = factory.create();
+      created.set(transaction);
+      return transaction;
+    };
+  }
+
+  @NonNull
+  private <R, Q extends Query<R, Q>> R executeQueryAndWait(@NonNull final Supplier<Q> factory)
+      throws HieroException {
+    Objects.requireNonNull(factory, "factory must not be null");
+    if (queryHedging.get() != null) {
+      return awaitQuery(executeQueryAsync(factory));
+    }
+    return runBlocking(
+        () -> {
+          try {
+            final Q query = factory.get();
+            log.debug("Sending query of type {}", query.getClass().getSimpleName());
+            return query.execute(hieroContext.getClient());
+          } catch (Exception e) {
+            throw new HieroException("Failed to execute query", e);
+          }
+        });
+  }
+
+  /**
+   * Run the given blocking network call on the blocking executor of the context and wait for its
+   * result. The call runs directly on the calling thread if the context has no blocking executor or
+   * the calling thread is a virtual thread.
+   *
+   * @see org.hiero.base.config.ExecutionMode#VIRTUAL_THREADS
+   */
+  private <R> R runBlocking(@NonNull final BlockingCall<R> call) throws HieroException {
+    final Executor executor = hieroContext.getBlockingExecutor().orElse(null);
+    if (executor == null || Thread.currentThread().isVirtual()) {
+      return call.call();
+    }
+    final CompletableFuture<R> result = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              result.complete(call.call());
+            } catch (final Throwable t) {
+              result.completeExceptionally(t);
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      throw new HieroException("Blocking executor of the context is closed", e);
+    }
+    try {
+      return result.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while waiting for blocking call", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof HieroException hieroException) {
+        throw hieroException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new HieroException("Failed to execute blocking call", cause);
+    }
+  }
+
+  @NonNull
+  private <R, Q extends Query<R, Q>> CompletableFuture<R> executeQueryAsync(
+      @NonNull final Supplier<Q> factory) {
+    Objects.requireNonNull(factory, "factory must not be null");
+    try {
+      final QueryHedging hedging = queryHedging.get();
+      if (hedging != null) {
+        final List<AccountId> nodes = queryNodes();
+        if (!nodes.isEmpty()) {
+          return wrapFailure(
+              hedging.execute(
+                  nodes,
+                  node -> {
+                    final Q query = factory.get();
+                    log.debug(
+                        "Sending query of type {} to node {}",
+                        query.getClass().getSimpleName(),
+                        node);
+                    return query
+                        .setNodeAccountIds(preferNode(node, nodes))
+                        .executeAsync(hieroContext.getClient());
+                  }),
+              "Failed to execute query");
+        }
+      }
+      final Q query = factory.get();
+      log.debug("Sending query of type {} asynchronously", query.getClass().getSimpleName());
+      return wrapFailure(query.executeAsync(hieroContext.getClient()), "Failed to execute query");
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(new HieroException("Failed to execute query", e));
+    }
+  }
+
+  @NonNull
+  private <R, Q extends Query<R, Q>> R executePricedQueryAndWait(
+      @NonNull final Supplier<Q> factory,
+      @NonNull final QueryRequest request,
+      @NonNull final String queryType,
+      @Nullable final Long size,
+      @NonNull final ToLongFunction<R> sizeOf)
+      throws HieroException {
+    if (queryCostCache.get() == null || request.queryPayment() != null) {
+      return executeQueryAndWait(factory);
+    }
+    return awaitQuery(executePricedQueryAsync(factory, request, queryType, size, sizeOf));
+  }
+
+  /**
+   * Execute a paid query with a payment that is taken from the query cost cache. If no cost is
+   * cached, the cost is requested from the network and cached by the size of the answer. If the
+   * network rejects a cached payment as insufficient, the cached cost is invalidated and the query
+   * is executed again with a cost query of the SDK.
+   *
+   * @param size the size of the queried data or {@code null} if the size is not known
+   * @param sizeOf function that returns the size of the queried data from the answer
+   */
+  @NonNull
+  private <R, Q extends Query<R, Q>> CompletableFuture<R> executePricedQueryAsync(
+      @NonNull final Supplier<Q> factory,
+      @NonNull final QueryRequest request,
+      @NonNull final String queryType,
+      @Nullable final Long size,
+      @NonNull final ToLongFunction<R> sizeOf) {
+    final QueryCostCache cache = queryCostCache.get();
+    if (cache == null || request.queryPayment() != null) {
+      return executeQueryAsync(factory);
+    }
+    try {
+      final Hbar maxQueryPayment =
+          Optional.ofNullable(request.maxQueryPayment())
+              .orElseGet(() -> hieroContext.getClient().getDefaultMaxQueryPayment());
+      final QueryCostCache.Key key = size == null ? null : QueryCostCache.key(queryType, size);
+      final Optional<Hbar> cachedPayment =
+          key == null ? Optional.empty() : cache.getPayment(key, maxQueryPayment);
+      if (cachedPayment.isPresent()) {
+        return this.<R, Q>executeQueryAsync(
+                () -> factory.get().setQueryPayment(cachedPayment.get()))
+            .exceptionallyCompose(
+                throwable -> {
+                  if (!isInsufficientPayment(throwable)) {
+                    return CompletableFuture.failedFuture(throwable);
+                  }
+                  log.debug("Cached cost of {} is outdated, requesting cost", queryType);
+                  cache.invalidate(key);
+                  return executeQueryAsync(factory);
+                });
+      }
+      final CompletableFuture<R> result =
+          factory
+              .get()
+              .getCostAsync(hieroContext.getClient())
+              .thenCompose(
+                  cost -> {
+                    final Optional<Hbar> payment = cache.toPayment(cost, maxQueryPayment);
+                    if (payment.isEmpty()) {
+                      // the SDK fails with the cost and the maximum payment
+                      return executeQueryAsync(factory);
+                    }
+                    return this.<R, Q>executeQueryAsync(
+                            () -> factory.get().setQueryPayment(payment.get()))
+                        .thenApply(
+                            answer -> {
+                              cache.recordCost(
+                                  QueryCostCache.key(queryType, sizeOf.applyAsLong(answer)), cost);
+                              return answer;
+                            });
+                  });
+      return wrapFailure(result, "Failed to execute query");
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(new HieroException("Failed to execute query", e));
+    }
+  }
+
+  @Nullable
+  private Long knownFileSize(@NonNull final FileId fileId) {
+    final QueryCostCache cache = queryCostCache.get();
+    return cache == null ? null : cache.getFileSize(fileId).orElse(null);
+  }
+
+  private void recordFileSize(@NonNull final FileId fileId, final long size) {
+    final QueryCostCache cache = queryCostCache.get();
+    if (cache != null) {
+      cache.recordFileSize(fileId, size);
+    }
+  }
+
+  private static boolean isInsufficientPayment(@NonNull final Throwable throwable) {
+    Throwable current = throwable;
+    while (current != null) {
+      if (current instanceof PrecheckStatusException precheckStatusException) {
+        return precheckStatusException.status == Status.INSUFFICIENT_TX_FEE;
+      }
+      current = current.getCause();
+    }
+    return false;
+  }
+
+  @NonNull
+  private static <R> R awaitQuery(@NonNull final CompletableFuture<R> future)
+      throws HieroException {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof HieroException hieroException) {
+        throw hieroException;
+      }
+      throw new HieroException("Failed to execute query", e.getCause());
+    }
+  }
+
+  /**
+   * Returns the nodes a hedged query can be sent to, ordered by preference. The first two nodes are
+   * the nodes of the query and its hedge, the others are used by the SDK if a node fails. The nodes
+   * are taken from the node health tracking if available, otherwise the nodes of the network are
+   * used in random order.
+   */
+  @NonNull
+  private List<AccountId> queryNodes() {
+    final Collection<AccountId> network = hieroContext.getClient().getNetwork().values();
+    final NodeHealth health = nodeHealth.get();
+    final List<AccountId> nodes;
+    if (health != null) {
+      nodes = health.selectNodes(network);
+    } else {
+      final List<AccountId> shuffled = new ArrayList<>(new LinkedHashSet<>(network));
+      Collections.shuffle(shuffled, ThreadLocalRandom.current());
+      nodes = shuffled;
+    }
+    return nodes;
+  }
+
+  /**
+   * Returns the given nodes with the preferred node first. The SDK sends a query to the first node
+   * and falls back to the other nodes if that node fails.
+   */
+  @NonNull
+  private static List<AccountId> preferNode(
+      @NonNull final AccountId preferred, @NonNull final List<AccountId> nodes) {
+    final List<AccountId> ordered = new ArrayList<>(nodes.size());
+    ordered.add(preferred);
+    nodes.stream().filter(node -> !node.equals(preferred)).forEach(ordered::add);
+    return ordered;
+  }
+
+  @NonNull
+  private static <R> CompletableFuture<R> wrapFailure(
+      @NonNull final CompletableFuture<R> future, @NonNull final String message) {
+    return future.handle(
+        (result, throwable) -> {
+          if (throwable == null) {
+            return result;
+          }
+          final Throwable cause =
+              throwable instanceof CompletionException && throwable.getCause() != null
+                  ? throwable.getCause()
+                  : throwable;
+          if (cause instanceof HieroException) {
+            throw new CompletionException(cause);
+          }
+          throw new CompletionException(new HieroException(message, cause));
+        });
+  }
+
+  private void notifyDispatched(
+      @NonNull final TransactionType type,
+      @NonNull final TransactionPriority priority,
+      @NonNull final Duration queueTime) {
+    notifyListeners(listener -> listener.transactionDispatched(type, priority, queueTime));
+  }
+
+  private void notifySubmitted(
+      @NonNull final TransactionType type, @NonNull final TransactionId transactionId) {
+    notifyListeners(listener -> listener.transactionSubmitted(type, transactionId));
+  }
+
+  private void notifyHandled(
+      @NonNull final TransactionType type,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status) {
+    notifyListeners(listener -> listener.transactionHandled(type, transactionId, status));
+  }
+
+  private void notifyListeners(@NonNull final Consumer<TransactionListener> event) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+    final ListenerDispatcher dispatcher = listenerDispatcher.get();
+    if (dispatcher == null) {
+      callListeners(event);
+    } else {
+      dispatcher.publish(() -> callListeners(event));
+    }
+  }
+
+  private void callListeners(@NonNull final Consumer<TransactionListener> event) {
+    listeners.forEach(
+        listener -> {
+          try {
+            event.accept(listener);
+          } catch (Exception e) {
+            log.error("Failed to notify listener", e);
+          }
+        });
+  }
+
+  @NonNull
+  @Override
+  public Runnable addTransactionListener(@NonNull TransactionListener listener) {
+    listeners.add(listener);
+    return () -> listeners.remove(listener);
+  }
+
+  @Override
+  public AccountId getOperatorAccountId() {
     return hieroContext.getOperatorAccount().accountId();
   }
+
+  /**
+   * Factory that creates a transaction. Used by the asynchronous calls so that a failure while
+   * creating or signing a transaction completes the returned future instead of being thrown.
+   *
+   * @param <T> the type of the transaction
+   */
+  @FunctionalInterface
+  private interface TransactionFactory<T extends Transaction<T>> {
+
+    @NonNull T create() throws Exception;
+  }
+
+  @FunctionalInterface
+  private interface BlockingCall<R> {
+
+    R call() throws HieroException;
+  }
 }
@@ -0,0 +1,240 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Cache of the costs of paid queries. Without an explicit query payment the SDK asks the network
+ * for the cost before every paid query, which doubles the round-trips. With this cache the cost is
+ * only requested once per query type and size bucket and the query is sent with an explicit payment
+ * afterwards.
+ *
+ * <p>The cost of a file query depends on the size of the file, so costs are cached per power of two
+ * bucket of the size and the sizes of the queried files are remembered. The highest observed cost
+ * of a bucket is used, optionally raised by a headroom for small fee changes. Entries expire after
+ * a time to live, so that changes of the fee schedule are picked up. A query that is rejected
+ * because of an insufficient payment invalidates the entry.
+ */
+public class QueryCostCache {
+
+  private final Settings settings;
+
+  private final Map<Key, Entry> costs = new ConcurrentHashMap<>();
+
+  private final Map<FileId, Long> fileSizes = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  private final AtomicLong fallbacks = new AtomicLong();
+
+  public QueryCostCache() {
+    this(Settings.DEFAULT);
+  }
+
+  public QueryCostCache(@NonNull final Settings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+  }
+
+  /**
+   * Returns the key for a query of the given type that reads data of the given size.
+   *
+   * @param queryType the type of the query
+   * @param size the size of the data in bytes
+   * @return the key
+   */
+  @NonNull
+  public static Key key(@NonNull final String queryType, final long size) {
+    Objects.requireNonNull(queryType, "queryType must not be null");
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative");
+    }
+    final long bucket = size <= 1 ? size : Long.highestOneBit(size - 1) << 1;
+    return new Key(queryType, bucket);
+  }
+
+  /**
+   * Returns the payment for a query with the given key.
+   *
+   * @param key the key of the query
+   * @param maxQueryPayment the maximum payment
+   * @return the payment or an empty optional if no cost is cached or the payment would exceed the
+   *     maximum payment
+   */
+  @NonNull
+  public Optional<Hbar> getPayment(@NonNull final Key key, @NonNull final Hbar maxQueryPayment) {
+    Objects.requireNonNull(key, "key must not be null");
+    final Entry entry = costs.get(key);
+    if (entry == null || System.nanoTime() - entry.expiresAtNanos() > 0) {
+      misses.incrementAndGet();
+      return Optional.empty();
+    }
+    final Optional<Hbar> payment = toPayment(Hbar.fromTinybars(entry.tinybars()), maxQueryPayment);
+    if (payment.isEmpty()) {
+      misses.incrementAndGet();
+    } else {
+      hits.incrementAndGet();
+    }
+    return payment;
+  }
+
+  /**
+   * Returns the payment for a query with the given cost. The payment is the cost raised by the
+   * headroom and capped at the maximum payment.
+   *
+   * @param cost the cost of the query
+   * @param maxQueryPayment the maximum payment
+   * @return the payment or an empty optional if the cost exceeds the maximum payment
+   */
+  @NonNull
+  public Optional<Hbar> toPayment(@NonNull final Hbar cost, @NonNull final Hbar maxQueryPayment) {
+    Objects.requireNonNull(cost, "cost must not be null");
+    Objects.requireNonNull(maxQueryPayment, "maxQueryPayment must not be null");
+    final long costTinybars = cost.toTinybars();
+    final long maxTinybars = maxQueryPayment.toTinybars();
+    if (costTinybars > maxTinybars) {
+      return Optional.empty();
+    }
+    final long payment = (long) Math.ceil(costTinybars * settings.headroom());
+    return Optional.of(Hbar.fromTinybars(Math.min(payment, maxTinybars)));
+  }
+
+  /**
+   * Record the cost that the network has reported for a query with the given key.
+   *
+   * @param key the key of the query
+   * @param cost the cost
+   */
+  public void recordCost(@NonNull final Key key, @NonNull final Hbar cost) {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(cost, "cost must not be null");
+    final long now = System.nanoTime();
+    final long expiresAt = now + settings.timeToLive().toNanos();
+    if (costs.size() >= settings.maxEntries() && !costs.containsKey(key)) {
+      costs.clear();
+    }
+    costs.merge(
+        key,
+        new Entry(cost.toTinybars(), expiresAt),
+        (current, update) ->
+            now - current.expiresAtNanos() > 0
+                ? update
+                : new Entry(Math.max(current.tinybars(), update.tinybars()), expiresAt));
+  }
+
+  /**
+   * Remove the cached cost of a query with the given key, for example after the network has
+   * rejected a payment as insufficient.
+   *
+   * @param key the key of the query
+   */
+  public void invalidate(@NonNull final Key key) {
+    Objects.requireNonNull(key, "key must not be null");
+    costs.remove(key);
+    fallbacks.incrementAndGet();
+  }
+
+  /**
+   * Returns the last known size of the given file.
+   *
+   * @param fileId the file
+   * @return the size in bytes or an empty optional if the size is not known
+   */
+  @NonNull
+  public Optional<Long> getFileSize(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    return Optional.ofNullable(fileSizes.get(fileId));
+  }
+
+  /**
+   * Record the size of the given file.
+   *
+   * @param fileId the file
+   * @param size the size in bytes
+   */
+  public void recordFileSize(@NonNull final FileId fileId, final long size) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    if (fileSizes.size() >= settings.maxEntries() && !fileSizes.containsKey(fileId)) {
+      fileSizes.clear();
+    }
+    fileSizes.put(fileId, size);
+  }
+
+  /**
+   * Returns the number of queries that have been sent with a cached payment.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of queries without a usable cached cost.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of cached costs that have been invalidated because of an insufficient
+   * payment.
+   *
+   * @return the number of fallbacks
+   */
+  public long getFallbackCount() {
+    return fallbacks.get();
+  }
+
+  /**
+   * Key of a cached query cost.
+   *
+   * @param queryType the type of the query
+   * @param sizeBucket the power of two bucket of the size of the queried data
+   */
+  public record Key(@NonNull String queryType, long sizeBucket) {
+
+    public Key {
+      Objects.requireNonNull(queryType, "queryType must not be null");
+    }
+  }
+
+  /**
+   * Settings of the cache.
+   *
+   * @param timeToLive the time after which a cached cost is requested again
+   * @param headroom the factor the cached cost is raised by, at least 1. A query payment is not
+   *     refunded, so every query pays the headroom
+   * @param maxEntries the maximum number of cached costs and file sizes
+   */
+  public record Settings(@NonNull Duration timeToLive, double headroom, int maxEntries) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT = new Settings(Duration.ofMinutes(10), 1.0, 4_096);
+
+    public Settings {
+      Objects.requireNonNull(timeToLive, "timeToLive must not be null");
+      if (timeToLive.isNegative() || timeToLive.isZero()) {
+        throw new IllegalArgumentException("timeToLive must be positive");
+      }
+      if (headroom < 1) {
+        throw new IllegalArgumentException("headroom must be at least 1");
+      }
+      if (maxEntries <= 0) {
+        throw new IllegalArgumentException("maxEntries must be greater than 0");
+      }
+    }
+  }
+
+  private record Entry(long tinybars, long expiresAtNanos) {}
+}
@@ -0,0 +1,267 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Hedging policy for queries. A query is sent to a first node. If that node has not answered within
+ * the hedge delay, a duplicate of the query is sent to a second node and the first answer wins. The
+ * hedge delay is the configured percentile of the recently observed query latencies, bounded by a
+ * minimum and a maximum delay.
+ *
+ * <p>Hedges are limited by a budget: every query earns {@code budget} hedge tokens, every hedge
+ * consumes one token. With a budget of 0.05 at most 5% extra queries are sent on average. Queries
+ * that are paid are paid twice if they are hedged.
+ */
+public class QueryHedging {
+
+  /** Number of latency samples that are kept to compute the hedge delay. */
+  private static final int SAMPLE_SIZE = 256;
+
+  /** Number of new samples after which the hedge delay is computed again. */
+  private static final int RECOMPUTE_INTERVAL = 32;
+
+  /** Maximum number of hedge tokens that can be saved up for a burst of slow queries. */
+  private static final long MAX_TOKENS = 10;
+
+  /** Resolution of the hedge tokens. */
+  private static final long TOKEN_UNIT = 1_000_000;
+
+  private final Settings settings;
+
+  private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+
+  private final AtomicLong sampleCount = new AtomicLong();
+
+  private final AtomicLong delayNanos;
+
+  private final AtomicLong tokens = new AtomicLong();
+
+  private final AtomicLong queries = new AtomicLong();
+
+  private final AtomicLong hedges = new AtomicLong();
+
+  private final AtomicLong hedgeWins = new AtomicLong();
+
+  private final AtomicLong hedgeLosses = new AtomicLong();
+
+  private final AtomicLong budgetExhausted = new AtomicLong();
+
+  public QueryHedging() {
+    this(Settings.DEFAULT);
+  }
+
+  public QueryHedging(@NonNull final Settings settings) {
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.delayNanos = new AtomicLong(settings.maxDelay().toNanos());
+  }
+
+  /**
+   * Execute a query. The query is sent to the first of the given nodes and, if the hedge delay has
+   * passed without an answer and the budget allows it, to the second node.
+   *
+   * @param nodes the nodes ordered by preference, a query is only hedged if at least two nodes are
+   *     given
+   * @param call the call that sends the query to the given node, the call can use the other nodes
+   *     as fallbacks if the given node fails
+   * @return a future that is completed with the first answer or fails if all sent queries failed
+   * @param <R> the type of the answer
+   */
+  @NonNull
+  public <R> CompletableFuture<R> execute(
+      @NonNull final List<AccountId> nodes,
+      @NonNull final Function<AccountId, CompletableFuture<R>> call) {
+    Objects.requireNonNull(nodes, "nodes must not be null");
+    Objects.requireNonNull(call, "call must not be null");
+    if (nodes.isEmpty()) {
+      throw new IllegalArgumentException("nodes must not be empty");
+    }
+    queries.incrementAndGet();
+    addTokens();
+    final CompletableFuture<R> result = new CompletableFuture<>();
+    final AtomicInteger pending = new AtomicInteger(1);
+    final AtomicBoolean hedged = new AtomicBoolean(false);
+    send(call, nodes.get(0), result, pending, hedged, false);
+    if (nodes.size() > 1) {
+      CompletableFuture.runAsync(
+          () -> {
+            if (result.isDone()) {
+              return;
+            }
+            if (!tryConsumeToken()) {
+              budgetExhausted.incrementAndGet();
+              return;
+            }
+            hedges.incrementAndGet();
+            hedged.set(true);
+            pending.incrementAndGet();
+            send(call, nodes.get(1), result, pending, hedged, true);
+          },
+          CompletableFuture.delayedExecutor(delayNanos.get(), TimeUnit.NANOSECONDS));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the current hedge delay.
+   *
+   * @return the hedge delay
+   */
+  @NonNull
+  public Duration getHedgeDelay() {
+    return Duration.ofNanos(delayNanos.get());
+  }
+
+  /**
+   * Returns the number of executed queries.
+   *
+   * @return the number of queries
+   */
+  public long getQueryCount() {
+    return queries.get();
+  }
+
+  /**
+   * Returns the number of hedges that have been sent.
+   *
+   * @return the number of hedges
+   */
+  public long getHedgeCount() {
+    return hedges.get();
+  }
+
+  /**
+   * Returns the number of hedged queries that have been answered first by the hedge.
+   *
+   * @return the number of won hedges
+   */
+  public long getHedgeWinCount() {
+    return hedgeWins.get();
+  }
+
+  /**
+   * Returns the number of hedged queries that have been answered first by the first node.
+   *
+   * @return the number of lost hedges
+   */
+  public long getHedgeLossCount() {
+    return hedgeLosses.get();
+  }
+
+  /**
+   * Returns the number of hedges that have not been sent because the budget was exhausted.
+   *
+   * @return the number of skipped hedges
+   */
+  public long getBudgetExhaustedCount() {
+    return budgetExhausted.get();
+  }
+
+  private <R> void send(
+      @NonNull final Function<AccountId, CompletableFuture<R>> call,
+      @NonNull final AccountId node,
+      @NonNull final CompletableFuture<R> result,
+      @NonNull final AtomicInteger pending,
+      @NonNull final AtomicBoolean hedged,
+      final boolean hedge) {
+    final long start = System.nanoTime();
+    CompletableFuture<R> future;
+    try {
+      future = Objects.requireNonNull(call.apply(node), "call must not return null");
+    } catch (final Exception e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    future.whenComplete(
+        (answer, throwable) -> {
+          if (throwable == null) {
+            recordLatency(System.nanoTime() - start);
+            if (result.complete(answer)) {
+              if (hedge) {
+                hedgeWins.incrementAndGet();
+              } else if (hedged.get()) {
+                hedgeLosses.incrementAndGet();
+              }
+            }
+          } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable);
+          }
+        });
+  }
+
+  private void recordLatency(final long nanos) {
+    final long count = sampleCount.getAndIncrement();
+    samples.set((int) (count % SAMPLE_SIZE), nanos);
+    if ((count + 1) % RECOMPUTE_INTERVAL == 0) {
+      final int size = (int) Math.min(count + 1, SAMPLE_SIZE);
+      final long[] copy = new long[size];
+      for (int i = 0; i < size; i++) {
+        copy[i] = samples.get(i);
+      }
+      Arrays.sort(copy);
+      final int index = (int) Math.min(size - 1, Math.ceil(settings.percentile() * size) - 1);
+      final long delay =
+          Math.max(
+              settings.minDelay().toNanos(),
+              Math.min(settings.maxDelay().toNanos(), copy[Math.max(0, index)]));
+      delayNanos.set(delay);
+    }
+  }
+
+  private void addTokens() {
+    final long earned = (long) (settings.budget() * TOKEN_UNIT);
+    tokens.getAndUpdate(current -> Math.min(MAX_TOKENS * TOKEN_UNIT, current + earned));
+  }
+
+  private boolean tryConsumeToken() {
+    while (true) {
+      final long current = tokens.get();
+      if (current < TOKEN_UNIT) {
+        return false;
+      }
+      if (tokens.compareAndSet(current, current - TOKEN_UNIT)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Settings of the hedging policy.
+   *
+   * @param percentile the percentile of the observed latencies that is used as hedge delay
+   * @param minDelay the minimum hedge delay
+   * @param maxDelay the maximum hedge delay, also used until enough latencies have been observed
+   * @param budget the ratio of extra queries that may be sent as hedges, between 0 and 1
+   */
+  public record Settings(
+      double percentile, @NonNull Duration minDelay, @NonNull Duration maxDelay, double budget) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT =
+        new Settings(0.95, Duration.ofMillis(20), Duration.ofSeconds(2), 0.05);
+
+    public Settings {
+      Objects.requireNonNull(minDelay, "minDelay must not be null");
+      Objects.requireNonNull(maxDelay, "maxDelay must not be null");
+      if (percentile <= 0 || percentile > 1) {
+        throw new IllegalArgumentException("percentile must be in (0, 1]");
+      }
+      if (minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+        throw new IllegalArgumentException("delays must satisfy 0 <= minDelay <= maxDelay");
+      }
+      if (budget < 0 || budget > 1) {
+        throw new IllegalArgumentException("budget must be between 0 and 1");
+      }
+    }
+  }
+}
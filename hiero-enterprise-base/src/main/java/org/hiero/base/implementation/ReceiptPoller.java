@@ -0,0 +1,463 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
+import com.hedera.hashgraph.sdk.TransactionResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.hiero.base.HieroContext;
+import org.hiero.base.HieroException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Central tracker for transaction receipts. Instead of blocking one thread per submitted
+ * transaction while waiting for its receipt, all in-flight transaction ids are registered at this
+ * poller and a single scheduler thread queries their receipts in a fixed cadence. While the receipt
+ * of a transaction is not available, the delay until its next query is doubled up to {@link
+ * Settings#maxPollInterval()}. The receipt of a transaction is provided by the future that is
+ * returned when the transaction id is registered.
+ */
+public class ReceiptPoller implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ReceiptPoller.class);
+
+  private final HieroContext hieroContext;
+
+  private final Settings settings;
+
+  private final ReceiptSource receiptSource;
+
+  private final Semaphore inFlight;
+
+  private final Map<TransactionId, PendingReceipt> pending = new ConcurrentHashMap<>();
+
+  private final ScheduledExecutorService scheduler;
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  public ReceiptPoller(@NonNull final HieroContext hieroContext) {
+    this(hieroContext, Settings.DEFAULT);
+  }
+
+  public ReceiptPoller(@NonNull final HieroContext hieroContext, @NonNull final Settings settings) {
+    this(hieroContext, settings, null);
+  }
+
+  /**
+   * Creates a poller that queries the receipts from the given source instead of the network of the
+   * context. The context is still used to submit transactions.
+   *
+   * @param hieroContext the context
+   * @param settings the settings
+   * @param receiptSource the source of the receipts or {@code null} to query the network
+   */
+  public ReceiptPoller(
+      @NonNull final HieroContext hieroContext,
+      @NonNull final Settings settings,
+      @Nullable final ReceiptSource receiptSource) {
+    this.hieroContext = Objects.requireNonNull(hieroContext, "hieroContext must not be null");
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.receiptSource = receiptSource != null ? receiptSource : this::queryReceipt;
+    this.inFlight = new Semaphore(settings.maxInFlight());
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "hiero-receipt-poller");
+              thread.setDaemon(true);
+              return thread;
+            });
+    final long intervalMillis = settings.pollInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Submit a transaction and track its receipt. The transaction is frozen if it has not been frozen
+   * yet, so that its id is returned directly without waiting for the submission. The SDK does not
+   * regenerate the id of the transaction, so that the returned id stays the id of the submitted
+   * transaction. A failed submission fails the receipt future of the returned submission.
+   *
+   * @param transaction the transaction to submit
+   * @return the id of the transaction and the future of its receipt
+   */
+  @NonNull
+  public Submission submit(@NonNull final Transaction<?> transaction) {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+    if (!transaction.isFrozen()) {
+      transaction.freezeWith(hieroContext.getClient());
+    }
+    transaction.setRegenerateTransactionId(false);
+    final TransactionId transactionId = transaction.getTransactionId();
+    return new Submission(transactionId, submit(transaction, response -> {}));
+  }
+
+  /**
+   * Submit a transaction and track its receipt. The transaction is only submitted if the maximum
+   * number of in-flight transactions is not reached.
+   *
+   * @param transaction the transaction to submit
+   * @param onSubmitted callback that is called with the response of the node once the transaction
+   *     has been submitted
+   * @return a future that is completed with the receipt of the transaction
+   */
+  @NonNull
+  public CompletableFuture<TransactionReceipt> submit(
+      @NonNull final Transaction<?> transaction,
+      @NonNull final Consumer<TransactionResponse> onSubmitted) {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+    Objects.requireNonNull(onSubmitted, "onSubmitted must not be null");
+    if (!tryAcquire()) {
+      return CompletableFuture.failedFuture(createCapacityException());
+    }
+    final CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+    try {
+      transaction
+          .executeAsync(hieroContext.getClient())
+          .whenComplete(
+              (response, throwable) -> {
+                if (throwable != null) {
+                  inFlight.release();
+                  result.completeExceptionally(
+                      new HieroException(
+                          "Failed to execute transaction of type "
+                              + transaction.getClass().getSimpleName(),
+                          unwrap(throwable)));
+                  return;
+                }
+                onSubmitted.accept(response);
+                register(response.transactionId, result);
+              });
+    } catch (final Exception e) {
+      inFlight.release();
+      result.completeExceptionally(
+          new HieroException(
+              "Failed to execute transaction of type " + transaction.getClass().getSimpleName(),
+              e));
+    }
+    return result;
+  }
+
+  /**
+   * Track the receipt of an already submitted transaction.
+   *
+   * @param transactionId the id of the transaction
+   * @return a future that is completed with the receipt of the transaction
+   */
+  @NonNull
+  public CompletableFuture<TransactionReceipt> track(@NonNull final TransactionId transactionId) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    if (!tryAcquire()) {
+      return CompletableFuture.failedFuture(createCapacityException());
+    }
+    final CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+    register(transactionId, result);
+    return result;
+  }
+
+  /**
+   * Returns the number of transactions whose receipt has not been received yet.
+   *
+   * @return the number of in-flight transactions
+   */
+  public int getInFlightCount() {
+    return settings.maxInFlight() - inFlight.availablePermits();
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      scheduler.shutdownNow();
+      pending.forEach(
+          (transactionId, pendingReceipt) ->
+              complete(
+                  transactionId,
+                  pendingReceipt,
+                  null,
+                  new HieroException(
+                      "Receipt poller closed before receipt of transaction '"
+                          + transactionId
+                          + "' was received")));
+    }
+  }
+
+  private boolean tryAcquire() {
+    return !closed.get() && inFlight.tryAcquire();
+  }
+
+  @NonNull
+  private HieroException createCapacityException() {
+    if (closed.get()) {
+      return new HieroException("Receipt poller is closed");
+    }
+    return new HieroException(
+        "Maximum of " + settings.maxInFlight() + " in-flight transactions reached");
+  }
+
+  private void register(
+      @NonNull final TransactionId transactionId,
+      @NonNull final CompletableFuture<TransactionReceipt> result) {
+    final Instant now = Instant.now();
+    final PendingReceipt pendingReceipt =
+        new PendingReceipt(result, now.plus(settings.timeout()), now.plus(settings.pollInterval()));
+    if (pending.putIfAbsent(transactionId, pendingReceipt) != null) {
+      inFlight.release();
+      result.completeExceptionally(
+          new HieroException("Transaction '" + transactionId + "' is already tracked"));
+      return;
+    }
+    // a submission that completes while the poller is closed must not stay pending forever
+    if (closed.get()) {
+      complete(
+          transactionId,
+          pendingReceipt,
+          null,
+          new HieroException(
+              "Receipt poller closed before receipt of transaction '"
+                  + transactionId
+                  + "' was received"));
+    }
+  }
+
+  private void poll() {
+    final Instant now = Instant.now();
+    pending.forEach(
+        (transactionId, pendingReceipt) -> {
+          if (now.isAfter(pendingReceipt.deadline())) {
+            complete(
+                transactionId,
+                pendingReceipt,
+                null,
+                new HieroException(
+                    "Timeout while waiting for receipt of transaction '" + transactionId + "'"));
+          } else if (!now.isBefore(pendingReceipt.nextPoll())
+              && pendingReceipt.polling().compareAndSet(false, true)) {
+            query(transactionId, pendingReceipt);
+          }
+        });
+  }
+
+  private void query(
+      @NonNull final TransactionId transactionId, @NonNull final PendingReceipt pendingReceipt) {
+    try {
+      receiptSource
+          .getReceipt(transactionId)
+          .whenComplete(
+              (receipt, throwable) -> {
+                if (throwable != null) {
+                  final Throwable cause = unwrap(throwable);
+                  if (cause instanceof MaxAttemptsExceededException) {
+                    log.trace("Receipt of transaction '{}' not available yet", transactionId);
+                    pendingReceipt.backOff(settings);
+                  } else {
+                    complete(
+                        transactionId,
+                        pendingReceipt,
+                        null,
+                        new HieroException(
+                            "Failed to receive receipt of transaction '" + transactionId + "'",
+                            cause));
+                  }
+                } else if (receipt.status != Status.UNKNOWN) {
+                  complete(transactionId, pendingReceipt, receipt, null);
+                } else {
+                  pendingReceipt.backOff(settings);
+                }
+              });
+    } catch (final Exception e) {
+      pendingReceipt.polling().set(false);
+      complete(
+          transactionId,
+          pendingReceipt,
+          null,
+          new HieroException(
+              "Failed to receive receipt of transaction '" + transactionId + "'", e));
+    }
+  }
+
+  @NonNull
+  private CompletableFuture<TransactionReceipt> queryReceipt(
+      @NonNull final TransactionId transactionId) {
+    return new TransactionReceiptQuery()
+        .setTransactionId(transactionId)
+        .setMaxAttempts(1)
+        .executeAsync(hieroContext.getClient());
+  }
+
+  private void complete(
+      @NonNull final TransactionId transactionId,
+      @NonNull final PendingReceipt pendingReceipt,
+      final TransactionReceipt receipt,
+      final Throwable throwable) {
+    if (pending.remove(transactionId, pendingReceipt)) {
+      inFlight.release();
+      if (throwable != null) {
+        pendingReceipt.result().completeExceptionally(throwable);
+      } else {
+        pendingReceipt.result().complete(receipt);
+      }
+    }
+  }
+
+  @NonNull
+  private static Throwable unwrap(@NonNull final Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  private static final class PendingReceipt {
+
+    private final CompletableFuture<TransactionReceipt> result;
+
+    private final Instant deadline;
+
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+
+    private volatile Instant nextPoll;
+
+    private volatile Duration delay;
+
+    PendingReceipt(
+        @NonNull final CompletableFuture<TransactionReceipt> result,
+        @NonNull final Instant deadline,
+        @NonNull final Instant nextPoll) {
+      this.result = result;
+      this.deadline = deadline;
+      this.nextPoll = nextPoll;
+    }
+
+    @NonNull
+    CompletableFuture<TransactionReceipt> result() {
+      return result;
+    }
+
+    @NonNull
+    Instant deadline() {
+      return deadline;
+    }
+
+    @NonNull
+    AtomicBoolean polling() {
+      return polling;
+    }
+
+    @NonNull
+    Instant nextPoll() {
+      return nextPoll;
+    }
+
+    /**
+     * Doubles the delay until the next query of the receipt, up to the maximum poll interval, and
+     * allows the next query afterwards.
+     */
+    void backOff(@NonNull final Settings settings) {
+      final Duration current = delay == null ? settings.pollInterval() : delay.multipliedBy(2);
+      delay =
+          current.compareTo(settings.maxPollInterval()) > 0 ? settings.maxPollInterval() : current;
+      nextPoll = Instant.now().plus(delay);
+      polling.set(false);
+    }
+  }
+
+  /**
+   * A transaction that has been submitted by {@link #submit(Transaction)}.
+   *
+   * @param transactionId the id of the transaction
+   * @param receipt the future that is completed with the receipt of the transaction
+   */
+  public record Submission(
+      @NonNull TransactionId transactionId,
+      @NonNull CompletableFuture<TransactionReceipt> receipt) {
+
+    public Submission {
+      Objects.requireNonNull(transactionId, "transactionId must not be null");
+      Objects.requireNonNull(receipt, "receipt must not be null");
+    }
+  }
+
+  /** Source of the receipts that are polled by a {@link ReceiptPoller}. */
+  @FunctionalInterface
+  public interface ReceiptSource {
+
+    /**
+     * Returns the receipt of the given transaction. The future fails with a {@link
+     * MaxAttemptsExceededException} or is completed with a receipt of status {@link Status#UNKNOWN}
+     * if the receipt is not available yet.
+     *
+     * @param transactionId the id of the transaction
+     * @return a future that is completed with the receipt
+     */
+    @NonNull
+    CompletableFuture<TransactionReceipt> getReceipt(@NonNull TransactionId transactionId);
+  }
+
+  /**
+   * Settings of a {@link ReceiptPoller}.
+   *
+   * @param pollInterval the delay between two polling rounds
+   * @param timeout the maximum time to wait for the receipt of a transaction
+   * @param maxInFlight the maximum number of transactions that can be tracked at the same time
+   * @param maxPollInterval the maximum delay between two queries of the receipt of a transaction
+   */
+  public record Settings(
+      @NonNull Duration pollInterval,
+      @NonNull Duration timeout,
+      int maxInFlight,
+      @NonNull Duration maxPollInterval) {
+
+    /** Default settings. */
+    public static final Settings DEFAULT =
+        new Settings(Duration.ofMillis(250), Duration.ofMinutes(2), 10_000, Duration.ofSeconds(2));
+
+    public Settings {
+      Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+      Objects.requireNonNull(timeout, "timeout must not be null");
+      if (pollInterval.isNegative() || pollInterval.isZero()) {
+        throw new IllegalArgumentException("pollInterval must be positive");
+      }
+      if (timeout.isNegative() || timeout.isZero()) {
+        throw new IllegalArgumentException("timeout must be positive");
+      }
+      if (maxInFlight <= 0) {
+        throw new IllegalArgumentException("maxInFlight must be greater than 0");
+      }
+      Objects.requireNonNull(maxPollInterval, "maxPollInterval must not be null");
+      if (maxPollInterval.compareTo(pollInterval) < 0) {
+        throw new IllegalArgumentException("maxPollInterval must not be less than pollInterval");
+      }
+    }
+
+    /**
+     * Creates settings that query the receipt of every transaction in the fixed poll interval.
+     *
+     * @param pollInterval the delay between two polling rounds
+     * @param timeout the maximum time to wait for the receipt of a transaction
+     * @param maxInFlight the maximum number of transactions that can be tracked at the same time
+     */
+    public Settings(
+        @NonNull final Duration pollInterval,
+        @NonNull final Duration timeout,
+        final int maxInFlight) {
+      this(pollInterval, timeout, maxInFlight, pollInterval);
+    }
+  }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import org.hiero.base.FileClient;
 import org.hiero.base.HieroException;
 import org.hiero.base.SmartContractClient;
@@ -29,6 +30,8 @@ public class SmartContractClientImpl implements SmartContractClient {
 
   private final FileClient fileClient;
 
+  private final AtomicReference<FileRegistry> fileRegistry = new AtomicReference<>();
+
   public SmartContractClientImpl(
       @NonNull final ProtocolLayerClient protocolLayerClient, FileClient fileClient) {
     this.protocolLayerClient =
@@ -36,6 +39,17 @@ public class SmartContractClientImpl implements SmartContractClient {
     this.fileClient = Objects.requireNonNull(fileClient, "fileClient must not be null");
   }
 
+  /**
+   * Set the registry of the file client. A bytecode file that is registered is kept after the
+   * contract has been created, so that the next deploy of the same bytecode reuses the file. The
+   * file client must use the same registry.
+   *
+   * @param fileRegistry the registry or {@code null} to delete every bytecode file after the deploy
+   */
+  public void setFileRegistry(@Nullable final FileRegistry fileRegistry) {
+    this.fileRegistry.set(fileRegistry);
+  }
+
   @NonNull
   @Override
   public ContractId createContract(
@@ -64,7 +78,12 @@ public class SmartContractClientImpl implements SmartContractClient {
     try {
       final FileId fileId = fileClient.createFile(contents);
       final ContractId contract = createContract(fileId, constructorParams);
-      fileClient.deleteFile(fileId);
+      final FileRegistry registry = fileRegistry.get();
+      if (registry != null && registry.contains(fileId)) {
+        log.debug("Keeping registered bytecode file {}", fileId);
+      } else {
+        fileClient.deleteFile(fileId);
+      }
       return contract;
     } catch (Exception e) {
       throw new HieroException("Failed to create contract out of byte array", e);
@@ -95,6 +114,9 @@ public class SmartContractClientImpl implements SmartContractClient {
       final ContractCallRequest request = ContractCallRequest.of(contractId, functionName, params);
       final ContractFunctionResult result =
           protocolLayerClient.executeContractCallTransaction(request).contractFunctionResult();
+      if (result == null) {
+        throw new HieroException("The record of the contract call is not available");
+      }
       return new ContractCallResultImpl(result);
     } catch (Exception e) {
       throw new HieroException(
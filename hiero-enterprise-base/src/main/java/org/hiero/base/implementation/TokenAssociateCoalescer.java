@@ -0,0 +1,306 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.data.TokenAssociateRequest;
+import org.hiero.base.protocol.data.TokenAssociateResult;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects token associate requests for the same account within a short time window and submits
+ * them as one {@code TokenAssociateTransaction} that contains all token ids. All callers whose
+ * requests have been merged are completed with the result of that shared transaction. If the
+ * shared transaction fails, every request of the batch is executed again on its own, so that one
+ * invalid or already associated token does not fail the requests of other callers.
+ *
+ * <p>Requests are only merged if they are for the same account, are signed with the same key and
+ * use the same transaction fee and valid duration.
+ */
+public class TokenAssociateCoalescer implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(TokenAssociateCoalescer.class);
+
+  /** Default time window in which requests are collected. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(20);
+
+  /** Default maximum number of token ids in one merged transaction. */
+  public static final int DEFAULT_MAX_TOKENS_PER_TRANSACTION = 100;
+
+  private final Duration window;
+
+  private final int maxTokensPerTransaction;
+
+  private final Map<BatchKey, Batch> pending = new ConcurrentHashMap<>();
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  public TokenAssociateCoalescer() {
+    this(DEFAULT_WINDOW, DEFAULT_MAX_TOKENS_PER_TRANSACTION);
+  }
+
+  public TokenAssociateCoalescer(
+      @NonNull final Duration window, final int maxTokensPerTransaction) {
+    this.window = Objects.requireNonNull(window, "window must not be null");
+    if (window.isNegative()) {
+      throw new IllegalArgumentException("window must not be negative");
+    }
+    if (maxTokensPerTransaction <= 0) {
+      throw new IllegalArgumentException("maxTokensPerTransaction must be greater than 0");
+    }
+    this.maxTokensPerTransaction = maxTokensPerTransaction;
+  }
+
+  /**
+   * Add a request to the current batch of its account. The batch is submitted by calling the given
+   * function once the time window of the batch has elapsed or the batch is full.
+   *
+   * @param request the request
+   * @param function the function that executes the merged request
+   * @return a future that is completed with the result of the merged transaction, or with the
+   *     result of the request on its own if the merged transaction failed
+   */
+  @NonNull
+  public CompletableFuture<TokenAssociateResult> submit(
+      @NonNull final TokenAssociateRequest request, @NonNull final AssociateFunction function) {
+    Objects.requireNonNull(request, "request must not be null");
+    Objects.requireNonNull(function, "function must not be null");
+    if (closed.get()) {
+      return CompletableFuture.failedFuture(createClosedException());
+    }
+    final Entry entry = new Entry(request, new CompletableFuture<>());
+    if (request.tokenIds().size() >= maxTokensPerTransaction) {
+      executeSeparately(entry, function);
+      return entry.result();
+    }
+    final BatchKey key = BatchKey.of(request);
+    final Batch[] created = new Batch[1];
+    final Batch[] replaced = new Batch[1];
+    final Batch[] full = new Batch[1];
+    final Batch batch =
+        pending.compute(
+            key,
+            (k, existing) -> {
+              if (existing != null) {
+                if (existing.tryAdd(entry, maxTokensPerTransaction)) {
+                  if (existing.size() >= maxTokensPerTransaction) {
+                    full[0] = existing;
+                  }
+                  return existing;
+                }
+                replaced[0] = existing;
+              }
+              created[0] = new Batch(entry);
+              return created[0];
+            });
+    if (replaced[0] != null) {
+      // the replaced batch is no longer pending and must be submitted directly
+      submit(key, replaced[0], function);
+    }
+    if (full[0] != null && pending.remove(key, full[0])) {
+      submit(key, full[0], function);
+    }
+    if (closed.get() && pending.remove(key, batch)) {
+      // close() has drained the pending batches concurrently and would not see this batch
+      batch.fail(createClosedException());
+      return entry.result();
+    }
+    if (created[0] != null) {
+      CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS)
+          .execute(
+              () -> {
+                if (pending.remove(key, created[0])) {
+                  submit(key, created[0], function);
+                }
+              });
+    }
+    return entry.result();
+  }
+
+  private void submit(
+      @NonNull final BatchKey key,
+      @NonNull final Batch batch,
+      @NonNull final AssociateFunction function) {
+    final TokenAssociateRequest merged =
+        new TokenAssociateRequest(
+            key.maxTransactionFee(),
+            key.transactionValidDuration(),
+            batch.tokenIds(),
+            key.accountId(),
+            batch.accountPrivateKey());
+    log.debug(
+        "Submitting merged associate transaction for account {} with {} tokens",
+        key.accountId(),
+        merged.tokenIds().size());
+    execute(
+        () -> {
+          final TokenAssociateResult result;
+          try {
+            result = function.execute(merged);
+          } catch (final Exception e) {
+            if (batch.entries().size() == 1) {
+              batch.fail(e);
+              return;
+            }
+            log.debug(
+                "Merged associate transaction for account {} failed, executing {} requests"
+                    + " separately",
+                key.accountId(),
+                batch.entries().size(),
+                e);
+            batch.entries().forEach(entry -> executeSeparately(entry, function));
+            return;
+          }
+          batch.entries().forEach(entry -> entry.result().complete(result));
+        },
+        batch::fail);
+  }
+
+  private void executeSeparately(
+      @NonNull final Entry entry, @NonNull final AssociateFunction function) {
+    execute(
+        () -> {
+          try {
+            entry.result().complete(function.execute(entry.request()));
+          } catch (final Exception e) {
+            entry.result().completeExceptionally(e);
+          }
+        },
+        entry.result()::completeExceptionally);
+  }
+
+  /** Run the given task on the executor or pass the failure if the executor has been closed. */
+  private void execute(
+      @NonNull final Runnable task, @NonNull final Consumer<Throwable> onFailure) {
+    try {
+      executor.execute(task);
+    } catch (final RejectedExecutionException e) {
+      onFailure.accept(createClosedException());
+    }
+  }
+
+  @NonNull
+  private static HieroException createClosedException() {
+    return new HieroException("Token associate coalescer closed before submission");
+  }
+
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    pending.forEach(
+        (key, batch) -> {
+          if (pending.remove(key, batch)) {
+            batch.fail(createClosedException());
+          }
+        });
+    executor.close();
+  }
+
+  /** Function that executes a (merged) token associate request. */
+  @FunctionalInterface
+  public interface AssociateFunction {
+
+    /**
+     * Execute the request.
+     *
+     * @param request the request
+     * @return the result
+     * @throws HieroException if the request could not be executed
+     */
+    @NonNull TokenAssociateResult execute(@NonNull TokenAssociateRequest request)
+        throws HieroException;
+  }
+
+  private record BatchKey(
+      @NonNull AccountId accountId,
+      @NonNull String publicKey,
+      @NonNull Hbar maxTransactionFee,
+      @NonNull Duration transactionValidDuration) {
+
+    static BatchKey of(@NonNull final TokenAssociateRequest request) {
+      return new BatchKey(
+          request.accountId(),
+          request.accountPrivateKey().getPublicKey().toStringDER(),
+          request.maxTransactionFee(),
+          request.transactionValidDuration());
+    }
+  }
+
+  private record Entry(
+      @NonNull TokenAssociateRequest request,
+      @NonNull CompletableFuture<TokenAssociateResult> result) {}
+
+  private static final class Batch {
+
+    private final Set<TokenId> tokenIds = new LinkedHashSet<>();
+
+    // only read after the batch has been removed from the pending batches
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final PrivateKey accountPrivateKey;
+
+    private Batch(@NonNull final Entry entry) {
+      tokenIds.addAll(entry.request().tokenIds());
+      entries.add(entry);
+      accountPrivateKey = entry.request().accountPrivateKey();
+    }
+
+    // only called inside ConcurrentHashMap.compute, which serializes access per key
+    private boolean tryAdd(@NonNull final Entry entry, final int maxTokens) {
+      final Set<TokenId> merged = new LinkedHashSet<>(tokenIds);
+      merged.addAll(entry.request().tokenIds());
+      if (merged.size() > maxTokens) {
+        return false;
+      }
+      tokenIds.addAll(entry.request().tokenIds());
+      entries.add(entry);
+      return true;
+    }
+
+    private int size() {
+      return tokenIds.size();
+    }
+
+    @NonNull
+    private List<TokenId> tokenIds() {
+      return List.copyOf(tokenIds);
+    }
+
+    @NonNull
+    private PrivateKey accountPrivateKey() {
+      return accountPrivateKey;
+    }
+
+    @NonNull
+    private List<Entry> entries() {
+      return entries;
+    }
+
+    private void fail(@NonNull final Throwable throwable) {
+      entries.forEach(entry -> entry.result().completeExceptionally(throwable));
+    }
+  }
+}
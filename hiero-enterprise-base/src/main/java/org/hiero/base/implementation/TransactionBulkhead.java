@@ -0,0 +1,269 @@
+package org.hiero.base.implementation;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.base.HieroException;
+import org.hiero.base.config.BulkheadSettings;
+import org.hiero.base.protocol.data.TransactionType;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bulkheads that bound the number of transactions that are executed at the same time per {@link
+ * TransactionType}. A burst of one type can therefore not starve the other types. Calls that find
+ * no free slot wait in a bounded queue. Calls that find the queue full are shed immediately with a
+ * {@link HieroException}, so are calls that do not get a slot within the maximum queue wait.
+ *
+ * <p>Types without configured {@link BulkheadSettings} are not limited.
+ */
+public class TransactionBulkhead {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionBulkhead.class);
+
+  private final Map<TransactionType, Compartment> compartments;
+
+  public TransactionBulkhead(@NonNull final Map<TransactionType, BulkheadSettings> settings) {
+    Objects.requireNonNull(settings, "settings must not be null");
+    final Map<TransactionType, Compartment> map = new EnumMap<>(TransactionType.class);
+    settings.forEach(
+        (type, typeSettings) -> {
+          Objects.requireNonNull(type, "type must not be null");
+          Objects.requireNonNull(typeSettings, "settings of " + type + " must not be null");
+          map.put(type, new Compartment(typeSettings));
+        });
+    this.compartments = Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Returns the transaction types that are limited by this bulkhead.
+   *
+   * @return the limited transaction types
+   */
+  @NonNull
+  public Set<TransactionType> getTransactionTypes() {
+    return compartments.keySet();
+  }
+
+  /**
+   * Wait for a free slot of the given type. Every successful call must be followed by a call of
+   * {@link #release(TransactionType)}.
+   *
+   * @param type the type of the transaction
+   * @throws HieroException if the call has been shed or the thread has been interrupted
+   */
+  public void acquire(@NonNull final TransactionType type) throws HieroException {
+    try {
+      acquireAsync(type).get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while waiting for bulkhead of type " + type, e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof HieroException hieroException) {
+        throw hieroException;
+      }
+      throw new HieroException("Failed to acquire bulkhead of type " + type, e.getCause());
+    }
+  }
+
+  /**
+   * Returns a future that is completed once a slot of the given type is free. The future fails with
+   * a {@link HieroException} if the call has been shed. Every successfully completed future must be
+   * followed by a call of {@link #release(TransactionType)}.
+   *
+   * @param type the type of the transaction
+   * @return a future that is completed once a slot is free
+   */
+  @NonNull
+  public CompletableFuture<Void> acquireAsync(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    final Compartment compartment = compartments.get(type);
+    if (compartment == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return compartment.acquire(type);
+  }
+
+  /**
+   * Release a slot of the given type.
+   *
+   * @param type the type of the transaction
+   */
+  public void release(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    final Compartment compartment = compartments.get(type);
+    if (compartment != null) {
+      compartment.release();
+    }
+  }
+
+  /**
+   * Returns the number of transactions of the given type that are currently executed.
+   *
+   * @param type the type of the transaction
+   * @return the number of in-flight transactions
+   */
+  public int getInFlightCount(@NonNull final TransactionType type) {
+    return compartment(type).map(Compartment::inFlight).orElse(0);
+  }
+
+  /**
+   * Returns the number of calls of the given type that currently wait for a free slot.
+   *
+   * @param type the type of the transaction
+   * @return the number of waiting calls
+   */
+  public int getQueueDepth(@NonNull final TransactionType type) {
+    return compartment(type).map(Compartment::queueDepth).orElse(0);
+  }
+
+  /**
+   * Returns the number of calls of the given type that had to wait for a free slot.
+   *
+   * @param type the type of the transaction
+   * @return the number of queued calls
+   */
+  public long getQueuedCount(@NonNull final TransactionType type) {
+    return compartment(type).map(c -> c.queued.get()).orElse(0L);
+  }
+
+  /**
+   * Returns the number of calls of the given type that have been shed.
+   *
+   * @param type the type of the transaction
+   * @return the number of rejected calls
+   */
+  public long getRejectedCount(@NonNull final TransactionType type) {
+    return compartment(type).map(c -> c.rejected.get()).orElse(0L);
+  }
+
+  @NonNull
+  private Optional<Compartment> compartment(@NonNull final TransactionType type) {
+    Objects.requireNonNull(type, "type must not be null");
+    return Optional.ofNullable(compartments.get(type));
+  }
+
+  private static final class Compartment {
+
+    private final BulkheadSettings settings;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private final AtomicLong queued = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private int inFlight;
+
+    private Compartment(@NonNull final BulkheadSettings settings) {
+      this.settings = settings;
+    }
+
+    @NonNull
+    private CompletableFuture<Void> acquire(@NonNull final TransactionType type) {
+      final CompletableFuture<Void> waiter;
+      lock.lock();
+      try {
+        if (inFlight < settings.maxInFlight()) {
+          inFlight++;
+          return CompletableFuture.completedFuture(null);
+        }
+        waiters.removeIf(CompletableFuture::isDone);
+        if (waiters.size() >= settings.maxQueued()) {
+          rejected.incrementAndGet();
+          log.debug("Bulkhead of type {} is full, call is rejected", type);
+          return CompletableFuture.failedFuture(
+              new HieroException(
+                  "Bulkhead of type "
+                      + type
+                      + " is full ("
+                      + settings.maxInFlight()
+                      + " in flight, "
+                      + settings.maxQueued()
+                      + " queued)"));
+        }
+        waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        queued.incrementAndGet();
+      } finally {
+        lock.unlock();
+      }
+      // a waiter that times out stays in the queue until it is skipped by release() or purged
+      return waiter
+          .orTimeout(settings.maxQueueWait().toNanos(), TimeUnit.NANOSECONDS)
+          .exceptionallyCompose(
+              throwable -> {
+                final Throwable cause =
+                    throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+                if (cause instanceof TimeoutException || cause instanceof CancellationException) {
+                  rejected.incrementAndGet();
+                  return CompletableFuture.failedFuture(
+                      new HieroException(
+                          "No free slot in bulkhead of type "
+                              + type
+                              + " within "
+                              + settings.maxQueueWait()));
+                }
+                return CompletableFuture.failedFuture(cause);
+              });
+    }
+
+    private void release() {
+      while (true) {
+        final CompletableFuture<Void> next;
+        lock.lock();
+        try {
+          next = waiters.poll();
+          if (next == null) {
+            if (inFlight > 0) {
+              inFlight--;
+            }
+            return;
+          }
+        } finally {
+          lock.unlock();
+        }
+        // the slot is handed over to the next waiter unless it has already timed out
+        if (next.complete(null)) {
+          return;
+        }
+      }
+    }
+
+    private int inFlight() {
+      lock.lock();
+      try {
+        return inFlight;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private int queueDepth() {
+      lock.lock();
+      try {
+        return (int) waiters.stream().filter(waiter -> !waiter.isDone()).count();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,699 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import org.hiero.base.HieroContext;
+import org.hiero.base.HieroException;
+import org.hiero.base.mirrornode.MirrorNodeClient;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of submitted transactions. The signed bytes of a transaction are written to
+ * the journal before the transaction is submitted and the transaction is marked as completed once
+ * its receipt has been received. If the process stops in between, the unfinished transactions are
+ * read from the journal on the next start and can be reconciled by {@link #reconcile(Resolver)}.
+ *
+ * <p>Records are written by a single writer thread that appends all records that have been queued
+ * in the meantime and syncs them to disk with one {@code fsync} (group commit). A submission only
+ * waits until the sync of its record. Completions are not synced separately since a lost completion
+ * is resolved by the reconciliation. Every record is protected by a checksum: a record that has not
+ * been written completely at the end of the journal is ignored, a corrupt record within the journal
+ * is skipped. If the records after a corruption cannot be read, the journal is not opened, so that
+ * they are not removed by the compaction. The journal only keeps unfinished transactions: it is
+ * compacted on open and whenever it exceeds the configured size.
+ */
+public class TransactionJournal implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionJournal.class);
+
+  private static final byte SUBMITTED = 1;
+
+  private static final byte COMPLETED = 2;
+
+  /** Size of the length and the checksum that precede the payload of a record. */
+  private static final int HEADER_SIZE = 8;
+
+  private static final long IDLE_POLL_MILLIS = 100;
+
+  private final Path file;
+
+  private final Settings settings;
+
+  private final Map<TransactionId, Entry> unfinished = new ConcurrentHashMap<>();
+
+  private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>();
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  private final AtomicLong records = new AtomicLong();
+
+  private final AtomicLong syncs = new AtomicLong();
+
+  private final Thread writer;
+
+  private FileChannel channel;
+
+  public TransactionJournal(@NonNull final Path file) throws HieroException {
+    this(file, Settings.DEFAULT);
+  }
+
+  public TransactionJournal(@NonNull final Path file, @NonNull final Settings settings)
+      throws HieroException {
+    this.file = Objects.requireNonNull(file, "file must not be null");
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    try {
+      if (Files.exists(file)) {
+        replay(Files.readAllBytes(file));
+      }
+      compact();
+    } catch (final IOException e) {
+      throw new HieroException("Failed to open transaction journal '" + file + "'", e);
+    }
+    if (!unfinished.isEmpty()) {
+      log.info(
+          "Transaction journal '{}' contains {} unfinished transactions", file, unfinished.size());
+    }
+    writer = new Thread(this::write, "hiero-transaction-journal");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Record that the given transaction is submitted and wait until the record has been synced to
+   * disk. The wait is bounded by the {@link Settings#writeTimeout() write timeout}.
+   *
+   * @param transactionId the id of the transaction
+   * @param transactionBytes the signed bytes of the transaction
+   * @throws HieroException if the record could not be written in time
+   */
+  public void recordSubmitted(
+      @NonNull final TransactionId transactionId, final byte @NonNull [] transactionBytes)
+      throws HieroException {
+    final CompletableFuture<Void> future = recordSubmittedAsync(transactionId, transactionBytes);
+    try {
+      future.get(settings.writeTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException e) {
+      throw new HieroException(
+          "Timed out after "
+              + settings.writeTimeout()
+              + " while journaling transaction '"
+              + transactionId
+              + "'",
+          e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HieroException("Interrupted while writing transaction journal", e);
+    } catch (final ExecutionException e) {
+      throw new HieroException(
+          "Failed to journal transaction '" + transactionId + "'", e.getCause());
+    }
+  }
+
+  /**
+   * Record that the given transaction is submitted.
+   *
+   * @param transactionId the id of the transaction
+   * @param transactionBytes the signed bytes of the transaction
+   * @return a future that is completed once the record has been synced to disk
+   */
+  @NonNull
+  public CompletableFuture<Void> recordSubmittedAsync(
+      @NonNull final TransactionId transactionId, final byte @NonNull [] transactionBytes) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    Objects.requireNonNull(transactionBytes, "transactionBytes must not be null");
+    if (closed.get()) {
+      return CompletableFuture.failedFuture(new HieroException("Transaction journal is closed"));
+    }
+    final Entry entry = new Entry(transactionId, transactionBytes.clone());
+    unfinished.put(transactionId, entry);
+    final CompletableFuture<Void> durable = new CompletableFuture<>();
+    final Write write =
+        new Write(encode(SUBMITTED, transactionId, entry.transactionBytes()), durable);
+    queue.add(write);
+    if (closed.get() && queue.remove(write)) {
+      // close() has drained the queue concurrently and would not see this write
+      unfinished.remove(transactionId, entry);
+      write.fail(new HieroException("Transaction journal closed before write"));
+    }
+    return durable;
+  }
+
+  /**
+   * Record that the given transaction has reached a final status. Does nothing if the transaction
+   * is not journaled.
+   *
+   * @param transactionId the id of the transaction
+   * @param status the final status of the transaction
+   */
+  public void recordCompleted(
+      @NonNull final TransactionId transactionId, @NonNull final Status status) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    Objects.requireNonNull(status, "status must not be null");
+    if (unfinished.remove(transactionId) != null && !closed.get()) {
+      queue.add(
+          new Write(
+              encode(COMPLETED, transactionId, status.name().getBytes(StandardCharsets.UTF_8)),
+              null));
+    }
+  }
+
+  /**
+   * Returns the transactions that have been submitted but not completed.
+   *
+   * @return the unfinished transactions
+   */
+  @NonNull
+  public List<Entry> getUnfinished() {
+    return List.copyOf(unfinished.values());
+  }
+
+  /**
+   * Returns the number of transactions that have been submitted but not completed.
+   *
+   * @return the number of unfinished transactions
+   */
+  public int getUnfinishedCount() {
+    return unfinished.size();
+  }
+
+  /**
+   * Returns the number of records that have been appended to the journal.
+   *
+   * @return the number of records
+   */
+  public long getRecordCount() {
+    return records.get();
+  }
+
+  /**
+   * Returns the number of syncs to disk. Every sync commits a group of records.
+   *
+   * @return the number of syncs
+   */
+  public long getSyncCount() {
+    return syncs.get();
+  }
+
+  /**
+   * Reconcile all unfinished transactions. Every transaction whose final status is returned by the
+   * resolver is marked as completed, all others stay in the journal.
+   *
+   * @param resolver the resolver that finds the final status of a transaction
+   * @return the results of the reconciliation, with a {@code null} status for transactions that
+   *     could not be resolved
+   */
+  @NonNull
+  public List<Reconciliation> reconcile(@NonNull final Resolver resolver) {
+    Objects.requireNonNull(resolver, "resolver must not be null");
+    final List<Reconciliation> results = new ArrayList<>();
+    for (Entry entry : getUnfinished()) {
+      Status status = null;
+      try {
+        status = resolver.resolve(entry).orElse(null);
+      } catch (final Exception e) {
+        log.warn("Failed to reconcile transaction '{}'", entry.transactionId(), e);
+      }
+      if (status != null) {
+        recordCompleted(entry.transactionId(), status);
+      }
+      results.add(new Reconciliation(entry.transactionId(), status));
+    }
+    return List.copyOf(results);
+  }
+
+  /**
+   * Returns a resolver that requests the receipt of a transaction from the network. The transaction
+   * is never submitted again. Since the network keeps receipts only for a few minutes, the resolver
+   * should be combined with {@link #mirrorNodeResolver(MirrorNodeClient)}.
+   *
+   * @param hieroContext the context that provides the client
+   * @return the resolver
+   */
+  @NonNull
+  public static Resolver receiptResolver(@NonNull final HieroContext hieroContext) {
+    Objects.requireNonNull(hieroContext, "hieroContext must not be null");
+    return entry -> queryReceipt(hieroContext, entry.transactionId());
+  }
+
+  /**
+   * Returns a resolver that requests the receipt of a transaction from the network and submits a
+   * transaction without receipt again as long as it is valid. Submitting again is safe since the
+   * network rejects a duplicate of a transaction that has already reached consensus, but it
+   * executes a transaction that has never reached the network, possibly long after the application
+   * gave up on it. The resolver must therefore only be used on purpose, the default is {@link
+   * #receiptResolver(HieroContext)}.
+   *
+   * @param hieroContext the context that provides the client
+   * @return the resolver
+   */
+  @NonNull
+  public static Resolver resubmittingResolver(@NonNull final HieroContext hieroContext) {
+    Objects.requireNonNull(hieroContext, "hieroContext must not be null");
+    return entry -> {
+      final Optional<Status> status = queryReceipt(hieroContext, entry.transactionId());
+      if (status.isPresent()) {
+        return status;
+      }
+      final Transaction<?> transaction;
+      try {
+        transaction = Transaction.fromBytes(entry.transactionBytes());
+      } catch (final Exception e) {
+        throw new HieroException(
+            "Failed to read journaled transaction '" + entry.transactionId() + "'", e);
+      }
+      if (validUntil(entry, transaction).isBefore(Instant.now())) {
+        return Optional.empty();
+      }
+      log.debug("Submitting journaled transaction '{}' again", entry.transactionId());
+      try {
+        return Optional.of(
+            transaction
+                .execute(hieroContext.getClient())
+                .getReceipt(hieroContext.getClient())
+                .status);
+      } catch (final ReceiptStatusException e) {
+        return Optional.of(e.receipt.status);
+      } catch (final PrecheckStatusException e) {
+        if (e.status == Status.DUPLICATE_TRANSACTION) {
+          return queryReceipt(hieroContext, entry.transactionId());
+        }
+        return Optional.of(e.status);
+      } catch (final Exception e) {
+        throw new HieroException(
+            "Failed to submit journaled transaction '" + entry.transactionId() + "'", e);
+      }
+    };
+  }
+
+  /**
+   * Returns a resolver that looks up the result of a transaction at the mirror node.
+   *
+   * @param mirrorNodeClient the mirror node client
+   * @return the resolver
+   */
+  @NonNull
+  public static Resolver mirrorNodeResolver(@NonNull final MirrorNodeClient mirrorNodeClient) {
+    Objects.requireNonNull(mirrorNodeClient, "mirrorNodeClient must not be null");
+    return entry -> {
+      final TransactionId transactionId = entry.transactionId();
+      final String mirrorNodeId =
+          String.format(
+              "%s-%d-%09d",
+              transactionId.accountId,
+              transactionId.validStart.getEpochSecond(),
+              transactionId.validStart.getNano());
+      return mirrorNodeClient
+          .queryTransaction(mirrorNodeId)
+          .map(
+              info -> {
+                try {
+                  return Status.valueOf(info.result());
+                } catch (final IllegalArgumentException e) {
+                  log.warn("Unknown result '{}' of transaction '{}'", info.result(), transactionId);
+                  return null;
+                }
+              });
+    };
+  }
+
+  /**
+   * Returns a resolver that resolves a transaction with {@link Status#TRANSACTION_EXPIRED} once its
+   * valid duration has ended longer than the given grace period ago. Should only be used after a
+   * resolver that can find transactions that have reached consensus, like {@link
+   * #mirrorNodeResolver(MirrorNodeClient)}.
+   *
+   * @param grace the time after the end of the valid duration
+   * @return the resolver
+   */
+  @NonNull
+  public static Resolver expiredResolver(@NonNull final Duration grace) {
+    Objects.requireNonNull(grace, "grace must not be null");
+    return entry -> {
+      final Transaction<?> transaction;
+      try {
+        transaction = Transaction.fromBytes(entry.transactionBytes());
+      } catch (final Exception e) {
+        throw new HieroException(
+            "Failed to read journaled transaction '" + entry.transactionId() + "'", e);
+      }
+      if (validUntil(entry, transaction).plus(grace).isBefore(Instant.now())) {
+        return Optional.of(Status.TRANSACTION_EXPIRED);
+      }
+      return Optional.empty();
+    };
+  }
+
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final List<Write> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    remaining.forEach(
+        write -> write.fail(new HieroException("Transaction journal closed before write")));
+    try {
+      channel.close();
+    } catch (final IOException e) {
+      log.warn("Failed to close transaction journal '{}'", file, e);
+    }
+  }
+
+  @NonNull
+  private static Optional<Status> queryReceipt(
+      @NonNull final HieroContext hieroContext, @NonNull final TransactionId transactionId)
+      throws HieroException {
+    try {
+      final TransactionReceipt receipt =
+          new TransactionReceiptQuery()
+              .setTransactionId(transactionId)
+              .setMaxAttempts(1)
+              .execute(hieroContext.getClient());
+      return receipt.status == Status.UNKNOWN ? Optional.empty() : Optional.of(receipt.status);
+    } catch (final MaxAttemptsExceededException e) {
+      return Optional.empty();
+    } catch (final PrecheckStatusException e) {
+      if (e.status == Status.RECEIPT_NOT_FOUND) {
+        return Optional.empty();
+      }
+      throw new HieroException(
+          "Failed to receive receipt of transaction '" + transactionId + "'", e);
+    } catch (final Exception e) {
+      throw new HieroException(
+          "Failed to receive receipt of transaction '" + transactionId + "'", e);
+    }
+  }
+
+  @NonNull
+  private static Instant validUntil(
+      @NonNull final Entry entry, @NonNull final Transaction<?> transaction) {
+    final Duration validDuration =
+        Optional.ofNullable(transaction.getTransactionValidDuration()).orElse(Duration.ZERO);
+    return entry.transactionId().validStart.plus(validDuration);
+  }
+
+  private void write() {
+    final List<Write> batch = new ArrayList<>();
+    while (true) {
+      final Write first;
+      try {
+        first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (first == null) {
+        if (closed.get()) {
+          return;
+        }
+        continue;
+      }
+      batch.add(first);
+      queue.drainTo(batch, settings.maxBatchSize() - 1);
+      try {
+        final ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        for (int i = 0; i < buffers.length; i++) {
+          buffers[i] = batch.get(i).record();
+        }
+        writeFully(channel, buffers);
+        channel.force(false);
+        records.addAndGet(buffers.length);
+        syncs.incrementAndGet();
+        batch.forEach(Write::complete);
+        if (channel.size() > settings.compactionThreshold()) {
+          compact();
+        }
+      } catch (final Exception e) {
+        log.error("Failed to write transaction journal '{}'", file, e);
+        batch.forEach(write -> write.fail(e));
+      }
+      batch.clear();
+    }
+  }
+
+  /**
+   * Rewrite the journal with the unfinished transactions only. Records that are still queued are
+   * appended afterwards, so a transaction can be contained twice, which is harmless on replay.
+   */
+  private void compact() throws IOException {
+    final Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+    try (FileChannel out =
+        FileChannel.open(
+            compacted,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (Entry entry : unfinished.values()) {
+        writeFully(
+            out,
+            new ByteBuffer[] {encode(SUBMITTED, entry.transactionId(), entry.transactionBytes())});
+      }
+      out.force(true);
+    }
+    if (channel != null) {
+      channel.close();
+    }
+    Files.move(
+        compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  /**
+   * Read the unfinished transactions from the given content of the journal. A record with a wrong
+   * checksum is skipped. A record whose length is invalid can only be ignored at the end of the
+   * journal, where it is the result of an incomplete write. Within the journal the following
+   * records cannot be found anymore and the replay fails, since the compaction would remove them.
+   */
+  private void replay(final byte @NonNull [] content) throws HieroException {
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    while (buffer.remaining() >= HEADER_SIZE) {
+      final int position = buffer.position();
+      final int length = buffer.getInt();
+      final int checksum = buffer.getInt();
+      if (length > buffer.remaining() || (length <= 0 && isZeroFilled(buffer))) {
+        log.warn("Ignoring incomplete record at the end of transaction journal '{}'", file);
+        return;
+      }
+      if (length <= 0) {
+        throw new HieroException(
+            "Transaction journal '"
+                + file
+                + "' is corrupt at offset "
+                + position
+                + ", the records after it cannot be read");
+      }
+      final byte[] payload = new byte[length];
+      buffer.get(payload);
+      if (checksum(payload) != checksum) {
+        log.warn(
+            "Skipping corrupt record at offset {} of transaction journal '{}'", position, file);
+        continue;
+      }
+      try {
+        final ByteBuffer record = ByteBuffer.wrap(payload);
+        final byte type = record.get();
+        final byte[] id = new byte[record.getInt()];
+        record.get(id);
+        final byte[] data = new byte[record.getInt()];
+        record.get(data);
+        final TransactionId transactionId = TransactionId.fromBytes(id);
+        if (type == SUBMITTED) {
+          unfinished.put(transactionId, new Entry(transactionId, data));
+        } else {
+          unfinished.remove(transactionId);
+        }
+      } catch (final Exception e) {
+        log.warn("Ignoring unreadable record in transaction journal '{}'", file, e);
+      }
+    }
+  }
+
+  private static boolean isZeroFilled(@NonNull final ByteBuffer buffer) {
+    for (int i = buffer.position(); i < buffer.limit(); i++) {
+      if (buffer.get(i) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @NonNull
+  private static ByteBuffer encode(
+      final byte type, @NonNull final TransactionId transactionId, final byte @NonNull [] data) {
+    final byte[] id = transactionId.toBytes();
+    final int length = 1 + 4 + id.length + 4 + data.length;
+    final ByteBuffer payload = ByteBuffer.allocate(length);
+    payload.put(type).putInt(id.length).put(id).putInt(data.length).put(data);
+    final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + length);
+    record.putInt(length).putInt(checksum(payload.array())).put(payload.array()).flip();
+    return record;
+  }
+
+  private static int checksum(final byte @NonNull [] payload) {
+    final CRC32 crc = new CRC32();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  private static void writeFully(
+      @NonNull final FileChannel channel, @NonNull final ByteBuffer[] buffers) throws IOException {
+    final ByteBuffer last = buffers[buffers.length - 1];
+    while (last.hasRemaining()) {
+      channel.write(buffers);
+    }
+  }
+
+  /**
+   * A journaled transaction.
+   *
+   * @param transactionId the id of the transaction
+   * @param transactionBytes the signed bytes of the transaction
+   */
+  public record Entry(@NonNull TransactionId transactionId, byte @NonNull [] transactionBytes) {
+
+    public Entry {
+      Objects.requireNonNull(transactionId, "transactionId must not be null");
+      Objects.requireNonNull(transactionBytes, "transactionBytes must not be null");
+    }
+  }
+
+  /**
+   * Result of the reconciliation of a transaction.
+   *
+   * @param transactionId the id of the transaction
+   * @param status the final status or {@code null} if the transaction could not be resolved
+   */
+  public record Reconciliation(@NonNull TransactionId transactionId, @Nullable Status status) {
+
+    public Reconciliation {
+      Objects.requireNonNull(transactionId, "transactionId must not be null");
+    }
+
+    /**
+     * Returns whether the final status of the transaction has been found.
+     *
+     * @return {@code true} if the transaction has been resolved
+     */
+    public boolean isResolved() {
+      return status != null;
+    }
+  }
+
+  /** Finds the final status of an unfinished transaction. */
+  @FunctionalInterface
+  public interface Resolver {
+
+    /**
+     * Find the final status of the given transaction.
+     *
+     * @param entry the journaled transaction
+     * @return the final status or an empty optional if it is not known (yet)
+     * @throws HieroException if the status could not be requested
+     */
+    @NonNull Optional<Status> resolve(@NonNull Entry entry) throws HieroException;
+
+    /**
+     * Returns a resolver that asks the given resolver if this resolver does not know the status.
+     *
+     * @param other the other resolver
+     * @return the combined resolver
+     */
+    @NonNull
+    default Resolver orElse(@NonNull final Resolver other) {
+      Objects.requireNonNull(other, "other must not be null");
+      return entry -> {
+        final Optional<Status> status = resolve(entry);
+        return status.isPresent() ? status : other.resolve(entry);
+      };
+    }
+  }
+
+  /**
+   * Settings of a {@link TransactionJournal}.
+   *
+   * @param maxBatchSize the maximum number of records that are committed with one sync
+   * @param compactionThreshold the size in bytes after which the journal is compacted
+   * @param writeTimeout the maximum time {@link #recordSubmitted(TransactionId, byte[])} waits for
+   *     the sync of its record
+   */
+  public record Settings(
+      int maxBatchSize, long compactionThreshold, @NonNull Duration writeTimeout) {
+
+    /** Default time to wait for the sync of a record. */
+    public static final Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(10);
+
+    /** Default settings. */
+    public static final Settings DEFAULT = new Settings(1_024, 64L * 1024 * 1024);
+
+    public Settings(final int maxBatchSize, final long compactionThreshold) {
+      this(maxBatchSize, compactionThreshold, DEFAULT_WRITE_TIMEOUT);
+    }
+
+    public Settings {
+      Objects.requireNonNull(writeTimeout, "writeTimeout must not be null");
+      if (maxBatchSize <= 0) {
+        throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+      }
+      if (compactionThreshold <= 0) {
+        throw new IllegalArgumentException("compactionThreshold must be greater than 0");
+      }
+      if (writeTimeout.isNegative() || writeTimeout.isZero()) {
+        throw new IllegalArgumentException("writeTimeout must be positive");
+      }
+    }
+  }
+
+  private record Write(@NonNull ByteBuffer record, @Nullable CompletableFuture<Void> durable) {
+
+    private void complete() {
+      if (durable != null) {
+        durable.complete(null);
+      }
+    }
+
+    private void fail(@NonNull final Throwable throwable) {
+      if (durable != null) {
+        durable.completeExceptionally(throwable);
+      }
+    }
+  }
+}
@@ -0,0 +1,447 @@
+package org.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.TokenTransferRequest;
+import org.hiero.base.protocol.data.TokenTransferResult;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accumulates fungible token transfers between the same pair of accounts and submits only the net
+ * balance change. Transfers are collected per token and account pair until the time window of the
+ * pair elapses or the maximum number of transfers per window is reached. Transfers in opposite
+ * directions cancel each other out, so a window might not need any transaction at all.
+ *
+ * <p>Every transfer is completed with a {@link TransferAudit} that links the original request to
+ * the net transfer that settled it. Accounts are identified by their shard, realm and number.
+ * Account ids that are given as alias or EVM address are rejected, since they cannot be matched
+ * with the numeric id of the same account without a lookup.
+ *
+ * <p>Closing the engine settles all pending windows. Transfers that are added after the engine has
+ * been closed fail with a {@link HieroException}.
+ */
+public class TransferNettingEngine implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(TransferNettingEngine.class);
+
+  /** Default time window in which transfers are accumulated. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+
+  /** Default maximum number of transfers per window. */
+  public static final int DEFAULT_MAX_TRANSFERS_PER_WINDOW = 1_000;
+
+  private final ProtocolLayerClient client;
+
+  private final Duration window;
+
+  private final int maxTransfersPerWindow;
+
+  private final Map<PairKey, NettingWindow> pending = new ConcurrentHashMap<>();
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  public TransferNettingEngine(@NonNull final ProtocolLayerClient client) {
+    this(client, DEFAULT_WINDOW, DEFAULT_MAX_TRANSFERS_PER_WINDOW);
+  }
+
+  public TransferNettingEngine(
+      @NonNull final ProtocolLayerClient client,
+      @NonNull final Duration window,
+      final int maxTransfersPerWindow) {
+    this.client = Objects.requireNonNull(client, "client must not be null");
+    this.window = Objects.requireNonNull(window, "window must not be null");
+    if (window.isNegative()) {
+      throw new IllegalArgumentException("window must not be negative");
+    }
+    if (maxTransfersPerWindow <= 0) {
+      throw new IllegalArgumentException("maxTransfersPerWindow must be greater than 0");
+    }
+    this.maxTransfersPerWindow = maxTransfersPerWindow;
+  }
+
+  /**
+   * Add a transfer to the current window of its token and account pair. The parameters match {@link
+   * org.hiero.base.FungibleTokenClient#transferToken(TokenId, AccountId, PrivateKey, AccountId,
+   * long)}, so the engine can be used in front of the client for high rate transfers.
+   *
+   * @param tokenId the ID of the token
+   * @param fromAccountId the ID of the account that holds the token
+   * @param fromAccountKey the private key of the account that holds the token
+   * @param toAccountId the ID of the account that should receive the token
+   * @param amount the value of token to transfer
+   * @return a future that is completed with the audit record of the transfer once the window has
+   *     been settled, or that fails if the engine has been closed
+   * @throws IllegalArgumentException if an account id is given as alias or EVM address
+   */
+  @NonNull
+  public CompletableFuture<TransferAudit> transfer(
+      @NonNull final TokenId tokenId,
+      @NonNull final AccountId fromAccountId,
+      @NonNull final PrivateKey fromAccountKey,
+      @NonNull final AccountId toAccountId,
+      final long amount) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(fromAccountId, "fromAccountId must not be null");
+    Objects.requireNonNull(fromAccountKey, "fromAccountKey must not be null");
+    Objects.requireNonNull(toAccountId, "toAccountId must not be null");
+    requireNumeric(fromAccountId, "fromAccountId");
+    requireNumeric(toAccountId, "toAccountId");
+    if (amount <= 0) {
+      throw new IllegalArgumentException("amount must be positive");
+    }
+    if (isSame(fromAccountId, toAccountId)) {
+      throw new IllegalArgumentException("sender and receiver must be different");
+    }
+    if (closed.get()) {
+      return CompletableFuture.failedFuture(createClosedException());
+    }
+    final PairKey key = PairKey.of(tokenId, fromAccountId, toAccountId);
+    final PendingTransfer transfer =
+        new PendingTransfer(tokenId, fromAccountId, toAccountId, amount, new CompletableFuture<>());
+    final NettingWindow[] created = new NettingWindow[1];
+    final NettingWindow[] replaced = new NettingWindow[1];
+    final NettingWindow[] full = new NettingWindow[1];
+    final NettingWindow current =
+        pending.compute(
+            key,
+            (k, existing) -> {
+              if (existing != null) {
+                if (existing.tryAdd(transfer, fromAccountKey)) {
+                  if (existing.size() >= maxTransfersPerWindow) {
+                    full[0] = existing;
+                  }
+                  return existing;
+                }
+                replaced[0] = existing;
+              }
+              created[0] = new NettingWindow(tokenId);
+              created[0].tryAdd(transfer, fromAccountKey);
+              return created[0];
+            });
+    if (replaced[0] != null) {
+      settle(replaced[0]);
+    }
+    if (closed.get() && pending.remove(key, current)) {
+      // close() has drained the pending windows concurrently and would not see this window
+      settle(current);
+      return transfer.result();
+    }
+    if (full[0] != null && pending.remove(key, full[0])) {
+      settle(full[0]);
+    } else if (created[0] != null && created[0].size() >= maxTransfersPerWindow) {
+      if (pending.remove(key, created[0])) {
+        settle(created[0]);
+      }
+    } else if (created[0] != null) {
+      final NettingWindow nettingWindow = created[0];
+      CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS)
+          .execute(
+              () -> {
+                if (pending.remove(key, nettingWindow)) {
+                  settle(nettingWindow);
+                }
+              });
+    }
+    return transfer.result();
+  }
+
+  /**
+   * Returns the number of transfers that have not been settled yet.
+   *
+   * @return the number of pending transfers
+   */
+  public int getPendingCount() {
+    return pending.values().stream().mapToInt(NettingWindow::size).sum();
+  }
+
+  /**
+   * Settle the window on the executor or fail its transfers if the executor has been closed.
+   *
+   * @param nettingWindow the window that has been removed from the pending windows
+   */
+  private void settle(@NonNull final NettingWindow nettingWindow) {
+    try {
+      executor.execute(() -> settleNow(nettingWindow));
+    } catch (final RejectedExecutionException e) {
+      nettingWindow.fail(createClosedException());
+    }
+  }
+
+  private void settleNow(@NonNull final NettingWindow nettingWindow) {
+    final long net = nettingWindow.net();
+    if (net == 0) {
+      log.debug(
+          "{} transfers of token {} netted out completely",
+          nettingWindow.size(),
+          nettingWindow.tokenId());
+      nettingWindow.complete(null, null, null, 0);
+      return;
+    }
+    final AccountId sender = net > 0 ? nettingWindow.lowerAccount() : nettingWindow.higherAccount();
+    final AccountId receiver =
+        net > 0 ? nettingWindow.higherAccount() : nettingWindow.lowerAccount();
+    final PrivateKey senderKey = net > 0 ? nettingWindow.lowerKey() : nettingWindow.higherKey();
+    final long amount = Math.abs(net);
+    try {
+      final TokenTransferRequest request =
+          TokenTransferRequest.of(nettingWindow.tokenId(), sender, receiver, senderKey, amount);
+      final TokenTransferResult result = client.executeTransferTransaction(request);
+      log.debug(
+          "Settled {} transfers of token {} with one transfer of {} from {} to {}",
+          nettingWindow.size(),
+          nettingWindow.tokenId(),
+          amount,
+          sender,
+          receiver);
+      nettingWindow.complete(result.transactionId(), result.status(), sender, amount);
+    } catch (final Exception e) {
+      nettingWindow.fail(
+          new HieroException(
+              "Failed to settle net transfer of token " + nettingWindow.tokenId(), e));
+    }
+  }
+
+  @NonNull
+  private static HieroException createClosedException() {
+    return new HieroException("Transfer netting engine closed before settlement");
+  }
+
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    pending.forEach(
+        (key, nettingWindow) -> {
+          if (pending.remove(key, nettingWindow)) {
+            settle(nettingWindow);
+          }
+        });
+    executor.close();
+  }
+
+  /**
+   * Audit record of a single transfer that has been settled by the netting engine.
+   *
+   * @param tokenId the ID of the token
+   * @param sender the ID of the account that requested to send the token
+   * @param receiver the ID of the account that should receive the token
+   * @param amount the requested amount
+   * @param nettedTransfers the number of transfers that have been settled together
+   * @param netSender the sender of the net transfer, or {@code null} if the transfers netted out
+   * @param netAmount the amount of the net transfer, {@code 0} if the transfers netted out
+   * @param transactionId the ID of the net transfer transaction, or {@code null} if the transfers
+   *     netted out
+   * @param status the status of the net transfer transaction, or {@code null} if the transfers
+   *     netted out
+   */
+  public record TransferAudit(
+      @NonNull TokenId tokenId,
+      @NonNull AccountId sender,
+      @NonNull AccountId receiver,
+      long amount,
+      int nettedTransfers,
+      @Nullable AccountId netSender,
+      long netAmount,
+      @Nullable TransactionId transactionId,
+      @Nullable Status status) {
+
+    public TransferAudit {
+      Objects.requireNonNull(tokenId, "tokenId must not be null");
+      Objects.requireNonNull(sender, "sender must not be null");
+      Objects.requireNonNull(receiver, "receiver must not be null");
+    }
+  }
+
+  private record PendingTransfer(
+      @NonNull TokenId tokenId,
+      @NonNull AccountId sender,
+      @NonNull AccountId receiver,
+      long amount,
+      @NonNull CompletableFuture<TransferAudit> result) {}
+
+  /** Compact key of a token and an ordered pair of accounts. */
+  private record PairKey(
+      long tokenShard,
+      long tokenRealm,
+      long tokenNum,
+      long lowerShard,
+      long lowerRealm,
+      long lowerNum,
+      long higherShard,
+      long higherRealm,
+      long higherNum) {
+
+    static PairKey of(
+        @NonNull final TokenId tokenId,
+        @NonNull final AccountId first,
+        @NonNull final AccountId second) {
+      final AccountId lower = isLower(first, second) ? first : second;
+      final AccountId higher = lower == first ? second : first;
+      return new PairKey(
+          tokenId.shard,
+          tokenId.realm,
+          tokenId.num,
+          lower.shard,
+          lower.realm,
+          lower.num,
+          higher.shard,
+          higher.realm,
+          higher.num);
+    }
+  }
+
+  private static void requireNumeric(
+      @NonNull final AccountId accountId, @NonNull final String name) {
+    if (accountId.aliasKey != null || accountId.evmAddress != null) {
+      throw new IllegalArgumentException(
+          name + " must be given as shard.realm.num and not as alias or EVM address");
+    }
+  }
+
+  private static boolean isSame(@NonNull final AccountId first, @NonNull final AccountId second) {
+    return first.shard == second.shard && first.realm == second.realm && first.num == second.num;
+  }
+
+  private static boolean isLower(@NonNull final AccountId first, @NonNull final AccountId second) {
+    if (first.shard != second.shard) {
+      return first.shard < second.shard;
+    }
+    if (first.realm != second.realm) {
+      return first.realm < second.realm;
+    }
+    return first.num < second.num;
+  }
+
+  /**
+   * Transfers of one token between one pair of accounts. A positive net amount flows from the lower
+   * to the higher account. Only accessed inside {@link ConcurrentHashMap#compute} until the window
+   * is removed from the pending map.
+   */
+  private static final class NettingWindow {
+
+    private final TokenId tokenId;
+
+    private final List<PendingTransfer> transfers = new ArrayList<>();
+
+    private AccountId lowerAccount;
+
+    private AccountId higherAccount;
+
+    private PrivateKey lowerKey;
+
+    private PrivateKey higherKey;
+
+    private long net;
+
+    private NettingWindow(@NonNull final TokenId tokenId) {
+      this.tokenId = tokenId;
+    }
+
+    private boolean tryAdd(
+        @NonNull final PendingTransfer transfer, @NonNull final PrivateKey senderKey) {
+      final boolean fromLower = isLower(transfer.sender(), transfer.receiver());
+      if (lowerAccount == null) {
+        lowerAccount = fromLower ? transfer.sender() : transfer.receiver();
+        higherAccount = fromLower ? transfer.receiver() : transfer.sender();
+      }
+      final long updatedNet;
+      try {
+        updatedNet =
+            fromLower
+                ? Math.addExact(net, transfer.amount())
+                : Math.subtractExact(net, transfer.amount());
+      } catch (final ArithmeticException e) {
+        return false;
+      }
+      net = updatedNet;
+      if (fromLower) {
+        lowerKey = senderKey;
+      } else {
+        higherKey = senderKey;
+      }
+      transfers.add(transfer);
+      return true;
+    }
+
+    private int size() {
+      return transfers.size();
+    }
+
+    private long net() {
+      return net;
+    }
+
+    @NonNull
+    private TokenId tokenId() {
+      return tokenId;
+    }
+
+    @NonNull
+    private AccountId lowerAccount() {
+      return lowerAccount;
+    }
+
+    @NonNull
+    private AccountId higherAccount() {
+      return higherAccount;
+    }
+
+    private PrivateKey lowerKey() {
+      return lowerKey;
+    }
+
+    private PrivateKey higherKey() {
+      return higherKey;
+    }
+
+    private void complete(
+        @Nullable final TransactionId transactionId,
+        @Nullable final Status status,
+        @Nullable final AccountId netSender,
+        final long netAmount) {
+      final int count = transfers.size();
+      transfers.forEach(
+          transfer ->
+              transfer
+                  .result()
+                  .complete(
+                      new TransferAudit(
+                          transfer.tokenId(),
+                          transfer.sender(),
+                          transfer.receiver(),
+                          transfer.amount(),
+                          count,
+                          netSender,
+                          netAmount,
+                          transactionId,
+                          status)));
+    }
+
+    private void fail(@NonNull final Throwable throwable) {
+      transfers.forEach(transfer -> transfer.result().completeExceptionally(throwable));
+    }
+  }
+}
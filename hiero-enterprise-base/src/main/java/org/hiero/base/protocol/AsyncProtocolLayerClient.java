@@ -0,0 +1,321 @@
+package org.hiero.base.protocol;
+
+import java.util.concurrent.CompletableFuture;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.data.AccountBalanceRequest;
+import org.hiero.base.protocol.data.AccountBalanceResponse;
+import org.hiero.base.protocol.data.AccountCreateRequest;
+import org.hiero.base.protocol.data.AccountCreateResult;
+import org.hiero.base.protocol.data.AccountDeleteRequest;
+import org.hiero.base.protocol.data.AccountDeleteResult;
+import org.hiero.base.protocol.data.AccountHookUpdateRequest;
+import org.hiero.base.protocol.data.AccountHookUpdateResult;
+import org.hiero.base.protocol.data.AccountUpdateRequest;
+import org.hiero.base.protocol.data.AccountUpdateResult;
+import org.hiero.base.protocol.data.ContractCallRequest;
+import org.hiero.base.protocol.data.ContractCallResult;
+import org.hiero.base.protocol.data.ContractCreateRequest;
+import org.hiero.base.protocol.data.ContractCreateResult;
+import org.hiero.base.protocol.data.ContractDeleteRequest;
+import org.hiero.base.protocol.data.ContractDeleteResult;
+import org.hiero.base.protocol.data.FileAppendRequest;
+import org.hiero.base.protocol.data.FileAppendResult;
+import org.hiero.base.protocol.data.FileContentsRequest;
+import org.hiero.base.protocol.data.FileContentsResponse;
+import org.hiero.base.protocol.data.FileCreateRequest;
+import org.hiero.base.protocol.data.FileCreateResult;
+import org.hiero.base.protocol.data.FileDeleteRequest;
+import org.hiero.base.protocol.data.FileDeleteResult;
+import org.hiero.base.protocol.data.FileInfoRequest;
+import org.hiero.base.protocol.data.FileInfoResponse;
+import org.hiero.base.protocol.data.FileUpdateRequest;
+import org.hiero.base.protocol.data.FileUpdateResult;
+import org.hiero.base.protocol.data.HookStoreRequest;
+import org.hiero.base.protocol.data.HookStoreResult;
+import org.hiero.base.protocol.data.MultiTokenTransferRequest;
+import org.hiero.base.protocol.data.MultiTokenTransferResult;
+import org.hiero.base.protocol.data.TokenAssociateRequest;
+import org.hiero.base.protocol.data.TokenAssociateResult;
+import org.hiero.base.protocol.data.TokenBurnRequest;
+import org.hiero.base.protocol.data.TokenBurnResult;
+import org.hiero.base.protocol.data.TokenCreateRequest;
+import org.hiero.base.protocol.data.TokenCreateResult;
+import org.hiero.base.protocol.data.TokenDissociateRequest;
+import org.hiero.base.protocol.data.TokenDissociateResult;
+import org.hiero.base.protocol.data.TokenMintRequest;
+import org.hiero.base.protocol.data.TokenMintResult;
+import org.hiero.base.protocol.data.TokenTransferRequest;
+import org.hiero.base.protocol.data.TokenTransferResult;
+import org.hiero.base.protocol.data.TopicCreateRequest;
+import org.hiero.base.protocol.data.TopicCreateResult;
+import org.hiero.base.protocol.data.TopicDeleteRequest;
+import org.hiero.base.protocol.data.TopicDeleteResult;
+import org.hiero.base.protocol.data.TopicMessageRequest;
+import org.hiero.base.protocol.data.TopicMessageResult;
+import org.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import org.hiero.base.protocol.data.TopicSubmitMessageResult;
+import org.hiero.base.protocol.data.TopicUpdateRequest;
+import org.hiero.base.protocol.data.TopicUpdateResult;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Non-blocking variant of {@link ProtocolLayerClient}. All methods return immediately and the
+ * returned {@link CompletableFuture} is completed once the network has handled the transaction or
+ * query. If the call fails, the future is completed exceptionally with a {@link HieroException}.
+ *
+ * @see ProtocolLayerClient
+ */
+public interface AsyncProtocolLayerClient {
+
+  /**
+   * Execute an account balance query asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the response
+   */
+  @NonNull CompletableFuture<AccountBalanceResponse> executeAccountBalanceQueryAsync(
+      @NonNull AccountBalanceRequest request);
+
+  /**
+   * Execute a file contents query asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the response
+   */
+  @NonNull CompletableFuture<FileContentsResponse> executeFileContentsQueryAsync(
+      @NonNull FileContentsRequest request);
+
+  /**
+   * Execute a file append transaction asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the result
+   */
+  @NonNull CompletableFuture<FileAppendResult> executeFileAppendRequestTransactionAsync(
+      @NonNull FileAppendRequest request);
+
+  /**
+   * Execute a file delete transaction asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the result
+   */
+  @NonNull CompletableFuture<FileDeleteResult> executeFileDeleteTransactionAsync(
+      @NonNull FileDeleteRequest request);
+
+  /**
+   * Execute a file create transaction asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the result
+   */
+  @NonNull CompletableFuture<FileCreateResult> executeFileCreateTransactionAsync(
+      @NonNull FileCreateRequest request);
+
+  /**
+   * Execute a file update transaction asynchronously.
+   *
+   * @param request the request containing the details of the file update
+   * @return a future that is completed with the result of the file update transaction
+   */
+  @NonNull CompletableFuture<FileUpdateResult> executeFileUpdateRequestTransactionAsync(
+      @NonNull FileUpdateRequest request);
+
+  /**
+   * Execute a file info query asynchronously.
+   *
+   * @param request the request containing the details of the file info query
+   * @return a future that is completed with the information about the file
+   */
+  @NonNull CompletableFuture<FileInfoResponse> executeFileInfoQueryAsync(
+      @NonNull FileInfoRequest request);
+
+  /**
+   * Execute a contract create transaction asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the result
+   */
+  @NonNull CompletableFuture<ContractCreateResult> executeContractCreateTransactionAsync(
+      @NonNull ContractCreateRequest request);
+
+  /**
+   * Execute a contract call transaction asynchronously.
+   *
+   * @param request the request
+   * @return a future that is completed with the result
+   */
+  @NonNull CompletableFuture<ContractCallResult> executeContractCallTransactionAsync(
+      @NonNull ContractCallRequest request);
+
+  /**
+   * Executes a contract delete transaction asynchronously.
+   *
+   * @param request the request containing the details of the contract delete transaction
+   * @return a future that is completed with the result of the contract delete transaction
+   */
+  @NonNull CompletableFuture<ContractDeleteResult> executeContractDeleteTransactionAsync(
+      @NonNull ContractDeleteRequest request);
+
+  /**
+   * Executes an account create transaction asynchronously.
+   *
+   * @param request the request containing the details of the account create transaction
+   * @return a future that is completed with the result of the account create transaction
+   */
+  @NonNull CompletableFuture<AccountCreateResult> executeAccountCreateTransactionAsync(
+      @NonNull AccountCreateRequest request);
+
+  /**
+   * Executes an account delete transaction asynchronously.
+   *
+   * @param request the request containing the details of the account delete transaction
+   * @return a future that is completed with the result of the account delete transaction
+   */
+  @NonNull CompletableFuture<AccountDeleteResult> executeAccountDeleteTransactionAsync(
+      @NonNull AccountDeleteRequest request);
+
+  /**
+   * Executes an account hook update transaction asynchronously.
+   *
+   * @param request the request containing hooks to create and hooks to delete on an account
+   * @return a future that is completed with the result of the account hook update transaction
+   */
+  @NonNull
+  default CompletableFuture<AccountHookUpdateResult> executeAccountHookUpdateTransactionAsync(
+      @NonNull AccountHookUpdateRequest request) {
+    return CompletableFuture.failedFuture(
+        new UnsupportedOperationException("Account hook update transaction is not implemented."));
+  }
+
+  /**
+   * Executes an account update transaction asynchronously.
+   *
+   * @param request the request containing the details of the account update transaction
+   * @return a future that is completed with the result of the account update transaction
+   */
+  @NonNull CompletableFuture<AccountUpdateResult> executeAccountUpdateTransactionAsync(
+      @NonNull AccountUpdateRequest request);
+
+  /**
+   * Executes a token create transaction asynchronously.
+   *
+   * @param request the request containing the details of the token create transaction
+   * @return a future that is completed with the result of the token create transaction
+   */
+  @NonNull CompletableFuture<TokenCreateResult> executeTokenCreateTransactionAsync(
+      @NonNull TokenCreateRequest request);
+
+  /**
+   * Executes a token associate transaction asynchronously.
+   *
+   * @param request the request containing the details of the token associate transaction
+   * @return a future that is completed with the result of the token associate transaction
+   */
+  @NonNull CompletableFuture<TokenAssociateResult> executeTokenAssociateTransactionAsync(
+      @NonNull TokenAssociateRequest request);
+
+  /**
+   * Executes a token dissociate transaction asynchronously.
+   *
+   * @param request the request containing the details of the token dissociate transaction
+   * @return a future that is completed with the result of the token dissociate transaction
+   */
+  @NonNull CompletableFuture<TokenDissociateResult> executeTokenDissociateTransactionAsync(
+      @NonNull TokenDissociateRequest request);
+
+  /**
+   * Executes a token mint transaction asynchronously.
+   *
+   * @param request the request containing the details of the token mint transaction
+   * @return a future that is completed with the result of the token mint transaction
+   */
+  @NonNull CompletableFuture<TokenMintResult> executeMintTokenTransactionAsync(
+      @NonNull TokenMintRequest request);
+
+  /**
+   * Executes a token burn transaction asynchronously.
+   *
+   * @param request the request containing the details of the token burn transaction
+   * @return a future that is completed with the result of the token burn transaction
+   */
+  @NonNull CompletableFuture<TokenBurnResult> executeBurnTokenTransactionAsync(
+      @NonNull TokenBurnRequest request);
+
+  /**
+   * Executes a token transfer transaction asynchronously.
+   *
+   * @param request the request containing the details of the token transfer transaction
+   * @return a future that is completed with the result of the token transfer transaction
+   */
+  @NonNull CompletableFuture<TokenTransferResult> executeTransferTransactionAsync(
+      @NonNull TokenTransferRequest request);
+
+  /**
+   * Executes a transfer transaction that contains multiple fungible token transfers asynchronously.
+   *
+   * @param request the request containing the transfer legs of the transaction
+   * @return a future that is completed with the result of the transfer transaction
+   */
+  @NonNull
+  default CompletableFuture<MultiTokenTransferResult> executeMultiTokenTransferTransactionAsync(
+      @NonNull MultiTokenTransferRequest request) {
+    return CompletableFuture.failedFuture(
+        new UnsupportedOperationException("Multi token transfer transaction is not implemented."));
+  }
+
+  /**
+   * Executes a hook store transaction asynchronously.
+   *
+   * @param request the request containing the details of the hook store transaction
+   * @return a future that is completed with the result of the hook store transaction
+   */
+  @NonNull CompletableFuture<HookStoreResult> executeHookStoreTransactionAsync(
+      @NonNull HookStoreRequest request);
+
+  /**
+   * Executes a topic create transaction asynchronously.
+   *
+   * @param request the request containing the details of the topic create transaction
+   * @return a future that is completed with the result of the topic create transaction
+   */
+  @NonNull CompletableFuture<TopicCreateResult> executeTopicCreateTransactionAsync(
+      @NonNull TopicCreateRequest request);
+
+  /**
+   * Executes a topic update transaction asynchronously.
+   *
+   * @param request the request containing the details of the topic update transaction
+   * @return a future that is completed with the result of the topic update transaction
+   */
+  @NonNull CompletableFuture<TopicUpdateResult> executeTopicUpdateTransactionAsync(
+      @NonNull TopicUpdateRequest request);
+
+  /**
+   * Executes a topic delete transaction asynchronously.
+   *
+   * @param request the request containing the details of the topic delete transaction
+   * @return a future that is completed with the result of the topic delete transaction
+   */
+  @NonNull CompletableFuture<TopicDeleteResult> executeTopicDeleteTransactionAsync(
+      @NonNull TopicDeleteRequest request);
+
+  /**
+   * Executes a topic message submit transaction asynchronously.
+   *
+   * @param request the request containing the details of the topic message submit transaction
+   * @return a future that is completed with the result of the topic message submit transaction
+   */
+  @NonNull CompletableFuture<TopicSubmitMessageResult> executeTopicMessageSubmitTransactionAsync(
+      @NonNull TopicSubmitMessageRequest request);
+
+  /**
+   * Executes a topic message query asynchronously. The subscription itself is always asynchronous,
+   * the returned future is completed once the subscription has been registered.
+   *
+   * @param request the request containing the details of the topic message query
+   * @return a future that is completed with the result of the topic message query
+   */
+  @NonNull CompletableFuture<TopicMessageResult> executeTopicMessageQueryAsync(
+      @NonNull TopicMessageRequest request);
+}
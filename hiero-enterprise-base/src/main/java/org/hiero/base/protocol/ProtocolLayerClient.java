@@ -32,6 +32,8 @@ import org.hiero.base.protocol.data.FileUpdateRequest;
 import org.hiero.base.protocol.data.FileUpdateResult;
 import org.hiero.base.protocol.data.HookStoreRequest;
 import org.hiero.base.protocol.data.HookStoreResult;
+import org.hiero.base.protocol.data.MultiTokenTransferRequest;
+import org.hiero.base.protocol.data.MultiTokenTransferResult;
 import org.hiero.base.protocol.data.TokenAssociateRequest;
 import org.hiero.base.protocol.data.TokenAssociateResult;
 import org.hiero.base.protocol.data.TokenBurnRequest;
@@ -262,6 +264,19 @@ public interface ProtocolLayerClient {
   @NonNull TokenTransferResult executeTransferTransaction(
       @NonNull final TokenTransferRequest request) throws HieroException;
 
+  /**
+   * Executes a transfer transaction that contains multiple fungible token transfers.
+   *
+   * @param request the request containing the transfer legs of the transaction
+   * @return the result of the transfer transaction
+   * @throws HieroException if the transaction could not be executed
+   */
+  @NonNull
+  default MultiTokenTransferResult executeMultiTokenTransferTransaction(
+      @NonNull final MultiTokenTransferRequest request) throws HieroException {
+    throw new UnsupportedOperationException("Multi token transfer transaction is not implemented.");
+  }
+
   /**
    * Executes a hook store transaction.
    *
@@ -2,10 +2,25 @@ package org.hiero.base.protocol;
 
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransactionId;
+import java.time.Duration;
+import org.hiero.base.protocol.data.TransactionPriority;
 import org.hiero.base.protocol.data.TransactionType;
 
 public interface TransactionListener {
 
+  /**
+   * Called when a transaction leaves the queue of the priority scheduler and is dispatched to the
+   * network. Only called if a priority scheduler is used. The time between this call and {@link
+   * #transactionHandled(TransactionType, TransactionId, Status)} is the network time of the
+   * transaction.
+   *
+   * @param transactionType the type of the transaction
+   * @param priority the priority of the transaction
+   * @param queueTime the time the transaction waited for dispatch
+   */
+  default void transactionDispatched(
+      TransactionType transactionType, TransactionPriority priority, Duration queueTime) {}
+
   void transactionSubmitted(TransactionType transactionType, TransactionId transactionId);
 
   void transactionHandled(
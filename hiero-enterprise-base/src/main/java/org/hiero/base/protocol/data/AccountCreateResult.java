@@ -4,28 +4,174 @@ import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransactionId;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Objects;
 import org.hiero.base.data.Account;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * Result of an account create transaction. If the result has been created with a {@link
+ * LazyRecord}, the fields that are only part of the record are retrieved when they are accessed for
+ * the first time. That access fails with an {@link IllegalStateException} if the consensus nodes no
+ * longer keep the record, which is the case about 3 minutes after consensus. If only the receipt
+ * has been requested ({@link RecordPolicy#RECEIPT_ONLY}), these fields are {@code null}.
+ *
+ * <p>The {@link LazyRecord} is not part of {@link #equals(Object)}, {@link #hashCode()} and {@link
+ * #toString()}, so they do not depend on whether the record has been retrieved.
+ */
 public record AccountCreateResult(
     @NonNull TransactionId transactionId,
     @NonNull Status status,
-    @NonNull byte[] transactionHash,
-    @NonNull Instant consensusTimestamp,
-    @NonNull Hbar transactionFee,
-    @NonNull Account newAccount)
+    byte[] transactionHash,
+    Instant consensusTimestamp,
+    Hbar transactionFee,
+    @NonNull Account newAccount,
+    @Nullable LazyRecord lazyRecord)
     implements TransactionRecord {
 
   public AccountCreateResult {
     Objects.requireNonNull(transactionId, "transactionId must not be null");
     Objects.requireNonNull(status, "status must not be null");
-    Objects.requireNonNull(transactionHash, "transactionHash must not be null");
-    Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
-    Objects.requireNonNull(transactionFee, "transactionFee must not be null");
     Objects.requireNonNull(newAccount, "newAccount must not be null");
-    if (transactionFee.toTinybars() < 0) {
+    if (lazyRecord == null) {
+      Objects.requireNonNull(transactionHash, "transactionHash must not be null");
+      Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+      Objects.requireNonNull(transactionFee, "transactionFee must not be null");
+    }
+    if (transactionFee != null && transactionFee.toTinybars() < 0) {
       throw new IllegalArgumentException("transactionFee must be non-negative");
     }
   }
+
+  public AccountCreateResult(
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status,
+      @NonNull final byte[] transactionHash,
+      @NonNull final Instant consensusTimestamp,
+      @NonNull final Hbar transactionFee,
+      @NonNull final Account newAccount) {
+    this(
+        transactionId,
+        status,
+        transactionHash,
+        consensusTimestamp,
+        transactionFee,
+        newAccount,
+        null);
+  }
+
+  /**
+   * Creates a result that only contains the fields of the receipt. All other fields are retrieved
+   * by the given handle.
+   *
+   * @param transactionId the ID of the transaction
+   * @param status the status of the transaction
+   * @param newAccount the created account
+   * @param lazyRecord the handle to the record of the transaction
+   */
+  public AccountCreateResult(
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status,
+      @NonNull final Account newAccount,
+      @NonNull final LazyRecord lazyRecord) {
+    this(
+        transactionId,
+        status,
+        null,
+        null,
+        null,
+        newAccount,
+        Objects.requireNonNull(lazyRecord, "lazyRecord must not be null"));
+  }
+
+  /**
+   * Returns the hash of the transaction.
+   *
+   * @return the hash, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public byte[] transactionHash() {
+    if (transactionHash == null && hasRecord()) {
+      return lazyRecord.get().transactionHash.toByteArray();
+    }
+    return transactionHash;
+  }
+
+  /**
+   * Returns the consensus timestamp of the transaction.
+   *
+   * @return the timestamp, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public Instant consensusTimestamp() {
+    if (consensusTimestamp == null && hasRecord()) {
+      return lazyRecord.get().consensusTimestamp;
+    }
+    return consensusTimestamp;
+  }
+
+  /**
+   * Returns the fee that has been charged for the transaction.
+   *
+   * @return the fee, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public Hbar transactionFee() {
+    if (transactionFee == null && hasRecord()) {
+      return lazyRecord.get().transactionFee;
+    }
+    return transactionFee;
+  }
+
+  private boolean hasRecord() {
+    return lazyRecord != null && lazyRecord.isAvailable();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AccountCreateResult that)) {
+      return false;
+    }
+    return transactionId.equals(that.transactionId)
+        && status == that.status
+        && Arrays.equals(transactionHash, that.transactionHash)
+        && Objects.equals(consensusTimestamp, that.consensusTimestamp)
+        && Objects.equals(transactionFee, that.transactionFee)
+        && newAccount.equals(that.newAccount);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        transactionId,
+        status,
+        Arrays.hashCode(transactionHash),
+        consensusTimestamp,
+        transactionFee,
+        newAccount);
+  }
+
+  @Override
+  public String toString() {
+    return "AccountCreateResult[transactionId="
+        + transactionId
+        + ", status="
+        + status
+        + ", transactionHash="
+        + Arrays.toString(transactionHash)
+        + ", consensusTimestamp="
+        + consensusTimestamp
+        + ", transactionFee="
+        + transactionFee
+        + ", newAccount="
+        + newAccount
+        + "]";
+  }
 }
@@ -4,20 +4,137 @@ import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransactionId;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * Result of an account delete transaction. If the result has been created with a {@link
+ * LazyRecord}, the fields that are only part of the record are retrieved when they are accessed for
+ * the first time. The consensus nodes keep the record for about 3 minutes after consensus; a first
+ * access after that fails with an {@link IllegalStateException}. If only the receipt has been
+ * requested ({@link RecordPolicy#RECEIPT_ONLY}), the fields of the record are {@code null}.
+ *
+ * <p>The {@link LazyRecord} is left out of {@link #equals(Object)}, {@link #hashCode()} and {@link
+ * #toString()}.
+ */
 public record AccountDeleteResult(
     @NonNull TransactionId transactionId,
     @NonNull Status status,
-    @NonNull byte[] transactionHash,
+    byte[] transactionHash,
     Instant consensusTimestamp,
-    Hbar transactionFee)
+    Hbar transactionFee,
+    @Nullable LazyRecord lazyRecord)
     implements TransactionRecord {
 
   public AccountDeleteResult {
     Objects.requireNonNull(transactionId, "transactionId must not be null");
     Objects.requireNonNull(status, "status must not be null");
-    Objects.requireNonNull(transactionHash, "transactionHash must not be null");
+    if (lazyRecord == null) {
+      Objects.requireNonNull(transactionHash, "transactionHash must not be null");
+    }
+  }
+
+  public AccountDeleteResult(
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status,
+      @NonNull final byte[] transactionHash,
+      final Instant consensusTimestamp,
+      final Hbar transactionFee) {
+    this(transactionId, status, transactionHash, consensusTimestamp, transactionFee, null);
+  }
+
+  /**
+   * Creates a result that only contains the fields of the receipt. All other fields are retrieved
+   * by the given handle.
+   *
+   * @param transactionId the ID of the transaction
+   * @param status the status of the transaction
+   * @param lazyRecord the handle to the record of the transaction
+   */
+  public AccountDeleteResult(
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status,
+      @NonNull final LazyRecord lazyRecord) {
+    this(
+        transactionId,
+        status,
+        null,
+        null,
+        null,
+        Objects.requireNonNull(lazyRecord, "lazyRecord must not be null"));
+  }
+
+  /**
+   * Returns the hash of the transaction.
+   *
+   * @return the hash, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public byte[] transactionHash() {
+    if (transactionHash == null && hasRecord()) {
+      return lazyRecord.get().transactionHash.toByteArray();
+    }
+    return transactionHash;
+  }
+
+  @Override
+  @Nullable
+  public Instant consensusTimestamp() {
+    if (consensusTimestamp == null && hasRecord()) {
+      return lazyRecord.get().consensusTimestamp;
+    }
+    return consensusTimestamp;
+  }
+
+  @Override
+  @Nullable
+  public Hbar transactionFee() {
+    if (transactionFee == null && hasRecord()) {
+      return lazyRecord.get().transactionFee;
+    }
+    return transactionFee;
+  }
+
+  private boolean hasRecord() {
+    return lazyRecord != null && lazyRecord.isAvailable();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AccountDeleteResult that)) {
+      return false;
+    }
+    return transactionId.equals(that.transactionId)
+        && status == that.status
+        && Arrays.equals(transactionHash, that.transactionHash)
+        && Objects.equals(consensusTimestamp, that.consensusTimestamp)
+        && Objects.equals(transactionFee, that.transactionFee);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        transactionId, status, Arrays.hashCode(transactionHash), consensusTimestamp, transactionFee);
+  }
+
+  @Override
+  public String toString() {
+    return "AccountDeleteResult[transactionId="
+        + transactionId
+        + ", status="
+        + status
+        + ", transactionHash="
+        + Arrays.toString(transactionHash)
+        + ", consensusTimestamp="
+        + consensusTimestamp
+        + ", transactionFee="
+        + transactionFee
+        + "]";
   }
 }
@@ -5,28 +5,185 @@ import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransactionId;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * Result of a contract call transaction. If the result has been created with a {@link LazyRecord},
+ * the fields that are only part of the record are retrieved when they are accessed for the first
+ * time. Since the consensus nodes keep the record only for about 3 minutes after consensus, a later
+ * first access fails with an {@link IllegalStateException}. With {@link RecordPolicy#RECEIPT_ONLY}
+ * the record is not retrieved at all and these fields are {@code null}.
+ *
+ * <p>{@link #equals(Object)}, {@link #hashCode()} and {@link #toString()} ignore the {@link
+ * LazyRecord} and never retrieve the record.
+ */
 public record ContractCallResult(
     @NonNull TransactionId transactionId,
     @NonNull Status status,
-    @NonNull byte[] transactionHash,
-    @NonNull Instant consensusTimestamp,
-    @NonNull Hbar transactionFee,
-    @NonNull ContractFunctionResult contractFunctionResult)
+    byte[] transactionHash,
+    Instant consensusTimestamp,
+    Hbar transactionFee,
+    ContractFunctionResult contractFunctionResult,
+    @Nullable LazyRecord lazyRecord)
     implements TransactionRecord {
 
   public ContractCallResult {
     Objects.requireNonNull(transactionId, "transactionId must not be null");
     Objects.requireNonNull(status, "status must not be null");
-    Objects.requireNonNull(transactionHash, "transactionHash must not be null");
-    Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
-    Objects.requireNonNull(transactionFee, "transactionFee must not be null");
-    Objects.requireNonNull(contractFunctionResult, "contractFunctionResult must not be null");
+    if (lazyRecord == null) {
+      Objects.requireNonNull(transactionHash, "transactionHash must not be null");
+      Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+      Objects.requireNonNull(transactionFee, "transactionFee must not be null");
+      Objects.requireNonNull(contractFunctionResult, "contractFunctionResult must not be null");
+    }
 
-    if (transactionFee.toTinybars() < 0) {
+    if (transactionFee != null && transactionFee.toTinybars() < 0) {
       throw new IllegalArgumentException("transactionFee must not be negative");
     }
   }
+
+  public ContractCallResult(
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status,
+      @NonNull final byte[] transactionHash,
+      @NonNull final Instant consensusTimestamp,
+      @NonNull final Hbar transactionFee,
+      @NonNull final ContractFunctionResult contractFunctionResult) {
+    this(
+        transactionId,
+        status,
+        transactionHash,
+        consensusTimestamp,
+        transactionFee,
+        contractFunctionResult,
+        null);
+  }
+
+  /**
+   * Creates a result that only contains the fields of the receipt. All other fields are retrieved
+   * by the given handle.
+   *
+   * @param transactionId the ID of the transaction
+   * @param status the status of the transaction
+   * @param lazyRecord the handle to the record of the transaction
+   */
+  public ContractCallResult(
+      @NonNull final TransactionId transactionId,
+      @NonNull final Status status,
+      @NonNull final LazyRecord lazyRecord) {
+    this(
+        transactionId,
+        status,
+        null,
+        null,
+        null,
+        null,
+        Objects.requireNonNull(lazyRecord, "lazyRecord must not be null"));
+  }
+
+  /**
+   * Returns the hash of the transaction.
+   *
+   * @return the hash, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public byte[] transactionHash() {
+    if (transactionHash == null && hasRecord()) {
+      return lazyRecord.get().transactionHash.toByteArray();
+    }
+    return transactionHash;
+  }
+
+  /**
+   * Returns the consensus timestamp of the transaction.
+   *
+   * @return the timestamp, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public Instant consensusTimestamp() {
+    if (consensusTimestamp == null && hasRecord()) {
+      return lazyRecord.get().consensusTimestamp;
+    }
+    return consensusTimestamp;
+  }
+
+  /**
+   * Returns the fee that has been charged for the transaction.
+   *
+   * @return the fee, or {@code null} if the record of the transaction is not available
+   */
+  @Override
+  @Nullable
+  public Hbar transactionFee() {
+    if (transactionFee == null && hasRecord()) {
+      return lazyRecord.get().transactionFee;
+    }
+    return transactionFee;
+  }
+
+  /**
+   * Returns the result of the called function.
+   *
+   * @return the result, or {@code null} if the record of the transaction is not available
+   */
+  @Nullable
+  public ContractFunctionResult contractFunctionResult() {
+    if (contractFunctionResult == null && hasRecord()) {
+      return lazyRecord.get().contractFunctionResult;
+    }
+    return contractFunctionResult;
+  }
+
+  private boolean hasRecord() {
+    return lazyRecord != null && lazyRecord.isAvailable();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ContractCallResult that)) {
+      return false;
+    }
+    return transactionId.equals(that.transactionId)
+        && status == that.status
+        && Arrays.equals(transactionHash, that.transactionHash)
+        && Objects.equals(consensusTimestamp, that.consensusTimestamp)
+        && Objects.equals(transactionFee, that.transactionFee)
+        && Objects.equals(contractFunctionResult, that.contractFunctionResult);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        transactionId,
+        status,
+        Arrays.hashCode(transactionHash),
+        consensusTimestamp,
+        transactionFee,
+        contractFunctionResult);
+  }
+
+  @Override
+  public String toString() {
+    return "ContractCallResult[transactionId="
+        + transactionId
+        + ", status="
+        + status
+        + ", transactionHash="
+        + Arrays.toString(transactionHash)
+        + ", consensusTimestamp="
+        + consensusTimestamp
+        + ", transactionFee="
+        + transactionFee
+        + ", contractFunctionResult="
+        + contractFunctionResult
+        + "]";
+  }
 }
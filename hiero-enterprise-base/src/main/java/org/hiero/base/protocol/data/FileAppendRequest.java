@@ -3,6 +3,7 @@ package org.hiero.base.protocol.data;
 import com.hedera.hashgraph.sdk.FileId;
 import com.hedera.hashgraph.sdk.Hbar;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -12,7 +13,8 @@ public record FileAppendRequest(
     @NonNull Duration transactionValidDuration,
     @NonNull FileId fileId,
     @NonNull byte[] contents,
-    @Nullable String fileMemo)
+    @Nullable String fileMemo,
+    @Nullable Instant validStart)
     implements TransactionRequest {
 
   private static final String DEFAULT_FILE_MEMO = "";
@@ -39,6 +41,15 @@ public record FileAppendRequest(
     }
   }
 
+  public FileAppendRequest(
+      @NonNull Hbar maxTransactionFee,
+      @NonNull Duration transactionValidDuration,
+      @NonNull FileId fileId,
+      @NonNull byte[] contents,
+      @Nullable String fileMemo) {
+    this(maxTransactionFee, transactionValidDuration, fileId, contents, fileMemo, null);
+  }
+
   @NonNull
   public static FileAppendRequest of(@NonNull FileId fileId, @NonNull byte[] contents) {
     return new FileAppendRequest(
@@ -49,6 +60,29 @@ public record FileAppendRequest(
         DEFAULT_FILE_MEMO);
   }
 
+  /**
+   * Creates an append with a fixed valid start. Appends with a valid start are sent to the same
+   * consensus node of the file, so that appends that are in flight at the same time reach consensus
+   * in the order of their valid start.
+   *
+   * @param fileId the file
+   * @param contents the contents to append
+   * @param validStart the valid start of the transaction id
+   * @return the request
+   */
+  @NonNull
+  public static FileAppendRequest of(
+      @NonNull FileId fileId, @NonNull byte[] contents, @NonNull Instant validStart) {
+    Objects.requireNonNull(validStart, "validStart must not be null");
+    return new FileAppendRequest(
+        DEFAULT_MAX_TRANSACTION_FEE,
+        DEFAULT_TRANSACTION_VALID_DURATION,
+        fileId,
+        contents,
+        DEFAULT_FILE_MEMO,
+        validStart);
+  }
+
   @NonNull
   public static FileAppendRequest of(@NonNull String fileId, @NonNull byte[] contents) {
     Objects.requireNonNull(fileId, "FileId must not be null");
@@ -0,0 +1,142 @@
+package org.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hiero.base.HieroException;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Handle to the record of a transaction that is only retrieved when it is accessed for the first
+ * time. The retrieved record is cached, so the network is queried at most once.
+ *
+ * <p>Consensus nodes only keep the record of a transaction for a short time after consensus (about
+ * 3 minutes). If the record is accessed for the first time after that, it can not be retrieved
+ * anymore and {@link #get()} fails.
+ */
+public final class LazyRecord {
+
+  private final TransactionId transactionId;
+
+  private final RecordLoader loader;
+
+  private final boolean available;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile com.hedera.hashgraph.sdk.TransactionRecord record;
+
+  private LazyRecord(
+      @NonNull final TransactionId transactionId,
+      @NonNull final RecordLoader loader,
+      final boolean available) {
+    this.transactionId = Objects.requireNonNull(transactionId, "transactionId must not be null");
+    this.loader = Objects.requireNonNull(loader, "loader must not be null");
+    this.available = available;
+  }
+
+  /**
+   * Creates a handle that retrieves the record with the given loader.
+   *
+   * @param transactionId the ID of the transaction
+   * @param loader the loader of the record
+   * @return the handle
+   */
+  @NonNull
+  public static LazyRecord of(
+      @NonNull final TransactionId transactionId, @NonNull final RecordLoader loader) {
+    return new LazyRecord(transactionId, loader, true);
+  }
+
+  /**
+   * Creates a handle for a transaction whose record is not retrieved at all.
+   *
+   * @param transactionId the ID of the transaction
+   * @return the handle
+   */
+  @NonNull
+  public static LazyRecord unavailable(@NonNull final TransactionId transactionId) {
+    return new LazyRecord(
+        transactionId,
+        () -> {
+          throw new HieroException(
+              "Record of transaction '"
+                  + transactionId
+                  + "' is not available since only the receipt has been requested");
+        },
+        false);
+  }
+
+  /**
+   * Returns the ID of the transaction.
+   *
+   * @return the ID of the transaction
+   */
+  @NonNull
+  public TransactionId transactionId() {
+    return transactionId;
+  }
+
+  /**
+   * Returns {@code false} if the record is never retrieved since only the receipt of the
+   * transaction has been requested ({@link RecordPolicy#RECEIPT_ONLY}).
+   *
+   * @return {@code true} if the record can be retrieved
+   */
+  public boolean isAvailable() {
+    return available;
+  }
+
+  /**
+   * Returns {@code true} if the record has already been retrieved.
+   *
+   * @return {@code true} if the record has already been retrieved
+   */
+  public boolean isLoaded() {
+    return record != null;
+  }
+
+  /**
+   * Returns the record and retrieves it if it has not been retrieved yet.
+   *
+   * @return the record
+   * @throws IllegalStateException if the record is not available or can not be retrieved, for
+   *     example since the consensus nodes no longer keep the record
+   */
+  @NonNull
+  public com.hedera.hashgraph.sdk.TransactionRecord get() {
+    com.hedera.hashgraph.sdk.TransactionRecord result = record;
+    if (result != null) {
+      return result;
+    }
+    lock.lock();
+    try {
+      if (record == null) {
+        record = Objects.requireNonNull(loader.load(), "loaded record must not be null");
+      }
+      return record;
+    } catch (final HieroException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "LazyRecord[transactionId=" + transactionId + ", loaded=" + isLoaded() + "]";
+  }
+
+  /** Loader of the record of a transaction. */
+  @FunctionalInterface
+  public interface RecordLoader {
+
+    /**
+     * Retrieves the record.
+     *
+     * @return the record
+     * @throws HieroException if the record can not be retrieved
+     */
+    com.hedera.hashgraph.sdk.@NonNull TransactionRecord load() throws HieroException;
+  }
+}
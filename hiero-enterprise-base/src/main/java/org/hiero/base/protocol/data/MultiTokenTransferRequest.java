@@ -0,0 +1,77 @@
+package org.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.hiero.base.data.TokenTransferLeg;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Request to transfer fungible tokens between multiple accounts in one transaction. All legs are
+ * added to the transfer list of a single transaction and each signer key is applied once.
+ */
+public record MultiTokenTransferRequest(
+    @NonNull Hbar maxTransactionFee,
+    @NonNull Duration transactionValidDuration,
+    @NonNull List<TokenTransferLeg> legs,
+    @NonNull List<PrivateKey> signerKeys)
+    implements TransactionRequest {
+
+  /**
+   * Maximum number of token account amounts (distinct token and account pairs) that the network
+   * accepts in the transfer list of one transaction.
+   */
+  public static final int MAX_TOKEN_ACCOUNT_AMOUNTS = 10;
+
+  public MultiTokenTransferRequest {
+    Objects.requireNonNull(maxTransactionFee, "maxTransactionFee must not be null");
+    Objects.requireNonNull(transactionValidDuration, "transactionValidDuration must not be null");
+    Objects.requireNonNull(legs, "legs must not be null");
+    Objects.requireNonNull(signerKeys, "signerKeys must not be null");
+    legs = List.copyOf(legs);
+    signerKeys = List.copyOf(signerKeys);
+    if (legs.isEmpty()) {
+      throw new IllegalArgumentException("legs must not be empty");
+    }
+    if (countTokenAccountAmounts(legs) > MAX_TOKEN_ACCOUNT_AMOUNTS) {
+      throw new IllegalArgumentException(
+          "legs must not contain more than "
+              + MAX_TOKEN_ACCOUNT_AMOUNTS
+              + " distinct token and account pairs");
+    }
+  }
+
+  /**
+   * Returns the number of token account amounts that the given legs need in the transfer list of a
+   * transaction.
+   *
+   * @param legs the legs
+   * @return the number of distinct token and account pairs
+   */
+  public static int countTokenAccountAmounts(@NonNull final List<TokenTransferLeg> legs) {
+    Objects.requireNonNull(legs, "legs must not be null");
+    final Set<Map.Entry<TokenId, AccountId>> pairs = new HashSet<>();
+    legs.forEach(
+        leg -> {
+          pairs.add(Map.entry(leg.tokenId(), leg.sender()));
+          pairs.add(Map.entry(leg.tokenId(), leg.receiver()));
+        });
+    return pairs.size();
+  }
+
+  public static MultiTokenTransferRequest of(
+      @NonNull final List<TokenTransferLeg> legs, @NonNull final List<PrivateKey> signerKeys) {
+    return new MultiTokenTransferRequest(
+        TransactionRequest.DEFAULT_MAX_TRANSACTION_FEE,
+        TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION,
+        legs,
+        signerKeys);
+  }
+}
@@ -0,0 +1,15 @@
+package org.hiero.base.protocol.data;
+
+/** Defines if and when the record of a transaction is retrieved after its receipt. */
+public enum RecordPolicy {
+  /** The record is never retrieved. The record-only fields of the result are {@code null}. */
+  RECEIPT_ONLY,
+  /** The record is retrieved directly after the receipt. */
+  RECORD_EAGER,
+  /**
+   * The record is retrieved the first time a record-only field of the result is accessed. The
+   * consensus nodes only keep the record for about 3 minutes after consensus, a later first access
+   * fails with an {@link IllegalStateException}.
+   */
+  RECORD_LAZY
+}
@@ -0,0 +1,29 @@
+package org.hiero.base.protocol.data;
+
+/**
+ * Priority of a transaction. Transactions with a higher priority get a bigger share of the capacity
+ * when transactions are dispatched by a weighted fair scheduler.
+ */
+public enum TransactionPriority {
+  /** Latency sensitive transactions, like user facing transfers. */
+  HIGH(8),
+  /** Default priority. */
+  NORMAL(4),
+  /** Bulk work that only uses the remaining capacity, like nightly mints. */
+  BULK(1);
+
+  private final int defaultWeight;
+
+  TransactionPriority(final int defaultWeight) {
+    this.defaultWeight = defaultWeight;
+  }
+
+  /**
+   * Returns the default weight of the priority in a weighted fair scheduler.
+   *
+   * @return the default weight
+   */
+  public int getDefaultWeight() {
+    return defaultWeight;
+  }
+}
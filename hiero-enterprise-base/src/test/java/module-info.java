@@ -4,6 +4,9 @@ import org.hiero.base.test.config.SoloActionNetworkSettingsProvider;
 open module org.hiero.base.test {
   requires org.hiero.base;
   requires io.github.cdimascio.dotenv.java;
+  requires io.grpc;
+  requires io.grpc.inprocess;
+  requires com.google.protobuf;
   requires static org.jspecify;
   requires org.junit.jupiter.api;
   requires org.junit.jupiter.params;
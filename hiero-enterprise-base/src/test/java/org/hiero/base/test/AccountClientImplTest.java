@@ -9,6 +9,9 @@ import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.base.AccountsCreationException;
 import org.hiero.base.HieroException;
 import org.hiero.base.data.Account;
 import org.hiero.base.implementation.AccountClientImpl;
@@ -130,6 +133,70 @@ public class AccountClientImplTest {
         .executeAccountCreateTransaction(any(AccountCreateRequest.class));
   }
 
+  @Test
+  void testCreateAccountsSuccessful() throws HieroException {
+    Hbar initialBalance = Hbar.from(1);
+
+    AccountCreateResult mockResult = mock(AccountCreateResult.class);
+    Account mockAccount = mock(Account.class);
+    when(mockResult.newAccount()).thenReturn(mockAccount);
+    when(mockProtocolLayerClient.executeAccountCreateTransaction(any(AccountCreateRequest.class)))
+        .thenReturn(mockResult);
+
+    List<Account> accounts = accountClientImpl.createAccounts(500, initialBalance);
+
+    assertEquals(500, accounts.size());
+    verify(mockProtocolLayerClient, times(500))
+        .executeAccountCreateTransaction(any(AccountCreateRequest.class));
+  }
+
+  @Test
+  void testCreateAccountsFailure() throws HieroException {
+    when(mockProtocolLayerClient.executeAccountCreateTransaction(any(AccountCreateRequest.class)))
+        .thenThrow(new HieroException("Transaction failed"));
+
+    HieroException exception =
+        assertThrows(HieroException.class, () -> accountClientImpl.createAccounts(10, Hbar.ZERO));
+
+    assertInstanceOf(HieroException.class, exception.getCause());
+    assertEquals("Transaction failed", exception.getCause().getMessage());
+  }
+
+  @Test
+  void testCreateAccountsPartialFailure() throws HieroException {
+    AccountCreateResult mockResult = mock(AccountCreateResult.class);
+    Account mockAccount = mock(Account.class);
+    when(mockResult.newAccount()).thenReturn(mockAccount);
+    AtomicInteger calls = new AtomicInteger();
+    when(mockProtocolLayerClient.executeAccountCreateTransaction(any(AccountCreateRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              if (calls.incrementAndGet() == 3) {
+                throw new HieroException("Transaction failed");
+              }
+              return mockResult;
+            });
+
+    AccountsCreationException exception =
+        assertThrows(
+            AccountsCreationException.class, () -> accountClientImpl.createAccounts(5, Hbar.ZERO));
+
+    assertEquals("Transaction failed", exception.getCause().getMessage());
+    assertEquals(calls.get() - 1, exception.getCreatedAccounts().size());
+    assertTrue(exception.getCreatedAccounts().stream().allMatch(a -> a == mockAccount));
+  }
+
+  @Test
+  void testCreateAccountsInvalidParams() throws HieroException {
+    assertTrue(accountClientImpl.createAccounts(0, Hbar.ZERO).isEmpty());
+    assertThrows(NullPointerException.class, () -> accountClientImpl.createAccounts(1, null));
+    assertThrows(
+        IllegalArgumentException.class, () -> accountClientImpl.createAccounts(-1, Hbar.ZERO));
+    assertThrows(HieroException.class, () -> accountClientImpl.createAccounts(1, Hbar.from(-1)));
+    verify(mockProtocolLayerClient, never())
+        .executeAccountCreateTransaction(any(AccountCreateRequest.class));
+  }
+
   @Test
   void testCreateAccountInvalidInitialBalanceNull() {
     Hbar initialBalance = null;
@@ -0,0 +1,105 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.Status;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.hiero.base.HieroException;
+import org.hiero.base.implementation.AdaptiveThrottle;
+import org.hiero.base.protocol.data.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveThrottleTest {
+
+  @Test
+  void testRateAdaptsToResults() {
+    // given
+    final AdaptiveThrottle throttle =
+        new AdaptiveThrottle(new AdaptiveThrottle.Settings(100, 10, 200, 5, 0.5, Duration.ZERO));
+
+    // when
+    throttle.onStatus(TransactionType.CRYPTO_TRANSFER, Status.BUSY);
+    throttle.onResult(TransactionType.TOKEN_MINT, null);
+
+    // then
+    Assertions.assertEquals(50, throttle.getCurrentRate(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertEquals(105, throttle.getCurrentRate(TransactionType.TOKEN_MINT));
+    Assertions.assertEquals(100, throttle.getCurrentRate(TransactionType.FILE_APPEND));
+  }
+
+  @Test
+  void testRateStaysWithinBounds() {
+    // given
+    final AdaptiveThrottle throttle =
+        new AdaptiveThrottle(new AdaptiveThrottle.Settings(20, 10, 30, 50, 0.1, Duration.ZERO));
+
+    // when
+    throttle.onStatus(TransactionType.CRYPTO_TRANSFER, Status.PLATFORM_TRANSACTION_NOT_CREATED);
+    throttle.onStatus(TransactionType.TOKEN_MINT, Status.SUCCESS);
+    throttle.onStatus(TransactionType.FILE_APPEND, Status.INVALID_SIGNATURE);
+    throttle.onResult(
+        TransactionType.FILE_APPEND, new HieroException("Failed to execute transaction"));
+
+    // then
+    Assertions.assertEquals(10, throttle.getCurrentRate(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertEquals(30, throttle.getCurrentRate(TransactionType.TOKEN_MINT));
+    Assertions.assertEquals(20, throttle.getCurrentRate(TransactionType.FILE_APPEND));
+  }
+
+  @Test
+  void testRejectsIfMaxQueueDelayIsExceeded() throws Exception {
+    // given
+    final AdaptiveThrottle throttle =
+        new AdaptiveThrottle(new AdaptiveThrottle.Settings(1, 1, 1, 0, 1, Duration.ofMillis(10)));
+
+    // when
+    throttle.acquire(TransactionType.CRYPTO_TRANSFER);
+    final CompletableFuture<Void> rejected = throttle.acquireAsync(TransactionType.CRYPTO_TRANSFER);
+
+    // then
+    Assertions.assertThrows(
+        HieroException.class, () -> throttle.acquire(TransactionType.CRYPTO_TRANSFER));
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, rejected::get);
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertEquals(2, throttle.getRejectedCount(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertDoesNotThrow(() -> throttle.acquire(TransactionType.TOKEN_MINT));
+  }
+
+  @Test
+  void testQueuesWithinMaxQueueDelay() throws Exception {
+    // given
+    final AdaptiveThrottle throttle =
+        new AdaptiveThrottle(
+            new AdaptiveThrottle.Settings(10, 10, 10, 0, 1, Duration.ofSeconds(1)));
+
+    // when
+    throttle.acquire(TransactionType.CRYPTO_TRANSFER);
+    final CompletableFuture<Void> queued = throttle.acquireAsync(TransactionType.CRYPTO_TRANSFER);
+
+    // then
+    Assertions.assertEquals(1, throttle.getQueueDepth(TransactionType.CRYPTO_TRANSFER));
+    queued.get();
+    Assertions.assertEquals(0, throttle.getQueueDepth(TransactionType.CRYPTO_TRANSFER));
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new AdaptiveThrottle(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveThrottle.Settings(1, 0, 1, 1, 0.5, Duration.ZERO));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveThrottle.Settings(5, 1, 2, 1, 0.5, Duration.ZERO));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new AdaptiveThrottle.Settings(1, 1, 1, 1, 1.5, Duration.ZERO));
+    final AdaptiveThrottle throttle = new AdaptiveThrottle();
+    Assertions.assertThrows(NullPointerException.class, () -> throttle.acquire(null));
+    Assertions.assertThrows(NullPointerException.class, () -> throttle.onResult(null, null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> throttle.onStatus(TransactionType.TOKEN_MINT, null));
+  }
+}
@@ -0,0 +1,189 @@
+package org.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.time.Duration;
+import java.time.Instant;
+import org.hiero.base.FileClient;
+import org.hiero.base.HieroException;
+import org.hiero.base.implementation.CachingFileClient;
+import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.FileInfoRequest;
+import org.hiero.base.protocol.data.FileInfoResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class CachingFileClientTest {
+
+  private static final FileId FILE = FileId.fromString("0.0.1001");
+
+  private static final FileId OTHER_FILE = FileId.fromString("0.0.1002");
+
+  FileClient delegate;
+
+  ProtocolLayerClient protocolLayerClient;
+
+  CachingFileClient fileClient;
+
+  @BeforeEach
+  void setup() {
+    delegate = Mockito.mock(FileClient.class);
+    protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+    fileClient = new CachingFileClient(delegate, protocolLayerClient);
+  }
+
+  @Test
+  void testSecondReadIsAnsweredByCache() throws HieroException {
+    // given
+    when(delegate.readFile(FILE)).thenReturn(new byte[] {1, 2, 3});
+
+    // when
+    final byte[] first = fileClient.readFile(FILE);
+    first[0] = 42;
+    final byte[] second = fileClient.readFile(FILE);
+
+    // then
+    verify(delegate, times(1)).readFile(FILE);
+    Assertions.assertArrayEquals(new byte[] {1, 2, 3}, second);
+    Assertions.assertEquals(1, fileClient.getContentHitCount());
+    Assertions.assertEquals(1, fileClient.getContentMissCount());
+    Assertions.assertEquals(3, fileClient.getCachedBytes());
+  }
+
+  @Test
+  void testInfoAccessorsShareOneQuery() throws HieroException {
+    // given
+    final Instant expirationTime = Instant.now().plus(Duration.ofDays(1));
+    when(protocolLayerClient.executeFileInfoQuery(any(FileInfoRequest.class)))
+        .thenReturn(new FileInfoResponse(FILE, 3, false, expirationTime));
+
+    // when
+    final boolean deleted = fileClient.isDeleted(FILE);
+    final int size = fileClient.getSize(FILE);
+    final Instant result = fileClient.getExpirationTime(FILE);
+
+    // then
+    verify(protocolLayerClient, times(1)).executeFileInfoQuery(any(FileInfoRequest.class));
+    Assertions.assertFalse(deleted);
+    Assertions.assertEquals(3, size);
+    Assertions.assertEquals(expirationTime, result);
+    Assertions.assertEquals(2, fileClient.getInfoHitCount());
+    Assertions.assertEquals(1, fileClient.getInfoMissCount());
+  }
+
+  @Test
+  void testChangesInvalidateCachedEntries() throws HieroException {
+    // given
+    final Instant expirationTime = Instant.now().plus(Duration.ofDays(1));
+    when(delegate.readFile(FILE)).thenReturn(new byte[] {1}, new byte[] {2}, new byte[] {3});
+    when(protocolLayerClient.executeFileInfoQuery(any(FileInfoRequest.class)))
+        .thenReturn(
+            new FileInfoResponse(FILE, 1, false, expirationTime),
+            new FileInfoResponse(FILE, 1, false, expirationTime.plusSeconds(60)),
+            new FileInfoResponse(FILE, 0, true, expirationTime.plusSeconds(60)));
+    fileClient.readFile(FILE);
+    fileClient.getExpirationTime(FILE);
+
+    // when
+    fileClient.updateFile(FILE, new byte[] {2});
+    final byte[] updated = fileClient.readFile(FILE);
+    fileClient.updateExpirationTime(FILE, expirationTime.plusSeconds(60));
+    final Instant extended = fileClient.getExpirationTime(FILE);
+    fileClient.deleteFile(FILE);
+    final boolean deleted = fileClient.isDeleted(FILE);
+
+    // then
+    verify(delegate).updateFile(FILE, new byte[] {2});
+    verify(delegate).updateExpirationTime(FILE, expirationTime.plusSeconds(60));
+    verify(delegate).deleteFile(FILE);
+    Assertions.assertArrayEquals(new byte[] {2}, updated);
+    Assertions.assertEquals(expirationTime.plusSeconds(60), extended);
+    Assertions.assertTrue(deleted);
+    Assertions.assertEquals(0, fileClient.getCachedBytes());
+  }
+
+  @Test
+  void testFailedUpdateInvalidatesCachedEntries() throws HieroException {
+    // given
+    when(delegate.readFile(FILE)).thenReturn(new byte[] {1}, new byte[] {2});
+    Mockito.doThrow(new HieroException("failed")).when(delegate).updateFile(any(), any());
+    fileClient.readFile(FILE);
+
+    // when
+    Assertions.assertThrows(
+        HieroException.class, () -> fileClient.updateFile(FILE, new byte[] {2}));
+    final byte[] read = fileClient.readFile(FILE);
+
+    // then
+    Assertions.assertArrayEquals(new byte[] {2}, read);
+  }
+
+  @Test
+  void testExpiredEntriesAreLoadedAgain() throws Exception {
+    // given
+    fileClient =
+        new CachingFileClient(
+            delegate,
+            protocolLayerClient,
+            new CachingFileClient.Settings(1024, 10, Duration.ofMillis(10)));
+    when(delegate.readFile(FILE)).thenReturn(new byte[] {1}, new byte[] {2});
+    fileClient.readFile(FILE);
+
+    // when
+    Thread.sleep(50);
+    final byte[] read = fileClient.readFile(FILE);
+
+    // then
+    verify(delegate, times(2)).readFile(FILE);
+    Assertions.assertArrayEquals(new byte[] {2}, read);
+  }
+
+  @Test
+  void testLeastRecentlyUsedContentsAreEvicted() throws HieroException {
+    // given
+    final FileId thirdFile = FileId.fromString("0.0.1003");
+    fileClient =
+        new CachingFileClient(
+            delegate,
+            protocolLayerClient,
+            new CachingFileClient.Settings(5, 10, Duration.ofMinutes(1)));
+    when(delegate.readFile(FILE)).thenReturn(new byte[] {1, 2});
+    when(delegate.readFile(OTHER_FILE)).thenReturn(new byte[] {3, 4});
+    when(delegate.readFile(thirdFile)).thenReturn(new byte[] {5, 6});
+
+    // when
+    fileClient.readFile(FILE);
+    fileClient.readFile(OTHER_FILE);
+    fileClient.readFile(FILE);
+    fileClient.readFile(thirdFile);
+    fileClient.readFile(FILE);
+    fileClient.readFile(OTHER_FILE);
+
+    // then
+    verify(delegate, times(1)).readFile(FILE);
+    verify(delegate, times(2)).readFile(OTHER_FILE);
+    verify(delegate, times(1)).readFile(thirdFile);
+    Assertions.assertEquals(4, fileClient.getCachedBytes());
+  }
+
+  @Test
+  void testInvalidSettings() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new CachingFileClient.Settings(-1, 10, Duration.ofMinutes(1)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new CachingFileClient.Settings(1024, 0, Duration.ofMinutes(1)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new CachingFileClient.Settings(1024, 10, Duration.ZERO));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new CachingFileClient.Settings(1024, 10, null));
+  }
+}
@@ -0,0 +1,61 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.hiero.base.config.StartupMode;
+import org.hiero.base.config.StartupReport;
+import org.hiero.base.config.implementation.ClientWarmUp;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ClientWarmUpTest {
+
+  @Test
+  void testAllNodesArePinged() {
+    // given
+    final AccountId reachable = AccountId.fromString("0.0.3");
+    final AccountId failing = AccountId.fromString("0.0.4");
+    final AccountId hanging = AccountId.fromString("0.0.5");
+    final Client client = Mockito.mock(Client.class);
+    Mockito.when(client.getNetwork())
+        .thenReturn(
+            Map.of("node3:50211", reachable, "node4:50211", failing, "node5:50211", hanging));
+    Mockito.when(client.pingAsync(reachable)).thenReturn(CompletableFuture.completedFuture(null));
+    Mockito.when(client.pingAsync(failing))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unreachable")));
+    Mockito.when(client.pingAsync(hanging)).thenReturn(new CompletableFuture<>());
+    final StartupReport report = new StartupReport(StartupMode.EAGER_WARM);
+
+    // when
+    ClientWarmUp.warmUp(List.of(client), Duration.ofMillis(100), report);
+
+    // then
+    Assertions.assertEquals(Set.of(reachable), report.getReachableNodes());
+    Assertions.assertEquals(Set.of(failing, hanging), report.getUnreachableNodes());
+    Assertions.assertTrue(report.getWarmUpTime().isPresent());
+    Assertions.assertTrue(report.isReady());
+  }
+
+  @Test
+  void testNoReachableNodeIsNotReady() {
+    // given
+    final AccountId failing = AccountId.fromString("0.0.3");
+    final Client client = Mockito.mock(Client.class);
+    Mockito.when(client.getNetwork()).thenReturn(Map.of("node3:50211", failing));
+    Mockito.when(client.pingAsync(failing)).thenThrow(new IllegalStateException("closed"));
+    final StartupReport report = new StartupReport(StartupMode.EAGER_WARM);
+
+    // when
+    ClientWarmUp.warmUp(List.of(client), Duration.ofMillis(100), report);
+
+    // then
+    Assertions.assertEquals(Set.of(failing), report.getUnreachableNodes());
+    Assertions.assertFalse(report.isReady());
+  }
+}
@@ -0,0 +1,129 @@
+package org.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.hiero.base.FileClient;
+import org.hiero.base.HieroException;
+import org.hiero.base.implementation.CompressingFileClient;
+import org.hiero.base.protocol.data.FileCreateRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class CompressingFileClientTest {
+
+  private static final FileId FILE = FileId.fromString("0.0.1001");
+
+  FileClient delegate;
+
+  CompressingFileClient fileClient;
+
+  @BeforeEach
+  void setup() throws HieroException {
+    delegate = Mockito.mock(FileClient.class);
+    fileClient = new CompressingFileClient(delegate);
+    when(delegate.createFileFrom(any(ByteBuffer.class))).thenReturn(FILE);
+  }
+
+  @Test
+  void testCompressibleContentsAreStoredEncoded() throws HieroException {
+    // given
+    final byte[] contents = json(1_000);
+    final ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+
+    // when
+    final FileId result = fileClient.createFile(contents);
+    verify(delegate).createFileFrom(captor.capture());
+    final byte[] stored = toArray(captor.getValue());
+    when(delegate.readFile(FILE)).thenReturn(stored);
+    final byte[] read = fileClient.readFile(FILE);
+
+    // then
+    Assertions.assertEquals(FILE, result);
+    Assertions.assertTrue(stored.length * 5 < contents.length);
+    Assertions.assertArrayEquals(contents, read);
+  }
+
+  @Test
+  void testIncompressibleContentsAreStoredAsTheyAre() throws HieroException {
+    // given
+    final byte[] contents = new byte[3_000];
+    new Random(42).nextBytes(contents);
+    final ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+
+    // when
+    fileClient.createFile(contents);
+
+    // then
+    verify(delegate).createFileFrom(captor.capture());
+    Assertions.assertArrayEquals(contents, toArray(captor.getValue()));
+  }
+
+  @Test
+  void testUnencodedFileIsReadAsItIs() throws HieroException {
+    // given
+    final byte[] contents = "Hello Hiero!".getBytes(StandardCharsets.UTF_8);
+    when(delegate.readFile(FILE)).thenReturn(contents);
+
+    // when
+    final byte[] read = fileClient.readFile(FILE);
+
+    // then
+    Assertions.assertArrayEquals(contents, read);
+  }
+
+  @Test
+  void testStreamLargerThanFileLimitIsEncoded() throws HieroException {
+    // given
+    final byte[] contents = json(40_000);
+    final ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+
+    // when
+    fileClient.createFileFrom(new ByteArrayInputStream(contents), contents.length);
+    verify(delegate).createFileFrom(captor.capture());
+    when(delegate.readFile(FILE)).thenReturn(toArray(captor.getValue()));
+
+    // then
+    Assertions.assertTrue(contents.length > FileCreateRequest.FILE_MAX_SIZE);
+    Assertions.assertTrue(captor.getValue().remaining() < FileCreateRequest.FILE_MAX_SIZE);
+    Assertions.assertArrayEquals(contents, fileClient.readFile(FILE));
+  }
+
+  @Test
+  void testContentsThatLookEncodedAreEncoded() throws HieroException {
+    // given
+    final byte[] contents = {0x00, 'H', 'F', 'C', 1, 0, 0, 0, 1};
+    final ArgumentCaptor<ByteBuffer> captor = ArgumentCaptor.forClass(ByteBuffer.class);
+
+    // when
+    fileClient.createFile(contents);
+    verify(delegate).createFileFrom(captor.capture());
+    when(delegate.readFile(FILE)).thenReturn(toArray(captor.getValue()));
+
+    // then
+    Assertions.assertArrayEquals(contents, fileClient.readFile(FILE));
+  }
+
+  private static byte[] json(final int entries) {
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < entries; i++) {
+      builder.append("{\"id\":").append(i).append(",\"name\":\"token\",\"active\":true},");
+    }
+    return builder.append("{}]").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] toArray(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+}
@@ -11,9 +11,22 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hashgraph.sdk.FileId;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import org.hiero.base.HieroException;
 import org.hiero.base.implementation.FileClientImpl;
+import org.hiero.base.implementation.FileRegistry;
+import org.hiero.base.protocol.AsyncProtocolLayerClient;
 import org.hiero.base.protocol.ProtocolLayerClient;
 import org.hiero.base.protocol.data.FileAppendRequest;
 import org.hiero.base.protocol.data.FileAppendResult;
@@ -28,6 +41,8 @@ import org.hiero.base.protocol.data.FileUpdateResult;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class FileClientImplTest {
@@ -440,4 +455,289 @@ public class FileClientImplTest {
     Assertions.assertThrows(
         NullPointerException.class, () -> fileClientImpl.updateExpirationTime(null, null));
   }
+
+  @Test
+  void testCreateFileFromPathUploadsAllChunks(@TempDir final Path directory) throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 2 + 100];
+    new Random(42).nextBytes(content);
+    final Path path = Files.write(directory.resolve("contents.bin"), content);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    final ArgumentCaptor<FileCreateRequest> createCaptor =
+        ArgumentCaptor.forClass(FileCreateRequest.class);
+    final ArgumentCaptor<FileAppendRequest> appendCaptor =
+        ArgumentCaptor.forClass(FileAppendRequest.class);
+
+    // when
+    final FileId result = fileClientImpl.createFileFrom(path);
+
+    // then
+    verify(protocolLayerClient).executeFileCreateTransaction(createCaptor.capture());
+    verify(protocolLayerClient, times(2))
+        .executeFileAppendRequestTransaction(appendCaptor.capture());
+    final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+    uploaded.writeBytes(createCaptor.getValue().contents());
+    appendCaptor.getAllValues().forEach(request -> uploaded.writeBytes(request.contents()));
+    Assertions.assertArrayEquals(content, uploaded.toByteArray());
+    Assertions.assertEquals(fileId, result);
+  }
+
+  @Test
+  void testCreateFileFromByteBufferKeepsPosition() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final ByteBuffer buffer = ByteBuffer.wrap("Hello Hiero!".getBytes());
+    buffer.position(6);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    final ArgumentCaptor<FileCreateRequest> createCaptor =
+        ArgumentCaptor.forClass(FileCreateRequest.class);
+
+    // when
+    fileClientImpl.createFileFrom(buffer);
+
+    // then
+    verify(protocolLayerClient).executeFileCreateTransaction(createCaptor.capture());
+    Assertions.assertArrayEquals("Hiero!".getBytes(), createCaptor.getValue().contents());
+    Assertions.assertEquals(6, buffer.position());
+  }
+
+  @Test
+  void testCreateFileFromStreamThrowsExceptionForShortStream() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final InputStream stream = new ByteArrayInputStream(new byte[3_000]);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+
+    // then
+    Assertions.assertThrows(
+        HieroException.class, () -> fileClientImpl.createFileFrom(stream, 5_000));
+    Assertions.assertThrows(
+        HieroException.class,
+        () -> fileClientImpl.createFileFrom(stream, FileCreateRequest.FILE_MAX_SIZE + 1));
+  }
+
+  @Test
+  void testPipelinedUploadKeepsWindowAndOrder() throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final byte[] content = new byte[FileCreateRequest.FILE_CREATE_MAX_SIZE * 6];
+    new Random(42).nextBytes(content);
+    final ProtocolLayerClient client = mockPipelinedClient(fileId, content, content);
+    final FileClientImpl pipelined = new FileClientImpl(client, new FileClientImpl.Settings(4));
+    final ArgumentCaptor<FileAppendRequest> appendCaptor =
+        ArgumentCaptor.forClass(FileAppendRequest.class);
+
+    // when
+    final FileId result = pipelined.createFile(content);
+
+    // then
+    verify((AsyncProtocolLayerClient) client, times(5))
+        .executeFileAppendRequestTransactionAsync(appendCaptor.capture());
+    verify(client, Mockito.never()).executeFileAppendRequestTransaction(any());
+    verify(client).executeFileContentsQuery(any(FileContentsRequest.class));
+    final List<FileAppendRequest> appends = appendCaptor.getAllValues();
+    for (int i = 1; i < appends.size(); i++) {
+      Assertions.assertTrue(appends.get(i).validStart().isAfter(appends.get(i - 1).validStart()));
+    }
+    Assertions.assertEquals(fileId, result);
+  }
+
+  @Test
+  void testPipelinedUploadAppendsOnlyMissingRange() throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final int chunk = FileCreateRequest.FILE_CREATE_MAX_SIZE;
+    final byte[] content = new byte[chunk * 4 + 10];
+    new Random(42).nextBytes(content);
+    final byte[] uploaded = Arrays.copyOf(content, chunk * 3);
+    final ProtocolLayerClient client = mockPipelinedClient(fileId, content, uploaded);
+    final FileClientImpl pipelined = new FileClientImpl(client, new FileClientImpl.Settings(4));
+    final ArgumentCaptor<FileAppendRequest> appendCaptor =
+        ArgumentCaptor.forClass(FileAppendRequest.class);
+
+    // when
+    pipelined.createFile(content);
+
+    // then
+    verify(client, times(2)).executeFileAppendRequestTransaction(appendCaptor.capture());
+    verify(client, Mockito.never()).executeFileUpdateRequestTransaction(any());
+    Assertions.assertArrayEquals(
+        Arrays.copyOfRange(content, chunk * 3, chunk * 4),
+        appendCaptor.getAllValues().get(0).contents());
+    Assertions.assertArrayEquals(
+        Arrays.copyOfRange(content, chunk * 4, content.length),
+        appendCaptor.getAllValues().get(1).contents());
+  }
+
+  @Test
+  void testPipelinedUploadWritesFileAgainIfOutOfOrder() throws Exception {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final int chunk = FileCreateRequest.FILE_CREATE_MAX_SIZE;
+    final byte[] content = new byte[chunk * 3];
+    new Random(42).nextBytes(content);
+    final byte[] uploaded = content.clone();
+    System.arraycopy(content, chunk * 2, uploaded, chunk, chunk);
+    System.arraycopy(content, chunk, uploaded, chunk * 2, chunk);
+    final ProtocolLayerClient client = mockPipelinedClient(fileId, content, uploaded);
+    final FileClientImpl pipelined = new FileClientImpl(client, new FileClientImpl.Settings(4));
+    final ArgumentCaptor<FileUpdateRequest> updateCaptor =
+        ArgumentCaptor.forClass(FileUpdateRequest.class);
+
+    // when
+    pipelined.createFile(content);
+
+    // then
+    verify(client).executeFileUpdateRequestTransaction(updateCaptor.capture());
+    verify(client, times(2)).executeFileAppendRequestTransaction(any(FileAppendRequest.class));
+    Assertions.assertArrayEquals(Arrays.copyOf(content, chunk), updateCaptor.getValue().contents());
+  }
+
+  @Test
+  void testInvalidSettings() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new FileClientImpl.Settings(0));
+  }
+
+  @Test
+  void testCreateFileReusesRegisteredFile() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = "Hello Hiero!".getBytes();
+    final Instant expirationTime = Instant.now().plus(Duration.ofDays(30));
+    final FileRegistry registry = new FileRegistry();
+    fileClientImpl.setRegistry(registry);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    when(protocolLayerClient.executeFileInfoQuery(any(FileInfoRequest.class)))
+        .thenReturn(new FileInfoResponse(fileId, content.length, false, expirationTime));
+    when(protocolLayerClient.executeFileContentsQuery(any(FileContentsRequest.class)))
+        .thenReturn(new FileContentsResponse(fileId, content));
+
+    // when
+    final FileId first = fileClientImpl.createFile(content);
+    final FileId second = fileClientImpl.createFile(content.clone());
+
+    // then
+    verify(protocolLayerClient, times(1))
+        .executeFileCreateTransaction(any(FileCreateRequest.class));
+    Assertions.assertEquals(fileId, first);
+    Assertions.assertEquals(fileId, second);
+    Assertions.assertEquals(1, registry.getHitCount());
+  }
+
+  @Test
+  void testCreateFileUploadsAgainIfRegisteredFileIsDeleted() throws HieroException {
+    // given
+    final FileId deletedId = FileId.fromString("1.2.3");
+    final FileId fileId = FileId.fromString("1.2.4");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = "Hello Hiero!".getBytes();
+    final Instant expirationTime = Instant.now().plus(Duration.ofDays(30));
+    final FileRegistry registry = new FileRegistry();
+    registry.register(FileRegistry.hash(ByteBuffer.wrap(content)), deletedId, expirationTime);
+    fileClientImpl.setRegistry(registry);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    when(protocolLayerClient.executeFileInfoQuery(any(FileInfoRequest.class)))
+        .thenReturn(
+            new FileInfoResponse(deletedId, content.length, true, expirationTime),
+            new FileInfoResponse(fileId, content.length, false, expirationTime));
+
+    // when
+    final FileId result = fileClientImpl.createFile(content);
+
+    // then
+    Assertions.assertEquals(fileId, result);
+    Assertions.assertFalse(registry.contains(deletedId));
+    Assertions.assertTrue(registry.contains(fileId));
+  }
+
+  @Test
+  void testCreateFileUploadsAgainIfRegisteredFileIsChanged() throws HieroException {
+    // given
+    final FileId changedId = FileId.fromString("1.2.3");
+    final FileId fileId = FileId.fromString("1.2.4");
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    final byte[] content = "Hello Hiero!".getBytes();
+    final Instant expirationTime = Instant.now().plus(Duration.ofDays(30));
+    final FileRegistry registry = new FileRegistry();
+    registry.register(FileRegistry.hash(ByteBuffer.wrap(content)), changedId, expirationTime);
+    fileClientImpl.setRegistry(registry);
+    when(protocolLayerClient.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    when(protocolLayerClient.executeFileInfoQuery(any(FileInfoRequest.class)))
+        .thenReturn(
+            new FileInfoResponse(changedId, content.length, false, expirationTime),
+            new FileInfoResponse(fileId, content.length, false, expirationTime));
+    when(protocolLayerClient.executeFileContentsQuery(any(FileContentsRequest.class)))
+        .thenReturn(new FileContentsResponse(changedId, "Hello Hedera".getBytes()));
+
+    // when
+    final FileId result = fileClientImpl.createFile(content);
+
+    // then
+    verify(protocolLayerClient, times(1))
+        .executeFileCreateTransaction(any(FileCreateRequest.class));
+    Assertions.assertEquals(fileId, result);
+    Assertions.assertFalse(registry.contains(changedId));
+    Assertions.assertTrue(registry.contains(fileId));
+  }
+
+  @Test
+  void testDeleteFileEvictsRegisteredFile() throws HieroException {
+    // given
+    final FileId fileId = FileId.fromString("1.2.3");
+    final FileRegistry registry = new FileRegistry();
+    registry.register(
+        FileRegistry.hash(ByteBuffer.wrap(new byte[] {1})),
+        fileId,
+        Instant.now().plus(Duration.ofDays(30)));
+    fileClientImpl.setRegistry(registry);
+
+    // when
+    fileClientImpl.deleteFile(fileId);
+
+    // then
+    Assertions.assertFalse(registry.contains(fileId));
+  }
+
+  /**
+   * Creates a client whose pipelined appends succeed and whose file contains the given uploaded
+   * contents until the file has been repaired.
+   */
+  private static ProtocolLayerClient mockPipelinedClient(
+      final FileId fileId, final byte[] content, final byte[] uploaded) throws HieroException {
+    final ProtocolLayerClient client =
+        mock(
+            ProtocolLayerClient.class,
+            Mockito.withSettings().extraInterfaces(AsyncProtocolLayerClient.class));
+    final FileCreateResult fileCreateResult = Mockito.mock(FileCreateResult.class);
+    when(fileCreateResult.fileId()).thenReturn(fileId);
+    when(client.executeFileCreateTransaction(any(FileCreateRequest.class)))
+        .thenReturn(fileCreateResult);
+    when(((AsyncProtocolLayerClient) client)
+            .executeFileAppendRequestTransactionAsync(any(FileAppendRequest.class)))
+        .thenAnswer(invocation -> CompletableFuture.completedFuture(mock(FileAppendResult.class)));
+    when(client.executeFileContentsQuery(any(FileContentsRequest.class)))
+        .thenReturn(new FileContentsResponse(fileId, uploaded));
+    when(client.executeFileInfoQuery(any(FileInfoRequest.class)))
+        .thenReturn(
+            new FileInfoResponse(fileId, uploaded.length, false, Instant.now()),
+            new FileInfoResponse(fileId, content.length, false, Instant.now()));
+    return client;
+  }
 }
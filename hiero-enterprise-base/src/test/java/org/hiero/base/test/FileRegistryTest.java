@@ -0,0 +1,92 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.hiero.base.implementation.FileRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileRegistryTest {
+
+  private static final FileId FILE = FileId.fromString("0.0.1001");
+
+  @TempDir Path directory;
+
+  @Test
+  void testRegisteredFileIsFoundByHash() {
+    // given
+    final FileRegistry registry = new FileRegistry();
+    final byte[] hash = FileRegistry.hash(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    final Instant expirationTime = Instant.now().plus(Duration.ofDays(1));
+
+    // when
+    registry.register(hash, FILE, expirationTime);
+    final Optional<FileRegistry.Entry> found =
+        registry.lookup(FileRegistry.hash(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+    final Optional<FileRegistry.Entry> other =
+        registry.lookup(FileRegistry.hash(ByteBuffer.wrap(new byte[] {1, 2, 4})));
+
+    // then
+    Assertions.assertEquals(Optional.of(new FileRegistry.Entry(FILE, expirationTime)), found);
+    Assertions.assertTrue(other.isEmpty());
+    Assertions.assertTrue(registry.contains(FILE));
+    Assertions.assertEquals(1, registry.getHitCount());
+    Assertions.assertEquals(1, registry.getMissCount());
+  }
+
+  @Test
+  void testHashKeepsPosition() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3});
+    buffer.position(1);
+
+    // when
+    final byte[] hash = FileRegistry.hash(buffer);
+
+    // then
+    Assertions.assertArrayEquals(FileRegistry.hash(ByteBuffer.wrap(new byte[] {2, 3})), hash);
+    Assertions.assertEquals(1, buffer.position());
+  }
+
+  @Test
+  void testExpiredAndEvictedFilesAreNotFound() {
+    // given
+    final FileRegistry registry = new FileRegistry();
+    final byte[] expired = FileRegistry.hash(ByteBuffer.wrap(new byte[] {1}));
+    final byte[] evicted = FileRegistry.hash(ByteBuffer.wrap(new byte[] {2}));
+    registry.register(expired, FileId.fromString("0.0.1002"), Instant.now().minusSeconds(1));
+    registry.register(evicted, FILE, Instant.now().plus(Duration.ofDays(1)));
+
+    // when
+    registry.evict(FILE);
+
+    // then
+    Assertions.assertTrue(registry.lookup(expired).isEmpty());
+    Assertions.assertTrue(registry.lookup(evicted).isEmpty());
+    Assertions.assertEquals(0, registry.size());
+  }
+
+  @Test
+  void testRegistrySurvivesReopen() throws Exception {
+    // given
+    final Path file = directory.resolve("files.index");
+    final byte[] hash = FileRegistry.hash(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    final Instant expirationTime = Instant.ofEpochSecond(Instant.now().getEpochSecond() + 3600);
+    new FileRegistry(file).register(hash, FILE, Instant.now().plusSeconds(60));
+    new FileRegistry(file).updateExpirationTime(FILE, expirationTime);
+    Files.writeString(file, Files.readString(file) + "unreadable line\n");
+
+    // when
+    final FileRegistry registry = new FileRegistry(file);
+
+    // then
+    Assertions.assertEquals(
+        Optional.of(new FileRegistry.Entry(FILE, expirationTime)), registry.lookup(hash));
+  }
+}
@@ -8,13 +8,21 @@ import static org.mockito.Mockito.when;
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.PublicKey;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TokenType;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.hiero.base.HieroException;
 import org.hiero.base.data.Account;
+import org.hiero.base.data.TokenTransferLeg;
+import org.hiero.base.data.TokenTransferLegResult;
 import org.hiero.base.implementation.FungibleTokenClientImpl;
 import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.MultiTokenTransferRequest;
+import org.hiero.base.protocol.data.MultiTokenTransferResult;
 import org.hiero.base.protocol.data.TokenAssociateRequest;
 import org.hiero.base.protocol.data.TokenAssociateResult;
 import org.hiero.base.protocol.data.TokenCreateRequest;
@@ -554,4 +562,83 @@ public class FungibleClientImplTest {
     Assertions.assertEquals("tokenId must not be null", e2.getMessage());
     Assertions.assertEquals("supplyKey must not be null", e3.getMessage());
   }
+
+  @Test
+  void testTransferTokensPacksLegsIntoBatches() throws HieroException {
+    final AccountId treasury = AccountId.fromString("0.0.2");
+    final PrivateKey treasuryKey = PrivateKey.generateED25519();
+    final TokenId tokenId = TokenId.fromString("0.0.1");
+    final Map<AccountId, Long> amounts = new LinkedHashMap<>();
+    for (int i = 0; i < 20; i++) {
+      amounts.put(AccountId.fromString("0.0." + (1000 + i)), 5L);
+    }
+    final TransactionId transactionId = TransactionId.generate(treasury);
+    final ArgumentCaptor<MultiTokenTransferRequest> captor =
+        ArgumentCaptor.forClass(MultiTokenTransferRequest.class);
+
+    when(protocolLayerClient.executeMultiTokenTransferTransaction(captor.capture()))
+        .thenReturn(new MultiTokenTransferResult(transactionId, Status.SUCCESS));
+
+    final List<TokenTransferLegResult> results =
+        fungibleClientImpl.transferTokens(tokenId, Account.of(treasury, treasuryKey), amounts);
+
+    verify(protocolLayerClient, times(3))
+        .executeMultiTokenTransferTransaction(any(MultiTokenTransferRequest.class));
+    Assertions.assertEquals(
+        List.of(9, 9, 2), captor.getAllValues().stream().map(r -> r.legs().size()).toList());
+    captor
+        .getAllValues()
+        .forEach(r -> Assertions.assertEquals(List.of(treasuryKey), r.signerKeys()));
+    Assertions.assertEquals(20, results.size());
+    Assertions.assertTrue(results.stream().allMatch(TokenTransferLegResult::isSuccess));
+    Assertions.assertEquals(
+        List.copyOf(amounts.keySet()), results.stream().map(r -> r.leg().receiver()).toList());
+  }
+
+  @Test
+  void testTransferTokensReportsFailedBatch() throws HieroException {
+    final AccountId sender = AccountId.fromString("0.0.3");
+    final PrivateKey senderKey = PrivateKey.generateED25519();
+    final TokenId tokenId = TokenId.fromString("0.0.1");
+    final TokenTransferLeg leg =
+        new TokenTransferLeg(tokenId, sender, AccountId.fromString("0.0.4"), 10);
+
+    when(protocolLayerClient.executeMultiTokenTransferTransaction(
+            any(MultiTokenTransferRequest.class)))
+        .thenThrow(new HieroException("Failed to execute multi token transfer transaction"));
+
+    final List<TokenTransferLegResult> results =
+        fungibleClientImpl.transferTokens(List.of(leg), Map.of(sender, senderKey));
+
+    Assertions.assertEquals(1, results.size());
+    Assertions.assertFalse(results.get(0).isSuccess());
+    Assertions.assertEquals(leg, results.get(0).leg());
+  }
+
+  @Test
+  void testTransferTokensRequiresSenderKeys() {
+    final TokenTransferLeg leg =
+        new TokenTransferLeg(
+            TokenId.fromString("0.0.1"),
+            AccountId.fromString("0.0.3"),
+            AccountId.fromString("0.0.4"),
+            10);
+    final TokenTransferLeg operatorLeg =
+        new TokenTransferLeg(
+            TokenId.fromString("0.0.1"),
+            AccountId.fromString("0.0.2"),
+            AccountId.fromString("0.0.4"),
+            10);
+    when(operationalAccount.accountId()).thenReturn(AccountId.fromString("0.0.2"));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> fungibleClientImpl.transferTokens(List.of(leg), Map.of()));
+    // the key of the operator is not applied implicitly
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> fungibleClientImpl.transferTokens(List.of(operatorLeg), Map.of()));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> fungibleClientImpl.transferTokens(null, Map.of()));
+  }
 }
@@ -0,0 +1,332 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import org.hiero.base.HieroContext;
+import org.hiero.base.data.Account;
+import org.hiero.base.implementation.FileClientImpl;
+import org.hiero.base.implementation.IdempotencyStore;
+import org.hiero.base.implementation.ProtocolLayerClientImpl;
+import org.hiero.base.implementation.TokenAssociateCoalescer;
+import org.hiero.base.protocol.data.TokenAssociateRequest;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IdempotencyStoreTest {
+
+  private static final AccountId PAYER = AccountId.fromString("0.0.1001");
+
+  private static final String SERVER_NAME = "idempotency-store-test";
+
+  @TempDir Path directory;
+
+  @Test
+  void testFirstTransactionOfKeyIsKept() throws Exception {
+    // given
+    final IdempotencyStore store = new IdempotencyStore();
+    final TransactionId first = TransactionId.generate(PAYER);
+    final TransactionId second = TransactionId.generate(PAYER);
+
+    // when
+    final IdempotencyStore.Entry stored = store.putIfAbsent("payment-1", first, new byte[] {1});
+    final IdempotencyStore.Entry retried = store.putIfAbsent("payment-1", second, new byte[] {2});
+
+    // then
+    Assertions.assertEquals(first, stored.transactionId());
+    Assertions.assertEquals(first, retried.transactionId());
+    Assertions.assertArrayEquals(new byte[] {1}, retried.transactionBytes());
+    Assertions.assertEquals(1, store.size());
+    Assertions.assertEquals(1, store.getReplayCount());
+  }
+
+  @Test
+  void testLeastRecentlyUsedKeyIsDropped() throws Exception {
+    // given
+    final IdempotencyStore store =
+        new IdempotencyStore(new IdempotencyStore.Settings(2, Duration.ofMinutes(1)));
+    store.putIfAbsent("a", TransactionId.generate(PAYER), new byte[] {1});
+    store.putIfAbsent("b", TransactionId.generate(PAYER), new byte[] {2});
+    store.get("a");
+
+    // when
+    store.putIfAbsent("c", TransactionId.generate(PAYER), new byte[] {3});
+
+    // then
+    Assertions.assertTrue(store.get("a").isPresent());
+    Assertions.assertTrue(store.get("b").isEmpty());
+    Assertions.assertTrue(store.get("c").isPresent());
+  }
+
+  @Test
+  void testExpiredKeyIsNotReturned() throws Exception {
+    // given
+    final IdempotencyStore store =
+        new IdempotencyStore(new IdempotencyStore.Settings(16, Duration.ofMillis(20)));
+    store.putIfAbsent("a", TransactionId.generate(PAYER), new byte[] {1});
+
+    // when
+    Thread.sleep(50);
+
+    // then
+    Assertions.assertTrue(store.get("a").isEmpty());
+  }
+
+  @Test
+  void testKeysSurviveReopen() throws Exception {
+    // given
+    final Path file = directory.resolve("idempotency.store");
+    final TransactionId transactionId = TransactionId.generate(PAYER);
+    try (IdempotencyStore store = new IdempotencyStore(file, IdempotencyStore.Settings.DEFAULT)) {
+      store.putIfAbsent("kept", transactionId, new byte[] {1, 2, 3});
+      store.putIfAbsent("removed", TransactionId.generate(PAYER), new byte[] {4});
+      store.remove("removed");
+    }
+
+    // when
+    final Optional<IdempotencyStore.Entry> kept;
+    final Optional<IdempotencyStore.Entry> removed;
+    try (IdempotencyStore store = new IdempotencyStore(file, IdempotencyStore.Settings.DEFAULT)) {
+      kept = store.get("kept");
+      removed = store.get("removed");
+    }
+
+    // then
+    Assertions.assertTrue(kept.isPresent());
+    Assertions.assertEquals(transactionId, kept.get().transactionId());
+    Assertions.assertArrayEquals(new byte[] {1, 2, 3}, kept.get().transactionBytes());
+    Assertions.assertTrue(removed.isEmpty());
+  }
+
+  @Test
+  void testKeyIsOnlySetWithinCall() throws Exception {
+    // when
+    final Optional<String> inside =
+        IdempotencyStore.withKey("payment-1", IdempotencyStore::currentKey);
+
+    // then
+    Assertions.assertEquals(Optional.of("payment-1"), inside);
+    Assertions.assertTrue(IdempotencyStore.currentKey().isEmpty());
+  }
+
+  @Test
+  void testMultiChunkUploadWithinKey() throws Exception {
+    // given
+    final Account operator = Account.of(PAYER, PrivateKey.generateED25519());
+    final List<TransactionBody> submitted = new CopyOnWriteArrayList<>();
+    final Function<Transaction, TransactionResponse> accept =
+        transaction -> {
+          submitted.add(body(transaction));
+          return TransactionResponse.newBuilder()
+              .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+              .build();
+        };
+    final Server server =
+        InProcessServerBuilder.forName(SERVER_NAME)
+            .directExecutor()
+            .addService(
+                ServerServiceDefinition.builder(FileServiceGrpc.SERVICE_NAME)
+                    .addMethod(FileServiceGrpc.getCreateFileMethod(), unary(accept))
+                    .addMethod(FileServiceGrpc.getAppendContentMethod(), unary(accept))
+                    .build())
+            .addService(
+                ServerServiceDefinition.builder(CryptoServiceGrpc.SERVICE_NAME)
+                    .addMethod(
+                        CryptoServiceGrpc.getGetTransactionReceiptsMethod(),
+                        unary(query -> successReceipt()))
+                    .build())
+            .build()
+            .start();
+    final Client client =
+        Client.forNetwork(Map.of("in-process:" + SERVER_NAME, AccountId.fromString("0.0.3")));
+    client.setOperator(operator.accountId(), operator.privateKey());
+    final HieroContext context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return operator;
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return client;
+          }
+        };
+    final IdempotencyStore store = new IdempotencyStore();
+    final ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(context);
+    protocolLayerClient.setIdempotencyStore(store);
+    final FileClientImpl fileClient = new FileClientImpl(protocolLayerClient);
+    final byte[] contents = new byte[5_000];
+    ThreadLocalRandom.current().nextBytes(contents);
+
+    try {
+      // when
+      final FileId fileId =
+          IdempotencyStore.withKey("upload-1", () -> fileClient.createFile(contents));
+
+      // then
+      Assertions.assertEquals(FileId.fromString("0.0.5001"), fileId);
+      Assertions.assertEquals(1, store.size());
+      Assertions.assertEquals(3, submitted.size());
+      Assertions.assertTrue(submitted.get(0).hasFileCreate());
+      Assertions.assertTrue(submitted.get(1).hasFileAppend());
+      Assertions.assertTrue(submitted.get(2).hasFileAppend());
+      Assertions.assertEquals(
+          3, submitted.stream().map(TransactionBody::getTransactionID).distinct().count());
+      final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+      submitted.get(0).getFileCreate().getContents().writeTo(uploaded);
+      submitted.get(1).getFileAppend().getContents().writeTo(uploaded);
+      submitted.get(2).getFileAppend().getContents().writeTo(uploaded);
+      Assertions.assertArrayEquals(contents, uploaded.toByteArray());
+    } finally {
+      client.close();
+      server.shutdownNow();
+    }
+  }
+
+  @Test
+  void testCoalescedTokenAssociateWithinKey() throws Exception {
+    // given
+    final Account operator = Account.of(PAYER, PrivateKey.generateED25519());
+    final List<TransactionBody> submitted = new CopyOnWriteArrayList<>();
+    final Server server =
+        InProcessServerBuilder.forName(SERVER_NAME)
+            .directExecutor()
+            .addService(
+                ServerServiceDefinition.builder(TokenServiceGrpc.SERVICE_NAME)
+                    .addMethod(
+                        TokenServiceGrpc.getAssociateTokensMethod(),
+                        unary(
+                            transaction -> {
+                              submitted.add(body(transaction));
+                              return TransactionResponse.newBuilder()
+                                  .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                                  .build();
+                            }))
+                    .build())
+            .addService(
+                ServerServiceDefinition.builder(CryptoServiceGrpc.SERVICE_NAME)
+                    .addMethod(
+                        CryptoServiceGrpc.getGetTransactionReceiptsMethod(),
+                        unary(query -> successReceipt()))
+                    .build())
+            .build()
+            .start();
+    final Client client =
+        Client.forNetwork(Map.of("in-process:" + SERVER_NAME, AccountId.fromString("0.0.3")));
+    client.setOperator(operator.accountId(), operator.privateKey());
+    final HieroContext context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return operator;
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return client;
+          }
+        };
+    final IdempotencyStore store = new IdempotencyStore();
+    final ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(context);
+    protocolLayerClient.setIdempotencyStore(store);
+    final TokenAssociateCoalescer coalescer = new TokenAssociateCoalescer();
+    protocolLayerClient.setAssociateCoalescer(coalescer);
+    final Account account =
+        Account.of(AccountId.fromString("0.0.2001"), PrivateKey.generateED25519());
+    final TokenAssociateRequest request =
+        TokenAssociateRequest.of(
+            TokenId.fromString("0.0.3001"), account.accountId(), account.privateKey());
+
+    try {
+      // when
+      IdempotencyStore.withKey(
+          "associate-1", () -> protocolLayerClient.executeTokenAssociateTransaction(request));
+      IdempotencyStore.withKey(
+          "associate-1", () -> protocolLayerClient.executeTokenAssociateTransaction(request));
+
+      // then
+      Assertions.assertEquals(1, store.size());
+      Assertions.assertEquals(2, submitted.size());
+      Assertions.assertEquals(
+          1, submitted.stream().map(TransactionBody::getTransactionID).distinct().count());
+    } finally {
+      coalescer.close();
+      client.close();
+      server.shutdownNow();
+    }
+  }
+
+  @NonNull
+  private static TransactionBody body(@NonNull final Transaction transaction) {
+    try {
+      return TransactionBody.parseFrom(
+          SignedTransaction.parseFrom(transaction.getSignedTransactionBytes()).getBodyBytes());
+    } catch (final Exception e) {
+      throw new IllegalStateException("Failed to read transaction", e);
+    }
+  }
+
+  @NonNull
+  private static Response successReceipt() {
+    return Response.newBuilder()
+        .setTransactionGetReceipt(
+            TransactionGetReceiptResponse.newBuilder()
+                .setHeader(
+                    ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                .setReceipt(
+                    TransactionReceipt.newBuilder()
+                        .setStatus(ResponseCodeEnum.SUCCESS)
+                        .setFileID(FileID.newBuilder().setFileNum(5001))))
+        .build();
+  }
+
+  /** Returns a handler that answers every request of a unary call with the given function. */
+  @NonNull
+  private static <Q, A> ServerCallHandler<Q, A> unary(@NonNull final Function<Q, A> answer) {
+    return (call, headers) -> {
+      call.request(1);
+      return new ServerCall.Listener<>() {
+        @Override
+        public void onMessage(final Q message) {
+          call.sendHeaders(new Metadata());
+          call.sendMessage(answer.apply(message));
+          call.close(io.grpc.Status.OK, new Metadata());
+        }
+      };
+    };
+  }
+}
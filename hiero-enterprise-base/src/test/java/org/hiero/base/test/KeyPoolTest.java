@@ -0,0 +1,74 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.implementation.KeyPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KeyPoolTest {
+
+  @Test
+  void testReserveIsFilledInBackground() throws Exception {
+    // given
+    final ForkJoinPool pool = new ForkJoinPool(1);
+    try (KeyPool keyPool = new KeyPool(16, pool)) {
+
+      // when
+      pool.awaitQuiescence(10, TimeUnit.SECONDS);
+
+      // then
+      Assertions.assertEquals(16, keyPool.getAvailableCount());
+      Assertions.assertEquals(0, keyPool.getMissCount());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testEveryKeyIsReturnedOnce() {
+    // given
+    final ForkJoinPool pool = new ForkJoinPool(1);
+    try (KeyPool keyPool = new KeyPool(8, pool)) {
+      final Set<PrivateKey> keys = new HashSet<>();
+
+      // when
+      for (int i = 0; i < 100; i++) {
+        keys.add(keyPool.take());
+      }
+
+      // then
+      Assertions.assertEquals(100, keys.size());
+      Assertions.assertTrue(keys.stream().allMatch(PrivateKey::isED25519));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testClosedPoolGeneratesKeysOnDemand() {
+    // given
+    final ForkJoinPool pool = new ForkJoinPool(1);
+    final KeyPool keyPool = new KeyPool(8, pool);
+
+    // when
+    keyPool.close();
+    pool.awaitQuiescence(10, TimeUnit.SECONDS);
+    final PrivateKey key = keyPool.take();
+
+    // then
+    Assertions.assertNotNull(key);
+    Assertions.assertEquals(0, keyPool.getAvailableCount());
+    Assertions.assertEquals(1, keyPool.getMissCount());
+    pool.shutdown();
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new KeyPool(0));
+    Assertions.assertThrows(NullPointerException.class, () -> new KeyPool(1, null));
+  }
+}
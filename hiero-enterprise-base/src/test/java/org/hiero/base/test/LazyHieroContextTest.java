@@ -0,0 +1,124 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.base.HieroContext;
+import org.hiero.base.config.StartupMode;
+import org.hiero.base.config.StartupReport;
+import org.hiero.base.config.implementation.LazyHieroContext;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class LazyHieroContextTest {
+
+  private final Account operator =
+      Account.of(AccountId.fromString("0.0.1001"), PrivateKey.generateED25519());
+
+  @Test
+  void testClientIsCreatedOnFirstUse() {
+    // given
+    final Client client = Mockito.mock(Client.class);
+    final AtomicInteger created = new AtomicInteger();
+    final StartupReport report = new StartupReport(StartupMode.LAZY);
+    final LazyHieroContext context =
+        new LazyHieroContext(
+            operator,
+            () -> {
+              created.incrementAndGet();
+              report.recordClientCreation(Duration.ofMillis(5), 1);
+              return context(client);
+            },
+            null,
+            report);
+
+    // when
+    final Account operatorAccount = context.getOperatorAccount();
+    final boolean initializedBeforeUse = context.isInitialized();
+    final Client first = context.getClient();
+    final Client second = context.getClient();
+
+    // then
+    Assertions.assertEquals(operator, operatorAccount);
+    Assertions.assertFalse(initializedBeforeUse);
+    Assertions.assertTrue(context.isInitialized());
+    Assertions.assertSame(client, first);
+    Assertions.assertSame(client, second);
+    Assertions.assertEquals(1, created.get());
+    Assertions.assertTrue(context.getPayerPool().isEmpty());
+    Assertions.assertEquals(Optional.of(report), context.getStartupReport());
+    Assertions.assertEquals(Optional.of(Duration.ofMillis(5)), report.getClientCreationTime());
+  }
+
+  @Test
+  void testCloseOnlyClosesCreatedClient() throws Exception {
+    // given
+    final Client client = Mockito.mock(Client.class);
+    final LazyHieroContext unused =
+        new LazyHieroContext(operator, () -> context(client), null, null);
+    final LazyHieroContext used = new LazyHieroContext(operator, () -> context(client), null, null);
+    used.getClient();
+
+    // when
+    unused.close();
+    used.close();
+
+    // then
+    Mockito.verify(client, Mockito.times(1)).close();
+  }
+
+  @Test
+  void testReadiness() {
+    // given
+    final StartupReport lazy = new StartupReport(StartupMode.LAZY);
+    final StartupReport eager = new StartupReport(StartupMode.EAGER);
+    final StartupReport warm = new StartupReport(StartupMode.EAGER_WARM);
+
+    // when
+    final boolean eagerReadyBeforeCreation = eager.isReady();
+    eager.recordClientCreation(Duration.ofMillis(1), 1);
+    warm.recordClientCreation(Duration.ofMillis(1), 1);
+    final boolean warmReadyBeforeWarmUp = warm.isReady();
+    warm.recordWarmUp(Duration.ofMillis(1), Set.of(AccountId.fromString("0.0.3")), Set.of());
+
+    // then
+    Assertions.assertTrue(lazy.isReady());
+    Assertions.assertFalse(eagerReadyBeforeCreation);
+    Assertions.assertTrue(eager.isReady());
+    Assertions.assertFalse(warmReadyBeforeWarmUp);
+    Assertions.assertTrue(warm.isReady());
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new LazyHieroContext(null, () -> null, null, null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new LazyHieroContext(operator, null, null, null));
+    Assertions.assertThrows(NullPointerException.class, () -> new StartupReport(null));
+    final LazyHieroContext context = new LazyHieroContext(operator, () -> null, null, null);
+    Assertions.assertThrows(NullPointerException.class, context::getClient);
+  }
+
+  @NonNull
+  private HieroContext context(@NonNull final Client client) {
+    return new HieroContext() {
+      @Override
+      public @NonNull Account getOperatorAccount() {
+        return operator;
+      }
+
+      @Override
+      public @NonNull Client getClient() {
+        return client;
+      }
+    };
+  }
+}
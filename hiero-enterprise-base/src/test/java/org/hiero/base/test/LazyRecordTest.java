@@ -0,0 +1,149 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionRecord;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.base.HieroException;
+import org.hiero.base.protocol.data.AccountDeleteResult;
+import org.hiero.base.protocol.data.ContractCallResult;
+import org.hiero.base.protocol.data.LazyRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class LazyRecordTest {
+
+  private final TransactionId transactionId =
+      TransactionId.generate(AccountId.fromString("0.0.12345"));
+
+  @Test
+  void testRecordIsLoadedOnlyOnce() {
+    // given
+    final TransactionRecord record = Mockito.mock(TransactionRecord.class);
+    final AtomicInteger loads = new AtomicInteger();
+    final LazyRecord lazyRecord =
+        LazyRecord.of(
+            transactionId,
+            () -> {
+              loads.incrementAndGet();
+              return record;
+            });
+
+    // when
+    final boolean loadedBefore = lazyRecord.isLoaded();
+    final TransactionRecord first = lazyRecord.get();
+    final TransactionRecord second = lazyRecord.get();
+
+    // then
+    Assertions.assertFalse(loadedBefore);
+    Assertions.assertTrue(lazyRecord.isLoaded());
+    Assertions.assertSame(record, first);
+    Assertions.assertSame(record, second);
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals(transactionId, lazyRecord.transactionId());
+  }
+
+  @Test
+  void testFailedLoadIsRetried() {
+    // given
+    final TransactionRecord record = Mockito.mock(TransactionRecord.class);
+    final AtomicInteger loads = new AtomicInteger();
+    final LazyRecord lazyRecord =
+        LazyRecord.of(
+            transactionId,
+            () -> {
+              if (loads.incrementAndGet() == 1) {
+                throw new HieroException("Failed to receive record");
+              }
+              return record;
+            });
+
+    // when
+    final IllegalStateException exception =
+        Assertions.assertThrows(IllegalStateException.class, lazyRecord::get);
+
+    // then
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertFalse(lazyRecord.isLoaded());
+    Assertions.assertSame(record, lazyRecord.get());
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testUnavailableRecord() {
+    // given
+    final LazyRecord lazyRecord = LazyRecord.unavailable(transactionId);
+    final AccountDeleteResult result =
+        new AccountDeleteResult(transactionId, Status.SUCCESS, lazyRecord);
+
+    // then
+    Assertions.assertEquals(transactionId, result.transactionId());
+    Assertions.assertEquals(Status.SUCCESS, result.status());
+    Assertions.assertNull(result.consensusTimestamp());
+    Assertions.assertNull(result.transactionHash());
+    Assertions.assertNull(result.transactionFee());
+    Assertions.assertFalse(lazyRecord.isAvailable());
+    Assertions.assertFalse(lazyRecord.isLoaded());
+  }
+
+  @Test
+  void testEqualsIgnoresLazyRecord() {
+    // given
+    final AtomicInteger loads = new AtomicInteger();
+    final LazyRecord lazyRecord =
+        LazyRecord.of(
+            transactionId,
+            () -> {
+              loads.incrementAndGet();
+              return Mockito.mock(TransactionRecord.class);
+            });
+    final ContractCallResult result =
+        new ContractCallResult(transactionId, Status.SUCCESS, lazyRecord);
+    final ContractCallResult other =
+        new ContractCallResult(
+            transactionId, Status.SUCCESS, LazyRecord.unavailable(transactionId));
+
+    // then
+    Assertions.assertEquals(other, result);
+    Assertions.assertEquals(other.hashCode(), result.hashCode());
+    Assertions.assertEquals(other.toString(), result.toString());
+    Assertions.assertFalse(result.toString().contains("lazyRecord"));
+    Assertions.assertEquals(0, loads.get());
+  }
+
+  @Test
+  void testResultDoesNotLoadRecordOnCreation() {
+    // given
+    final AtomicInteger loads = new AtomicInteger();
+    final LazyRecord lazyRecord =
+        LazyRecord.of(
+            transactionId,
+            () -> {
+              loads.incrementAndGet();
+              return Mockito.mock(TransactionRecord.class);
+            });
+
+    // when
+    final ContractCallResult result =
+        new ContractCallResult(transactionId, Status.SUCCESS, lazyRecord);
+
+    // then
+    Assertions.assertEquals(Status.SUCCESS, result.status());
+    Assertions.assertNotNull(result.toString());
+    Assertions.assertEquals(0, loads.get());
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> LazyRecord.of(null, () -> null));
+    Assertions.assertThrows(NullPointerException.class, () -> LazyRecord.of(transactionId, null));
+    Assertions.assertThrows(NullPointerException.class, () -> LazyRecord.unavailable(null));
+    Assertions.assertThrows(
+        NullPointerException.class,
+        () -> new ContractCallResult(transactionId, Status.SUCCESS, (LazyRecord) null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> LazyRecord.of(transactionId, () -> null).get());
+  }
+}
@@ -0,0 +1,156 @@
+package org.hiero.base.test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.base.implementation.ListenerDispatcher;
+import org.hiero.base.implementation.ListenerDispatcher.OverflowPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ListenerDispatcherTest {
+
+  @Test
+  void testDeliversEventsInOrder() throws Exception {
+    // given
+    final List<Integer> delivered = new CopyOnWriteArrayList<>();
+    final CountDownLatch latch = new CountDownLatch(1_000);
+
+    try (ListenerDispatcher dispatcher =
+        new ListenerDispatcher(new ListenerDispatcher.Settings(64, 1, OverflowPolicy.BLOCK, 1))) {
+      // when
+      for (int i = 0; i < 1_000; i++) {
+        final int value = i;
+        Assertions.assertTrue(
+            dispatcher.publish(
+                () -> {
+                  delivered.add(value);
+                  latch.countDown();
+                }));
+      }
+
+      // then
+      Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+      for (int i = 0; i < 1_000; i++) {
+        Assertions.assertEquals(i, delivered.get(i));
+      }
+      Assertions.assertEquals(0, dispatcher.getDroppedCount());
+    }
+  }
+
+  @Test
+  void testIdleConsumerWaitsForEvents() throws Exception {
+    // given
+    final AtomicReference<Thread> consumer = new AtomicReference<>();
+    final CountDownLatch first = new CountDownLatch(1);
+    final CountDownLatch second = new CountDownLatch(1);
+
+    try (ListenerDispatcher dispatcher = new ListenerDispatcher()) {
+      dispatcher.publish(
+          () -> {
+            consumer.set(Thread.currentThread());
+            first.countDown();
+          });
+      Assertions.assertTrue(first.await(10, TimeUnit.SECONDS));
+
+      // when
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (consumer.get().getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      // then
+      // the idle consumer is parked without timeout and woken up by the next event
+      Assertions.assertEquals(Thread.State.WAITING, consumer.get().getState());
+      dispatcher.publish(second::countDown);
+      Assertions.assertTrue(second.await(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void testDropsEventsIfFull() throws Exception {
+    // given
+    final CountDownLatch blocker = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(1);
+
+    try (ListenerDispatcher dispatcher =
+        new ListenerDispatcher(new ListenerDispatcher.Settings(2, 1, OverflowPolicy.DROP, 1))) {
+      dispatcher.publish(
+          () -> {
+            started.countDown();
+            try {
+              blocker.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+      // when
+      Assertions.assertTrue(dispatcher.publish(() -> {}));
+      Assertions.assertTrue(dispatcher.publish(() -> {}));
+      final boolean published = dispatcher.publish(() -> {});
+
+      // then
+      Assertions.assertFalse(published);
+      Assertions.assertEquals(1, dispatcher.getDroppedCount());
+      Assertions.assertEquals(2, dispatcher.getPendingCount());
+      blocker.countDown();
+    }
+  }
+
+  @Test
+  void testSamplesEventsIfFull() throws Exception {
+    // given
+    final CountDownLatch blocker = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(1);
+
+    try (ListenerDispatcher dispatcher =
+        new ListenerDispatcher(new ListenerDispatcher.Settings(1, 1, OverflowPolicy.SAMPLE, 3))) {
+      dispatcher.publish(
+          () -> {
+            started.countDown();
+            try {
+              blocker.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(dispatcher.publish(() -> {}));
+
+      // when
+      Assertions.assertFalse(dispatcher.publish(() -> {}));
+      Assertions.assertFalse(dispatcher.publish(() -> {}));
+
+      // then
+      Assertions.assertEquals(2, dispatcher.getDroppedCount());
+      blocker.countDown();
+    }
+  }
+
+  @Test
+  void testClosedDispatcherDropsEvents() {
+    final ListenerDispatcher dispatcher = new ListenerDispatcher();
+    dispatcher.close();
+    Assertions.assertFalse(dispatcher.publish(() -> {}));
+    Assertions.assertEquals(1, dispatcher.getDroppedCount());
+  }
+
+  @Test
+  void testInvalidSettings() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ListenerDispatcher.Settings(3, 1, OverflowPolicy.DROP, 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ListenerDispatcher.Settings(4, 0, OverflowPolicy.DROP, 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ListenerDispatcher.Settings(4, 1, OverflowPolicy.SAMPLE, 0));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new ListenerDispatcher.Settings(4, 1, null, 1));
+  }
+}
@@ -0,0 +1,126 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.hiero.base.implementation.NodeHealth;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NodeHealthTest {
+
+  private final AccountId fast = AccountId.fromString("0.0.3");
+
+  private final AccountId slow = AccountId.fromString("0.0.4");
+
+  private final AccountId failing = AccountId.fromString("0.0.5");
+
+  @Test
+  void testFastestNodesArePreferred() {
+    // given
+    final NodeHealth health = new NodeHealth(new NodeHealth.Settings(2, 0.5, 3, Duration.ZERO));
+    health.recordSubmit(fast, Duration.ofMillis(10));
+    health.recordReceipt(fast, Duration.ofMillis(20));
+    health.recordSubmit(slow, Duration.ofMillis(400));
+    health.recordSubmit(failing, Duration.ofMillis(10));
+    health.recordFailure(failing);
+
+    // when
+    final List<AccountId> selected = health.selectNodes(List.of(slow, failing, fast));
+
+    // then
+    Assertions.assertEquals(List.of(fast, failing), selected);
+    Assertions.assertEquals(30, health.getScore(fast), 0.001);
+    Assertions.assertEquals(0.5, health.getErrorRate(failing), 0.001);
+    Assertions.assertEquals(
+        Optional.of(Duration.ofMillis(20)), health.getLatencyPercentile(fast, 1));
+    Assertions.assertEquals(
+        Optional.of(Duration.ofMillis(500)), health.getLatencyPercentile(slow, 0.99));
+  }
+
+  @Test
+  void testUnmeasuredNodesArePreferred() {
+    // given
+    final NodeHealth health = new NodeHealth();
+    health.recordSubmit(fast, Duration.ofMillis(10));
+
+    // when
+    final List<AccountId> selected = health.selectNodes(List.of(fast, slow));
+
+    // then
+    Assertions.assertEquals(List.of(slow, fast), selected);
+    Assertions.assertTrue(Double.isNaN(health.getSubmitLatencyMillis(slow)));
+  }
+
+  @Test
+  void testCircuitBreakerOpensAndIsProbedAfterCoolDown() throws Exception {
+    // given
+    final NodeHealth health =
+        new NodeHealth(new NodeHealth.Settings(3, 0.2, 2, Duration.ofMillis(50)));
+
+    // when
+    health.recordFailure(failing);
+    final NodeHealth.BreakerState afterOneFailure = health.getState(failing);
+    health.recordFailure(failing);
+    final List<AccountId> duringCoolDown = health.selectNodes(List.of(fast, failing));
+    Thread.sleep(60);
+    final List<AccountId> afterCoolDown = health.selectNodes(List.of(fast, failing));
+    final NodeHealth.BreakerState probing = health.getState(failing);
+    final List<AccountId> duringProbe = health.selectNodes(List.of(fast, failing));
+    health.recordSubmit(failing, Duration.ofMillis(10));
+
+    // then
+    Assertions.assertEquals(NodeHealth.BreakerState.CLOSED, afterOneFailure);
+    Assertions.assertEquals(List.of(fast), duringCoolDown);
+    Assertions.assertEquals(List.of(failing, fast), afterCoolDown);
+    Assertions.assertEquals(NodeHealth.BreakerState.HALF_OPEN, probing);
+    Assertions.assertEquals(List.of(fast), duringProbe);
+    Assertions.assertEquals(NodeHealth.BreakerState.CLOSED, health.getState(failing));
+  }
+
+  @Test
+  void testFailedProbeOpensBreakerAgain() {
+    // given
+    final NodeHealth health = new NodeHealth(new NodeHealth.Settings(3, 0.2, 1, Duration.ZERO));
+    health.recordFailure(failing);
+    health.selectNodes(List.of(failing));
+
+    // when
+    health.recordFailure(failing);
+
+    // then
+    Assertions.assertEquals(NodeHealth.BreakerState.OPEN, health.getState(failing));
+  }
+
+  @Test
+  void testAllNodesAreReturnedIfNoNodeIsUsable() {
+    // given
+    final NodeHealth health =
+        new NodeHealth(new NodeHealth.Settings(3, 0.2, 1, Duration.ofMinutes(1)));
+    health.recordFailure(fast);
+    health.recordFailure(slow);
+
+    // when
+    final List<AccountId> selected = health.selectNodes(List.of(fast, slow));
+
+    // then
+    Assertions.assertEquals(List.of(fast, slow), selected);
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new NodeHealth(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new NodeHealth.Settings(0, 0.2, 1, Duration.ZERO));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new NodeHealth.Settings(1, 0, 1, Duration.ZERO));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new NodeHealth.Settings(1, 0.2, 0, Duration.ZERO));
+    final NodeHealth health = new NodeHealth();
+    Assertions.assertThrows(NullPointerException.class, () -> health.selectNodes(null));
+    Assertions.assertThrows(NullPointerException.class, () -> health.recordFailure(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> health.getLatencyPercentile(fast, 2));
+  }
+}
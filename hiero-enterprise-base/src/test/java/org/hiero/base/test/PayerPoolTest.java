@@ -0,0 +1,153 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.time.Duration;
+import java.util.List;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.PayerPoolSettings;
+import org.hiero.base.config.PayerSelection;
+import org.hiero.base.data.Account;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PayerPoolTest {
+
+  private final Account first =
+      Account.of(AccountId.fromString("0.0.2001"), PrivateKey.generateED25519());
+
+  private final Account second =
+      Account.of(AccountId.fromString("0.0.2002"), PrivateKey.generateED25519());
+
+  private final Account third =
+      Account.of(AccountId.fromString("0.0.2003"), PrivateKey.generateED25519());
+
+  @Test
+  void testRoundRobinSelection() {
+    // given
+    final PayerPool pool =
+        new PayerPool(
+            new PayerPoolSettings(List.of(first, second, third), PayerSelection.ROUND_ROBIN));
+
+    // when
+    final List<Account> selected =
+        List.of(
+            pool.select().orElseThrow(),
+            pool.select().orElseThrow(),
+            pool.select().orElseThrow(),
+            pool.select().orElseThrow());
+
+    // then
+    Assertions.assertEquals(List.of(first, second, third, first), selected);
+  }
+
+  @Test
+  void testLeastLoadedSelection() {
+    // given
+    final PayerPool pool =
+        new PayerPool(new PayerPoolSettings(List.of(first, second), PayerSelection.LEAST_LOADED));
+
+    // when
+    pool.onSubmitted(first.accountId());
+    pool.onSubmitted(first.accountId());
+    pool.onSubmitted(second.accountId());
+
+    // then
+    Assertions.assertEquals(second, pool.select().orElseThrow());
+    Assertions.assertEquals(second, pool.select().orElseThrow());
+    pool.onCompleted(first.accountId());
+    pool.onCompleted(first.accountId());
+    Assertions.assertEquals(first, pool.select().orElseThrow());
+    Assertions.assertEquals(0, pool.getInFlightCount(first.accountId()));
+    Assertions.assertEquals(1, pool.getInFlightCount(second.accountId()));
+  }
+
+  @Test
+  void testPayerWithLowBalanceIsRemoved() {
+    // given
+    final PayerPool pool =
+        new PayerPool(
+            new PayerPoolSettings(
+                List.of(first, second), PayerSelection.ROUND_ROBIN, Hbar.from(10), Duration.ZERO));
+
+    // when
+    pool.updateBalance(first.accountId(), Hbar.from(9));
+
+    // then
+    Assertions.assertEquals(List.of(second), pool.getActivePayers());
+    Assertions.assertEquals(second, pool.select().orElseThrow());
+    Assertions.assertEquals(second, pool.select().orElseThrow());
+    Assertions.assertEquals(Hbar.from(9), pool.getBalance(first.accountId()).orElseThrow());
+    pool.updateBalance(second.accountId(), Hbar.ZERO);
+    Assertions.assertTrue(pool.select().isEmpty());
+    pool.updateBalance(first.accountId(), Hbar.from(100));
+    Assertions.assertEquals(first, pool.select().orElseThrow());
+  }
+
+  @Test
+  void testBalanceCheckIsDueOncePerInterval() {
+    // given
+    final PayerPool pool =
+        new PayerPool(
+            new PayerPoolSettings(
+                List.of(first), PayerSelection.ROUND_ROBIN, Hbar.from(1), Duration.ofHours(1)));
+
+    // then
+    Assertions.assertTrue(pool.isBalanceCheckDue(first.accountId()));
+    Assertions.assertFalse(pool.isBalanceCheckDue(first.accountId()));
+    Assertions.assertFalse(pool.isBalanceCheckDue(second.accountId()));
+    Assertions.assertFalse(pool.contains(second.accountId()));
+  }
+
+  @Test
+  void testInactivePayerIsCheckedAgain() {
+    // given
+    final PayerPool pool =
+        new PayerPool(
+            new PayerPoolSettings(
+                List.of(first, second), PayerSelection.ROUND_ROBIN, Hbar.from(10), Duration.ZERO));
+
+    // when
+    pool.updateBalance(first.accountId(), Hbar.from(9));
+
+    // then
+    Assertions.assertEquals(List.of(first.accountId()), pool.getInactivePayersDueForBalanceCheck());
+    pool.updateBalance(first.accountId(), Hbar.from(100));
+    Assertions.assertTrue(pool.getInactivePayersDueForBalanceCheck().isEmpty());
+    Assertions.assertEquals(List.of(first, second), pool.getActivePayers());
+  }
+
+  @Test
+  void testInactivePayerIsCheckedOncePerInterval() {
+    // given
+    final PayerPool pool =
+        new PayerPool(
+            new PayerPoolSettings(
+                List.of(first), PayerSelection.ROUND_ROBIN, Hbar.from(10), Duration.ofHours(1)));
+
+    // when
+    pool.updateBalance(first.accountId(), Hbar.ZERO);
+
+    // then
+    Assertions.assertEquals(List.of(first.accountId()), pool.getInactivePayersDueForBalanceCheck());
+    Assertions.assertTrue(pool.getInactivePayersDueForBalanceCheck().isEmpty());
+    Assertions.assertFalse(pool.isBalanceCheckDue(first.accountId()));
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new PayerPool(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new PayerPoolSettings(List.of(), PayerSelection.ROUND_ROBIN));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new PayerPoolSettings(List.of(first, first), PayerSelection.ROUND_ROBIN));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new PayerPoolSettings(
+                List.of(first), PayerSelection.ROUND_ROBIN, Hbar.from(-1), Duration.ZERO));
+  }
+}
@@ -0,0 +1,64 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.util.List;
+import org.hiero.base.config.implementation.PooledHieroContext;
+import org.hiero.base.data.Account;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class PooledHieroContextTest {
+
+  private final Account operator =
+      Account.of(AccountId.fromString("0.0.1001"), PrivateKey.generateED25519());
+
+  @Test
+  void testClientsAreLeasedRoundRobin() {
+    // given
+    final Client first = Mockito.mock(Client.class);
+    final Client second = Mockito.mock(Client.class);
+    final PooledHieroContext context =
+        new PooledHieroContext(operator, List.of(first, second), null);
+
+    // when
+    final List<Client> leased =
+        List.of(context.getClient(), context.getClient(), context.getClient());
+
+    // then
+    Assertions.assertEquals(List.of(first, second, first), leased);
+    Assertions.assertEquals(2, context.getPoolSize());
+    Assertions.assertEquals(operator, context.getOperatorAccount());
+    Assertions.assertTrue(context.getPayerPool().isEmpty());
+  }
+
+  @Test
+  void testCloseClosesAllClients() throws Exception {
+    // given
+    final Client first = Mockito.mock(Client.class);
+    final Client second = Mockito.mock(Client.class);
+    Mockito.doThrow(new IllegalStateException("closed")).when(first).close();
+    final PooledHieroContext context =
+        new PooledHieroContext(operator, List.of(first, second), null);
+
+    // when
+    context.close();
+
+    // then
+    Mockito.verify(first).close();
+    Mockito.verify(second).close();
+  }
+
+  @Test
+  void testInvalidParams() {
+    final Client client = Mockito.mock(Client.class);
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new PooledHieroContext(null, List.of(client), null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new PooledHieroContext(operator, null, null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new PooledHieroContext(operator, List.of(), null));
+  }
+}
@@ -0,0 +1,100 @@
+package org.hiero.base.test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.hiero.base.implementation.PriorityScheduler;
+import org.hiero.base.protocol.data.TransactionPriority;
+import org.hiero.base.protocol.data.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrioritySchedulerTest {
+
+  @Test
+  void testDispatchesByWeight() throws Exception {
+    // given
+    final PriorityScheduler scheduler =
+        new PriorityScheduler(
+            1, Map.of(TransactionPriority.HIGH, 3, TransactionPriority.BULK, 1), Map.of());
+    final List<TransactionPriority> dispatched = new ArrayList<>();
+    Assertions.assertEquals(Duration.ZERO, scheduler.acquire(TransactionPriority.NORMAL));
+    for (int i = 0; i < 4; i++) {
+      scheduler
+          .acquireAsync(TransactionPriority.BULK)
+          .thenRun(() -> dispatched.add(TransactionPriority.BULK));
+      scheduler
+          .acquireAsync(TransactionPriority.HIGH)
+          .thenRun(() -> dispatched.add(TransactionPriority.HIGH));
+    }
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      scheduler.release();
+    }
+
+    // then
+    Assertions.assertEquals(
+        List.of(
+            TransactionPriority.HIGH,
+            TransactionPriority.HIGH,
+            TransactionPriority.BULK,
+            TransactionPriority.HIGH),
+        dispatched);
+    Assertions.assertEquals(1, scheduler.getQueueDepth(TransactionPriority.HIGH));
+    Assertions.assertEquals(3, scheduler.getQueueDepth(TransactionPriority.BULK));
+    Assertions.assertEquals(1, scheduler.getInFlightCount());
+  }
+
+  @Test
+  void testReportsQueueTime() throws Exception {
+    // given
+    final PriorityScheduler scheduler = new PriorityScheduler(1);
+    scheduler.acquire(TransactionPriority.NORMAL);
+    final CompletableFuture<Duration> queued = scheduler.acquireAsync(TransactionPriority.NORMAL);
+
+    // when
+    Thread.sleep(20);
+    scheduler.release();
+
+    // then
+    Assertions.assertTrue(queued.get().compareTo(Duration.ofMillis(20)) >= 0);
+    scheduler.release();
+    Assertions.assertEquals(0, scheduler.getInFlightCount());
+  }
+
+  @Test
+  void testResolvePriority() throws Exception {
+    // given
+    final PriorityScheduler scheduler =
+        new PriorityScheduler(
+            1, Map.of(), Map.of(TransactionType.TOKEN_MINT, TransactionPriority.BULK));
+
+    // then
+    Assertions.assertEquals(
+        TransactionPriority.BULK, scheduler.resolvePriority(TransactionType.TOKEN_MINT));
+    Assertions.assertEquals(
+        TransactionPriority.NORMAL, scheduler.resolvePriority(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertEquals(
+        TransactionPriority.HIGH,
+        PriorityScheduler.withPriority(
+            TransactionPriority.HIGH, () -> scheduler.resolvePriority(TransactionType.TOKEN_MINT)));
+    Assertions.assertEquals(
+        TransactionPriority.BULK, scheduler.resolvePriority(TransactionType.TOKEN_MINT));
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new PriorityScheduler(0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new PriorityScheduler(1, Map.of(TransactionPriority.HIGH, 0), Map.of()));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new PriorityScheduler(1, null, Map.of()));
+    final PriorityScheduler scheduler = new PriorityScheduler(1);
+    Assertions.assertThrows(NullPointerException.class, () -> scheduler.acquire(null));
+    Assertions.assertThrows(NullPointerException.class, () -> scheduler.resolvePriority(null));
+  }
+}
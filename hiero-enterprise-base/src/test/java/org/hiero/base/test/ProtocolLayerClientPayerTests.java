@@ -0,0 +1,223 @@
+package org.hiero.base.test;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hiero.base.HieroContext;
+import org.hiero.base.HieroException;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.PayerPoolSettings;
+import org.hiero.base.config.PayerSelection;
+import org.hiero.base.data.Account;
+import org.hiero.base.implementation.ProtocolLayerClientImpl;
+import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.FileCreateRequest;
+import org.hiero.base.protocol.data.TokenAssociateRequest;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProtocolLayerClientPayerTests {
+
+  private static final String SERVER_NAME = "protocol-layer-client-payer-tests";
+
+  @Test
+  void testPoolPaidFileCreateIsSignedByPayerAndOperator() throws Exception {
+    // given
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.1001"), PrivateKey.generateED25519());
+    final Account payer =
+        Account.of(AccountId.fromString("0.0.1002"), PrivateKey.generateED25519());
+    final PayerPool payerPool =
+        new PayerPool(new PayerPoolSettings(List.of(payer), PayerSelection.ROUND_ROBIN));
+    final AtomicReference<Transaction> submitted = new AtomicReference<>();
+    final Server server =
+        InProcessServerBuilder.forName(SERVER_NAME)
+            .directExecutor()
+            .addService(
+                ServerServiceDefinition.builder(FileServiceGrpc.SERVICE_NAME)
+                    .addMethod(
+                        FileServiceGrpc.getCreateFileMethod(),
+                        (call, headers) -> {
+                          call.request(1);
+                          return rejectingListener(call, submitted::set);
+                        })
+                    .build())
+            .build()
+            .start();
+    final Client client = createClient(operator);
+    final ProtocolLayerClient protocolLayerClient =
+        new ProtocolLayerClientImpl(createContext(operator, client, payerPool));
+    final FileCreateRequest request = FileCreateRequest.of(new byte[] {1});
+
+    try {
+      // when
+      Assertions.assertThrows(
+          HieroException.class, () -> protocolLayerClient.executeFileCreateTransaction(request));
+
+      // then
+      Assertions.assertNotNull(submitted.get());
+      final SignedTransaction signedTransaction =
+          SignedTransaction.parseFrom(submitted.get().getSignedTransactionBytes());
+      final List<ByteString> signers =
+          signedTransaction.getSigMap().getSigPairList().stream()
+              .map(SignaturePair::getPubKeyPrefix)
+              .toList();
+      Assertions.assertEquals(2, signers.size());
+      Assertions.assertTrue(signers.contains(ByteString.copyFrom(payer.publicKey().toBytesRaw())));
+      Assertions.assertTrue(
+          signers.contains(ByteString.copyFrom(operator.publicKey().toBytesRaw())));
+    } finally {
+      client.close();
+      server.shutdownNow();
+    }
+  }
+
+  @Test
+  void testPoolPaidTokenAssociatesAreSpreadOverAllPayers() throws Exception {
+    // given
+    final Account operator =
+        Account.of(AccountId.fromString("0.0.1001"), PrivateKey.generateED25519());
+    final Account firstPayer =
+        Account.of(AccountId.fromString("0.0.1002"), PrivateKey.generateED25519());
+    final Account secondPayer =
+        Account.of(AccountId.fromString("0.0.1003"), PrivateKey.generateED25519());
+    final PayerPool payerPool =
+        new PayerPool(
+            new PayerPoolSettings(List.of(firstPayer, secondPayer), PayerSelection.ROUND_ROBIN));
+    final List<Transaction> submitted = new CopyOnWriteArrayList<>();
+    final Server server =
+        InProcessServerBuilder.forName(SERVER_NAME)
+            .directExecutor()
+            .addService(
+                ServerServiceDefinition.builder(TokenServiceGrpc.SERVICE_NAME)
+                    .addMethod(
+                        TokenServiceGrpc.getAssociateTokensMethod(),
+                        (call, headers) -> {
+                          call.request(1);
+                          return rejectingListener(call, submitted::add);
+                        })
+                    .build())
+            .build()
+            .start();
+    final Client client = createClient(operator);
+    final ProtocolLayerClient protocolLayerClient =
+        new ProtocolLayerClientImpl(createContext(operator, client, payerPool));
+    final Account account =
+        Account.of(AccountId.fromString("0.0.2001"), PrivateKey.generateED25519());
+    final TokenAssociateRequest request =
+        TokenAssociateRequest.of(
+            TokenId.fromString("0.0.3001"), account.accountId(), account.privateKey());
+
+    try {
+      // when
+      for (int i = 0; i < 4; i++) {
+        Assertions.assertThrows(
+            HieroException.class,
+            () -> protocolLayerClient.executeTokenAssociateTransaction(request));
+      }
+
+      // then
+      Assertions.assertEquals(4, submitted.size());
+      final Map<Long, Long> transactionsPerPayer =
+          submitted.stream()
+              .map(ProtocolLayerClientPayerTests::payerNum)
+              .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+      Assertions.assertEquals(
+          Map.of(firstPayer.accountId().num, 2L, secondPayer.accountId().num, 2L),
+          transactionsPerPayer);
+    } finally {
+      client.close();
+      server.shutdownNow();
+    }
+  }
+
+  @NonNull
+  private static Client createClient(@NonNull final Account operator) {
+    final Client client =
+        Client.forNetwork(Map.of("in-process:" + SERVER_NAME, AccountId.fromString("0.0.3")));
+    client.setOperator(operator.accountId(), operator.privateKey());
+    return client;
+  }
+
+  @NonNull
+  private static HieroContext createContext(
+      @NonNull final Account operator,
+      @NonNull final Client client,
+      @NonNull final PayerPool payerPool) {
+    return new HieroContext() {
+      @Override
+      public @NonNull Account getOperatorAccount() {
+        return operator;
+      }
+
+      @Override
+      public @NonNull Client getClient() {
+        return client;
+      }
+
+      @Override
+      public @NonNull Optional<PayerPool> getPayerPool() {
+        return Optional.of(payerPool);
+      }
+    };
+  }
+
+  private static long payerNum(@NonNull final Transaction transaction) {
+    try {
+      final SignedTransaction signedTransaction =
+          SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
+      return TransactionBody.parseFrom(signedTransaction.getBodyBytes())
+          .getTransactionID()
+          .getAccountID()
+          .getAccountNum();
+    } catch (final Exception e) {
+      throw new IllegalStateException("Failed to parse submitted transaction", e);
+    }
+  }
+
+  /**
+   * Returns a listener that captures the submitted transaction and rejects it, so that the client
+   * does not wait for a receipt.
+   */
+  @NonNull
+  private static ServerCall.Listener<Transaction> rejectingListener(
+      @NonNull final ServerCall<Transaction, TransactionResponse> call,
+      @NonNull final Consumer<Transaction> submitted) {
+    return new ServerCall.Listener<>() {
+      @Override
+      public void onMessage(final Transaction message) {
+        submitted.accept(message);
+        call.sendHeaders(new Metadata());
+        call.sendMessage(
+            TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE)
+                .build());
+        call.close(io.grpc.Status.OK, new Metadata());
+      }
+    };
+  }
+}
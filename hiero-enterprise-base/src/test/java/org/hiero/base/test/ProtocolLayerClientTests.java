@@ -4,6 +4,7 @@ import com.hedera.hashgraph.sdk.Client;
 import org.hiero.base.HieroContext;
 import org.hiero.base.data.Account;
 import org.hiero.base.implementation.ProtocolLayerClientImpl;
+import org.hiero.base.protocol.AsyncProtocolLayerClient;
 import org.hiero.base.protocol.ProtocolLayerClient;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Assertions;
@@ -79,5 +80,79 @@ public class ProtocolLayerClientTests {
         NullPointerException.class, () -> client.executeTransferTransaction(null));
     Assertions.assertThrows(
         NullPointerException.class, () -> client.executeHookStoreTransaction(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeMultiTokenTransferTransaction(null));
+  }
+
+  @Test
+  void testNullParamsAsync() {
+    // given
+    final HieroContext context =
+        new HieroContext() {
+          @Override
+          public @NonNull Account getOperatorAccount() {
+            return null;
+          }
+
+          @Override
+          public @NonNull Client getClient() {
+            return null;
+          }
+        };
+    final AsyncProtocolLayerClient client = new ProtocolLayerClientImpl(context);
+
+    // then
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountBalanceQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileContentsQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileAppendRequestTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileUpdateRequestTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeContractCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeContractCallTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeFileInfoQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeContractDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeAccountUpdateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTokenCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTokenAssociateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTokenDissociateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicCreateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicUpdateTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicDeleteTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicMessageSubmitTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTopicMessageQueryAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeBurnTokenTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeMintTokenTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeTransferTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeHookStoreTransactionAsync(null));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> client.executeMultiTokenTransferTransactionAsync(null));
   }
 }
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.stream.IntStream;
 import org.hiero.base.data.Account;
 import org.hiero.base.data.ContractParam;
+import org.hiero.base.data.TokenTransferLeg;
 import org.hiero.base.protocol.data.AccountBalanceRequest;
 import org.hiero.base.protocol.data.AccountBalanceResponse;
 import org.hiero.base.protocol.data.AccountCreateRequest;
@@ -52,6 +53,7 @@ import org.hiero.base.protocol.data.FileUpdateRequest;
 import org.hiero.base.protocol.data.FileUpdateResult;
 import org.hiero.base.protocol.data.HookStoreRequest;
 import org.hiero.base.protocol.data.HookStoreResult;
+import org.hiero.base.protocol.data.MultiTokenTransferRequest;
 import org.hiero.base.protocol.data.TokenAssociateRequest;
 import org.hiero.base.protocol.data.TokenAssociateResult;
 import org.hiero.base.protocol.data.TokenBurnRequest;
@@ -1976,4 +1978,37 @@ public class ProtocolLayerDataCreationTests {
     Assertions.assertThrows(
         NullPointerException.class, () -> new HookStoreResult(transactionId, null));
   }
+
+  @Test
+  void testMultiTokenTransferRequestCreation() {
+    // given
+    final TokenId tokenId = TokenId.fromString("0.0.1234");
+    final AccountId sender = AccountId.fromString("0.0.5678");
+    final PrivateKey senderKey = PrivateKey.generateECDSA();
+    final List<TokenTransferLeg> legs =
+        List.of(
+            new TokenTransferLeg(tokenId, sender, AccountId.fromString("0.0.1000"), 1),
+            new TokenTransferLeg(tokenId, sender, AccountId.fromString("0.0.1001"), 2));
+    final List<TokenTransferLeg> tooManyLegs =
+        IntStream.range(0, 10)
+            .mapToObj(
+                i -> new TokenTransferLeg(tokenId, sender, AccountId.fromString("0.0." + i), 1))
+            .toList();
+
+    // then
+    Assertions.assertDoesNotThrow(() -> MultiTokenTransferRequest.of(legs, List.of(senderKey)));
+    Assertions.assertEquals(3, MultiTokenTransferRequest.countTokenAccountAmounts(legs));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> MultiTokenTransferRequest.of(List.of(), List.of()));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> MultiTokenTransferRequest.of(tooManyLegs, List.of(senderKey)));
+    Assertions.assertThrows(
+        NullPointerException.class, () -> MultiTokenTransferRequest.of(null, List.of()));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TokenTransferLeg(tokenId, sender, sender, 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TokenTransferLeg(tokenId, sender, AccountId.fromString("0.0.1"), 0));
+  }
 }
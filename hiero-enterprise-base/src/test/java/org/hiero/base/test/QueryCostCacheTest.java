@@ -0,0 +1,101 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.FileId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.time.Duration;
+import java.util.Optional;
+import org.hiero.base.implementation.QueryCostCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class QueryCostCacheTest {
+
+  private static final Hbar MAX_PAYMENT = Hbar.from(1);
+
+  @Test
+  void testCostIsCachedPerSizeBucket() {
+    // given
+    final QueryCostCache cache = new QueryCostCache();
+    cache.recordCost(QueryCostCache.key("FileContentsQuery", 3_000), Hbar.fromTinybars(100));
+    cache.recordCost(QueryCostCache.key("FileContentsQuery", 4_000), Hbar.fromTinybars(120));
+
+    // when
+    final Optional<Hbar> sameBucket =
+        cache.getPayment(QueryCostCache.key("FileContentsQuery", 2_500), MAX_PAYMENT);
+    final Optional<Hbar> otherBucket =
+        cache.getPayment(QueryCostCache.key("FileContentsQuery", 5_000), MAX_PAYMENT);
+    final Optional<Hbar> otherType =
+        cache.getPayment(QueryCostCache.key("FileInfoQuery", 3_000), MAX_PAYMENT);
+
+    // then
+    Assertions.assertEquals(Optional.of(Hbar.fromTinybars(120)), sameBucket);
+    Assertions.assertTrue(otherBucket.isEmpty());
+    Assertions.assertTrue(otherType.isEmpty());
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  void testPaymentRespectsHeadroomAndMaxPayment() {
+    // given
+    final QueryCostCache cache =
+        new QueryCostCache(new QueryCostCache.Settings(Duration.ofMinutes(1), 1.5, 16));
+
+    // when
+    final Optional<Hbar> payment = cache.toPayment(Hbar.fromTinybars(100), MAX_PAYMENT);
+    final Optional<Hbar> capped = cache.toPayment(Hbar.fromTinybars(100), Hbar.fromTinybars(120));
+    final Optional<Hbar> exceeded = cache.toPayment(Hbar.fromTinybars(100), Hbar.fromTinybars(99));
+
+    // then
+    Assertions.assertEquals(Optional.of(Hbar.fromTinybars(150)), payment);
+    Assertions.assertEquals(Optional.of(Hbar.fromTinybars(120)), capped);
+    Assertions.assertTrue(exceeded.isEmpty());
+  }
+
+  @Test
+  void testInvalidatedAndExpiredCostsAreNotUsed() throws Exception {
+    // given
+    final QueryCostCache cache =
+        new QueryCostCache(new QueryCostCache.Settings(Duration.ofMillis(20), 1, 16));
+    final QueryCostCache.Key invalidated = QueryCostCache.key("FileInfoQuery", 0);
+    final QueryCostCache.Key expired = QueryCostCache.key("FileContentsQuery", 10);
+    cache.recordCost(invalidated, Hbar.fromTinybars(10));
+    cache.recordCost(expired, Hbar.fromTinybars(10));
+
+    // when
+    cache.invalidate(invalidated);
+    Thread.sleep(30);
+
+    // then
+    Assertions.assertTrue(cache.getPayment(invalidated, MAX_PAYMENT).isEmpty());
+    Assertions.assertTrue(cache.getPayment(expired, MAX_PAYMENT).isEmpty());
+    Assertions.assertEquals(1, cache.getFallbackCount());
+  }
+
+  @Test
+  void testFileSizesAreRemembered() {
+    // given
+    final QueryCostCache cache = new QueryCostCache();
+    final FileId fileId = FileId.fromString("0.0.1234");
+
+    // when
+    cache.recordFileSize(fileId, 2_048);
+
+    // then
+    Assertions.assertEquals(Optional.of(2_048L), cache.getFileSize(fileId));
+    Assertions.assertTrue(cache.getFileSize(FileId.fromString("0.0.1235")).isEmpty());
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new QueryCostCache(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new QueryCostCache.Settings(Duration.ZERO, 1, 16));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new QueryCostCache.Settings(Duration.ofMinutes(1), 0.5, 16));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> QueryCostCache.key("FileInfoQuery", -1));
+    Assertions.assertThrows(NullPointerException.class, () -> QueryCostCache.key(null, 0));
+  }
+}
@@ -0,0 +1,115 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.hiero.base.implementation.QueryHedging;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class QueryHedgingTest {
+
+  private final AccountId first = AccountId.fromString("0.0.3");
+
+  private final AccountId second = AccountId.fromString("0.0.4");
+
+  @Test
+  void testHedgeWinsIfFirstNodeIsSlow() throws Exception {
+    // given
+    final QueryHedging hedging =
+        new QueryHedging(new QueryHedging.Settings(0.95, Duration.ZERO, Duration.ofMillis(10), 1));
+    final CompletableFuture<String> slow = new CompletableFuture<>();
+
+    // when
+    final String answer =
+        hedging
+            .execute(
+                List.of(first, second),
+                node ->
+                    node.equals(first) ? slow : CompletableFuture.completedFuture("from second"))
+            .get();
+
+    // then
+    Assertions.assertEquals("from second", answer);
+    Assertions.assertEquals(1, hedging.getHedgeCount());
+    Assertions.assertEquals(1, hedging.getHedgeWinCount());
+    Assertions.assertEquals(0, hedging.getHedgeLossCount());
+  }
+
+  @Test
+  void testNoHedgeIfFirstNodeAnswers() throws Exception {
+    // given
+    final QueryHedging hedging =
+        new QueryHedging(new QueryHedging.Settings(0.95, Duration.ZERO, Duration.ofSeconds(1), 1));
+
+    // when
+    final String answer =
+        hedging
+            .execute(List.of(first, second), node -> CompletableFuture.completedFuture("answer"))
+            .get();
+
+    // then
+    Assertions.assertEquals("answer", answer);
+    Assertions.assertEquals(1, hedging.getQueryCount());
+    Assertions.assertEquals(0, hedging.getHedgeCount());
+  }
+
+  @Test
+  void testHedgesAreLimitedByBudget() throws Exception {
+    // given
+    final QueryHedging hedging =
+        new QueryHedging(new QueryHedging.Settings(0.95, Duration.ZERO, Duration.ZERO, 0));
+    final CompletableFuture<String> slow = new CompletableFuture<>();
+
+    // when
+    final CompletableFuture<String> answer =
+        hedging.execute(
+            List.of(first, second),
+            node -> node.equals(first) ? slow : CompletableFuture.completedFuture("from second"));
+    Thread.sleep(50);
+    slow.complete("from first");
+
+    // then
+    Assertions.assertEquals("from first", answer.get());
+    Assertions.assertEquals(0, hedging.getHedgeCount());
+    Assertions.assertEquals(1, hedging.getBudgetExhaustedCount());
+  }
+
+  @Test
+  void testFailsIfAllQueriesFail() {
+    // given
+    final QueryHedging hedging =
+        new QueryHedging(new QueryHedging.Settings(0.95, Duration.ZERO, Duration.ZERO, 1));
+
+    // when
+    final CompletableFuture<String> answer =
+        hedging.execute(
+            List.of(first, second),
+            node -> CompletableFuture.failedFuture(new IllegalStateException("failed")));
+
+    // then
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, answer::get);
+    Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new QueryHedging(null));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new QueryHedging.Settings(0, Duration.ZERO, Duration.ZERO, 0.05));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new QueryHedging.Settings(0.95, Duration.ofSeconds(2), Duration.ofSeconds(1), 0.05));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new QueryHedging.Settings(0.95, Duration.ZERO, Duration.ZERO, 1.5));
+    final QueryHedging hedging = new QueryHedging();
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> hedging.execute(List.of(), node -> CompletableFuture.completedFuture(null)));
+  }
+}
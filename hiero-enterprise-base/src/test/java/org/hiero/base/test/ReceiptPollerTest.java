@@ -0,0 +1,385 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FileCreateTransaction;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.hiero.base.HieroContext;
+import org.hiero.base.HieroException;
+import org.hiero.base.data.Account;
+import org.hiero.base.implementation.ReceiptPoller;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReceiptPollerTest {
+
+  private static final HieroContext CONTEXT =
+      new HieroContext() {
+        @Override
+        public @NonNull Account getOperatorAccount() {
+          return null;
+        }
+
+        @Override
+        public @NonNull Client getClient() {
+          return null;
+        }
+      };
+
+  @Test
+  void testNullParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new ReceiptPoller(null));
+    Assertions.assertThrows(NullPointerException.class, () -> new ReceiptPoller(CONTEXT, null));
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT)) {
+      Assertions.assertThrows(NullPointerException.class, () -> poller.track(null));
+      Assertions.assertThrows(NullPointerException.class, () -> poller.submit(null, id -> {}));
+    }
+  }
+
+  @Test
+  void testInvalidSettings() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ReceiptPoller.Settings(Duration.ZERO, Duration.ofSeconds(1), 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ReceiptPoller.Settings(Duration.ofSeconds(1), Duration.ofSeconds(-1), 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new ReceiptPoller.Settings(Duration.ofSeconds(1), Duration.ofSeconds(1), 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new ReceiptPoller.Settings(
+                Duration.ofSeconds(2), Duration.ofSeconds(1), 1, Duration.ofSeconds(1)));
+  }
+
+  @Test
+  void testPollsUntilReceiptIsAvailable() throws Exception {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofMillis(5), Duration.ofSeconds(10), 10);
+    final AtomicInteger queries = new AtomicInteger();
+    final ReceiptPoller.ReceiptSource source =
+        transactionId ->
+            CompletableFuture.completedFuture(
+                queries.incrementAndGet() < 3
+                    ? receipt(ResponseCodeEnum.UNKNOWN)
+                    : receipt(ResponseCodeEnum.SUCCESS));
+
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings, source)) {
+      // when
+      final TransactionReceipt receipt =
+          poller
+              .track(TransactionId.generate(AccountId.fromString("0.0.1")))
+              .get(5, TimeUnit.SECONDS);
+
+      // then
+      Assertions.assertEquals(Status.SUCCESS, receipt.status);
+      Assertions.assertEquals(3, queries.get());
+      Assertions.assertEquals(0, poller.getInFlightCount());
+    }
+  }
+
+  @Test
+  void testCompletesWithFailedStatus() throws Exception {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofMillis(5), Duration.ofSeconds(10), 10);
+    final ReceiptPoller.ReceiptSource source =
+        transactionId ->
+            CompletableFuture.completedFuture(receipt(ResponseCodeEnum.INVALID_SIGNATURE));
+
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings, source)) {
+      // when
+      final TransactionReceipt receipt =
+          poller
+              .track(TransactionId.generate(AccountId.fromString("0.0.1")))
+              .get(5, TimeUnit.SECONDS);
+
+      // then
+      Assertions.assertEquals(Status.INVALID_SIGNATURE, receipt.status);
+    }
+  }
+
+  @Test
+  void testBackOffWhileReceiptIsNotAvailable() throws Exception {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(
+            Duration.ofMillis(10), Duration.ofSeconds(10), 10, Duration.ofMillis(200));
+    final AtomicInteger queries = new AtomicInteger();
+    final ReceiptPoller.ReceiptSource source =
+        transactionId -> {
+          queries.incrementAndGet();
+          return CompletableFuture.completedFuture(receipt(ResponseCodeEnum.UNKNOWN));
+        };
+
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings, source)) {
+      // when
+      poller.track(TransactionId.generate(AccountId.fromString("0.0.1")));
+      Thread.sleep(600);
+
+      // then
+      // delays of 10, 20, 40, 80, 160 and 200 ms instead of 60 queries in a fixed cadence
+      Assertions.assertTrue(queries.get() >= 3, "queries: " + queries.get());
+      Assertions.assertTrue(queries.get() <= 10, "queries: " + queries.get());
+    }
+  }
+
+  @Test
+  void testTimeout() {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofMillis(5), Duration.ofMillis(50), 10);
+    final ReceiptPoller.ReceiptSource source =
+        transactionId -> CompletableFuture.completedFuture(receipt(ResponseCodeEnum.UNKNOWN));
+
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings, source)) {
+      // when
+      final CompletableFuture<TransactionReceipt> future =
+          poller.track(TransactionId.generate(AccountId.fromString("0.0.1")));
+
+      // then
+      final ExecutionException exception =
+          Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+      Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+      Assertions.assertTrue(exception.getCause().getMessage().startsWith("Timeout"));
+      Assertions.assertEquals(0, poller.getInFlightCount());
+    }
+  }
+
+  @Test
+  void testFailurePropagation() {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofMillis(5), Duration.ofSeconds(10), 10);
+    final IllegalStateException error = new IllegalStateException("node unavailable");
+    final ReceiptPoller.ReceiptSource source =
+        transactionId -> CompletableFuture.failedFuture(error);
+
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings, source)) {
+      // when
+      final CompletableFuture<TransactionReceipt> future =
+          poller.track(TransactionId.generate(AccountId.fromString("0.0.1")));
+
+      // then
+      final ExecutionException exception =
+          Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+      Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+      Assertions.assertSame(error, exception.getCause().getCause());
+      Assertions.assertEquals(0, poller.getInFlightCount());
+    }
+  }
+
+  @Test
+  void testMaxInFlight() throws Exception {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofHours(1), Duration.ofHours(1), 1);
+    final AccountId accountId = AccountId.fromString("0.0.1");
+
+    try (ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings)) {
+      // when
+      final CompletableFuture<TransactionReceipt> first =
+          poller.track(TransactionId.generate(accountId));
+      final CompletableFuture<TransactionReceipt> second =
+          poller.track(TransactionId.generate(accountId));
+
+      // then
+      Assertions.assertFalse(first.isDone());
+      Assertions.assertEquals(1, poller.getInFlightCount());
+      final ExecutionException exception =
+          Assertions.assertThrows(ExecutionException.class, second::get);
+      Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    }
+  }
+
+  @Test
+  void testCloseFailsPendingReceipts() {
+    // given
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofHours(1), Duration.ofHours(1), 10);
+    final ReceiptPoller poller = new ReceiptPoller(CONTEXT, settings);
+    final CompletableFuture<TransactionReceipt> future =
+        poller.track(TransactionId.generate(AccountId.fromString("0.0.1")));
+
+    // when
+    poller.close();
+
+    // then
+    Assertions.assertTrue(future.isCompletedExceptionally());
+    Assertions.assertEquals(0, poller.getInFlightCount());
+    Assertions.assertTrue(
+        poller
+            .track(TransactionId.generate(AccountId.fromString("0.0.1")))
+            .isCompletedExceptionally());
+  }
+
+  @Test
+  void testSubmitReturnsTransactionId() throws Exception {
+    // given
+    final String serverName = "receipt-poller-test-submit";
+    final Server server = startFileServer(serverName, ReceiptPollerTest::accept);
+    final Client client = createClient(serverName);
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofMillis(5), Duration.ofSeconds(10), 10);
+    final ReceiptPoller.ReceiptSource source =
+        transactionId -> CompletableFuture.completedFuture(receipt(ResponseCodeEnum.SUCCESS));
+    final FileCreateTransaction transaction =
+        new FileCreateTransaction().setContents(new byte[] {1}).freezeWith(client);
+
+    try (ReceiptPoller poller = new ReceiptPoller(createContext(client), settings, source)) {
+      // when
+      final ReceiptPoller.Submission submission = poller.submit(transaction);
+
+      // then
+      Assertions.assertEquals(transaction.getTransactionId(), submission.transactionId());
+      final TransactionReceipt receipt = submission.receipt().get(5, TimeUnit.SECONDS);
+      Assertions.assertEquals(Status.SUCCESS, receipt.status);
+      Assertions.assertEquals(0, poller.getInFlightCount());
+    } finally {
+      client.close();
+      server.shutdownNow();
+    }
+  }
+
+  @Test
+  void testSubmissionCompletedAfterCloseFails() throws Exception {
+    // given
+    final String serverName = "receipt-poller-test-close";
+    final AtomicReference<ServerCall<Transaction, TransactionResponse>> heldCall =
+        new AtomicReference<>();
+    final CountDownLatch received = new CountDownLatch(1);
+    final Server server =
+        startFileServer(
+            serverName,
+            call -> {
+              heldCall.set(call);
+              received.countDown();
+            });
+    final Client client = createClient(serverName);
+    final ReceiptPoller.Settings settings =
+        new ReceiptPoller.Settings(Duration.ofMillis(5), Duration.ofSeconds(10), 10);
+    final ReceiptPoller.ReceiptSource source =
+        transactionId -> CompletableFuture.completedFuture(receipt(ResponseCodeEnum.SUCCESS));
+    final ReceiptPoller poller = new ReceiptPoller(createContext(client), settings, source);
+    final FileCreateTransaction transaction =
+        new FileCreateTransaction().setContents(new byte[] {1}).freezeWith(client);
+
+    try {
+      final CompletableFuture<TransactionReceipt> future = poller.submit(transaction).receipt();
+      Assertions.assertTrue(received.await(5, TimeUnit.SECONDS));
+
+      // when
+      poller.close();
+      accept(heldCall.get());
+
+      // then
+      final ExecutionException exception =
+          Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+      Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+      Assertions.assertEquals(0, poller.getInFlightCount());
+    } finally {
+      client.close();
+      server.shutdownNow();
+    }
+  }
+
+  /**
+   * Starts an in-process file service that passes every file create call to the given handler
+   * once the transaction has been received.
+   */
+  @NonNull
+  private static Server startFileServer(
+      @NonNull final String serverName,
+      @NonNull final Consumer<ServerCall<Transaction, TransactionResponse>> handler)
+      throws Exception {
+    return InProcessServerBuilder.forName(serverName)
+        .directExecutor()
+        .addService(
+            ServerServiceDefinition.builder(FileServiceGrpc.SERVICE_NAME)
+                .addMethod(
+                    FileServiceGrpc.getCreateFileMethod(),
+                    (call, headers) -> {
+                      call.request(1);
+                      return new ServerCall.Listener<>() {
+                        @Override
+                        public void onMessage(final Transaction message) {
+                          handler.accept(call);
+                        }
+                      };
+                    })
+                .build())
+        .build()
+        .start();
+  }
+
+  /** Answers the given call with a successful precheck. */
+  private static void accept(@NonNull final ServerCall<Transaction, TransactionResponse> call) {
+    call.sendHeaders(new Metadata());
+    call.sendMessage(
+        TransactionResponse.newBuilder()
+            .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+            .build());
+    call.close(io.grpc.Status.OK, new Metadata());
+  }
+
+  @NonNull
+  private static Client createClient(@NonNull final String serverName) {
+    final Client client =
+        Client.forNetwork(Map.of("in-process:" + serverName, AccountId.fromString("0.0.3")));
+    client.setOperator(AccountId.fromString("0.0.1001"), PrivateKey.generateED25519());
+    return client;
+  }
+
+  @NonNull
+  private static HieroContext createContext(@NonNull final Client client) {
+    return new HieroContext() {
+      @Override
+      public @NonNull Account getOperatorAccount() {
+        return null;
+      }
+
+      @Override
+      public @NonNull Client getClient() {
+        return client;
+      }
+    };
+  }
+
+  @NonNull
+  private static TransactionReceipt receipt(@NonNull final ResponseCodeEnum status) {
+    try {
+      return TransactionReceipt.fromBytes(
+          com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+              .setStatus(status)
+              .build()
+              .toByteArray());
+    } catch (final Exception e) {
+      throw new IllegalStateException("Failed to create receipt", e);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import org.hiero.base.HieroException;
+import org.hiero.base.implementation.TokenAssociateCoalescer;
+import org.hiero.base.protocol.data.TokenAssociateRequest;
+import org.hiero.base.protocol.data.TokenAssociateResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TokenAssociateCoalescerTest {
+
+  private final List<TokenAssociateRequest> executed = new CopyOnWriteArrayList<>();
+
+  private TokenAssociateResult execute(final TokenAssociateRequest request) {
+    executed.add(request);
+    return new TokenAssociateResult(TransactionId.generate(request.accountId()), Status.SUCCESS);
+  }
+
+  @Test
+  void testMergesRequestsOfSameAccount() throws Exception {
+    // given
+    final AccountId accountId = AccountId.fromString("0.0.1000");
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+
+    try (TokenAssociateCoalescer coalescer =
+        new TokenAssociateCoalescer(Duration.ofMillis(200), 100)) {
+      // when
+      final List<CompletableFuture<TokenAssociateResult>> futures =
+          IntStream.range(0, 5)
+              .mapToObj(i -> TokenId.fromString("0.0." + (2000 + i)))
+              .map(tokenId -> TokenAssociateRequest.of(tokenId, accountId, privateKey))
+              .map(request -> coalescer.submit(request, this::execute))
+              .toList();
+
+      // then
+      final TransactionId transactionId = futures.get(0).get().transactionId();
+      for (CompletableFuture<TokenAssociateResult> future : futures) {
+        Assertions.assertEquals(transactionId, future.get().transactionId());
+      }
+      Assertions.assertEquals(1, executed.size());
+      Assertions.assertEquals(5, executed.get(0).tokenIds().size());
+    }
+  }
+
+  @Test
+  void testDoesNotMergeRequestsOfDifferentAccounts() throws Exception {
+    // given
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final TokenId tokenId = TokenId.fromString("0.0.2000");
+
+    try (TokenAssociateCoalescer coalescer =
+        new TokenAssociateCoalescer(Duration.ofMillis(50), 100)) {
+      // when
+      final CompletableFuture<TokenAssociateResult> first =
+          coalescer.submit(
+              TokenAssociateRequest.of(tokenId, AccountId.fromString("0.0.1000"), privateKey),
+              this::execute);
+      final CompletableFuture<TokenAssociateResult> second =
+          coalescer.submit(
+              TokenAssociateRequest.of(tokenId, AccountId.fromString("0.0.1001"), privateKey),
+              this::execute);
+
+      // then
+      Assertions.assertNotEquals(first.get().transactionId(), second.get().transactionId());
+      Assertions.assertEquals(2, executed.size());
+    }
+  }
+
+  @Test
+  void testSplitsBatchAtMaxTokens() throws Exception {
+    // given
+    final AccountId accountId = AccountId.fromString("0.0.1000");
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+
+    try (TokenAssociateCoalescer coalescer =
+        new TokenAssociateCoalescer(Duration.ofMillis(50), 2)) {
+      // when
+      final List<CompletableFuture<TokenAssociateResult>> futures =
+          IntStream.range(0, 5)
+              .mapToObj(i -> TokenId.fromString("0.0." + (2000 + i)))
+              .map(tokenId -> TokenAssociateRequest.of(tokenId, accountId, privateKey))
+              .map(request -> coalescer.submit(request, this::execute))
+              .toList();
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+      // then
+      Assertions.assertEquals(3, executed.size());
+      Assertions.assertEquals(
+          5, executed.stream().mapToInt(request -> request.tokenIds().size()).sum());
+    }
+  }
+
+  @Test
+  void testFailureCompletesAllCallers() {
+    // given
+    final AccountId accountId = AccountId.fromString("0.0.1000");
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+
+    try (TokenAssociateCoalescer coalescer =
+        new TokenAssociateCoalescer(Duration.ofMillis(50), 100)) {
+      // when
+      final TokenAssociateCoalescer.AssociateFunction failing =
+          request -> {
+            throw new HieroException("Failed to execute associate token transaction");
+          };
+      final CompletableFuture<TokenAssociateResult> first =
+          coalescer.submit(
+              TokenAssociateRequest.of(TokenId.fromString("0.0.2000"), accountId, privateKey),
+              failing);
+      final CompletableFuture<TokenAssociateResult> second =
+          coalescer.submit(
+              TokenAssociateRequest.of(TokenId.fromString("0.0.2001"), accountId, privateKey),
+              failing);
+
+      // then
+      final ExecutionException e1 = Assertions.assertThrows(ExecutionException.class, first::get);
+      final ExecutionException e2 = Assertions.assertThrows(ExecutionException.class, second::get);
+      Assertions.assertInstanceOf(HieroException.class, e1.getCause());
+      Assertions.assertInstanceOf(HieroException.class, e2.getCause());
+    }
+  }
+
+  @Test
+  void testFailedBatchIsRetriedSeparately() throws Exception {
+    // given
+    final AccountId accountId = AccountId.fromString("0.0.1000");
+    final PrivateKey privateKey = PrivateKey.generateED25519();
+    final TokenId invalidToken = TokenId.fromString("0.0.2000");
+    final TokenAssociateCoalescer.AssociateFunction function =
+        request -> {
+          if (request.tokenIds().contains(invalidToken)) {
+            executed.add(request);
+            throw new HieroException("Failed to execute associate token transaction");
+          }
+          return execute(request);
+        };
+
+    try (TokenAssociateCoalescer coalescer =
+        new TokenAssociateCoalescer(Duration.ofMillis(200), 100)) {
+      // when
+      final CompletableFuture<TokenAssociateResult> invalid =
+          coalescer.submit(TokenAssociateRequest.of(invalidToken, accountId, privateKey), function);
+      final CompletableFuture<TokenAssociateResult> valid =
+          coalescer.submit(
+              TokenAssociateRequest.of(TokenId.fromString("0.0.2001"), accountId, privateKey),
+              function);
+
+      // then
+      Assertions.assertEquals(Status.SUCCESS, valid.get().status());
+      final ExecutionException e = Assertions.assertThrows(ExecutionException.class, invalid::get);
+      Assertions.assertInstanceOf(HieroException.class, e.getCause());
+      // the merged transaction and one transaction per request
+      Assertions.assertEquals(3, executed.size());
+      Assertions.assertEquals(2, executed.get(0).tokenIds().size());
+    }
+  }
+
+  @Test
+  void testSubmitAfterCloseIsRejected() {
+    // given
+    final TokenAssociateCoalescer coalescer = new TokenAssociateCoalescer();
+    coalescer.close();
+
+    // when
+    final CompletableFuture<TokenAssociateResult> future =
+        coalescer.submit(
+            TokenAssociateRequest.of(
+                TokenId.fromString("0.0.2000"),
+                AccountId.fromString("0.0.1000"),
+                PrivateKey.generateED25519()),
+            this::execute);
+
+    // then
+    final ExecutionException e = Assertions.assertThrows(ExecutionException.class, future::get);
+    Assertions.assertInstanceOf(HieroException.class, e.getCause());
+    Assertions.assertTrue(executed.isEmpty());
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new TokenAssociateCoalescer(null, 10));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TokenAssociateCoalescer(Duration.ZERO, 0));
+    try (TokenAssociateCoalescer coalescer = new TokenAssociateCoalescer()) {
+      Assertions.assertThrows(
+          NullPointerException.class, () -> coalescer.submit(null, this::execute));
+    }
+  }
+}
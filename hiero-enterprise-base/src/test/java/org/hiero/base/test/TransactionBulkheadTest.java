@@ -0,0 +1,95 @@
+package org.hiero.base.test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.hiero.base.HieroException;
+import org.hiero.base.config.BulkheadSettings;
+import org.hiero.base.implementation.TransactionBulkhead;
+import org.hiero.base.protocol.data.TransactionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionBulkheadTest {
+
+  @Test
+  void testQueuesAndShedsCalls() throws Exception {
+    // given
+    final TransactionBulkhead bulkhead =
+        new TransactionBulkhead(
+            Map.of(TransactionType.FILE_APPEND, new BulkheadSettings(1, 1, Duration.ofHours(1))));
+
+    // when
+    bulkhead.acquire(TransactionType.FILE_APPEND);
+    final CompletableFuture<Void> queued = bulkhead.acquireAsync(TransactionType.FILE_APPEND);
+    final CompletableFuture<Void> rejected = bulkhead.acquireAsync(TransactionType.FILE_APPEND);
+
+    // then
+    Assertions.assertFalse(queued.isDone());
+    final ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, rejected::get);
+    Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+    Assertions.assertEquals(1, bulkhead.getInFlightCount(TransactionType.FILE_APPEND));
+    Assertions.assertEquals(1, bulkhead.getQueueDepth(TransactionType.FILE_APPEND));
+    Assertions.assertEquals(1, bulkhead.getQueuedCount(TransactionType.FILE_APPEND));
+    Assertions.assertEquals(1, bulkhead.getRejectedCount(TransactionType.FILE_APPEND));
+
+    // when
+    bulkhead.release(TransactionType.FILE_APPEND);
+
+    // then
+    queued.get();
+    Assertions.assertEquals(1, bulkhead.getInFlightCount(TransactionType.FILE_APPEND));
+    Assertions.assertEquals(0, bulkhead.getQueueDepth(TransactionType.FILE_APPEND));
+    bulkhead.release(TransactionType.FILE_APPEND);
+    Assertions.assertEquals(0, bulkhead.getInFlightCount(TransactionType.FILE_APPEND));
+  }
+
+  @Test
+  void testOtherTypesAreNotAffected() throws Exception {
+    // given
+    final TransactionBulkhead bulkhead =
+        new TransactionBulkhead(Map.of(TransactionType.TOKEN_MINT, new BulkheadSettings(1, 0)));
+
+    // when
+    bulkhead.acquire(TransactionType.TOKEN_MINT);
+
+    // then
+    Assertions.assertThrows(
+        HieroException.class, () -> bulkhead.acquire(TransactionType.TOKEN_MINT));
+    Assertions.assertDoesNotThrow(() -> bulkhead.acquire(TransactionType.CRYPTO_TRANSFER));
+    Assertions.assertTrue(bulkhead.acquireAsync(TransactionType.CRYPTO_TRANSFER).isDone());
+    Assertions.assertEquals(0, bulkhead.getInFlightCount(TransactionType.CRYPTO_TRANSFER));
+  }
+
+  @Test
+  void testQueuedCallTimesOut() {
+    // given
+    final TransactionBulkhead bulkhead =
+        new TransactionBulkhead(
+            Map.of(TransactionType.TOKEN_MINT, new BulkheadSettings(1, 10, Duration.ofMillis(20))));
+
+    // when
+    Assertions.assertDoesNotThrow(() -> bulkhead.acquire(TransactionType.TOKEN_MINT));
+    final HieroException exception =
+        Assertions.assertThrows(
+            HieroException.class, () -> bulkhead.acquire(TransactionType.TOKEN_MINT));
+
+    // then
+    Assertions.assertNotNull(exception.getMessage());
+    Assertions.assertEquals(1, bulkhead.getRejectedCount(TransactionType.TOKEN_MINT));
+    bulkhead.release(TransactionType.TOKEN_MINT);
+    Assertions.assertEquals(0, bulkhead.getInFlightCount(TransactionType.TOKEN_MINT));
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(NullPointerException.class, () -> new TransactionBulkhead(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BulkheadSettings(0, 1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BulkheadSettings(1, -1));
+    final TransactionBulkhead bulkhead = new TransactionBulkhead(Map.of());
+    Assertions.assertThrows(NullPointerException.class, () -> bulkhead.acquire(null));
+    Assertions.assertThrows(NullPointerException.class, () -> bulkhead.release(null));
+  }
+}
@@ -0,0 +1,243 @@
+package org.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.hiero.base.HieroException;
+import org.hiero.base.implementation.TransactionJournal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TransactionJournalTest {
+
+  private static final AccountId PAYER = AccountId.fromString("0.0.1001");
+
+  @TempDir Path directory;
+
+  @Test
+  void testUnfinishedTransactionsSurviveReopen() throws Exception {
+    // given
+    final Path file = directory.resolve("transactions.journal");
+    final TransactionId finished = TransactionId.generate(PAYER);
+    final TransactionId unfinished = TransactionId.generate(PAYER);
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      journal.recordSubmitted(finished, new byte[] {1, 2, 3});
+      journal.recordSubmitted(unfinished, new byte[] {4, 5, 6});
+      journal.recordCompleted(finished, Status.SUCCESS);
+    }
+
+    // when
+    final List<TransactionJournal.Entry> entries;
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      entries = journal.getUnfinished();
+    }
+
+    // then
+    Assertions.assertEquals(1, entries.size());
+    Assertions.assertEquals(unfinished, entries.get(0).transactionId());
+    Assertions.assertArrayEquals(new byte[] {4, 5, 6}, entries.get(0).transactionBytes());
+  }
+
+  @Test
+  void testIncompleteRecordIsIgnored() throws Exception {
+    // given
+    final Path file = directory.resolve("transactions.journal");
+    final TransactionId transactionId = TransactionId.generate(PAYER);
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      journal.recordSubmitted(transactionId, new byte[] {1, 2, 3});
+    }
+    Files.write(file, new byte[] {0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+    // when
+    final List<TransactionJournal.Entry> entries;
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      entries = journal.getUnfinished();
+    }
+
+    // then
+    Assertions.assertEquals(1, entries.size());
+    Assertions.assertEquals(transactionId, entries.get(0).transactionId());
+  }
+
+  @Test
+  void testCorruptRecordIsSkipped() throws Exception {
+    // given
+    final Path file = directory.resolve("transactions.journal");
+    final TransactionId corrupt = TransactionId.generate(PAYER);
+    final TransactionId valid = TransactionId.generate(PAYER);
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      journal.recordSubmitted(corrupt, new byte[] {1, 2, 3});
+      journal.recordSubmitted(valid, new byte[] {4, 5, 6});
+    }
+    final byte[] content = Files.readAllBytes(file);
+    // the type of the first record, directly after its length and checksum
+    content[8] ^= 0x7F;
+    Files.write(file, content);
+
+    // when
+    final List<TransactionJournal.Entry> entries;
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      entries = journal.getUnfinished();
+    }
+
+    // then
+    Assertions.assertEquals(1, entries.size());
+    Assertions.assertEquals(valid, entries.get(0).transactionId());
+  }
+
+  @Test
+  void testUnreadableRecordsAreNotCompacted() throws Exception {
+    // given
+    final Path file = directory.resolve("transactions.journal");
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      journal.recordSubmitted(TransactionId.generate(PAYER), new byte[] {1, 2, 3});
+      journal.recordSubmitted(TransactionId.generate(PAYER), new byte[] {4, 5, 6});
+    }
+    final byte[] content = Files.readAllBytes(file);
+    // the length of the first record
+    content[0] = (byte) 0xFF;
+    Files.write(file, content);
+
+    // then
+    Assertions.assertThrows(HieroException.class, () -> new TransactionJournal(file));
+    Assertions.assertArrayEquals(content, Files.readAllBytes(file));
+  }
+
+  @Test
+  void testConcurrentSubmissionsAreGroupCommitted() throws Exception {
+    // given
+    final Path file = directory.resolve("transactions.journal");
+    final int count = 200;
+
+    // when
+    final TransactionJournal journal = new TransactionJournal(file);
+    try {
+      final List<Thread> threads =
+          IntStream.range(0, count)
+              .mapToObj(
+                  i ->
+                      Thread.ofVirtual()
+                          .start(
+                              () -> {
+                                try {
+                                  journal.recordSubmitted(
+                                      TransactionId.generate(PAYER), new byte[] {(byte) i});
+                                } catch (final Exception e) {
+                                  throw new IllegalStateException(e);
+                                }
+                              }))
+              .toList();
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      // then
+      Assertions.assertEquals(count, journal.getUnfinishedCount());
+      Assertions.assertEquals(count, journal.getRecordCount());
+      Assertions.assertTrue(journal.getSyncCount() <= count);
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  void testReconcileCompletesResolvedTransactions() throws Exception {
+    // given
+    final Path file = directory.resolve("transactions.journal");
+    final TransactionId resolved = TransactionId.generate(PAYER);
+    final TransactionId unresolved = TransactionId.generate(PAYER);
+    try (TransactionJournal journal = new TransactionJournal(file)) {
+      journal.recordSubmitted(resolved, new byte[] {1});
+      journal.recordSubmitted(unresolved, new byte[] {2});
+      final TransactionJournal.Resolver first = entry -> Optional.empty();
+      final TransactionJournal.Resolver second =
+          entry ->
+              entry.transactionId().equals(resolved)
+                  ? Optional.of(Status.SUCCESS)
+                  : Optional.empty();
+
+      // when
+      final List<TransactionJournal.Reconciliation> results =
+          journal.reconcile(first.orElse(second));
+
+      // then
+      Assertions.assertEquals(2, results.size());
+      Assertions.assertEquals(
+          1, results.stream().filter(TransactionJournal.Reconciliation::isResolved).count());
+      Assertions.assertEquals(
+          List.of(unresolved),
+          journal.getUnfinished().stream().map(TransactionJournal.Entry::transactionId).toList());
+    }
+  }
+
+  @Test
+  void testClosedJournalRejectsSubmissions() throws Exception {
+    // given
+    final TransactionJournal journal =
+        new TransactionJournal(directory.resolve("transactions.journal"));
+    journal.close();
+
+    // then
+    Assertions.assertThrows(
+        HieroException.class,
+        () -> journal.recordSubmitted(TransactionId.generate(PAYER), new byte[] {1}));
+  }
+
+  @Test
+  void testSubmissionsConcurrentToCloseAreCompleted() throws Exception {
+    // given
+    final TransactionJournal journal =
+        new TransactionJournal(directory.resolve("transactions.journal"));
+    final List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+    final List<Thread> threads =
+        IntStream.range(0, 200)
+            .mapToObj(
+                i ->
+                    Thread.ofVirtual()
+                        .start(
+                            () ->
+                                futures.add(
+                                    journal.recordSubmittedAsync(
+                                        TransactionId.generate(PAYER), new byte[] {(byte) i}))))
+            .toList();
+
+    // when
+    journal.close();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // then
+    Assertions.assertEquals(200, futures.size());
+    for (CompletableFuture<Void> future : futures) {
+      try {
+        future.get(5, TimeUnit.SECONDS);
+      } catch (final ExecutionException e) {
+        Assertions.assertInstanceOf(HieroException.class, e.getCause());
+      }
+    }
+  }
+
+  @Test
+  void testInvalidSettings() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TransactionJournal.Settings(0, 1024));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TransactionJournal.Settings(1, 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionJournal.Settings(1, 1024, Duration.ZERO));
+  }
+}
@@ -0,0 +1,208 @@
+package org.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.HieroException;
+import org.hiero.base.implementation.TransferNettingEngine;
+import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.TokenTransferRequest;
+import org.hiero.base.protocol.data.TokenTransferResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TransferNettingEngineTest {
+
+  private static final TokenId TOKEN_ID = TokenId.fromString("0.0.2000");
+
+  private static final AccountId ALICE = AccountId.fromString("0.0.1000");
+
+  private static final AccountId BOB = AccountId.fromString("0.0.1001");
+
+  private final PrivateKey aliceKey = PrivateKey.generateED25519();
+
+  private final PrivateKey bobKey = PrivateKey.generateED25519();
+
+  private final List<TokenTransferRequest> executed = new CopyOnWriteArrayList<>();
+
+  private ProtocolLayerClient protocolLayerClient;
+
+  @BeforeEach
+  void setup() throws Exception {
+    protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+    when(protocolLayerClient.executeTransferTransaction(any(TokenTransferRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final TokenTransferRequest request = invocation.getArgument(0);
+              executed.add(request);
+              return new TokenTransferResult(
+                  TransactionId.generate(request.sender()), Status.SUCCESS);
+            });
+  }
+
+  @Test
+  void testNetsOppositeTransfers() throws Exception {
+    try (TransferNettingEngine engine =
+        new TransferNettingEngine(protocolLayerClient, Duration.ofMillis(200), 100)) {
+      // when
+      final CompletableFuture<TransferNettingEngine.TransferAudit> first =
+          engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 100);
+      final CompletableFuture<TransferNettingEngine.TransferAudit> second =
+          engine.transfer(TOKEN_ID, BOB, bobKey, ALICE, 30);
+      final CompletableFuture<TransferNettingEngine.TransferAudit> third =
+          engine.transfer(TOKEN_ID, BOB, bobKey, ALICE, 50);
+
+      // then
+      final TransferNettingEngine.TransferAudit audit = second.get();
+      Assertions.assertEquals(BOB, audit.sender());
+      Assertions.assertEquals(30, audit.amount());
+      Assertions.assertEquals(3, audit.nettedTransfers());
+      Assertions.assertEquals(ALICE, audit.netSender());
+      Assertions.assertEquals(20, audit.netAmount());
+      Assertions.assertEquals(Status.SUCCESS, audit.status());
+      Assertions.assertEquals(audit.transactionId(), first.get().transactionId());
+      Assertions.assertEquals(audit.transactionId(), third.get().transactionId());
+      Assertions.assertEquals(1, executed.size());
+      Assertions.assertEquals(ALICE, executed.get(0).sender());
+      Assertions.assertEquals(BOB, executed.get(0).receiver());
+      Assertions.assertEquals(aliceKey, executed.get(0).senderKey());
+    }
+  }
+
+  @Test
+  void testFullyNettedTransfersDoNotExecute() throws Exception {
+    try (TransferNettingEngine engine =
+        new TransferNettingEngine(protocolLayerClient, Duration.ofHours(1), 2)) {
+      // when
+      final CompletableFuture<TransferNettingEngine.TransferAudit> first =
+          engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 10);
+      final CompletableFuture<TransferNettingEngine.TransferAudit> second =
+          engine.transfer(TOKEN_ID, BOB, bobKey, ALICE, 10);
+
+      // then
+      Assertions.assertNull(first.get().transactionId());
+      Assertions.assertNull(second.get().netSender());
+      Assertions.assertEquals(0, second.get().netAmount());
+      Assertions.assertTrue(executed.isEmpty());
+      Assertions.assertEquals(0, engine.getPendingCount());
+    }
+  }
+
+  @Test
+  void testDoesNotNetDifferentTokens() throws Exception {
+    try (TransferNettingEngine engine =
+        new TransferNettingEngine(protocolLayerClient, Duration.ofMillis(50), 100)) {
+      // when
+      final CompletableFuture<TransferNettingEngine.TransferAudit> first =
+          engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 10);
+      final CompletableFuture<TransferNettingEngine.TransferAudit> second =
+          engine.transfer(TokenId.fromString("0.0.2001"), BOB, bobKey, ALICE, 10);
+
+      // then
+      Assertions.assertNotEquals(first.get().transactionId(), second.get().transactionId());
+      Assertions.assertEquals(2, executed.size());
+    }
+  }
+
+  @Test
+  void testFailureCompletesAllTransfers() throws Exception {
+    // given
+    when(protocolLayerClient.executeTransferTransaction(any(TokenTransferRequest.class)))
+        .thenThrow(new HieroException("Failed to execute transaction"));
+
+    try (TransferNettingEngine engine =
+        new TransferNettingEngine(protocolLayerClient, Duration.ofMillis(50), 100)) {
+      // when
+      final CompletableFuture<TransferNettingEngine.TransferAudit> first =
+          engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 10);
+      final CompletableFuture<TransferNettingEngine.TransferAudit> second =
+          engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 20);
+
+      // then
+      final ExecutionException e1 = Assertions.assertThrows(ExecutionException.class, first::get);
+      final ExecutionException e2 = Assertions.assertThrows(ExecutionException.class, second::get);
+      Assertions.assertInstanceOf(HieroException.class, e1.getCause());
+      Assertions.assertInstanceOf(HieroException.class, e2.getCause());
+    }
+  }
+
+  @Test
+  void testTransferAfterCloseFails() throws Exception {
+    // given
+    final TransferNettingEngine engine =
+        new TransferNettingEngine(protocolLayerClient, Duration.ofMillis(50), 100);
+    engine.close();
+
+    // when
+    final CompletableFuture<TransferNettingEngine.TransferAudit> transfer =
+        engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 10);
+
+    // then
+    final ExecutionException e =
+        Assertions.assertThrows(ExecutionException.class, () -> transfer.get(1, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(HieroException.class, e.getCause());
+    Assertions.assertTrue(executed.isEmpty());
+    Assertions.assertEquals(0, engine.getPendingCount());
+  }
+
+  @Test
+  void testCloseSettlesPendingTransfers() throws Exception {
+    // given
+    final TransferNettingEngine engine =
+        new TransferNettingEngine(protocolLayerClient, Duration.ofHours(1), 100);
+    final CompletableFuture<TransferNettingEngine.TransferAudit> transfer =
+        engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 10);
+
+    // when
+    engine.close();
+
+    // then
+    Assertions.assertEquals(Status.SUCCESS, transfer.get(1, TimeUnit.SECONDS).status());
+    Assertions.assertEquals(1, executed.size());
+  }
+
+  @Test
+  void testRejectsAliasAndEvmAddressAccounts() {
+    final AccountId alias = aliceKey.getPublicKey().toAccountId(0, 0);
+    final AccountId evmAddress = AccountId.fromEvmAddress("0x" + "ab".repeat(20), 0, 0);
+    try (TransferNettingEngine engine = new TransferNettingEngine(protocolLayerClient)) {
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> engine.transfer(TOKEN_ID, alias, aliceKey, BOB, 1));
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> engine.transfer(TOKEN_ID, ALICE, aliceKey, evmAddress, 1));
+      Assertions.assertEquals(0, engine.getPendingCount());
+    }
+  }
+
+  @Test
+  void testInvalidParams() {
+    Assertions.assertThrows(
+        NullPointerException.class, () -> new TransferNettingEngine(null, Duration.ZERO, 1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransferNettingEngine(protocolLayerClient, Duration.ZERO, 0));
+    try (TransferNettingEngine engine = new TransferNettingEngine(protocolLayerClient)) {
+      Assertions.assertThrows(
+          NullPointerException.class, () -> engine.transfer(null, ALICE, aliceKey, BOB, 1));
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> engine.transfer(TOKEN_ID, ALICE, aliceKey, BOB, 0));
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> engine.transfer(TOKEN_ID, ALICE, aliceKey, ALICE, 1));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.hiero.benchmark;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TokenId;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.FungibleTokenClient;
+import org.hiero.base.config.ExecutionMode;
+import org.hiero.base.implementation.FungibleTokenClientImpl;
+import org.hiero.base.implementation.ProtocolLayerClientImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Submits {@value #SUBMITS} concurrent token transfers against a {@link SimulatedNetwork} and
+ * compares the execution modes. The score is the time per transfer; the peak number of platform
+ * threads of every iteration is printed to the benchmark output. The callers run on platform or on
+ * virtual threads, since virtual callers of {@link ExecutionMode#VIRTUAL_THREADS} do not hop to
+ * the executor of the context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+  private static final int SUBMITS = 10_000;
+
+  private static final TokenId TOKEN = TokenId.fromString("0.0.5001");
+
+  private static final AccountId RECEIVER = AccountId.fromString("0.0.2001");
+
+  @Param({"PLATFORM_THREADS", "VIRTUAL_THREADS"})
+  private ExecutionMode mode;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  private String callers;
+
+  @Param({"50"})
+  private long consensusLatencyMillis;
+
+  private SimulatedNetwork network;
+
+  private SimulatedNetwork.AutoCloseableContext context;
+
+  private FungibleTokenClient tokenClient;
+
+  private ThreadFactory callerFactory;
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+  @Setup(Level.Trial)
+  public void startNetwork() throws IOException {
+    network =
+        new SimulatedNetwork(
+            "execution-mode-benchmark", Duration.ofMillis(consensusLatencyMillis));
+    context = network.createContext(mode);
+    tokenClient =
+        new FungibleTokenClientImpl(
+            new ProtocolLayerClientImpl(context.context()), context.context().getOperatorAccount());
+    callerFactory =
+        "VIRTUAL".equals(callers)
+            ? Thread.ofVirtual().name("caller-", 0).factory()
+            : Thread.ofPlatform().name("caller-", 0).factory();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPeakThreadCount() {
+    threads.resetPeakThreadCount();
+  }
+
+  @TearDown(Level.Iteration)
+  public void printPeakThreadCount() {
+    System.out.printf(
+        "%n%s with %s callers: peak platform threads %d%n",
+        mode, callers, threads.getPeakThreadCount());
+  }
+
+  @TearDown(Level.Trial)
+  public void stopNetwork() {
+    context.close();
+    network.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SUBMITS)
+  public int concurrentTransfers() throws Exception {
+    final List<Future<?>> transfers = new ArrayList<>(SUBMITS);
+    try (ExecutorService submitters = Executors.newThreadPerTaskExecutor(callerFactory)) {
+      for (int i = 0; i < SUBMITS; i++) {
+        transfers.add(
+            submitters.submit(
+                () -> {
+                  tokenClient.transferToken(TOKEN, RECEIVER, 1);
+                  return null;
+                }));
+      }
+    }
+    int failed = 0;
+    for (final Future<?> transfer : transfers) {
+      if (transfer.state() != Future.State.SUCCESS) {
+        failed++;
+      }
+    }
+    if (failed > 0) {
+      throw new IllegalStateException(failed + " of " + SUBMITS + " transfers failed");
+    }
+    return transfers.size();
+  }
+}
@@ -0,0 +1,110 @@
+package org.hiero.benchmark;
+
+import com.hedera.hashgraph.sdk.FileId;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.FileClient;
+import org.hiero.base.HieroException;
+import org.hiero.base.config.ExecutionMode;
+import org.hiero.base.implementation.FileClientImpl;
+import org.hiero.base.implementation.ProtocolLayerClientImpl;
+import org.hiero.base.protocol.ProtocolLayerClient;
+import org.hiero.base.protocol.data.FileAppendRequest;
+import org.hiero.base.protocol.data.FileCreateRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uploads a file of the maximum size of about 1 MB against a {@link SimulatedNetwork} without
+ * consensus latency. The streaming uploads of the file client are compared with the former upload
+ * that copied the remaining contents for every chunk. Run the benchmark with {@code -prof gc} to
+ * compare the allocation per upload as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUploadBenchmark {
+
+  private static final int SIZE = FileCreateRequest.FILE_MAX_SIZE;
+
+  private SimulatedNetwork network;
+
+  private SimulatedNetwork.AutoCloseableContext context;
+
+  private ProtocolLayerClient protocolLayerClient;
+
+  private FileClient fileClient;
+
+  private byte[] contents;
+
+  private Path path;
+
+  @Setup(Level.Trial)
+  public void startNetwork() throws IOException {
+    network = new SimulatedNetwork("file-upload-benchmark", Duration.ZERO);
+    context = network.createContext(ExecutionMode.PLATFORM_THREADS);
+    protocolLayerClient = new ProtocolLayerClientImpl(context.context());
+    fileClient = new FileClientImpl(protocolLayerClient);
+    contents = new byte[SIZE];
+    new Random(42).nextBytes(contents);
+    path = Files.createTempFile("hiero-upload-benchmark", ".bin");
+    Files.write(path, contents);
+  }
+
+  @TearDown(Level.Trial)
+  public void stopNetwork() throws IOException {
+    Files.deleteIfExists(path);
+    context.close();
+    network.close();
+  }
+
+  @Benchmark
+  public FileId copying() throws HieroException {
+    final byte[] start = Arrays.copyOf(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+    final FileId fileId =
+        protocolLayerClient.executeFileCreateTransaction(FileCreateRequest.of(start)).fileId();
+    byte[] remaining =
+        Arrays.copyOfRange(contents, FileCreateRequest.FILE_CREATE_MAX_SIZE, contents.length);
+    while (remaining.length > 0) {
+      final int length = Math.min(remaining.length, FileCreateRequest.FILE_CREATE_MAX_SIZE);
+      final byte[] next = Arrays.copyOf(remaining, length);
+      protocolLayerClient.executeFileAppendRequestTransaction(FileAppendRequest.of(fileId, next));
+      remaining = Arrays.copyOfRange(remaining, length, remaining.length);
+    }
+    return fileId;
+  }
+
+  @Benchmark
+  public FileId byteArray() throws HieroException {
+    return fileClient.createFile(contents);
+  }
+
+  @Benchmark
+  public FileId stream() throws HieroException {
+    return fileClient.createFileFrom(new ByteArrayInputStream(contents), contents.length);
+  }
+
+  @Benchmark
+  public FileId file() throws HieroException {
+    return fileClient.createFileFrom(path);
+  }
+}
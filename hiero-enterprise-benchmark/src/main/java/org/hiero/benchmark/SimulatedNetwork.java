@@ -0,0 +1,219 @@
+package org.hiero.benchmark;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.hiero.base.HieroContext;
+import org.hiero.base.config.ExecutionMode;
+import org.hiero.base.config.PayerPool;
+import org.hiero.base.config.implementation.VirtualThreadHieroContext;
+import org.hiero.base.data.Account;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * In-process consensus node for benchmarks. The node accepts every crypto transfer, file create and
+ * file append transaction and answers receipt queries with a successful receipt after the given
+ * consensus latency. Every receipt carries the file id {@link #FILE}. Requests are handled on the
+ * gRPC transport threads and delayed answers on a single scheduler thread, so that the node adds
+ * almost no threads to the thread count of a benchmark.
+ */
+public final class SimulatedNetwork implements AutoCloseable {
+
+  /** Account of the simulated consensus node. */
+  public static final AccountId NODE = AccountId.fromString("0.0.3");
+
+  /** File id of all receipts. */
+  public static final long FILE = 5001;
+
+  /** Account of the operator of the contexts. */
+  public static final AccountId OPERATOR = AccountId.fromString("0.0.1001");
+
+  private final String name;
+
+  private final Duration consensusLatency;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final Server server;
+
+  /**
+   * Starts a simulated node.
+   *
+   * @param name the unique name of the in-process server
+   * @param consensusLatency the time between the submission of a transaction and its receipt
+   * @throws IOException if the server can not be started
+   */
+  public SimulatedNetwork(@NonNull final String name, @NonNull final Duration consensusLatency)
+      throws IOException {
+    this.name = Objects.requireNonNull(name, "name must not be null");
+    this.consensusLatency =
+        Objects.requireNonNull(consensusLatency, "consensusLatency must not be null");
+    this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    this.server =
+        InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(
+                ServerServiceDefinition.builder(CryptoServiceGrpc.SERVICE_NAME)
+                    .addMethod(CryptoServiceGrpc.getCryptoTransferMethod(), unary(t -> accepted()))
+                    .addMethod(
+                        CryptoServiceGrpc.getGetTransactionReceiptsMethod(),
+                        delayed(q -> successReceipt()))
+                    .build())
+            .addService(
+                ServerServiceDefinition.builder(FileServiceGrpc.SERVICE_NAME)
+                    .addMethod(FileServiceGrpc.getCreateFileMethod(), unary(t -> accepted()))
+                    .addMethod(FileServiceGrpc.getAppendContentMethod(), unary(t -> accepted()))
+                    .build())
+            .build()
+            .start();
+  }
+
+  /**
+   * Creates a context that is connected to the simulated node. A context of {@link
+   * ExecutionMode#VIRTUAL_THREADS} owns an executor of virtual threads like the contexts of {@link
+   * org.hiero.base.config.HieroConfig#createHieroContext()}.
+   *
+   * @param mode the execution mode
+   * @return the context that must be closed by the caller
+   */
+  @NonNull
+  public AutoCloseableContext createContext(@NonNull final ExecutionMode mode) {
+    Objects.requireNonNull(mode, "mode must not be null");
+    final Account operator = Account.of(OPERATOR, PrivateKey.generateED25519());
+    final Map<String, AccountId> nodes = Map.of("in-process:" + name, NODE);
+    if (mode == ExecutionMode.VIRTUAL_THREADS) {
+      final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+      final Client client = Client.forNetwork(nodes, executor);
+      client.setOperator(operator.accountId(), operator.privateKey());
+      final VirtualThreadHieroContext context =
+          new VirtualThreadHieroContext(new ClientContext(operator, client), executor);
+      return new AutoCloseableContext(context, context::close);
+    }
+    final Client client = Client.forNetwork(nodes);
+    client.setOperator(operator.accountId(), operator.privateKey());
+    return new AutoCloseableContext(new ClientContext(operator, client), client::close);
+  }
+
+  @Override
+  public void close() {
+    server.shutdownNow();
+    scheduler.shutdownNow();
+  }
+
+  @NonNull
+  private static TransactionResponse accepted() {
+    return TransactionResponse.newBuilder()
+        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+        .build();
+  }
+
+  @NonNull
+  private static Response successReceipt() {
+    return Response.newBuilder()
+        .setTransactionGetReceipt(
+            TransactionGetReceiptResponse.newBuilder()
+                .setHeader(
+                    ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                .setReceipt(
+                    TransactionReceipt.newBuilder()
+                        .setStatus(ResponseCodeEnum.SUCCESS)
+                        .setFileID(FileID.newBuilder().setFileNum(FILE))))
+        .build();
+  }
+
+  /** Returns a handler that answers every request of a unary call directly. */
+  @NonNull
+  private static <Q, A> ServerCallHandler<Q, A> unary(@NonNull final Function<Q, A> answer) {
+    return (call, headers) -> {
+      call.request(1);
+      return new ServerCall.Listener<>() {
+        @Override
+        public void onMessage(final Q message) {
+          answer(call, answer.apply(message));
+        }
+      };
+    };
+  }
+
+  /** Returns a handler that answers every request of a unary call after the consensus latency. */
+  @NonNull
+  private <Q, A> ServerCallHandler<Q, A> delayed(@NonNull final Function<Q, A> answer) {
+    return (call, headers) -> {
+      call.request(1);
+      return new ServerCall.Listener<>() {
+        @Override
+        public void onMessage(final Q message) {
+          final A response = answer.apply(message);
+          scheduler.schedule(
+              () -> answer(call, response), consensusLatency.toNanos(), TimeUnit.NANOSECONDS);
+        }
+      };
+    };
+  }
+
+  private static <Q, A> void answer(@NonNull final ServerCall<Q, A> call, @NonNull final A answer) {
+    call.sendHeaders(new Metadata());
+    call.sendMessage(answer);
+    call.close(Status.OK, new Metadata());
+  }
+
+  /**
+   * A context and the action that releases its clients and executors.
+   *
+   * @param context the context
+   * @param closer the action that closes the context
+   */
+  public record AutoCloseableContext(@NonNull HieroContext context, @NonNull Runnable closer)
+      implements AutoCloseable {
+
+    @Override
+    public void close() {
+      closer.run();
+    }
+  }
+
+  private record ClientContext(@NonNull Account operator, @NonNull Client client)
+      implements HieroContext {
+
+    @Override
+    public @NonNull Account getOperatorAccount() {
+      return operator;
+    }
+
+    @Override
+    public @NonNull Client getClient() {
+      return client;
+    }
+
+    @Override
+    public @NonNull Optional<PayerPool> getPayerPool() {
+      return Optional.empty();
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package org.hiero.microprofile;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperties;
 import org.hiero.base.AccountClient;
@@ -28,6 +30,7 @@ import org.hiero.base.implementation.SmartContractClientImpl;
 import org.hiero.base.implementation.TokenRepositoryImpl;
 import org.hiero.base.implementation.TopicClientImpl;
 import org.hiero.base.implementation.TopicRepositoryImpl;
+import org.hiero.base.implementation.TransactionBulkhead;
 import org.hiero.base.implementation.TransactionRepositoryImpl;
 import org.hiero.base.mirrornode.AccountRepository;
 import org.hiero.base.mirrornode.BlockRepository;
@@ -38,6 +41,7 @@ import org.hiero.base.mirrornode.NftRepository;
 import org.hiero.base.mirrornode.TokenRepository;
 import org.hiero.base.mirrornode.TopicRepository;
 import org.hiero.base.mirrornode.TransactionRepository;
+import org.hiero.base.protocol.AsyncProtocolLayerClient;
 import org.hiero.base.protocol.ProtocolLayerClient;
 import org.hiero.base.verification.ContractVerificationClient;
 import org.hiero.microprofile.implementation.ContractVerificationClientImpl;
@@ -46,9 +50,13 @@ import org.hiero.microprofile.implementation.MirrorNodeClientImpl;
 import org.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
 import org.hiero.microprofile.implementation.MirrorNodeRestClientImpl;
 import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ClientProvider {
 
+  private static final Logger log = LoggerFactory.getLogger(ClientProvider.class);
+
   @Inject @ConfigProperties private HieroOperatorConfiguration configuration;
 
   @Inject @ConfigProperties private HieroNetworkConfiguration networkConfiguration;
@@ -67,18 +75,53 @@ public class ClientProvider {
     return hieroConfig.createHieroContext();
   }
 
+  /**
+   * Closes the clients of the context and the executor that is owned by a context of {@link
+   * org.hiero.base.config.ExecutionMode#VIRTUAL_THREADS}.
+   */
+  void closeHieroContext(@Disposes @NonNull final HieroContext hieroContext) {
+    if (hieroContext instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (final Exception e) {
+        log.warn("Failed to close Hiero context", e);
+      }
+    }
+  }
+
+  @NonNull
+  @Produces
+  @ApplicationScoped
+  TransactionBulkhead createTransactionBulkhead(@NonNull final HieroConfig hieroConfig) {
+    return new TransactionBulkhead(hieroConfig.getBulkheads());
+  }
+
+  /**
+   * Produces one client that is injected as {@link ProtocolLayerClient} and as {@link
+   * AsyncProtocolLayerClient}, so that both share their transaction listeners, bulkhead and caches.
+   */
   @NonNull
   @Produces
   @ApplicationScoped
-  ProtocolLayerClient createProtocolLayerClient(@NonNull final HieroContext hieroContext) {
-    return new ProtocolLayerClientImpl(hieroContext);
+  @Typed({ProtocolLayerClient.class, AsyncProtocolLayerClient.class})
+  ProtocolLayerClientImpl createProtocolLayerClient(
+      @NonNull final HieroConfig hieroConfig,
+      @NonNull final HieroContext hieroContext,
+      @NonNull final TransactionBulkhead bulkhead) {
+    final ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(hieroContext);
+    protocolLayerClient.setBulkhead(bulkhead);
+    hieroConfig.getRecordPolicies().forEach(protocolLayerClient::setRecordPolicy);
+    return protocolLayerClient;
   }
 
   @NonNull
   @Produces
   @ApplicationScoped
-  FileClient createFileClient(@NonNull final ProtocolLayerClient protocolLayerClient) {
-    return new FileClientImpl(protocolLayerClient);
+  FileClient createFileClient(
+      @NonNull final ProtocolLayerClient protocolLayerClient,
+      @NonNull final HieroConfig hieroConfig) {
+    return new FileClientImpl(
+        protocolLayerClient, new FileClientImpl.Settings(hieroConfig.getFileAppendWindow()));
   }
 
   @NonNull
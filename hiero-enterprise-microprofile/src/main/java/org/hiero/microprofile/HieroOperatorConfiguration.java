@@ -1,6 +1,7 @@
 package org.hiero.microprofile;
 
 import jakarta.enterprise.context.Dependent;
+import java.util.Optional;
 import org.eclipse.microprofile.config.inject.ConfigProperties;
 
 @ConfigProperties(prefix = "hiero")
@@ -11,6 +12,26 @@ public class HieroOperatorConfiguration {
 
   private String privateKey;
 
+  private Optional<String> executionMode = Optional.empty();
+
+  private Optional<String> bulkheads = Optional.empty();
+
+  private Optional<String> recordPolicy = Optional.empty();
+
+  private Optional<Integer> clientPoolSize = Optional.empty();
+
+  private Optional<Integer> fileAppendWindow = Optional.empty();
+
+  private Optional<String> startupMode = Optional.empty();
+
+  private Optional<String> payers = Optional.empty();
+
+  private Optional<String> payerSelection = Optional.empty();
+
+  private Optional<Long> payerMinBalanceInHbar = Optional.empty();
+
+  private Optional<Long> payerBalanceCheckIntervalInMs = Optional.empty();
+
   public String getAccountId() {
     return accountId;
   }
@@ -18,4 +39,44 @@ public class HieroOperatorConfiguration {
   public String getPrivateKey() {
     return privateKey;
   }
+
+  public Optional<String> getExecutionMode() {
+    return executionMode;
+  }
+
+  public Optional<String> getBulkheads() {
+    return bulkheads;
+  }
+
+  public Optional<String> getRecordPolicy() {
+    return recordPolicy;
+  }
+
+  public Optional<Integer> getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  public Optional<Integer> getFileAppendWindow() {
+    return fileAppendWindow;
+  }
+
+  public Optional<String> getStartupMode() {
+    return startupMode;
+  }
+
+  public Optional<String> getPayers() {
+    return payers;
+  }
+
+  public Optional<String> getPayerSelection() {
+    return payerSelection;
+  }
+
+  public Optional<Long> getPayerMinBalanceInHbar() {
+    return payerMinBalanceInHbar;
+  }
+
+  public Optional<Long> getPayerBalanceCheckIntervalInMs() {
+    return payerBalanceCheckIntervalInMs;
+  }
 }
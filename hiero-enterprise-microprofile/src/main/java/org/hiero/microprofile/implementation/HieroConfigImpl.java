@@ -1,16 +1,28 @@
 package org.hiero.microprofile.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import org.hiero.base.config.BulkheadSettings;
 import org.hiero.base.config.ConsensusNode;
+import org.hiero.base.config.ExecutionMode;
 import org.hiero.base.config.HieroConfig;
 import org.hiero.base.config.NetworkSettings;
+import org.hiero.base.config.PayerPoolSettings;
+import org.hiero.base.config.PayerSelection;
+import org.hiero.base.config.StartupMode;
 import org.hiero.base.data.Account;
+import org.hiero.base.protocol.data.RecordPolicy;
+import org.hiero.base.protocol.data.TransactionType;
 import org.hiero.microprofile.HieroNetworkConfiguration;
 import org.hiero.microprofile.HieroOperatorConfiguration;
 import org.jspecify.annotations.NonNull;
@@ -35,6 +47,20 @@ public class HieroConfigImpl implements HieroConfig {
 
   private final Long requestTimeoutInMs;
 
+  private final ExecutionMode executionMode;
+
+  private final Map<TransactionType, BulkheadSettings> bulkheads;
+
+  private final Map<TransactionType, RecordPolicy> recordPolicies;
+
+  private final PayerPoolSettings payerPoolSettings;
+
+  private final int clientPoolSize;
+
+  private final int fileAppendWindow;
+
+  private final StartupMode startupMode;
+
   public HieroConfigImpl(
       @NonNull final HieroOperatorConfiguration configuration,
       @NonNull final HieroNetworkConfiguration networkConfiguration) {
@@ -45,6 +71,49 @@ public class HieroConfigImpl implements HieroConfig {
     final PrivateKey operatorPrivateKey = PrivateKey.fromString(configuration.getPrivateKey());
     operatorAccount = Account.of(operatorAccountId, operatorPrivateKey);
     requestTimeoutInMs = networkConfiguration.getRequestTimeoutInMs().orElse(null);
+    executionMode =
+        configuration
+            .getExecutionMode()
+            .map(HieroConfigImpl::parseExecutionMode)
+            .orElse(ExecutionMode.PLATFORM_THREADS);
+    bulkheads = configuration.getBulkheads().map(HieroConfigImpl::parseBulkheads).orElse(Map.of());
+    recordPolicies =
+        configuration.getRecordPolicy().map(HieroConfigImpl::parseRecordPolicies).orElse(Map.of());
+    clientPoolSize = configuration.getClientPoolSize().orElse(1);
+    if (clientPoolSize < 1) {
+      throw new IllegalArgumentException("clientPoolSize must be greater than 0");
+    }
+    fileAppendWindow = configuration.getFileAppendWindow().orElse(1);
+    if (fileAppendWindow < 1) {
+      throw new IllegalArgumentException("fileAppendWindow must be greater than 0");
+    }
+    startupMode =
+        configuration
+            .getStartupMode()
+            .map(HieroConfigImpl::parseStartupMode)
+            .orElse(StartupMode.EAGER);
+    payerPoolSettings =
+        configuration
+            .getPayers()
+            .map(HieroConfigImpl::parsePayers)
+            .filter(payers -> !payers.isEmpty())
+            .map(
+                payers ->
+                    new PayerPoolSettings(
+                        payers,
+                        configuration
+                            .getPayerSelection()
+                            .map(HieroConfigImpl::parsePayerSelection)
+                            .orElse(PayerSelection.ROUND_ROBIN),
+                        configuration
+                            .getPayerMinBalanceInHbar()
+                            .map(Hbar::from)
+                            .orElse(PayerPoolSettings.DEFAULT_MIN_BALANCE),
+                        configuration
+                            .getPayerBalanceCheckIntervalInMs()
+                            .map(Duration::ofMillis)
+                            .orElse(PayerPoolSettings.DEFAULT_BALANCE_CHECK_INTERVAL)))
+            .orElse(null);
     final Optional<NetworkSettings> networkSettings =
         networkConfiguration
             .getName()
@@ -66,11 +135,163 @@ public class HieroConfigImpl implements HieroConfig {
     }
   }
 
+  private static ExecutionMode parseExecutionMode(final String executionMode) {
+    try {
+      return ExecutionMode.valueOf(executionMode.trim().toUpperCase().replace('-', '_'));
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "Can not parse 'executionMode' property: '" + executionMode + "'", e);
+    }
+  }
+
+  private static StartupMode parseStartupMode(final String startupMode) {
+    try {
+      return StartupMode.valueOf(startupMode.trim().toUpperCase().replace('-', '_'));
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "Can not parse 'startupMode' property: '" + startupMode + "'", e);
+    }
+  }
+
+  /**
+   * Parses bulkhead settings in the format {@code
+   * TYPE:maxInFlight:maxQueued[:maxQueueWaitInMs],...}, for example {@code
+   * FILE_APPEND:4:16,CRYPTO_TRANSFER:64:256:5000}.
+   */
+  private static Map<TransactionType, BulkheadSettings> parseBulkheads(final String bulkheads) {
+    final Map<TransactionType, BulkheadSettings> settings = new EnumMap<>(TransactionType.class);
+    for (String entry : bulkheads.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      try {
+        final String[] parts = entry.trim().split(":");
+        if (parts.length < 3 || parts.length > 4) {
+          throw new IllegalArgumentException(
+              "Expected TYPE:maxInFlight:maxQueued[:maxQueueWaitInMs]");
+        }
+        final TransactionType type = TransactionType.valueOf(parts[0].trim().toUpperCase());
+        final Duration maxQueueWait =
+            parts.length == 4
+                ? Duration.ofMillis(Long.parseLong(parts[3].trim()))
+                : BulkheadSettings.DEFAULT_MAX_QUEUE_WAIT;
+        settings.put(
+            type,
+            new BulkheadSettings(
+                Integer.parseInt(parts[1].trim()),
+                Integer.parseInt(parts[2].trim()),
+                maxQueueWait));
+      } catch (Exception e) {
+        throw new IllegalArgumentException(
+            "Can not parse 'bulkheads' property: '" + entry + "'", e);
+      }
+    }
+    return Collections.unmodifiableMap(settings);
+  }
+
+  /**
+   * Parses record policies in the format {@code TYPE:POLICY,...}, for example {@code
+   * CONTRACT_CALL:RECEIPT_ONLY,ACCOUNT_CREATE:RECORD_LAZY}.
+   */
+  private static Map<TransactionType, RecordPolicy> parseRecordPolicies(final String recordPolicy) {
+    final Map<TransactionType, RecordPolicy> policies = new EnumMap<>(TransactionType.class);
+    for (String entry : recordPolicy.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      try {
+        final String[] parts = entry.trim().split(":");
+        if (parts.length != 2) {
+          throw new IllegalArgumentException("Expected TYPE:POLICY");
+        }
+        policies.put(
+            TransactionType.valueOf(parts[0].trim().toUpperCase()),
+            RecordPolicy.valueOf(parts[1].trim().toUpperCase().replace('-', '_')));
+      } catch (Exception e) {
+        throw new IllegalArgumentException(
+            "Can not parse 'recordPolicy' property: '" + entry + "'", e);
+      }
+    }
+    return Collections.unmodifiableMap(policies);
+  }
+
+  /**
+   * Parses payer accounts in the format {@code accountId:privateKey,...}, for example {@code
+   * 0.0.1001:302e...,0.0.1002:302e...}.
+   */
+  private static List<Account> parsePayers(final String payers) {
+    final List<Account> accounts = new ArrayList<>();
+    for (String entry : payers.split(",")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      final String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(
+            "Can not parse 'payers' property: expected accountId:privateKey");
+      }
+      try {
+        accounts.add(
+            Account.of(
+                AccountId.fromString(parts[0].trim()), PrivateKey.fromString(parts[1].trim())));
+      } catch (Exception e) {
+        // the entry is not part of the message since it contains a private key
+        throw new IllegalArgumentException(
+            "Can not parse 'payers' property for account '" + parts[0].trim() + "'", e);
+      }
+    }
+    return List.copyOf(accounts);
+  }
+
+  private static PayerSelection parsePayerSelection(final String payerSelection) {
+    try {
+      return PayerSelection.valueOf(payerSelection.trim().toUpperCase().replace('-', '_'));
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "Can not parse 'payerSelection' property: '" + payerSelection + "'", e);
+    }
+  }
+
   @Override
   public Optional<Duration> getRequestTimeout() {
     return Optional.ofNullable(requestTimeoutInMs).map(Duration::ofMillis);
   }
 
+  @Override
+  public @NonNull ExecutionMode getExecutionMode() {
+    return executionMode;
+  }
+
+  @Override
+  public @NonNull StartupMode getStartupMode() {
+    return startupMode;
+  }
+
+  @Override
+  public @NonNull Map<TransactionType, BulkheadSettings> getBulkheads() {
+    return bulkheads;
+  }
+
+  @Override
+  public @NonNull Map<TransactionType, RecordPolicy> getRecordPolicies() {
+    return recordPolicies;
+  }
+
+  @Override
+  public int getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  @Override
+  public int getFileAppendWindow() {
+    return fileAppendWindow;
+  }
+
+  @Override
+  public @NonNull Optional<PayerPoolSettings> getPayerPoolSettings() {
+    return Optional.ofNullable(payerPoolSettings);
+  }
+
   @Override
   public @NonNull Account getOperatorAccount() {
     return operatorAccount;
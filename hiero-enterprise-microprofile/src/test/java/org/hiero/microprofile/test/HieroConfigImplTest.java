@@ -2,10 +2,21 @@ package org.hiero.microprofile.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.hiero.base.config.BulkheadSettings;
 import org.hiero.base.config.ConsensusNode;
+import org.hiero.base.config.PayerPoolSettings;
+import org.hiero.base.config.PayerSelection;
+import org.hiero.base.data.Account;
+import org.hiero.base.protocol.data.RecordPolicy;
+import org.hiero.base.protocol.data.TransactionType;
 import org.hiero.microprofile.HieroNetworkConfiguration;
 import org.hiero.microprofile.HieroOperatorConfiguration;
 import org.hiero.microprofile.implementation.HieroConfigImpl;
@@ -100,4 +111,177 @@ class HieroConfigImplTest {
     assertEquals(Optional.empty(), config.chainId());
     assertEquals(Optional.empty(), config.relayUrl());
   }
+
+  @Test
+  void shouldParseBulkheads() {
+    final HieroOperatorConfiguration operatorConfiguration =
+        new HieroOperatorConfiguration() {
+          @Override
+          public String getAccountId() {
+            return "0.0.1001";
+          }
+
+          @Override
+          public String getPrivateKey() {
+            return PrivateKey.generateED25519().toString();
+          }
+
+          @Override
+          public Optional<String> getBulkheads() {
+            return Optional.of("file_append:4:16, CRYPTO_TRANSFER:64:256:5000");
+          }
+        };
+
+    final HieroNetworkConfiguration networkConfiguration =
+        new HieroNetworkConfiguration() {
+          @Override
+          public Optional<String> getName() {
+            return Optional.of("hedera-testnet");
+          }
+
+          @Override
+          public Optional<String> getMirrornode() {
+            return Optional.empty();
+          }
+
+          @Override
+          public Optional<Long> getRequestTimeoutInMs() {
+            return Optional.empty();
+          }
+
+          @Override
+          public Set<ConsensusNode> getNodes() {
+            return Set.of();
+          }
+        };
+
+    final HieroConfigImpl config = new HieroConfigImpl(operatorConfiguration, networkConfiguration);
+
+    assertEquals(
+        Map.of(
+            TransactionType.FILE_APPEND,
+            new BulkheadSettings(4, 16),
+            TransactionType.CRYPTO_TRANSFER,
+            new BulkheadSettings(64, 256, Duration.ofMillis(5000))),
+        config.getBulkheads());
+  }
+
+  @Test
+  void shouldParseRecordPolicies() {
+    final HieroOperatorConfiguration operatorConfiguration =
+        new HieroOperatorConfiguration() {
+          @Override
+          public String getAccountId() {
+            return "0.0.1001";
+          }
+
+          @Override
+          public String getPrivateKey() {
+            return PrivateKey.generateED25519().toString();
+          }
+
+          @Override
+          public Optional<String> getRecordPolicy() {
+            return Optional.of("contract_call:receipt-only, ACCOUNT_CREATE:RECORD_LAZY");
+          }
+        };
+
+    final HieroNetworkConfiguration networkConfiguration =
+        new HieroNetworkConfiguration() {
+          @Override
+          public Optional<String> getName() {
+            return Optional.of("hedera-testnet");
+          }
+
+          @Override
+          public Optional<String> getMirrornode() {
+            return Optional.empty();
+          }
+
+          @Override
+          public Optional<Long> getRequestTimeoutInMs() {
+            return Optional.empty();
+          }
+
+          @Override
+          public Set<ConsensusNode> getNodes() {
+            return Set.of();
+          }
+        };
+
+    final HieroConfigImpl config = new HieroConfigImpl(operatorConfiguration, networkConfiguration);
+
+    assertEquals(
+        Map.of(
+            TransactionType.CONTRACT_CALL,
+            RecordPolicy.RECEIPT_ONLY,
+            TransactionType.ACCOUNT_CREATE,
+            RecordPolicy.RECORD_LAZY),
+        config.getRecordPolicies());
+  }
+
+  @Test
+  void shouldParsePayers() {
+    final PrivateKey payerKey = PrivateKey.generateED25519();
+    final HieroOperatorConfiguration operatorConfiguration =
+        new HieroOperatorConfiguration() {
+          @Override
+          public String getAccountId() {
+            return "0.0.1001";
+          }
+
+          @Override
+          public String getPrivateKey() {
+            return PrivateKey.generateED25519().toString();
+          }
+
+          @Override
+          public Optional<String> getPayers() {
+            return Optional.of("0.0.2001:" + payerKey + ", 0.0.2002:" + payerKey);
+          }
+
+          @Override
+          public Optional<String> getPayerSelection() {
+            return Optional.of("least-loaded");
+          }
+
+          @Override
+          public Optional<Long> getPayerMinBalanceInHbar() {
+            return Optional.of(5L);
+          }
+        };
+
+    final HieroNetworkConfiguration networkConfiguration =
+        new HieroNetworkConfiguration() {
+          @Override
+          public Optional<String> getName() {
+            return Optional.of("hedera-testnet");
+          }
+
+          @Override
+          public Optional<String> getMirrornode() {
+            return Optional.empty();
+          }
+
+          @Override
+          public Optional<Long> getRequestTimeoutInMs() {
+            return Optional.empty();
+          }
+
+          @Override
+          public Set<ConsensusNode> getNodes() {
+            return Set.of();
+          }
+        };
+
+    final HieroConfigImpl config = new HieroConfigImpl(operatorConfiguration, networkConfiguration);
+
+    final PayerPoolSettings settings = config.getPayerPoolSettings().orElseThrow();
+    assertEquals(
+        List.of(AccountId.fromString("0.0.2001"), AccountId.fromString("0.0.2002")),
+        settings.payers().stream().map(Account::accountId).toList());
+    assertEquals(PayerSelection.LEAST_LOADED, settings.selection());
+    assertEquals(Hbar.from(5), settings.minBalance());
+    assertEquals(PayerPoolSettings.DEFAULT_BALANCE_CHECK_INTERVAL, settings.balanceCheckInterval());
+  }
 }
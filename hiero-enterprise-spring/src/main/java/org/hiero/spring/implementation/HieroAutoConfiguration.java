@@ -2,6 +2,7 @@ package org.hiero.spring.implementation;
 
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 import org.hiero.base.AccountClient;
 import org.hiero.base.FileClient;
@@ -14,19 +15,34 @@ import org.hiero.base.TopicClient;
 import org.hiero.base.config.HieroConfig;
 import org.hiero.base.implementation.AccountClientImpl;
 import org.hiero.base.implementation.AccountRepositoryImpl;
+import org.hiero.base.implementation.AdaptiveThrottle;
 import org.hiero.base.implementation.BlockRepositoryImpl;
+import org.hiero.base.implementation.CachingFileClient;
+import org.hiero.base.implementation.CompressingFileClient;
 import org.hiero.base.implementation.ContractRepositoryImpl;
 import org.hiero.base.implementation.FileClientImpl;
+import org.hiero.base.implementation.FileRegistry;
 import org.hiero.base.implementation.FungibleTokenClientImpl;
 import org.hiero.base.implementation.HookClientImpl;
+import org.hiero.base.implementation.IdempotencyStore;
+import org.hiero.base.implementation.KeyPool;
+import org.hiero.base.implementation.ListenerDispatcher;
 import org.hiero.base.implementation.NetworkRepositoryImpl;
 import org.hiero.base.implementation.NftClientImpl;
 import org.hiero.base.implementation.NftRepositoryImpl;
+import org.hiero.base.implementation.NodeHealth;
+import org.hiero.base.implementation.PriorityScheduler;
 import org.hiero.base.implementation.ProtocolLayerClientImpl;
+import org.hiero.base.implementation.QueryCostCache;
+import org.hiero.base.implementation.QueryHedging;
+import org.hiero.base.implementation.ReceiptPoller;
 import org.hiero.base.implementation.SmartContractClientImpl;
+import org.hiero.base.implementation.TokenAssociateCoalescer;
 import org.hiero.base.implementation.TokenRepositoryImpl;
 import org.hiero.base.implementation.TopicClientImpl;
 import org.hiero.base.implementation.TopicRepositoryImpl;
+import org.hiero.base.implementation.TransactionBulkhead;
+import org.hiero.base.implementation.TransactionJournal;
 import org.hiero.base.implementation.TransactionRepositoryImpl;
 import org.hiero.base.interceptors.ReceiveRecordInterceptor;
 import org.hiero.base.mirrornode.AccountRepository;
@@ -42,8 +58,10 @@ import org.hiero.base.protocol.ProtocolLayerClient;
 import org.hiero.base.verification.ContractVerificationClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -58,6 +76,9 @@ public class HieroAutoConfiguration {
 
   private static final Logger log = LoggerFactory.getLogger(HieroAutoConfiguration.class);
 
+  /** Time after the end of the valid duration after which a journaled transaction is expired. */
+  private static final Duration JOURNAL_EXPIRY_GRACE = Duration.ofMinutes(5);
+
   @Bean
   @ApplicationScope
   HieroConfig hieroConfig(final HieroProperties properties) {
@@ -71,25 +92,170 @@ public class HieroAutoConfiguration {
   }
 
   @Bean
-  ProtocolLayerClient protocolLevelClient(
+  @ConditionalOnMissingBean
+  TransactionBulkhead transactionBulkhead(final HieroConfig hieroConfig) {
+    return new TransactionBulkhead(hieroConfig.getBulkheads());
+  }
+
+  @Bean
+  ProtocolLayerClientImpl protocolLevelClient(
+      final HieroConfig hieroConfig,
       final HieroContext hieroContext,
-      @Autowired(required = false) final ReceiveRecordInterceptor interceptor) {
+      final TransactionBulkhead bulkhead,
+      @Autowired(required = false) final ReceiveRecordInterceptor interceptor,
+      @Autowired(required = false) final ReceiptPoller receiptPoller,
+      @Autowired(required = false) final TokenAssociateCoalescer associateCoalescer,
+      @Autowired(required = false) final AdaptiveThrottle throttle,
+      @Autowired(required = false) final PriorityScheduler scheduler,
+      @Autowired(required = false) final ListenerDispatcher listenerDispatcher,
+      @Autowired(required = false) final KeyPool keyPool,
+      @Autowired(required = false) final NodeHealth nodeHealth,
+      @Autowired(required = false) final QueryHedging queryHedging,
+      @Autowired(required = false) final QueryCostCache queryCostCache,
+      @Autowired(required = false) final TransactionJournal journal,
+      @Autowired(required = false) final TransactionJournal.Resolver journalResolver,
+      @Autowired(required = false) final IdempotencyStore idempotencyStore,
+      final ObjectProvider<MirrorNodeClient> mirrorNodeClient) {
     ProtocolLayerClientImpl protocolLayerClient = new ProtocolLayerClientImpl(hieroContext);
     if (interceptor != null) {
       protocolLayerClient.setRecordInterceptor(interceptor);
     }
+    if (receiptPoller != null) {
+      protocolLayerClient.setReceiptPoller(receiptPoller);
+    }
+    if (associateCoalescer != null) {
+      protocolLayerClient.setAssociateCoalescer(associateCoalescer);
+    }
+    if (throttle != null) {
+      protocolLayerClient.setThrottle(throttle);
+    }
+    protocolLayerClient.setBulkhead(bulkhead);
+    hieroConfig.getRecordPolicies().forEach(protocolLayerClient::setRecordPolicy);
+    if (scheduler != null) {
+      protocolLayerClient.setScheduler(scheduler);
+    }
+    if (listenerDispatcher != null) {
+      protocolLayerClient.setListenerDispatcher(listenerDispatcher);
+    }
+    if (keyPool != null) {
+      protocolLayerClient.setKeyPool(keyPool);
+    }
+    if (nodeHealth != null) {
+      protocolLayerClient.setNodeHealth(nodeHealth);
+    }
+    if (queryHedging != null) {
+      protocolLayerClient.setQueryHedging(queryHedging);
+    }
+    if (queryCostCache != null) {
+      protocolLayerClient.setQueryCostCache(queryCostCache);
+    }
+    if (journal != null) {
+      protocolLayerClient.setJournal(journal);
+      reconcileJournal(journal, journalResolver, hieroContext, mirrorNodeClient);
+    }
+    if (idempotencyStore != null) {
+      protocolLayerClient.setIdempotencyStore(idempotencyStore);
+    }
     return protocolLayerClient;
   }
 
+  /**
+   * Reconcile the unfinished transactions of the journal in the background. If no resolver is
+   * defined, the status of the transactions is only looked up: the receipts are requested from the
+   * network first, transactions without receipt are looked up at the mirror node if available.
+   * Transactions are only submitted again if a resolver like {@link
+   * TransactionJournal#resubmittingResolver(HieroContext)} is defined as bean.
+   */
+  private static void reconcileJournal(
+      final TransactionJournal journal,
+      final TransactionJournal.Resolver journalResolver,
+      final HieroContext hieroContext,
+      final ObjectProvider<MirrorNodeClient> mirrorNodeClient) {
+    if (journal.getUnfinishedCount() == 0) {
+      return;
+    }
+    final Thread thread =
+        new Thread(
+            () -> {
+              TransactionJournal.Resolver resolver = journalResolver;
+              if (resolver == null) {
+                resolver = TransactionJournal.receiptResolver(hieroContext);
+                final MirrorNodeClient client = mirrorNodeClient.getIfAvailable();
+                if (client != null) {
+                  resolver =
+                      resolver
+                          .orElse(TransactionJournal.mirrorNodeResolver(client))
+                          .orElse(TransactionJournal.expiredResolver(JOURNAL_EXPIRY_GRACE));
+                }
+              }
+              final List<TransactionJournal.Reconciliation> results = journal.reconcile(resolver);
+              results.forEach(
+                  result -> {
+                    if (result.isResolved()) {
+                      log.info(
+                          "Journaled transaction '{}' has status {}",
+                          result.transactionId(),
+                          result.status());
+                    } else {
+                      log.warn(
+                          "Status of journaled transaction '{}' is unknown",
+                          result.transactionId());
+                    }
+                  });
+              log.info(
+                  "Reconciled transaction journal, {} transactions are still unfinished",
+                  results.stream().filter(r -> !r.isResolved()).count());
+            },
+            "hiero-journal-reconciliation");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
   @Bean
-  FileClient fileClient(final ProtocolLayerClient protocolLayerClient) {
-    return new FileClientImpl(protocolLayerClient);
+  FileClient fileClient(
+      final ProtocolLayerClient protocolLayerClient,
+      final HieroConfig hieroConfig,
+      @Autowired(required = false) final FileRegistry fileRegistry,
+      @Autowired(required = false) final CompressingFileClient.Codec fileCodec,
+      @Autowired(required = false) final CachingFileClient.Settings fileCacheSettings) {
+    final FileClientImpl fileClientImpl =
+        new FileClientImpl(
+            protocolLayerClient, new FileClientImpl.Settings(hieroConfig.getFileAppendWindow()));
+    fileClientImpl.setRegistry(fileRegistry);
+    FileClient fileClient = fileClientImpl;
+    if (fileCodec != null) {
+      fileClient = new CompressingFileClient(fileClient, fileCodec);
+    }
+    if (fileCacheSettings != null) {
+      // the cache is the outermost client, so that cached contents are already decoded
+      fileClient = new CachingFileClient(fileClient, protocolLayerClient, fileCacheSettings);
+    }
+    return fileClient;
   }
 
   @Bean
   SmartContractClient smartContractClient(
-      final ProtocolLayerClient protocolLayerClient, FileClient fileClient) {
-    return new SmartContractClientImpl(protocolLayerClient, fileClient);
+      final ProtocolLayerClient protocolLayerClient,
+      FileClient fileClient,
+      @Autowired(required = false) final FileRegistry fileRegistry) {
+    final SmartContractClientImpl smartContractClient =
+        new SmartContractClientImpl(protocolLayerClient, bytecodeFileClient(fileClient));
+    smartContractClient.setFileRegistry(fileRegistry);
+    return smartContractClient;
+  }
+
+  /**
+   * Returns the file client that stores bytecode files. The network reads the bytecode from the
+   * file, so it must be stored without encoding.
+   */
+  private static FileClient bytecodeFileClient(final FileClient fileClient) {
+    if (fileClient instanceof CachingFileClient caching) {
+      return bytecodeFileClient(caching.getDelegate());
+    }
+    if (fileClient instanceof CompressingFileClient compressing) {
+      return compressing.getDelegate();
+    }
+    return fileClient;
   }
 
   @Bean
@@ -125,9 +291,10 @@ public class HieroAutoConfiguration {
       name = "mirrorNodeSupported",
       havingValue = "true",
       matchIfMissing = true)
-  MirrorNodeClient mirrorNodeClient(final HieroContext hieroContext) {
+  MirrorNodeClient mirrorNodeClient(final HieroConfig hieroConfig) {
     final String mirrorNodeEndpoint;
-    final List<String> mirrorNetwork = hieroContext.getClient().getMirrorNetwork();
+    // taken from the config, so that a lazy context does not create its clients here
+    final List<String> mirrorNetwork = List.copyOf(hieroConfig.getMirrorNodeAddresses());
     if (mirrorNetwork.isEmpty()) {
       throw new IllegalArgumentException("Mirror node endpoint must be set");
     }
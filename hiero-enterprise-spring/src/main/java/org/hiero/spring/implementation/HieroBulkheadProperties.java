@@ -0,0 +1,38 @@
+package org.hiero.spring.implementation;
+
+/** Bulkhead limits of one transaction type. */
+public class HieroBulkheadProperties {
+
+  /** Maximum number of transactions of the type that are executed at the same time. */
+  private int maxInFlight;
+
+  /** Maximum number of transactions of the type that wait for a free slot. */
+  private int maxQueued;
+
+  /** Maximum time in milliseconds a transaction waits for a free slot. */
+  private Long maxQueueWaitInMs;
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public void setMaxInFlight(int maxInFlight) {
+    this.maxInFlight = maxInFlight;
+  }
+
+  public int getMaxQueued() {
+    return maxQueued;
+  }
+
+  public void setMaxQueued(int maxQueued) {
+    this.maxQueued = maxQueued;
+  }
+
+  public Long getMaxQueueWaitInMs() {
+    return maxQueueWaitInMs;
+  }
+
+  public void setMaxQueueWaitInMs(Long maxQueueWaitInMs) {
+    this.maxQueueWaitInMs = maxQueueWaitInMs;
+  }
+}
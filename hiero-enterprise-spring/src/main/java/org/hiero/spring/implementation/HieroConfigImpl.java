@@ -1,18 +1,28 @@
 package org.hiero.spring.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.hiero.base.config.BulkheadSettings;
 import org.hiero.base.config.ConsensusNode;
+import org.hiero.base.config.ExecutionMode;
 import org.hiero.base.config.HieroConfig;
 import org.hiero.base.config.NetworkSettings;
+import org.hiero.base.config.PayerPoolSettings;
+import org.hiero.base.config.PayerSelection;
+import org.hiero.base.config.StartupMode;
 import org.hiero.base.data.Account;
+import org.hiero.base.protocol.data.RecordPolicy;
+import org.hiero.base.protocol.data.TransactionType;
 import org.jspecify.annotations.NonNull;
 
 public class HieroConfigImpl implements HieroConfig {
@@ -31,6 +41,20 @@ public class HieroConfigImpl implements HieroConfig {
 
   private final Duration requestTimeout;
 
+  private final ExecutionMode executionMode;
+
+  private final Map<TransactionType, BulkheadSettings> bulkheads;
+
+  private final Map<TransactionType, RecordPolicy> recordPolicies;
+
+  private final PayerPoolSettings payerPoolSettings;
+
+  private final int clientPoolSize;
+
+  private final int fileAppendWindow;
+
+  private final StartupMode startupMode;
+
   public HieroConfigImpl(@NonNull final HieroProperties properties) {
     Objects.requireNonNull(properties, "properties must not be null");
 
@@ -45,6 +69,20 @@ public class HieroConfigImpl implements HieroConfig {
         Optional.ofNullable(properties.getNetwork().getRequestTimeoutInMs())
             .map(timeout -> Duration.ofMillis(timeout))
             .orElse(null);
+    executionMode =
+        Optional.ofNullable(properties.getExecutionMode()).orElse(ExecutionMode.PLATFORM_THREADS);
+    bulkheads = parseBulkheads(properties.getBulkheads());
+    recordPolicies = parseRecordPolicies(properties.getRecordPolicy());
+    payerPoolSettings = parsePayerPool(properties.getPayers());
+    clientPoolSize = properties.getClientPoolSize();
+    if (clientPoolSize < 1) {
+      throw new IllegalArgumentException("clientPoolSize must be greater than 0");
+    }
+    fileAppendWindow = properties.getFileAppendWindow();
+    if (fileAppendWindow < 1) {
+      throw new IllegalArgumentException("fileAppendWindow must be greater than 0");
+    }
+    startupMode = Optional.ofNullable(properties.getStartupMode()).orElse(StartupMode.EAGER);
 
     final Optional<NetworkSettings> networkSettings =
         NetworkSettings.forIdentifier(properties.getNetwork().getName());
@@ -78,6 +116,80 @@ public class HieroConfigImpl implements HieroConfig {
     }
   }
 
+  private static Map<TransactionType, BulkheadSettings> parseBulkheads(
+      final Map<TransactionType, HieroBulkheadProperties> bulkheads) {
+    if (bulkheads == null || bulkheads.isEmpty()) {
+      return Map.of();
+    }
+    final Map<TransactionType, BulkheadSettings> settings = new EnumMap<>(TransactionType.class);
+    bulkheads.forEach(
+        (type, bulkhead) -> {
+          try {
+            final Duration maxQueueWait =
+                Optional.ofNullable(bulkhead.getMaxQueueWaitInMs())
+                    .map(Duration::ofMillis)
+                    .orElse(BulkheadSettings.DEFAULT_MAX_QUEUE_WAIT);
+            settings.put(
+                type,
+                new BulkheadSettings(
+                    bulkhead.getMaxInFlight(), bulkhead.getMaxQueued(), maxQueueWait));
+          } catch (Exception e) {
+            throw new IllegalArgumentException(
+                "Can not parse 'bulkheads' property of type '" + type + "'", e);
+          }
+        });
+    return Collections.unmodifiableMap(settings);
+  }
+
+  private static Map<TransactionType, RecordPolicy> parseRecordPolicies(
+      final Map<TransactionType, RecordPolicy> recordPolicies) {
+    if (recordPolicies == null || recordPolicies.isEmpty()) {
+      return Map.of();
+    }
+    final Map<TransactionType, RecordPolicy> policies = new EnumMap<>(TransactionType.class);
+    recordPolicies.forEach(
+        (type, policy) -> {
+          if (policy == null) {
+            throw new IllegalArgumentException(
+                "Can not parse 'recordPolicy' property of type '" + type + "'");
+          }
+          policies.put(type, policy);
+        });
+    return Collections.unmodifiableMap(policies);
+  }
+
+  private static PayerPoolSettings parsePayerPool(final HieroPayerPoolProperties payers) {
+    if (payers == null || payers.getAccounts() == null || payers.getAccounts().isEmpty()) {
+      return null;
+    }
+    final List<Account> accounts =
+        payers.getAccounts().stream()
+            .map(
+                payer -> {
+                  try {
+                    return Account.of(
+                        AccountId.fromString(payer.getAccountId()),
+                        PrivateKey.fromString(payer.getPrivateKey()));
+                  } catch (Exception e) {
+                    throw new IllegalArgumentException(
+                        "Can not parse 'payers' property for account '"
+                            + payer.getAccountId()
+                            + "'",
+                        e);
+                  }
+                })
+            .toList();
+    return new PayerPoolSettings(
+        accounts,
+        Optional.ofNullable(payers.getSelection()).orElse(PayerSelection.ROUND_ROBIN),
+        Optional.ofNullable(payers.getMinBalanceInHbar())
+            .map(Hbar::from)
+            .orElse(PayerPoolSettings.DEFAULT_MIN_BALANCE),
+        Optional.ofNullable(payers.getBalanceCheckIntervalInMs())
+            .map(Duration::ofMillis)
+            .orElse(PayerPoolSettings.DEFAULT_BALANCE_CHECK_INTERVAL));
+  }
+
   private static AccountId parseAccountId(final String accountId) {
     try {
       return AccountId.fromString(accountId);
@@ -95,6 +207,26 @@ public class HieroConfigImpl implements HieroConfig {
     }
   }
 
+  @Override
+  public int getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  @Override
+  public int getFileAppendWindow() {
+    return fileAppendWindow;
+  }
+
+  @Override
+  public @NonNull StartupMode getStartupMode() {
+    return startupMode;
+  }
+
+  @Override
+  public @NonNull Optional<PayerPoolSettings> getPayerPoolSettings() {
+    return Optional.ofNullable(payerPoolSettings);
+  }
+
   @Override
   public Account getOperatorAccount() {
     return operatorAccount;
@@ -129,4 +261,19 @@ public class HieroConfigImpl implements HieroConfig {
   public Optional<Duration> getRequestTimeout() {
     return Optional.ofNullable(requestTimeout);
   }
+
+  @Override
+  public @NonNull ExecutionMode getExecutionMode() {
+    return executionMode;
+  }
+
+  @Override
+  public @NonNull Map<TransactionType, BulkheadSettings> getBulkheads() {
+    return bulkheads;
+  }
+
+  @Override
+  public @NonNull Map<TransactionType, RecordPolicy> getRecordPolicies() {
+    return recordPolicies;
+  }
 }
@@ -0,0 +1,27 @@
+package org.hiero.spring.implementation;
+
+/** Account of the payer pool. */
+public class HieroPayerAccount {
+
+  /** Account ID of the payer. */
+  private String accountId;
+
+  /** Private key of the payer. */
+  private String privateKey;
+
+  public String getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(String accountId) {
+    this.accountId = accountId;
+  }
+
+  public String getPrivateKey() {
+    return privateKey;
+  }
+
+  public void setPrivateKey(String privateKey) {
+    this.privateKey = privateKey;
+  }
+}
@@ -0,0 +1,53 @@
+package org.hiero.spring.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.base.config.PayerSelection;
+
+/** Pool of accounts that pay for transactions instead of the operator account. */
+public class HieroPayerPoolProperties {
+
+  /** Payer accounts. If no account is defined, all transactions are paid by the operator. */
+  private List<HieroPayerAccount> accounts = new ArrayList<>();
+
+  /** Strategy that selects the payer of a transaction. */
+  private PayerSelection selection = PayerSelection.ROUND_ROBIN;
+
+  /** Balance in HBAR below which a payer is removed from the pool. */
+  private Long minBalanceInHbar;
+
+  /** Minimum time in milliseconds between two balance checks of a payer. */
+  private Long balanceCheckIntervalInMs;
+
+  public List<HieroPayerAccount> getAccounts() {
+    return accounts;
+  }
+
+  public void setAccounts(List<HieroPayerAccount> accounts) {
+    this.accounts = accounts;
+  }
+
+  public PayerSelection getSelection() {
+    return selection;
+  }
+
+  public void setSelection(PayerSelection selection) {
+    this.selection = selection;
+  }
+
+  public Long getMinBalanceInHbar() {
+    return minBalanceInHbar;
+  }
+
+  public void setMinBalanceInHbar(Long minBalanceInHbar) {
+    this.minBalanceInHbar = minBalanceInHbar;
+  }
+
+  public Long getBalanceCheckIntervalInMs() {
+    return balanceCheckIntervalInMs;
+  }
+
+  public void setBalanceCheckIntervalInMs(Long balanceCheckIntervalInMs) {
+    this.balanceCheckIntervalInMs = balanceCheckIntervalInMs;
+  }
+}
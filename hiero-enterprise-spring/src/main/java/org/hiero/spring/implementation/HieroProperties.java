@@ -1,5 +1,11 @@
 package org.hiero.spring.implementation;
 
+import java.util.HashMap;
+import java.util.Map;
+import org.hiero.base.config.ExecutionMode;
+import org.hiero.base.config.StartupMode;
+import org.hiero.base.protocol.data.RecordPolicy;
+import org.hiero.base.protocol.data.TransactionType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -12,6 +18,28 @@ public class HieroProperties {
   /** Private key to use for transactions (operator account). */
   private String privateKey;
 
+  /** Kind of threads that are used for blocking calls against the network. */
+  private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+
+  /** Number of SDK clients that are used to submit transactions and queries. */
+  private int clientPoolSize = 1;
+
+  /** Number of FileAppend transactions of a file upload that are in flight at the same time. */
+  private int fileAppendWindow = 1;
+
+  /** Defines when the SDK clients are created and whether the consensus nodes are warmed up. */
+  private StartupMode startupMode = StartupMode.EAGER;
+
+  /** Bulkhead limits per transaction type. Types without limits are not bounded. */
+  private Map<TransactionType, HieroBulkheadProperties> bulkheads = new HashMap<>();
+
+  /** Record policy per transaction type. Types without policy receive their record eagerly. */
+  private Map<TransactionType, RecordPolicy> recordPolicy = new HashMap<>();
+
+  /** Pool of accounts that pay for transactions instead of the operator account. */
+  @NestedConfigurationProperty
+  private HieroPayerPoolProperties payers = new HieroPayerPoolProperties();
+
   @NestedConfigurationProperty
   private HieroNetworkProperties network = new HieroNetworkProperties();
 
@@ -31,6 +59,62 @@ public class HieroProperties {
     this.privateKey = privateKey;
   }
 
+  public ExecutionMode getExecutionMode() {
+    return executionMode;
+  }
+
+  public void setExecutionMode(ExecutionMode executionMode) {
+    this.executionMode = executionMode;
+  }
+
+  public int getClientPoolSize() {
+    return clientPoolSize;
+  }
+
+  public void setClientPoolSize(int clientPoolSize) {
+    this.clientPoolSize = clientPoolSize;
+  }
+
+  public int getFileAppendWindow() {
+    return fileAppendWindow;
+  }
+
+  public void setFileAppendWindow(int fileAppendWindow) {
+    this.fileAppendWindow = fileAppendWindow;
+  }
+
+  public StartupMode getStartupMode() {
+    return startupMode;
+  }
+
+  public void setStartupMode(StartupMode startupMode) {
+    this.startupMode = startupMode;
+  }
+
+  public Map<TransactionType, HieroBulkheadProperties> getBulkheads() {
+    return bulkheads;
+  }
+
+  public void setBulkheads(Map<TransactionType, HieroBulkheadProperties> bulkheads) {
+    this.bulkheads = bulkheads;
+  }
+
+  public Map<TransactionType, RecordPolicy> getRecordPolicy() {
+    return recordPolicy;
+  }
+
+  public void setRecordPolicy(Map<TransactionType, RecordPolicy> recordPolicy) {
+    this.recordPolicy = recordPolicy;
+  }
+
+  public HieroPayerPoolProperties getPayers() {
+    return payers;
+  }
+
+  public void setPayers(HieroPayerPoolProperties payers) {
+    this.payers = payers;
+  }
+
   public HieroNetworkProperties getNetwork() {
     return network;
   }
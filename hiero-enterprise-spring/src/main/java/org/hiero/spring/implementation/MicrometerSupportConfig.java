@@ -1,15 +1,39 @@
 package org.hiero.spring.implementation;
 
+import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
 import com.hedera.hashgraph.sdk.TransactionRecord;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.FileClient;
+import org.hiero.base.HieroContext;
+import org.hiero.base.config.ConsensusNode;
+import org.hiero.base.config.HieroConfig;
+import org.hiero.base.config.StartupReport;
+import org.hiero.base.implementation.AdaptiveThrottle;
+import org.hiero.base.implementation.CachingFileClient;
+import org.hiero.base.implementation.FileRegistry;
+import org.hiero.base.implementation.IdempotencyStore;
+import org.hiero.base.implementation.NodeHealth;
+import org.hiero.base.implementation.QueryCostCache;
+import org.hiero.base.implementation.QueryHedging;
+import org.hiero.base.implementation.TransactionBulkhead;
+import org.hiero.base.implementation.TransactionJournal;
 import org.hiero.base.interceptors.ReceiveRecordInterceptor;
+import org.hiero.base.protocol.data.TransactionType;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,6 +58,49 @@ public class MicrometerSupportConfig {
   public static final String CONTRACT_ID_TAG = "hiero.transaction.record.contractId";
   public static final String TIMER_NAME = "hiero.transaction.record.time";
   public static final String COUNTER_NAME = "hiero.transaction.record";
+  public static final String PROTOCOL_TYPE_TAG = "hiero.transaction.type";
+  public static final String THROTTLE_RATE_NAME = "hiero.throttle.rate";
+  public static final String THROTTLE_QUEUE_NAME = "hiero.throttle.queue";
+  public static final String THROTTLE_REJECTED_NAME = "hiero.throttle.rejected";
+  public static final String BULKHEAD_IN_FLIGHT_NAME = "hiero.bulkhead.inflight";
+  public static final String BULKHEAD_QUEUE_NAME = "hiero.bulkhead.queue";
+  public static final String BULKHEAD_QUEUED_NAME = "hiero.bulkhead.queued";
+  public static final String BULKHEAD_REJECTED_NAME = "hiero.bulkhead.rejected";
+  public static final String NODE_TAG = "hiero.node";
+  public static final String NODE_SCORE_NAME = "hiero.node.score";
+  public static final String NODE_SUBMIT_LATENCY_NAME = "hiero.node.latency.submit";
+  public static final String NODE_RECEIPT_LATENCY_NAME = "hiero.node.latency.receipt";
+  public static final String NODE_P99_LATENCY_NAME = "hiero.node.latency.p99";
+  public static final String NODE_ERROR_RATE_NAME = "hiero.node.error.rate";
+  public static final String NODE_CIRCUIT_OPEN_NAME = "hiero.node.circuit.open";
+  public static final String HEDGE_DELAY_NAME = "hiero.query.hedge.delay";
+  public static final String HEDGE_QUERIES_NAME = "hiero.query.hedge.queries";
+  public static final String HEDGE_SENT_NAME = "hiero.query.hedge.sent";
+  public static final String HEDGE_WINS_NAME = "hiero.query.hedge.wins";
+  public static final String HEDGE_LOSSES_NAME = "hiero.query.hedge.losses";
+  public static final String HEDGE_BUDGET_EXHAUSTED_NAME = "hiero.query.hedge.budget.exhausted";
+  public static final String QUERY_COST_HITS_NAME = "hiero.query.cost.hits";
+  public static final String QUERY_COST_MISSES_NAME = "hiero.query.cost.misses";
+  public static final String QUERY_COST_FALLBACKS_NAME = "hiero.query.cost.fallbacks";
+  public static final String JOURNAL_UNFINISHED_NAME = "hiero.journal.unfinished";
+  public static final String JOURNAL_RECORDS_NAME = "hiero.journal.records";
+  public static final String JOURNAL_SYNCS_NAME = "hiero.journal.syncs";
+  public static final String IDEMPOTENCY_KEYS_NAME = "hiero.idempotency.keys";
+  public static final String IDEMPOTENCY_REPLAYS_NAME = "hiero.idempotency.replays";
+  public static final String FILE_REGISTRY_ENTRIES_NAME = "hiero.file.registry.entries";
+  public static final String FILE_REGISTRY_HITS_NAME = "hiero.file.registry.hits";
+  public static final String FILE_REGISTRY_MISSES_NAME = "hiero.file.registry.misses";
+  public static final String FILE_CACHE_BYTES_NAME = "hiero.file.cache.bytes";
+  public static final String FILE_CACHE_CONTENT_HITS_NAME = "hiero.file.cache.content.hits";
+  public static final String FILE_CACHE_CONTENT_MISSES_NAME = "hiero.file.cache.content.misses";
+  public static final String FILE_CACHE_INFO_HITS_NAME = "hiero.file.cache.info.hits";
+  public static final String FILE_CACHE_INFO_MISSES_NAME = "hiero.file.cache.info.misses";
+  public static final String STARTUP_MODE_TAG = "hiero.startup.mode";
+  public static final String STARTUP_CLIENT_CREATION_NAME = "hiero.startup.client.creation";
+  public static final String STARTUP_WARM_UP_NAME = "hiero.startup.warmup";
+  public static final String STARTUP_REACHABLE_NODES_NAME = "hiero.startup.nodes.reachable";
+  public static final String STARTUP_UNREACHABLE_NODES_NAME = "hiero.startup.nodes.unreachable";
+  public static final String STARTUP_READY_NAME = "hiero.startup.ready";
 
   /**
    * Creates a {@link ReceiveRecordInterceptor} that will measure metrics for Hiero transactions.
@@ -66,4 +133,331 @@ public class MicrometerSupportConfig {
           });
     };
   }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the permitted rate, queue depth and rejected calls
+   * of the {@link AdaptiveThrottle} per transaction type. Nothing is bound if no throttle is
+   * defined.
+   *
+   * @param throttle provider of the {@link AdaptiveThrottle}
+   * @return the {@link MeterBinder} for the throttle metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindThrottleMetrics(@NonNull final ObjectProvider<AdaptiveThrottle> throttle) {
+    return meterRegistry ->
+        throttle.ifAvailable(
+            t -> {
+              for (TransactionType type : TransactionType.values()) {
+                Gauge.builder(THROTTLE_RATE_NAME, t, it -> it.getCurrentRate(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+                Gauge.builder(THROTTLE_QUEUE_NAME, t, it -> it.getQueueDepth(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+                FunctionCounter.builder(THROTTLE_REJECTED_NAME, t, it -> it.getRejectedCount(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+              }
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the in-flight, waiting, queued and rejected calls of
+   * the {@link TransactionBulkhead} for every limited transaction type.
+   *
+   * @param bulkhead provider of the {@link TransactionBulkhead}
+   * @return the {@link MeterBinder} for the bulkhead metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindBulkheadMetrics(
+      @NonNull final ObjectProvider<TransactionBulkhead> bulkhead) {
+    return meterRegistry ->
+        bulkhead.ifAvailable(
+            b -> {
+              for (TransactionType type : b.getTransactionTypes()) {
+                Gauge.builder(BULKHEAD_IN_FLIGHT_NAME, b, it -> it.getInFlightCount(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+                Gauge.builder(BULKHEAD_QUEUE_NAME, b, it -> it.getQueueDepth(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+                FunctionCounter.builder(BULKHEAD_QUEUED_NAME, b, it -> it.getQueuedCount(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+                FunctionCounter.builder(BULKHEAD_REJECTED_NAME, b, it -> it.getRejectedCount(type))
+                    .tag(PROTOCOL_TYPE_TAG, type.name())
+                    .register(meterRegistry);
+              }
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the hedge delay and the number of queries, sent
+   * hedges, won and lost hedges and hedges skipped by the budget of the {@link QueryHedging}.
+   * Nothing is bound if no hedging policy is defined.
+   *
+   * @param hedging provider of the {@link QueryHedging}
+   * @return the {@link MeterBinder} for the hedging metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindQueryHedgingMetrics(@NonNull final ObjectProvider<QueryHedging> hedging) {
+    return meterRegistry ->
+        hedging.ifAvailable(
+            h -> {
+              TimeGauge.builder(
+                      HEDGE_DELAY_NAME,
+                      h,
+                      TimeUnit.MILLISECONDS,
+                      it -> toMillis(Optional.of(it.getHedgeDelay())))
+                  .register(meterRegistry);
+              FunctionCounter.builder(HEDGE_QUERIES_NAME, h, QueryHedging::getQueryCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(HEDGE_SENT_NAME, h, QueryHedging::getHedgeCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(HEDGE_WINS_NAME, h, QueryHedging::getHedgeWinCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(HEDGE_LOSSES_NAME, h, QueryHedging::getHedgeLossCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(
+                      HEDGE_BUDGET_EXHAUSTED_NAME, h, QueryHedging::getBudgetExhaustedCount)
+                  .register(meterRegistry);
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the hits, misses and fallbacks of the {@link
+   * QueryCostCache}. Nothing is bound if no cache is defined.
+   *
+   * @param cache provider of the {@link QueryCostCache}
+   * @return the {@link MeterBinder} for the query cost metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindQueryCostMetrics(@NonNull final ObjectProvider<QueryCostCache> cache) {
+    return meterRegistry ->
+        cache.ifAvailable(
+            c -> {
+              FunctionCounter.builder(QUERY_COST_HITS_NAME, c, QueryCostCache::getHitCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(QUERY_COST_MISSES_NAME, c, QueryCostCache::getMissCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(
+                      QUERY_COST_FALLBACKS_NAME, c, QueryCostCache::getFallbackCount)
+                  .register(meterRegistry);
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the unfinished transactions and the group commits of
+   * the {@link TransactionJournal}. Nothing is bound if no journal is defined.
+   *
+   * @param journal provider of the {@link TransactionJournal}
+   * @return the {@link MeterBinder} for the journal metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindJournalMetrics(@NonNull final ObjectProvider<TransactionJournal> journal) {
+    return meterRegistry ->
+        journal.ifAvailable(
+            j -> {
+              Gauge.builder(JOURNAL_UNFINISHED_NAME, j, TransactionJournal::getUnfinishedCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(JOURNAL_RECORDS_NAME, j, TransactionJournal::getRecordCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(JOURNAL_SYNCS_NAME, j, TransactionJournal::getSyncCount)
+                  .register(meterRegistry);
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the stored keys and the replayed transactions of the
+   * {@link IdempotencyStore}. Nothing is bound if no store is defined.
+   *
+   * @param store provider of the {@link IdempotencyStore}
+   * @return the {@link MeterBinder} for the idempotency metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindIdempotencyMetrics(@NonNull final ObjectProvider<IdempotencyStore> store) {
+    return meterRegistry ->
+        store.ifAvailable(
+            s -> {
+              Gauge.builder(IDEMPOTENCY_KEYS_NAME, s, IdempotencyStore::size)
+                  .register(meterRegistry);
+              FunctionCounter.builder(IDEMPOTENCY_REPLAYS_NAME, s, IdempotencyStore::getReplayCount)
+                  .register(meterRegistry);
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the registered files and the lookups of the {@link
+   * FileRegistry}. Nothing is bound if no registry is defined.
+   *
+   * @param registry provider of the {@link FileRegistry}
+   * @return the {@link MeterBinder} for the file registry metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindFileRegistryMetrics(@NonNull final ObjectProvider<FileRegistry> registry) {
+    return meterRegistry ->
+        registry.ifAvailable(
+            r -> {
+              Gauge.builder(FILE_REGISTRY_ENTRIES_NAME, r, FileRegistry::size)
+                  .register(meterRegistry);
+              FunctionCounter.builder(FILE_REGISTRY_HITS_NAME, r, FileRegistry::getHitCount)
+                  .register(meterRegistry);
+              FunctionCounter.builder(FILE_REGISTRY_MISSES_NAME, r, FileRegistry::getMissCount)
+                  .register(meterRegistry);
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the cached bytes and the hits and misses of the
+   * {@link CachingFileClient}. Nothing is bound if the file client does not cache.
+   *
+   * @param fileClient provider of the {@link FileClient}
+   * @return the {@link MeterBinder} for the file cache metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindFileCacheMetrics(@NonNull final ObjectProvider<FileClient> fileClient) {
+    return meterRegistry ->
+        fileClient.ifAvailable(
+            client -> {
+              if (client instanceof CachingFileClient c) {
+                Gauge.builder(FILE_CACHE_BYTES_NAME, c, CachingFileClient::getCachedBytes)
+                    .register(meterRegistry);
+                FunctionCounter.builder(
+                        FILE_CACHE_CONTENT_HITS_NAME, c, CachingFileClient::getContentHitCount)
+                    .register(meterRegistry);
+                FunctionCounter.builder(
+                        FILE_CACHE_CONTENT_MISSES_NAME, c, CachingFileClient::getContentMissCount)
+                    .register(meterRegistry);
+                FunctionCounter.builder(
+                        FILE_CACHE_INFO_HITS_NAME, c, CachingFileClient::getInfoHitCount)
+                    .register(meterRegistry);
+                FunctionCounter.builder(
+                        FILE_CACHE_INFO_MISSES_NAME, c, CachingFileClient::getInfoMissCount)
+                    .register(meterRegistry);
+              }
+            });
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the {@link StartupReport} of the {@link
+   * HieroContext}: the time to create the clients, the time of the warm-up, the number of reachable
+   * and unreachable consensus nodes and the readiness. The times are {@code NaN} as long as the
+   * step has not been executed.
+   *
+   * @param hieroContext provider of the {@link HieroContext}
+   * @return the {@link MeterBinder} for the startup metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindStartupMetrics(@NonNull final ObjectProvider<HieroContext> hieroContext) {
+    return meterRegistry ->
+        hieroContext.ifAvailable(
+            context ->
+                context
+                    .getStartupReport()
+                    .ifPresent(
+                        r -> {
+                          final String mode = r.getMode().name();
+                          TimeGauge.builder(
+                                  STARTUP_CLIENT_CREATION_NAME,
+                                  r,
+                                  TimeUnit.MILLISECONDS,
+                                  it -> toMillis(it.getClientCreationTime()))
+                              .tag(STARTUP_MODE_TAG, mode)
+                              .register(meterRegistry);
+                          TimeGauge.builder(
+                                  STARTUP_WARM_UP_NAME,
+                                  r,
+                                  TimeUnit.MILLISECONDS,
+                                  it -> toMillis(it.getWarmUpTime()))
+                              .tag(STARTUP_MODE_TAG, mode)
+                              .register(meterRegistry);
+                          Gauge.builder(
+                                  STARTUP_REACHABLE_NODES_NAME,
+                                  r,
+                                  it -> it.getReachableNodes().size())
+                              .tag(STARTUP_MODE_TAG, mode)
+                              .register(meterRegistry);
+                          Gauge.builder(
+                                  STARTUP_UNREACHABLE_NODES_NAME,
+                                  r,
+                                  it -> it.getUnreachableNodes().size())
+                              .tag(STARTUP_MODE_TAG, mode)
+                              .register(meterRegistry);
+                          Gauge.builder(STARTUP_READY_NAME, r, it -> it.isReady() ? 1 : 0)
+                              .tag(STARTUP_MODE_TAG, mode)
+                              .register(meterRegistry);
+                        }));
+  }
+
+  private static double toMillis(@NonNull final Optional<Duration> duration) {
+    return duration.map(d -> d.toNanos() / 1_000_000.0).orElse(Double.NaN);
+  }
+
+  /**
+   * Creates a {@link MeterBinder} that exposes the score, the average submit and receipt latency,
+   * the 99th latency percentile, the error rate and the breaker state of the {@link NodeHealth} for
+   * every configured consensus node. Nothing is bound if no node health is defined.
+   *
+   * @param nodeHealth provider of the {@link NodeHealth}
+   * @param hieroConfig provider of the {@link HieroConfig} that defines the consensus nodes
+   * @return the {@link MeterBinder} for the node metrics
+   */
+  @Bean
+  @NonNull
+  public MeterBinder bindNodeHealthMetrics(
+      @NonNull final ObjectProvider<NodeHealth> nodeHealth,
+      @NonNull final ObjectProvider<HieroConfig> hieroConfig) {
+    return meterRegistry ->
+        nodeHealth.ifAvailable(
+            health ->
+                hieroConfig.ifAvailable(
+                    config -> {
+                      for (ConsensusNode consensusNode : config.getConsensusNodes()) {
+                        final AccountId node = consensusNode.getAccountId();
+                        final String tag = node.toString();
+                        Gauge.builder(NODE_SCORE_NAME, health, it -> it.getScore(node))
+                            .tag(NODE_TAG, tag)
+                            .register(meterRegistry);
+                        TimeGauge.builder(
+                                NODE_SUBMIT_LATENCY_NAME,
+                                health,
+                                TimeUnit.MILLISECONDS,
+                                it -> it.getSubmitLatencyMillis(node))
+                            .tag(NODE_TAG, tag)
+                            .register(meterRegistry);
+                        TimeGauge.builder(
+                                NODE_RECEIPT_LATENCY_NAME,
+                                health,
+                                TimeUnit.MILLISECONDS,
+                                it -> it.getReceiptLatencyMillis(node))
+                            .tag(NODE_TAG, tag)
+                            .register(meterRegistry);
+                        TimeGauge.builder(
+                                NODE_P99_LATENCY_NAME,
+                                health,
+                                TimeUnit.MILLISECONDS,
+                                it -> toMillis(it.getLatencyPercentile(node, 0.99)))
+                            .tag(NODE_TAG, tag)
+                            .register(meterRegistry);
+                        Gauge.builder(NODE_ERROR_RATE_NAME, health, it -> it.getErrorRate(node))
+                            .tag(NODE_TAG, tag)
+                            .register(meterRegistry);
+                        Gauge.builder(
+                                NODE_CIRCUIT_OPEN_NAME,
+                                health,
+                                it -> it.getState(node) == NodeHealth.BreakerState.CLOSED ? 0 : 1)
+                            .tag(NODE_TAG, tag)
+                            .register(meterRegistry);
+                      }
+                    }));
+  }
 }